@@ -200,7 +200,7 @@ public interface Arbitrary<T> {
 	 * never generate the same value twice.
 	 *
 	 * <p>
-	 *     Uniqueness is only held up for a single use of this arbitrary.
+	 *     Uniqueness is only held up for a single use of this arbitrary within a single try.
 	 *     If the same arbitrary instance is used in several places,
 	 *     e.g. for creating several lists, the different lists may share values
 	 *     between them.
@@ -0,0 +1,24 @@
+package net.jqwik.api;
+
+import java.lang.annotation.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Use {@code @ExecuteSequentially} on a test container to prevent its properties,
+ * including those in nested groups, from running concurrently with each other
+ * when parallel execution has been switched on in
+ * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">jqwik's configuration</a>.
+ *
+ * <p>
+ * Properties of an annotated container may still run concurrently with properties of other containers.
+ * </p>
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "1.4.0")
+public @interface ExecuteSequentially {
+}
@@ -1,5 +1,6 @@
 package net.jqwik.api;
 
+import java.util.*;
 import java.util.function.*;
 
 import org.apiguardian.api.*;
@@ -31,6 +32,10 @@ public interface ExhaustiveGenerator<T> extends Iterable<T> {
 		public abstract <T> ExhaustiveGenerator<T> injectNull(ExhaustiveGenerator<T> self);
 
 		public abstract <T> ExhaustiveGenerator<T> ignoreException(ExhaustiveGenerator<T> self, Class<? extends Throwable> exceptionType);
+
+		public abstract <T> T get(ExhaustiveGenerator<T> self, long index);
+
+		public abstract <T> Spliterator<T> spliterator(ExhaustiveGenerator<T> self);
 	}
 
 	/**
@@ -38,6 +43,38 @@ public interface ExhaustiveGenerator<T> extends Iterable<T> {
 	 */
 	long maxCount();
 
+	/**
+	 * Implementations that return {@code true} must override {@linkplain #get(long)}
+	 * and {@linkplain #iterator()} must generate values in the same order.
+	 *
+	 * @return true if exactly {@linkplain #maxCount()} values are generated
+	 * and each of them can be accessed through {@linkplain #get(long)} without generating the values before it
+	 */
+	default boolean isIndexed() {
+		return false;
+	}
+
+	/**
+	 * Return the value at position {@code index} of the generated sequence of values.
+	 * Generators that are not {@linkplain #isIndexed() indexed} have to generate all values before it.
+	 *
+	 * @param index zero-based position of the value
+	 * @return the value at that position
+	 * @throws NoSuchElementException if fewer values are generated
+	 */
+	default T get(long index) {
+		return ExhaustiveGeneratorFacade.implementation.get(this, index);
+	}
+
+	/**
+	 * Values of {@linkplain #isIndexed() indexed} generators can be split into
+	 * disjoint ranges of indices which can then be traversed concurrently.
+	 */
+	@Override
+	default Spliterator<T> spliterator() {
+		return ExhaustiveGeneratorFacade.implementation.spliterator(this);
+	}
+
 	default <U> ExhaustiveGenerator<U> map(Function<T, U> mapper) {
 		return ExhaustiveGeneratorFacade.implementation.map(this, mapper);
 	}
@@ -29,6 +29,21 @@ public enum GenerationMode {
 	 */
 	DATA_DRIVEN,
 
+	/**
+	 * Use randomized value generation guided by feedback from previous tries:
+	 * Tries that exercise features no previous try has exercised are kept in a corpus.
+	 * Further tries are then generated by growing or shrinking the parameters
+	 * of a corpus entry - or randomly as in {@linkplain #RANDOMIZED}.
+	 *
+	 * <p>
+	 * Features are the values collected through {@linkplain net.jqwik.api.statistics.Statistics#collect(Object...)}
+	 * and the features reported through {@linkplain Guidance#feedback(Object)}.
+	 * Tries of a guided property are always executed one after the other.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	GUIDED,
+
 	/**
 	 * Let jqwik choose which generation mode it prefers:
 	 * <ul>
@@ -0,0 +1,45 @@
+package net.jqwik.api;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * This class serves as a container for static methods to give feedback
+ * to {@linkplain GenerationMode#GUIDED guided generation}.
+ */
+@API(status = EXPERIMENTAL, since = "1.4.0")
+public class Guidance {
+
+	@API(status = INTERNAL)
+	public static abstract class GuidanceFacade {
+		private static GuidanceFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(GuidanceFacade.class);
+		}
+
+		public abstract void feedback(Object feature);
+	}
+
+	private Guidance() {
+	}
+
+	/**
+	 * Call this method to report a feature the current try has exercised,
+	 * e.g. the id of a covered branch of the code under test.
+	 * A try that reports a feature no previous try of the same property has reported
+	 * will be used as a starting point for generating further tries.
+	 *
+	 * <p>
+	 * A coverage tool can be plugged in by reporting covered branches
+	 * from an {@linkplain net.jqwik.api.lifecycle.AroundTryHook around try hook}.
+	 * Outside of guided generation reported features are ignored.
+	 * </p>
+	 *
+	 * @param feature Can be anything with a sensible implementation of {@code equals()} and {@code hashCode()}
+	 */
+	public static void feedback(Object feature) {
+		GuidanceFacade.implementation.feedback(feature);
+	}
+}
@@ -38,6 +38,10 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
+	int SHRINKING_PARALLELISM_NOT_SET = 0;
+	int TRY_TIMEOUT_NOT_SET = -1;
+	int TIMEOUT_NOT_SET = -1;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -81,4 +85,67 @@ public @interface Property {
 
 	@API(status = EXPERIMENTAL, since = "1.3.0")
 	EdgeCasesMode edgeCases() default EdgeCasesMode.NOT_SET;
+
+	/**
+	 * The number of threads used to execute the tries of a property concurrently.
+	 * By default it is 1, i.e. all tries are executed one after the other
+	 * on the property's thread. You can override it globally in
+	 * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">junit-platform.properties</a>.
+	 *
+	 * <p>
+	 * Parameters are still generated sequentially, so the same seed leads to the same samples
+	 * and the falsified sample reported is always the one of the first failing try.
+	 * Only use a value greater than 1 if the property method and all hooks involved are thread-safe.
+	 * </p>
+	 *
+	 * @return number of threads to execute tries in
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * The number of shrink candidates that are evaluated concurrently during shrinking.
+	 * By default it is 1, i.e. shrink candidates are tried one after the other.
+	 * You can override it globally in
+	 * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">junit-platform.properties</a>.
+	 *
+	 * <p>
+	 * Of all falsifying candidates within a batch the first one in sequential order is taken.
+	 * Thereby shrinking results are the same as with sequential shrinking.
+	 * Only use a value greater than 1 if the property method and all hooks involved are thread-safe.
+	 * </p>
+	 *
+	 * @return number of shrink candidates to evaluate concurrently
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	int shrinkingParallelism() default SHRINKING_PARALLELISM_NOT_SET;
+
+	/**
+	 * The maximum time in milliseconds a single try - or a single shrinking attempt - may take.
+	 * A try that takes longer is interrupted and counts as falsified with a timeout error.
+	 * Thereby shrinking can still find a smaller sample that leads to the same timeout.
+	 * By default it is 0, i.e. tries are not limited. You can override it globally in
+	 * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">junit-platform.properties</a>.
+	 *
+	 * <p>
+	 * If a timeout is set the tries are executed on a separate thread
+	 * so that even a try that does not react to interruption cannot block the property forever.
+	 * </p>
+	 *
+	 * @return maximum milliseconds per try; 0 means no timeout
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	int tryTimeout() default TRY_TIMEOUT_NOT_SET;
+
+	/**
+	 * The maximum time in seconds all tries of a property may take together.
+	 * If the timeout is exceeded the running try is interrupted and the property fails
+	 * with a timeout error and the sample of the interrupted try. No shrinking takes place.
+	 * By default it is 0, i.e. properties are not limited. You can override it globally in
+	 * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">junit-platform.properties</a>.
+	 *
+	 * @return maximum seconds for all tries; 0 means no timeout
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	int timeout() default TIMEOUT_NOT_SET;
 }
@@ -18,7 +18,14 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#METRICS} will report timings and counters collected while running a property,
+	 * i.e., how long generation, try execution, lifecycle hooks and shrinking took.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	METRICS;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
@@ -97,6 +97,46 @@ public interface PropertyAttributes {
 	 */
 	Optional<String> seed();
 
+	/**
+	 * The number of threads used to execute tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	Optional<Integer> parallelism();
+
+	/**
+	 * The number of shrink candidates evaluated concurrently for the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#shrinkingParallelism()}
+	 * or {@linkplain #setShrinkingParallelism(Integer)}.
+	 *
+	 * @return optional shrinking parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	Optional<Integer> shrinkingParallelism();
+
+	/**
+	 * The maximum milliseconds per try of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#tryTimeout()}
+	 * or {@linkplain #setTryTimeout(Integer)}.
+	 *
+	 * @return optional try timeout in milliseconds
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	Optional<Integer> tryTimeout();
+
+	/**
+	 * The maximum seconds for all tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#timeout()}
+	 * or {@linkplain #setTimeout(Integer)}.
+	 *
+	 * @return optional property timeout in seconds
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	Optional<Integer> timeout();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -113,4 +153,16 @@ public interface PropertyAttributes {
 
 	void setSeed(String seed);
 
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	void setParallelism(Integer parallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	void setShrinkingParallelism(Integer shrinkingParallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	void setTryTimeout(Integer tryTimeout);
+
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	void setTimeout(Integer timeout);
+
 }
@@ -0,0 +1,156 @@
+package net.jqwik.api.lifecycle;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Metrics collected while running a single property.
+ * They show where the time of a property run was spent
+ * and how much work generation and shrinking required.
+ *
+ * <p>
+ * Metrics only cover the phases that have actually taken place,
+ * e.g. shrinking timings are empty if no falsified sample was found.
+ * </p>
+ *
+ * @see PropertyExecutionResult#metrics()
+ * @see PropertyMetricsHook
+ */
+@API(status = EXPERIMENTAL, since = "1.4.0")
+public interface PropertyExecutionMetrics {
+
+	/**
+	 * Time spent generating the parameters of each try.
+	 *
+	 * @return timing with one entry per generated set of parameters
+	 */
+	Timing generation();
+
+	/**
+	 * Time spent executing each try including all try lifecycle hooks.
+	 * Tries executed during shrinking are not included.
+	 *
+	 * @return timing with one entry per executed try
+	 */
+	Timing tryExecution();
+
+	/**
+	 * Time spent in the property method itself.
+	 *
+	 * @return timing with one entry per executed try
+	 */
+	Timing propertyMethod();
+
+	/**
+	 * Time spent in {@linkplain AroundTryHook around try hooks}
+	 * including {@linkplain BeforeTry} and {@linkplain AfterTry} methods,
+	 * i.e. try execution time without the time of the property method.
+	 *
+	 * @return timing with one entry per executed try
+	 */
+	Timing lifecycleHooks();
+
+	/**
+	 * Time spent shrinking a falsified sample.
+	 *
+	 * @return timing with at most one entry
+	 */
+	Timing shrinking();
+
+	/**
+	 * The number of generated values that had to be discarded
+	 * during parameter generation, e.g. by {@linkplain net.jqwik.api.Arbitrary#filter(java.util.function.Predicate)}.
+	 *
+	 * @return a number equal to or greater than 0
+	 */
+	long filterMisses();
+
+	/**
+	 * The number of successful shrinking steps.
+	 *
+	 * @return a number equal to or greater than 0
+	 */
+	int shrinkingSteps();
+
+	/**
+	 * The number of shrinking candidates for which the property was actually evaluated.
+	 *
+	 * @return a number equal to or greater than 0
+	 */
+	long shrinkingCandidates();
+
+	/**
+	 * Accumulated durations of a recurring activity.
+	 */
+	interface Timing {
+
+		/**
+		 * The number of histogram buckets.
+		 * Bucket {@code i} counts durations from {@code 2^i} up to {@code 2^(i+1) - 1} nanoseconds,
+		 * bucket {@code 0} also counts durations of 0 nanoseconds.
+		 */
+		int BUCKETS = 64;
+
+		/**
+		 * @return number of recorded durations
+		 */
+		long count();
+
+		/**
+		 * @return sum of all recorded durations in nanoseconds
+		 */
+		long totalNanos();
+
+		/**
+		 * @return longest recorded duration in nanoseconds or 0 if nothing was recorded
+		 */
+		long maxNanos();
+
+		/**
+		 * Recorded durations grouped in buckets of powers of two.
+		 *
+		 * @return a copy of the histogram with {@linkplain #BUCKETS} entries
+		 */
+		long[] histogram();
+
+		/**
+		 * @return average duration in nanoseconds or 0 if nothing was recorded
+		 */
+		default long meanNanos() {
+			long count = count();
+			return count == 0 ? 0 : totalNanos() / count;
+		}
+
+		/**
+		 * Approximate a percentile from the histogram.
+		 * The result is the upper bound of the bucket in which the percentile falls.
+		 *
+		 * @param percentile a value between 0.0 and 100.0
+		 * @return approximated duration in nanoseconds or 0 if nothing was recorded
+		 */
+		default long percentileNanos(double percentile) {
+			if (percentile < 0.0 || percentile > 100.0) {
+				throw new IllegalArgumentException("percentile must be between 0.0 and 100.0");
+			}
+			long[] histogram = histogram();
+			long count = 0;
+			for (long bucketCount : histogram) {
+				count += bucketCount;
+			}
+			if (count == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+			long seen = 0;
+			for (int i = 0; i < histogram.length; i++) {
+				seen += histogram[i];
+				if (seen >= rank) {
+					long upperBound = i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+					return Math.min(upperBound, maxNanos());
+				}
+			}
+			return maxNanos();
+		}
+	}
+}
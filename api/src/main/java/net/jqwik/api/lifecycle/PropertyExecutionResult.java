@@ -101,6 +101,17 @@ public interface PropertyExecutionResult {
 	@API(status = EXPERIMENTAL, since = "1.3.5")
 	Optional<ShrunkFalsifiedSample> shrunkSample();
 
+	/**
+	 * Return the metrics collected while running the property.
+	 * Metrics are only available if tries have actually been run.
+	 *
+	 * @return optional metrics
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	default Optional<PropertyExecutionMetrics> metrics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Use to change the {@linkplain Status status} of a property execution result in a
 	 * {@linkplain AroundPropertyHook}.
@@ -0,0 +1,37 @@
+package net.jqwik.api.lifecycle;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Implement this hook to export the {@linkplain PropertyExecutionMetrics metrics}
+ * of a property run, e.g. to a monitoring system or a dashboard.
+ *
+ * <p>
+ * The hook is called after a property has been executed including all
+ * {@linkplain AroundPropertyHook around property hooks}.
+ * Register it globally through Java's {@code ServiceLoader} mechanism
+ * and let {@linkplain #propagateTo()} return {@linkplain PropagationMode#ALL_DESCENDANTS}
+ * to collect metrics for all properties.
+ * </p>
+ */
+@API(status = EXPERIMENTAL, since = "1.4.0")
+@FunctionalInterface
+public interface PropertyMetricsHook extends LifecycleHook {
+
+	/**
+	 * @param context The property's context object
+	 * @param result  The final result of the property run
+	 * @param metrics The metrics collected during the property run
+	 * @throws Throwable any throwable could show up in hook implementation
+	 */
+	void metricsAvailable(
+		PropertyLifecycleContext context,
+		PropertyExecutionResult result,
+		PropertyExecutionMetrics metrics
+	) throws Throwable;
+
+	@API(status = INTERNAL)
+	PropertyMetricsHook DO_NOTHING = (context, result, metrics) -> {};
+}
@@ -26,6 +26,9 @@ import static org.apiguardian.api.API.Status.*;
  * 			Use {@code @StatisticsReport(format = YourReportFormat.class)} to plug in your own format.
  *  	</li>
  * </ul>
+ * <p>
+ * Use {@code @StatisticsReport(approximate = true)} to estimate counts of high-cardinality values
+ * in fixed memory.
  */
 @Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
@@ -64,4 +67,18 @@ public @interface StatisticsReport {
 	 */
 	Class<? extends StatisticsReportFormat> format() default None.class;
 
+	/**
+	 * Estimate counts in fixed memory instead of counting every distinct value.
+	 * Use it for high-cardinality values, e.g. raw generated numbers or strings.
+	 *
+	 * <p>
+	 * Estimated counts are never smaller than the real counts.
+	 * Only the 100 most frequent values are reported and considered in
+	 * {@linkplain StatisticsCoverage#checkQuery(java.util.function.Predicate) coverage queries}.
+	 * Any value that makes up more than one percent of all collected values is among them.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4.0")
+	boolean approximate() default false;
+
 }
@@ -0,0 +1,85 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+import org.junit.platform.launcher.*;
+import org.junit.platform.launcher.core.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.engine.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+/**
+ * Measures discovery and execution of {@linkplain SyntheticSuite} through {@linkplain JqwikTestEngine}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EngineBenchmarks {
+
+	private JqwikTestEngine engine;
+	private LauncherDiscoveryRequest discoveryRequest;
+	private File database;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		database = File.createTempFile("jqwik-benchmarks", ".database");
+		engine = new JqwikTestEngine();
+		discoveryRequest = LauncherDiscoveryRequestBuilder
+							   .request()
+							   .selectors(selectClass(SyntheticSuite.class))
+							   .configurationParameter("jqwik.database", database.getAbsolutePath())
+							   .build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		//noinspection ResultOfMethodCallIgnored
+		database.delete();
+	}
+
+	@Benchmark
+	public TestDescriptor discover() {
+		return engine.discover(discoveryRequest, UniqueId.forEngine(engine.getId()));
+	}
+
+	@Benchmark
+	public TestDescriptor discoverAndExecute() {
+		// A fresh engine for each run because lifecycle hooks are registered during execution
+		JqwikTestEngine engine = new JqwikTestEngine();
+		TestDescriptor engineDescriptor = engine.discover(discoveryRequest, UniqueId.forEngine(engine.getId()));
+		engine.execute(new ExecutionRequest(
+			engineDescriptor,
+			new NoopExecutionListener(),
+			discoveryRequest.getConfigurationParameters()
+		));
+		return engineDescriptor;
+	}
+
+	private static class NoopExecutionListener implements EngineExecutionListener {
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		}
+	}
+}
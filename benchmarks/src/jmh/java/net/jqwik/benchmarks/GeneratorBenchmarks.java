@@ -0,0 +1,95 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Measures a single call to {@code generator(genSize).next(random)}
+ * for the most commonly used default arbitraries and combinators.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeneratorBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<Map<Integer, String>> maps;
+	private RandomGenerator<String> combined;
+	private RandomGenerator<List<String>> flatMapped;
+	private RandomGenerator<Integer> filtered;
+	private RandomGenerator<List<Integer>> uniqueElements;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		random = new Random(42L);
+
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		strings = Arbitraries.strings().alpha().ofMaxLength(50).generator(GEN_SIZE);
+		lists = Arbitraries.integers().list().ofMaxSize(50).generator(GEN_SIZE);
+		maps = Arbitraries.maps(
+			Arbitraries.integers().between(0, 1000),
+			Arbitraries.strings().alpha().ofMaxLength(10)
+		).ofMaxSize(20).generator(GEN_SIZE);
+		combined = Combinators.combine(
+			Arbitraries.integers(),
+			Arbitraries.strings().alpha().ofMaxLength(10),
+			Arbitraries.of(true, false)
+		).as((i, s, b) -> b ? s + i : i + s).generator(GEN_SIZE);
+		flatMapped = Arbitraries.integers().between(0, 20).flatMap(
+			size -> Arbitraries.strings().alpha().ofLength(5).list().ofSize(size)
+		).generator(GEN_SIZE);
+		filtered = Arbitraries.integers().filter(i -> i % 3 == 0).generator(GEN_SIZE);
+		uniqueElements = Arbitraries.integers().between(0, 1000).list().ofMaxSize(50).uniqueElements().generator(GEN_SIZE);
+	}
+
+	@Benchmark
+	public Shrinkable<Integer> integers() {
+		return integers.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<String> strings() {
+		return strings.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<List<Integer>> lists() {
+		return lists.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<Map<Integer, String>> maps() {
+		return maps.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<String> combine() {
+		return combined.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<List<String>> flatMap() {
+		return flatMapped.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<Integer> filter() {
+		return filtered.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<List<Integer>> unique() {
+		return uniqueElements.next(random);
+	}
+}
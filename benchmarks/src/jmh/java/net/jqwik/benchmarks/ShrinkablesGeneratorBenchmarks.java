@@ -0,0 +1,72 @@
+package net.jqwik.benchmarks;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Measures generation of parameter lists through {@linkplain RandomizedShrinkablesGenerator}
+ * as it is done for a property with default settings, i.e. 1000 tries with edge cases mixed in.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShrinkablesGeneratorBenchmarks {
+
+	private static final int TRIES = 1000;
+	private static final int GEN_SIZE = 1000;
+
+	@Param({"simpleParameters", "containerParameters"})
+	public String propertyMethod;
+
+	private List<MethodParameter> parameters;
+	private ArbitraryResolver arbitraryResolver;
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Method method = Arrays.stream(BenchmarkProperties.class.getDeclaredMethods())
+							  .filter(m -> m.getName().equals(propertyMethod))
+							  .findFirst()
+							  .orElseThrow(() -> new IllegalArgumentException(propertyMethod));
+		parameters = JqwikReflectionSupport.getMethodParameters(method, BenchmarkProperties.class);
+		arbitraryResolver = new PropertyMethodArbitraryResolver(
+			BenchmarkProperties.class,
+			new BenchmarkProperties(),
+			DomainContext.global()
+		);
+		random = new Random(42L);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public void generateParametersForOneProperty(Blackhole blackhole) {
+		RandomizedShrinkablesGenerator generator = RandomizedShrinkablesGenerator.forParameters(
+			parameters,
+			arbitraryResolver,
+			random,
+			GEN_SIZE,
+			EdgeCasesMode.MIXIN
+		);
+		for (int i = 0; i < TRIES; i++) {
+			blackhole.consume(generator.next());
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class BenchmarkProperties {
+
+		public void simpleParameters(@ForAll int anInt, @ForAll String aString, @ForAll boolean aBoolean) {}
+
+		public void containerParameters(@ForAll List<Integer> aList, @ForAll Set<String> aSet, @ForAll Map<Integer, String> aMap) {}
+	}
+}
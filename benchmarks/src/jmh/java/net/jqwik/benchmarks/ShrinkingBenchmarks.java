@@ -0,0 +1,124 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Measures full shrinking of typical falsified samples with {@linkplain PropertyShrinker}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private FalsifiedSample twoIntegersSample;
+	private Falsifier<List<Object>> twoIntegersFalsifier;
+
+	private FalsifiedSample listSample;
+	private Falsifier<List<Object>> listFalsifier;
+
+	private FalsifiedSample stringSample;
+	private Falsifier<List<Object>> stringFalsifier;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42L);
+
+		twoIntegersFalsifier = falsifier(params -> {
+			int first = (int) params.get(0);
+			int second = (int) params.get(1);
+			return first < 1000 || second < 1000;
+		});
+		twoIntegersSample = findFalsifiedSample(
+			Arrays.asList(Arbitraries.integers(), Arbitraries.integers()),
+			twoIntegersFalsifier,
+			random
+		);
+
+		listFalsifier = falsifier(params -> {
+			@SuppressWarnings("unchecked")
+			List<Integer> list = (List<Integer>) params.get(0);
+			return list.stream().mapToLong(i -> i).sum() < 1000;
+		});
+		listSample = findFalsifiedSample(
+			Collections.singletonList(Arbitraries.integers().between(0, 1000).list().ofMaxSize(50)),
+			listFalsifier,
+			random
+		);
+
+		stringFalsifier = falsifier(params -> {
+			String aString = (String) params.get(0);
+			return aString.chars().filter(c -> c == 'x').count() < 2;
+		});
+		stringSample = findFalsifiedSample(
+			Collections.singletonList(Arbitraries.strings().withCharRange('a', 'z').ofMinLength(20).ofMaxLength(100)),
+			stringFalsifier,
+			random
+		);
+	}
+
+	private static Falsifier<List<Object>> falsifier(Predicate<List<Object>> predicate) {
+		return params -> predicate.test(params) ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FalsifiedSample findFalsifiedSample(
+		List<Arbitrary<?>> arbitraries,
+		Falsifier<List<Object>> falsifier,
+		Random random
+	) {
+		List<RandomGenerator<Object>> generators =
+			arbitraries.stream()
+					   .map(arbitrary -> ((Arbitrary<Object>) arbitrary).generator(GEN_SIZE))
+					   .collect(Collectors.toList());
+		while (true) {
+			List<Shrinkable<Object>> shrinkables =
+				generators.stream()
+						  .map(generator -> generator.next(random))
+						  .collect(Collectors.toList());
+			List<Object> parameters = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+			if (falsifier.execute(parameters).isFalsified()) {
+				return new FalsifiedSampleImpl(parameters, shrinkables, Optional.empty());
+			}
+		}
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample twoIntegers() {
+		return shrink(twoIntegersSample, twoIntegersFalsifier);
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample listOfIntegers() {
+		return shrink(listSample, listFalsifier);
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample string() {
+		return shrink(stringSample, stringFalsifier);
+	}
+
+	private ShrunkFalsifiedSample shrink(FalsifiedSample sample, Falsifier<List<Object>> falsifier) {
+		PropertyShrinker shrinker = new PropertyShrinker(
+			sample,
+			ShrinkingMode.FULL,
+			10,
+			1,
+			ignore -> {},
+			null
+		);
+		return shrinker.shrink(falsifier);
+	}
+}
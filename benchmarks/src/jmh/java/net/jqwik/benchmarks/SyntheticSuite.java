@@ -0,0 +1,69 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+/**
+ * A small but typical test container used by {@linkplain EngineBenchmarks}.
+ * All properties succeed so that shrinking does not dominate the measurement.
+ */
+@SuppressWarnings("unused")
+public class SyntheticSuite {
+
+	@Property
+	boolean absoluteValueIsNotNegative(@ForAll @IntRange(min = -1000, max = 1000) int anInt) {
+		return Math.abs(anInt) >= 0;
+	}
+
+	@Property
+	boolean reversingTwiceIsIdentity(@ForAll List<Integer> aList) {
+		List<Integer> reversed = new ArrayList<>(aList);
+		Collections.reverse(reversed);
+		Collections.reverse(reversed);
+		return reversed.equals(aList);
+	}
+
+	@Property
+	boolean concatenationAddsLengths(@ForAll String first, @ForAll String second) {
+		return (first + second).length() == first.length() + second.length();
+	}
+
+	@Property
+	boolean mapContainsAllPutKeys(@ForAll Map<Integer, String> aMap) {
+		return new HashMap<>(aMap).keySet().containsAll(aMap.keySet());
+	}
+
+	@Example
+	boolean anExample() {
+		return true;
+	}
+
+	@Group
+	class Nested {
+
+		@Property
+		boolean combinedValues(@ForAll("pairs") String pair) {
+			return pair.contains(":");
+		}
+
+		@Provide
+		Arbitrary<String> pairs() {
+			return Combinators.combine(
+				Arbitraries.integers(),
+				Arbitraries.strings().alpha()
+			).as((i, s) -> i + ":" + s);
+		}
+
+		@Property
+		boolean filteredValues(@ForAll("evenNumbers") int anInt) {
+			return anInt % 2 == 0;
+		}
+
+		@Provide
+		Arbitrary<Integer> evenNumbers() {
+			return Arbitraries.integers().filter(i -> i % 2 == 0);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Measures iteration through all combinations of edge cases of a property's parameters.
+ *
+ * <p>
+ * Lives in the same package as {@linkplain EdgeCasesGenerator} because its constructor is package private.
+ * </p>
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EdgeCasesGeneratorBenchmarks {
+
+	private List<EdgeCases<Object>> singleParameter;
+	private List<EdgeCases<Object>> threeParameters;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		singleParameter = Collections.singletonList(
+			edgeCases(Arbitraries.integers())
+		);
+		threeParameters = Arrays.asList(
+			edgeCases(Arbitraries.integers()),
+			edgeCases(Arbitraries.strings().ofMaxLength(10)),
+			edgeCases(Arbitraries.integers().list().ofMaxSize(5))
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static EdgeCases<Object> edgeCases(Arbitrary<?> arbitrary) {
+		return (EdgeCases<Object>) arbitrary.edgeCases();
+	}
+
+	@Benchmark
+	public void singleParameter(Blackhole blackhole) {
+		iterateAll(singleParameter, blackhole);
+	}
+
+	@Benchmark
+	public void threeParameters(Blackhole blackhole) {
+		iterateAll(threeParameters, blackhole);
+	}
+
+	private void iterateAll(List<EdgeCases<Object>> edgeCases, Blackhole blackhole) {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(edgeCases);
+		while (generator.hasNext()) {
+			blackhole.consume(generator.next());
+		}
+	}
+}
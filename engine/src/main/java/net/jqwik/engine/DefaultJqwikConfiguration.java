@@ -7,6 +7,8 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -33,7 +35,13 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultGeneration(),
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
-			properties.boundedShrinkingSeconds()
+			properties.boundedShrinkingSeconds(),
+			properties.shrinkingCacheSize(),
+			shrinkingThreads(),
+			properties.defaultTriesParallelism(),
+			properties.defaultShrinkingParallelism(),
+			properties.defaultTryTimeout(),
+			properties.defaultTimeout()
 		);
 	}
 
@@ -55,6 +63,43 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public boolean reportEngineStatistics() {
+		return properties.reportEngineStatistics();
+	}
+
+	@Override
+	public ReportingLimits reportingLimits() {
+		return new ReportingLimits(
+			properties.reportingMaxElements(),
+			properties.reportingMaxDepth(),
+			properties.reportingMaxCharacters()
+		);
+	}
+
+	@Override
+	public int exhaustiveCheckpointSeconds() {
+		return properties.exhaustiveCheckpointSeconds();
+	}
+
+	@Override
+	public int executionParallelism() {
+		if (!properties.parallelExecution()) {
+			return 1;
+		}
+		if (properties.executionParallelism() < 1) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return properties.executionParallelism();
+	}
+
+	private int shrinkingThreads() {
+		if (properties.shrinkingThreads() < 1) {
+			return ShrinkingExecutor.DEFAULT_THREADS;
+		}
+		return properties.shrinkingThreads();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
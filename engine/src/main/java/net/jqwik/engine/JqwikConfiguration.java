@@ -1,5 +1,7 @@
 package net.jqwik.engine;
 
+import net.jqwik.engine.execution.reporting.*;
+
 public interface JqwikConfiguration {
 	PropertyAttributesDefaults propertyDefaultValues();
 
@@ -8,4 +10,24 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	/**
+	 * Whether statistics of engine-wide caches and thread pools are logged at the end of a run.
+	 */
+	boolean reportEngineStatistics();
+
+	/**
+	 * The limits for reporting generated and falsified samples.
+	 */
+	ReportingLimits reportingLimits();
+
+	/**
+	 * The number of seconds between checkpoints of exhaustive generation. 0 means no checkpoints.
+	 */
+	int exhaustiveCheckpointSeconds();
+
+	/**
+	 * The number of threads to execute properties in. 1 means sequential execution.
+	 */
+	int executionParallelism();
 }
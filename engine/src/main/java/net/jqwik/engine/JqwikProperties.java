@@ -9,6 +9,8 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class JqwikProperties {
 
@@ -41,10 +43,28 @@ public class JqwikProperties {
 	private static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	private static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	private static final boolean DEFAULT_REPORT_ONLY_FAILURES = false;
+	private static final boolean DEFAULT_REPORT_ENGINE_STATISTICS = false;
 	private static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	// 0 means number of available processors
+	private static final int DEFAULT_SHRINKING_THREADS = 0;
+	private static final int DEFAULT_SHRINKING_CACHE_SIZE = FalsificationCache.DEFAULT_MAX_SIZE;
+	// 0 means no timeout
+	private static final int DEFAULT_TRY_TIMEOUT_MILLIS = 0;
+	private static final int DEFAULT_TIMEOUT_SECONDS = 0;
+	// 0 means no limit
+	private static final int DEFAULT_REPORTING_MAX_ELEMENTS = ReportingLimits.DEFAULT_MAX_ELEMENTS;
+	private static final int DEFAULT_REPORTING_MAX_DEPTH = ReportingLimits.DEFAULT_MAX_DEPTH;
+	private static final int DEFAULT_REPORTING_MAX_CHARACTERS = ReportingLimits.DEFAULT_MAX_CHARACTERS;
+	// 0 means no checkpoints
+	private static final int DEFAULT_EXHAUSTIVE_CHECKPOINT_SECONDS = 0;
+	private static final boolean DEFAULT_PARALLEL_EXECUTION = false;
+	// 0 means number of available processors
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 0;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -57,10 +77,23 @@ public class JqwikProperties {
 	private final boolean useJunitPlatformReporter;
 	private final AfterFailureMode defaultAfterFailure;
 	private final boolean reportOnlyFailures;
+	private final boolean reportEngineStatistics;
 	private final GenerationMode defaultGeneration;
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final int defaultTriesParallelism;
+	private final int defaultShrinkingParallelism;
+	private final int shrinkingThreads;
+	private final int shrinkingCacheSize;
+	private final int defaultTryTimeout;
+	private final int defaultTimeout;
+	private final int reportingMaxElements;
+	private final int reportingMaxDepth;
+	private final int reportingMaxCharacters;
+	private final int exhaustiveCheckpointSeconds;
+	private final boolean parallelExecution;
+	private final int executionParallelism;
 
 	public String databasePath() {
 		return databasePath;
@@ -90,6 +123,10 @@ public class JqwikProperties {
 		return reportOnlyFailures;
 	}
 
+	public boolean reportEngineStatistics() {
+		return reportEngineStatistics;
+	}
+
 	public GenerationMode defaultGeneration() {
 		return defaultGeneration;
 	}
@@ -106,6 +143,54 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public int defaultTriesParallelism() {
+		return defaultTriesParallelism;
+	}
+
+	public int defaultShrinkingParallelism() {
+		return defaultShrinkingParallelism;
+	}
+
+	public int shrinkingThreads() {
+		return shrinkingThreads;
+	}
+
+	public int shrinkingCacheSize() {
+		return shrinkingCacheSize;
+	}
+
+	public int defaultTryTimeout() {
+		return defaultTryTimeout;
+	}
+
+	public int defaultTimeout() {
+		return defaultTimeout;
+	}
+
+	public int reportingMaxElements() {
+		return reportingMaxElements;
+	}
+
+	public int reportingMaxDepth() {
+		return reportingMaxDepth;
+	}
+
+	public int reportingMaxCharacters() {
+		return reportingMaxCharacters;
+	}
+
+	public int exhaustiveCheckpointSeconds() {
+		return exhaustiveCheckpointSeconds;
+	}
+
+	public boolean parallelExecution() {
+		return parallelExecution;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -114,10 +199,23 @@ public class JqwikProperties {
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
 		defaultAfterFailure = parameters.get("failures.after.default", AfterFailureMode::valueOf).orElse(DEFAULT_AFTER_FAILURE);
 		reportOnlyFailures = parameters.getBoolean("reporting.onlyfailures").orElse(DEFAULT_REPORT_ONLY_FAILURES);
+		reportEngineStatistics = parameters.getBoolean("reporting.enginestatistics").orElse(DEFAULT_REPORT_ENGINE_STATISTICS);
 		defaultGeneration = parameters.get("generation.default", GenerationMode::valueOf).orElse(DEFAULT_GENERATION);
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		defaultTriesParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		defaultShrinkingParallelism = parameters.get("shrinking.parallelism", Integer::parseInt).orElse(DEFAULT_SHRINKING_PARALLELISM);
+		shrinkingThreads = parameters.get("shrinking.threads", Integer::parseInt).orElse(DEFAULT_SHRINKING_THREADS);
+		shrinkingCacheSize = parameters.get("shrinking.cache.size", Integer::parseInt).orElse(DEFAULT_SHRINKING_CACHE_SIZE);
+		defaultTryTimeout = parameters.get("tries.timeout.millis", Integer::parseInt).orElse(DEFAULT_TRY_TIMEOUT_MILLIS);
+		defaultTimeout = parameters.get("timeout.seconds", Integer::parseInt).orElse(DEFAULT_TIMEOUT_SECONDS);
+		reportingMaxElements = parameters.get("reporting.limits.elements", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_ELEMENTS);
+		reportingMaxDepth = parameters.get("reporting.limits.depth", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_DEPTH);
+		reportingMaxCharacters = parameters.get("reporting.limits.characters", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_CHARACTERS);
+		exhaustiveCheckpointSeconds = parameters.get("exhaustive.checkpoint.seconds", Integer::parseInt).orElse(DEFAULT_EXHAUSTIVE_CHECKPOINT_SECONDS);
+		parallelExecution = parameters.getBoolean("execution.parallel").orElse(DEFAULT_PARALLEL_EXECUTION);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
 	}
 
 	static JqwikProperties loadWithBackwardsCompatibility(ConfigurationParameters fromJunit) {
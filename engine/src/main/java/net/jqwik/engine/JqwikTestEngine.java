@@ -9,6 +9,9 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -66,9 +69,15 @@ public class JqwikTestEngine implements TestEngine {
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.reportingLimits(),
+				configuration.exhaustiveCheckpointSeconds(),
+				configuration.executionParallelism()
 			).execute(root, listener);
 		}
+		Level statisticsLevel = configuration.reportEngineStatistics() ? Level.INFO : Level.FINE;
+		LOG.log(statisticsLevel, () -> ArbitraryResolutionCache.getInstance().statistics().toString());
+		LOG.log(statisticsLevel, () -> ShrinkingExecutor.withThreads(configuration.propertyDefaultValues().shrinkingThreads()).statistics().toString());
 	}
 
 	private void registerLifecycleHooks(TestDescriptor rootDescriptor, ConfigurationParameters configurationParameters) {
@@ -14,10 +14,20 @@ public interface PropertyAttributesDefaults {
 	GenerationMode generation();
 	EdgeCasesMode edgeCases();
 	String stereotype();
+	int parallelism();
+	int shrinkingParallelism();
+	int tryTimeout();
+	int timeout();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int shrinkingCacheSize();
+
+	// This is currently a global parameter
+	int shrinkingThreads();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -25,7 +35,13 @@ public interface PropertyAttributesDefaults {
 		GenerationMode generationMode,
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
-		int boundedShrinkingSeconds
+		int boundedShrinkingSeconds,
+		int shrinkingCacheSize,
+		int shrinkingThreads,
+		int parallelism,
+		int shrinkingParallelism,
+		int tryTimeout,
+		int timeout
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -67,6 +83,36 @@ public interface PropertyAttributesDefaults {
 			public int boundedShrinkingSeconds() {
 				return boundedShrinkingSeconds;
 			}
+
+			@Override
+			public int shrinkingCacheSize() {
+				return shrinkingCacheSize;
+			}
+
+			@Override
+			public int shrinkingThreads() {
+				return shrinkingThreads;
+			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public int shrinkingParallelism() {
+				return shrinkingParallelism;
+			}
+
+			@Override
+			public int tryTimeout() {
+				return tryTimeout;
+			}
+
+			@Override
+			public int timeout() {
+				return timeout;
+			}
 		};
 	}
 }
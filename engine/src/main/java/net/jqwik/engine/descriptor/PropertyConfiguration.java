@@ -5,6 +5,7 @@ import java.util.*;
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.recording.*;
 
 public class PropertyConfiguration {
 
@@ -12,13 +13,15 @@ public class PropertyConfiguration {
 		PropertyAttributes propertyAttributes,
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		String previousSeed,
-		List<Object> falsifiedSample
+		List<Object> falsifiedSample,
+		GenerationCoordinate previousGenerationCoordinate
 	) {
 		return new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults,
 			previousSeed,
 			falsifiedSample,
+			previousGenerationCoordinate,
 			null,
 			null,
 			null
@@ -29,6 +32,7 @@ public class PropertyConfiguration {
 	private final PropertyAttributesDefaults propertyAttributesDefaults;
 	private final String previousSeed;
 	private final List<Object> falsifiedSample;
+	private final GenerationCoordinate previousGenerationCoordinate;
 	private final String overriddenSeed;
 	private final Integer overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
@@ -38,6 +42,7 @@ public class PropertyConfiguration {
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		String previousSeed,
 		List<Object> falsifiedSample,
+		GenerationCoordinate previousGenerationCoordinate,
 		String overriddenSeed,
 		Integer overriddenTries,
 		GenerationMode overriddenGenerationMode
@@ -47,6 +52,7 @@ public class PropertyConfiguration {
 		this.overriddenSeed = overriddenSeed;
 		this.previousSeed = previousSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.previousGenerationCoordinate = previousGenerationCoordinate;
 		this.overriddenTries = overriddenTries;
 		this.overriddenGenerationMode = overriddenGenerationMode;
 	}
@@ -57,6 +63,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousGenerationCoordinate,
 			changedSeed,
 			this.overriddenTries,
 			this.overriddenGenerationMode
@@ -69,6 +76,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousGenerationCoordinate,
 			this.overriddenSeed,
 			this.overriddenTries,
 			changedGenerationMode
@@ -81,6 +89,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousGenerationCoordinate,
 			this.overriddenSeed,
 			changedTries,
 			this.overriddenGenerationMode
@@ -120,6 +129,10 @@ public class PropertyConfiguration {
 		return falsifiedSample;
 	}
 
+	public GenerationCoordinate getPreviousGenerationCoordinate() {
+		return previousGenerationCoordinate;
+	}
+
 	public String getStereotype() {
 		return propertyAttributes.stereotype().orElse(propertyAttributesDefaults.stereotype());
 	}
@@ -140,8 +153,34 @@ public class PropertyConfiguration {
 		return propertyAttributes.edgeCases().orElse(propertyAttributesDefaults.edgeCases());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
+
+	public int getShrinkingParallelism() {
+		return propertyAttributes.shrinkingParallelism().orElse(propertyAttributesDefaults.shrinkingParallelism());
+	}
+
+	public int getTryTimeoutMillis() {
+		return propertyAttributes.tryTimeout().orElse(propertyAttributesDefaults.tryTimeout());
+	}
+
+	public int getTimeoutSeconds() {
+		return propertyAttributes.timeout().orElse(propertyAttributesDefaults.timeout());
+	}
+
 	// This is currently a global value and not property specific
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingCacheSize() {
+		return propertyAttributesDefaults.shrinkingCacheSize();
+	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingThreads() {
+		return propertyAttributesDefaults.shrinkingThreads();
+	}
 }
@@ -39,6 +39,22 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 						  ? null
 						  : property.seed();
 
+		Integer parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET
+								  ? null
+								  : property.parallelism();
+
+		Integer shrinkingParallelism = property.shrinkingParallelism() == Property.SHRINKING_PARALLELISM_NOT_SET
+										   ? null
+										   : property.shrinkingParallelism();
+
+		Integer tryTimeout = property.tryTimeout() == Property.TRY_TIMEOUT_NOT_SET
+								 ? null
+								 : property.tryTimeout();
+
+		Integer timeout = property.timeout() == Property.TIMEOUT_NOT_SET
+							  ? null
+							  : property.timeout();
+
 		return new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
@@ -47,7 +63,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			afterFailure,
 			edgeCases,
 			stereotype,
-			seed
+			seed,
+			parallelism,
+			shrinkingParallelism,
+			tryTimeout,
+			timeout
 		);
 	}
 
@@ -59,6 +79,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private EdgeCasesMode edgeCasesMode;
 	private String stereotype;
 	private String seed;
+	private Integer parallelism;
+	private Integer shrinkingParallelism;
+	private Integer tryTimeout;
+	private Integer timeout;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -69,7 +93,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		AfterFailureMode afterFailureMode,
 		EdgeCasesMode edgeCasesMode,
 		String stereotype,
-		String seed
+		String seed,
+		Integer parallelism,
+		Integer shrinkingParallelism,
+		Integer tryTimeout,
+		Integer timeout
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -79,6 +107,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.edgeCasesMode = edgeCasesMode;
 		this.stereotype = stereotype;
 		this.seed = seed;
+		this.parallelism = parallelism;
+		this.shrinkingParallelism = shrinkingParallelism;
+		this.tryTimeout = tryTimeout;
+		this.timeout = timeout;
 	}
 
 	@Override
@@ -121,6 +153,26 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(seed);
 	}
 
+	@Override
+	public Optional<Integer> parallelism() {
+		return Optional.ofNullable(parallelism);
+	}
+
+	@Override
+	public Optional<Integer> shrinkingParallelism() {
+		return Optional.ofNullable(shrinkingParallelism);
+	}
+
+	@Override
+	public Optional<Integer> tryTimeout() {
+		return Optional.ofNullable(tryTimeout);
+	}
+
+	@Override
+	public Optional<Integer> timeout() {
+		return Optional.ofNullable(timeout);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -160,4 +212,24 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setSeed(String seed) {
 		this.seed = seed;
 	}
+
+	@Override
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void setShrinkingParallelism(Integer shrinkingParallelism) {
+		this.shrinkingParallelism = shrinkingParallelism;
+	}
+
+	@Override
+	public void setTryTimeout(Integer tryTimeout) {
+		this.tryTimeout = tryTimeout;
+	}
+
+	@Override
+	public void setTimeout(Integer timeout) {
+		this.timeout = timeout;
+	}
 }
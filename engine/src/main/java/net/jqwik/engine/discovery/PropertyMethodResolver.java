@@ -86,12 +86,14 @@ class PropertyMethodResolver implements ElementResolver {
 		});
 		String previousSeed = previousSeed(uniqueId);
 		List<Object> falsifiedSample = falsifiedSample(uniqueId);
+		GenerationCoordinate generationCoordinate = generationCoordinate(uniqueId);
 		PropertyAttributes attributes = DefaultPropertyAttributes.from(property);
 		PropertyConfiguration propertyConfig = PropertyConfiguration.from(
 			attributes,
 			propertyDefaultValues,
 			previousSeed,
-			falsifiedSample
+			falsifiedSample,
+			generationCoordinate
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
@@ -110,6 +112,15 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(null);
 	}
 
+	private GenerationCoordinate generationCoordinate(UniqueId uniqueId) {
+		return testRunData.byUniqueId(uniqueId)
+						  .filter(TestRun::isNotSuccessful)
+						  .flatMap(testRun -> testRun.generationCoordinate().filter(
+							  coordinate -> !coordinate.isCheckpoint() || testRun.hasCheckpoint()
+						  ))
+						  .orElse(null);
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
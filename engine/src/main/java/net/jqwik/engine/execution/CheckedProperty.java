@@ -11,6 +11,8 @@ import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 public class CheckedProperty {
@@ -27,7 +29,9 @@ public class CheckedProperty {
 	private final ResolveParameterHook resolveParameterHook;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
+	private final ExhaustiveCheckpoints exhaustiveCheckpoints;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
+	private ForAllParametersGenerator previousSampleGenerator;
 
 	public CheckedProperty(
 			String propertyName,
@@ -37,7 +41,8 @@ public class CheckedProperty {
 			ResolveParameterHook resolveParameterHook,
 			PropertyLifecycleContext propertyLifecycleContext,
 			Optional<Iterable<? extends Tuple>> optionalData,
-			PropertyConfiguration configuration
+			PropertyConfiguration configuration,
+			ExhaustiveCheckpoints exhaustiveCheckpoints
 	) {
 		this.propertyName = propertyName;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
@@ -48,6 +53,7 @@ public class CheckedProperty {
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.optionalData = optionalData;
 		this.configuration = configuration;
+		this.exhaustiveCheckpoints = exhaustiveCheckpoints;
 	}
 
 	private List<MethodParameter> selectForAllParameters(List<MethodParameter> propertyParameters) {
@@ -59,7 +65,8 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			PropertyCheckResult checkResult = createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			return withGenerationCoordinate(checkResult, effectiveConfiguration);
 		} catch (CannotFindArbitraryException cannotFindArbitraryException) {
 			return PropertyCheckResult.failed(
 					effectiveConfiguration.getStereotype(), propertyName, 0, 0,
@@ -97,6 +104,8 @@ public class CheckedProperty {
 
 		if (configuration.getGenerationMode() == GenerationMode.RANDOMIZED) {
 			ensureValidRandomizedMode();
+		} else if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+			ensureValidGuidedMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.DATA_DRIVEN) {
 			ensureValidDataDrivenMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
@@ -118,25 +127,101 @@ public class CheckedProperty {
 		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
 	}
 
+	/**
+	 * Falsified samples can only be generated again if they stem from randomized generation.
+	 */
+	private PropertyCheckResult withGenerationCoordinate(PropertyCheckResult checkResult, PropertyConfiguration configuration) {
+		if (checkResult.generation() != GenerationMode.RANDOMIZED || !checkResult.originalSample().isPresent()) {
+			return checkResult;
+		}
+		ShrinkingPath shrinkingPath =
+			checkResult.shrunkSample()
+					   .filter(shrunkSample -> shrunkSample instanceof ShrunkFalsifiedSampleImpl)
+					   .map(shrunkSample -> ((ShrunkFalsifiedSampleImpl) shrunkSample).shrinkingPath())
+					   .orElse(ShrinkingPath.EMPTY);
+		int tryIndex = checkResult.countTries() - 1;
+		if (previousSampleGenerator != null) {
+			if (tryIndex == 0) {
+				return continuePreviousGenerationCoordinate(checkResult, configuration, shrinkingPath);
+			}
+			tryIndex--;
+		}
+		return checkResult.withGenerationCoordinate(new GenerationCoordinate(tryIndex, shrinkingPath));
+	}
+
+	private PropertyCheckResult continuePreviousGenerationCoordinate(
+			PropertyCheckResult checkResult,
+			PropertyConfiguration configuration,
+			ShrinkingPath shrinkingPath
+	) {
+		if (!(previousSampleGenerator instanceof ReplayShrinkablesGenerator)) {
+			// The previous sample itself has been stored
+			return checkResult;
+		}
+		int countReplayedSteps = ((ReplayShrinkablesGenerator) previousSampleGenerator).countReplayedSteps();
+		GenerationCoordinate previousCoordinate = configuration.getPreviousGenerationCoordinate();
+		GenerationCoordinate replayedCoordinate = new GenerationCoordinate(
+				previousCoordinate.tryIndex(),
+				previousCoordinate.shrinkingPath().firstSteps(countReplayedSteps)
+		);
+		return checkResult.withGenerationCoordinate(replayedCoordinate.continueWith(shrinkingPath));
+	}
+
 	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration) {
-		List<Object> falsifiedSample = configuration.getFalsifiedSample();
-		if (falsifiedSample != null && !falsifiedSample.isEmpty()) {
-			if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_ONLY) {
-				return createSampleOnlyShrinkableGenerator(configuration);
-			} else if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST) {
-				return createSampleOnlyShrinkableGenerator(configuration)
-							   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
+		previousSampleGenerator = createPreviousSampleGenerator(configuration).orElse(null);
+		if (previousSampleGenerator != null) {
+			if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST) {
+				return previousSampleGenerator.andThen(() -> createDefaultShrinkablesGenerator(configuration));
 			}
+			return previousSampleGenerator;
 		}
 		return createDefaultShrinkablesGenerator(configuration);
 	}
 
+	private Optional<ForAllParametersGenerator> createPreviousSampleGenerator(PropertyConfiguration configuration) {
+		AfterFailureMode afterFailureMode = configuration.getAfterFailureMode();
+		if (afterFailureMode != AfterFailureMode.SAMPLE_ONLY && afterFailureMode != AfterFailureMode.SAMPLE_FIRST) {
+			return Optional.empty();
+		}
+		List<Object> falsifiedSample = configuration.getFalsifiedSample();
+		if (falsifiedSample != null && !falsifiedSample.isEmpty()) {
+			return Optional.of(createSampleOnlyShrinkableGenerator(configuration));
+		}
+		return createReplayShrinkablesGenerator(configuration);
+	}
+
+	private Optional<ForAllParametersGenerator> createReplayShrinkablesGenerator(PropertyConfiguration configuration) {
+		GenerationCoordinate coordinate = configuration.getPreviousGenerationCoordinate();
+		if (coordinate == null || coordinate.isCheckpoint() || configuration.getGenerationMode() != GenerationMode.RANDOMIZED) {
+			return Optional.empty();
+		}
+		return coordinate.shrinkingPath().remapParameters(forAllParameterIndices()).map(
+				shrinkingPath -> new ReplayShrinkablesGenerator(
+						() -> createRandomizedShrinkablesGenerator(configuration),
+						coordinate.tryIndex(),
+						shrinkingPath
+				)
+		);
+	}
+
+	// Shrinking refers to all property parameters whereas generation only covers @ForAll parameters
+	private int[] forAllParameterIndices() {
+		int[] forAllParameterIndices = new int[propertyParameters.size()];
+		int forAllIndex = 0;
+		for (int i = 0; i < propertyParameters.size(); i++) {
+			forAllParameterIndices[i] = propertyParameters.get(i).isAnnotated(ForAll.class) ? forAllIndex++ : -1;
+		}
+		return forAllParameterIndices;
+	}
+
 	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration) {
 		switch (configuration.getGenerationMode()) {
 			case EXHAUSTIVE:
-				return getOptionalExhaustive().get();
+				return createExhaustiveShrinkablesGenerator(configuration);
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
+			case GUIDED:
+				return createGuidedShrinkablesGenerator(configuration);
 			default:
 				return createRandomizedShrinkablesGenerator(configuration);
 		}
@@ -148,6 +233,12 @@ public class CheckedProperty {
 		}
 	}
 
+	private void ensureValidGuidedMode() {
+		if (optionalData.isPresent()) {
+			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = GUIDED)");
+		}
+	}
+
 	private void ensureValidExhaustiveMode() {
 		if (optionalData.isPresent()) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = EXHAUSTIVE)");
@@ -189,6 +280,30 @@ public class CheckedProperty {
 		}
 	}
 
+	/**
+	 * With exhaustive checkpoints enabled an aborted run is resumed at its latest checkpoint.
+	 * Coordinates of falsified samples are never used for resuming.
+	 */
+	private ForAllParametersGenerator createExhaustiveShrinkablesGenerator(PropertyConfiguration configuration) {
+		ExhaustiveShrinkablesGenerator exhaustiveGenerator = getOptionalExhaustive().get();
+		if (!exhaustiveCheckpoints.isEnabled() || CurrentTestDescriptor.isEmpty()) {
+			return exhaustiveGenerator;
+		}
+		GenerationCoordinate checkpoint = configuration.getPreviousGenerationCoordinate();
+		if (checkpoint != null && checkpoint.isCheckpoint() && checkpoint.tryIndex() < exhaustiveGenerator.maxCount()) {
+			LOG.info(() -> String.format(
+					"Resuming exhaustive generation of %s [%s] at try %s of %s",
+					configuration.getStereotype(),
+					propertyLifecycleContext.extendedLabel(),
+					checkpoint.tryIndex() + 1,
+					exhaustiveGenerator.maxCount()
+			));
+			exhaustiveGenerator.startAt(checkpoint.tryIndex());
+		}
+		exhaustiveGenerator.onProgress(exhaustiveCheckpoints.recorderFor(CurrentTestDescriptor.get().getUniqueId()));
+		return exhaustiveGenerator;
+	}
+
 	private ForAllParametersGenerator createDataBasedShrinkablesGenerator(PropertyConfiguration configuration) {
 		if (configuration.getGenerationMode() != GenerationMode.DATA_DRIVEN) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = RANDOMIZED)");
@@ -196,8 +311,21 @@ public class CheckedProperty {
 		return new DataBasedShrinkablesGenerator(forAllParameters, optionalData.get());
 	}
 
+	private ForAllParametersGenerator createGuidedShrinkablesGenerator(PropertyConfiguration configuration) {
+		Random random = SourceOfRandomness.create(configuration.getSeed());
+		return new GuidedShrinkablesGenerator(
+				createRandomizedShrinkablesGenerator(configuration, random),
+				random,
+				GuidanceFeedback::countFeatures
+		);
+	}
+
 	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
 		Random random = SourceOfRandomness.create(configuration.getSeed());
+		return createRandomizedShrinkablesGenerator(configuration, random);
+	}
+
+	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration, Random random) {
 		return RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
@@ -4,20 +4,30 @@ import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
 
-import org.junit.platform.commons.support.*;
-
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 public class CheckedPropertyFactory {
 
 	private static List<Class<?>> BOOLEAN_RETURN_TYPES = Arrays.asList(boolean.class, Boolean.class);
 
+	private final ExhaustiveCheckpoints exhaustiveCheckpoints;
+
+	public CheckedPropertyFactory() {
+		this(ExhaustiveCheckpoints.DISABLED);
+	}
+
+	public CheckedPropertyFactory(ExhaustiveCheckpoints exhaustiveCheckpoints) {
+		this.exhaustiveCheckpoints = exhaustiveCheckpoints;
+	}
+
 	public CheckedProperty fromDescriptor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
@@ -35,7 +45,8 @@ public class CheckedPropertyFactory {
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			propertyMethodDescriptor.getContainerClass(),
 			propertyLifecycleContext.testInstance(),
-			DomainContextFacadeImpl.getCurrentContext()
+			DomainContextFacadeImpl.getCurrentContext(),
+			ArbitraryResolutionCache.keyForDomains(propertyMethodDescriptor.getDomains()).orElse(null)
 		);
 
 		Optional<Iterable<? extends Tuple>> optionalData =
@@ -50,7 +61,8 @@ public class CheckedPropertyFactory {
 			parameterResolver,
 			propertyLifecycleContext,
 			optionalData,
-			configuration
+			configuration,
+			exhaustiveCheckpoints
 		);
 	}
 
@@ -68,7 +80,31 @@ public class CheckedPropertyFactory {
 		};
 
 		TryExecutor rawExecutor = createRawExecutor(propertyMethodDescriptor, propertyLifecycleContext.testInstance());
-		return new AroundTryLifecycle(rawExecutor, aroundTryWithFinishing);
+		return new AroundTryLifecycle(rawExecutor, withMetrics(aroundTryWithFinishing));
+	}
+
+	private AroundTryHook withMetrics(AroundTryHook aroundTry) {
+		return (context, aTry, parameters) -> {
+			PropertyMetricsRecorder metrics = PropertyMetricsRecorder.current();
+			if (metrics == null) {
+				return aroundTry.aroundTry(context, aTry, parameters);
+			}
+			long[] propertyMethodNanos = {0};
+			TryExecutor timedTry = innerParameters -> {
+				long start = System.nanoTime();
+				try {
+					return aTry.execute(innerParameters);
+				} finally {
+					propertyMethodNanos[0] += System.nanoTime() - start;
+				}
+			};
+			long tryStart = System.nanoTime();
+			try {
+				return aroundTry.aroundTry(context, timedTry, parameters);
+			} finally {
+				metrics.recordTry(System.nanoTime() - tryStart, propertyMethodNanos[0]);
+			}
+		};
 	}
 
 	private TryExecutor createRawExecutor(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
@@ -78,7 +114,9 @@ public class CheckedPropertyFactory {
 	private CheckedFunction createRawFunction(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
 		Method targetMethod = propertyMethodDescriptor.getTargetMethod();
 		Class<?> returnType = targetMethod.getReturnType();
-		Function<List<Object>, Object> function = params -> ReflectionSupport.invokeMethod(targetMethod, testInstance, params.toArray());
+		// Binding is done once per property since the method is invoked for every try and shrinking step
+		MethodInvoker invoker = MethodInvoker.bind(targetMethod, testInstance);
+		Function<List<Object>, Object> function = invoker::invoke;
 
 		if (BOOLEAN_RETURN_TYPES.contains(returnType))
 			return params -> (boolean) function.apply(params);
@@ -16,15 +16,22 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	/**
+	 * The finish task of every container created by this creator keyed by its prepare task.
+	 * A parent container needs it because only the prepare task is handed back from {@linkplain #createTask}.
+	 */
+	private final Map<ExecutionTask, ExecutionTask> finishTasks = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
 		Pipeline pipeline,
 		LifecycleHooksSupplier lifecycleSupplier,
-		PropertyExecutionListener propertyExecutionListener
+		PropertyExecutionListener propertyExecutionListener,
+		ReportingLimits reportingLimits
 	) {
 
-		Reporter reporter = new DefaultReporter(propertyExecutionListener::reportingEntryPublished, containerDescriptor);
+		Reporter reporter = new DefaultReporter(propertyExecutionListener::reportingEntryPublished, containerDescriptor, reportingLimits);
 
 		ContainerLifecycleContext containerLifecycleContext = createLifecycleContext(containerDescriptor, reporter, lifecycleSupplier);
 
@@ -99,11 +106,25 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, terminalTasks(childrenTasks));
 
+		finishTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	/**
+	 * A child's terminal task is the finish task of a nested container or the child task itself.
+	 * Waiting for it makes sure no parent finishes before all of its descendants.
+	 */
+	private ExecutionTask[] terminalTasks(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> {
+						 ExecutionTask finishTask = finishTasks.remove(childTask);
+						 return finishTask != null ? finishTask : childTask;
+					 })
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
@@ -2,12 +2,16 @@ package net.jqwik.engine.execution;
 
 import java.util.*;
 import java.util.logging.*;
+import java.util.stream.*;
 
+import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 public class JqwikExecutor {
@@ -17,6 +21,10 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final ReportingLimits reportingLimits;
+	private final ExhaustiveCheckpoints exhaustiveCheckpoints;
+	private final int parallelism;
+	private final List<ExecutionTask> sequentialContainerTasks = new ArrayList<>();
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -28,26 +36,47 @@ public class JqwikExecutor {
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits,
+		int exhaustiveCheckpointSeconds,
+		int parallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.reportingLimits = reportingLimits;
+		this.exhaustiveCheckpoints = new ExhaustiveCheckpoints(recorder, exhaustiveCheckpointSeconds);
+		this.parallelism = parallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline;
+		if (isParallel()) {
+			recordingListener = new SynchronizedExecutionListener(recordingListener);
+			pipeline = new ParallelExecutionPipeline(recordingListener, parallelism);
+		} else {
+			pipeline = new ExecutionPipeline(recordingListener);
+		}
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
 		pipeline.runToTermination();
 	}
 
+	private boolean isParallel() {
+		return parallelism > 1;
+	}
+
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
 		previousFailedTests.forEach(pipeline::executeFirst);
+		List<ExecutionTask> containingFailedTests =
+			sequentialContainerTasks.stream()
+									.filter(task -> previousFailedTests.stream().anyMatch(failedTest -> failedTest.hasPrefix(task.ownerId())))
+									.collect(Collectors.toList());
+		pipeline.executeFirst(containingFailedTests);
 	}
 
 	private ExecutionTask createTask(TestDescriptor descriptor, Pipeline pipeline, PropertyExecutionListener propertyExecutionListener) {
@@ -55,10 +84,13 @@ public class JqwikExecutor {
 			return createContainerTask(descriptor, pipeline, propertyExecutionListener);
 		}
 		if (descriptor.getClass().equals(ContainerClassDescriptor.class)) {
+			if (pipeline instanceof ParallelExecutionPipeline && isExecutedSequentially((ContainerClassDescriptor) descriptor)) {
+				return createSequentialContainerTask(descriptor, propertyExecutionListener);
+			}
 			return createContainerTask(descriptor, pipeline, propertyExecutionListener);
 		}
 		if (descriptor.getClass().equals(PropertyMethodDescriptor.class)) {
-			return createPropertyTask((PropertyMethodDescriptor) descriptor, pipeline);
+			return createPropertyTask((PropertyMethodDescriptor) descriptor);
 		}
 		if (descriptor.getClass().equals(SkipExecutionDecorator.class)) {
 			return createSkippingTask((SkipExecutionDecorator) descriptor, pipeline);
@@ -84,15 +116,33 @@ public class JqwikExecutor {
 		);
 	}
 
-	private ExecutionTask createPropertyTask(
-		PropertyMethodDescriptor propertyMethodDescriptor,
-		Pipeline pipeline
-	) {
-		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures);
+	private ExecutionTask createPropertyTask(PropertyMethodDescriptor propertyMethodDescriptor) {
+		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures, reportingLimits, exhaustiveCheckpoints);
+	}
+
+	private boolean isExecutedSequentially(ContainerClassDescriptor containerDescriptor) {
+		return AnnotationSupport.isAnnotated(containerDescriptor.getContainerClass(), ExecuteSequentially.class);
+	}
+
+	/**
+	 * All tasks of the container - including those of nested containers - are run in a pipeline of their own
+	 * which is executed as a single task of the parallel pipeline.
+	 */
+	private ExecutionTask createSequentialContainerTask(TestDescriptor containerDescriptor, PropertyExecutionListener listener) {
+		ExecutionPipeline sequentialPipeline = new ExecutionPipeline(listener);
+		sequentialPipeline.submit(createContainerTask(containerDescriptor, sequentialPipeline, listener));
+		letNonSuccessfulTestsExecuteFirst(sequentialPipeline);
+		ExecutionTask sequentialContainerTask = ExecutionTask.from(
+			(ignoreListener, predecessorResult) -> sequentialPipeline.runSequentially(predecessorResult),
+			containerDescriptor,
+			"sequentially executing " + containerDescriptor.getDisplayName()
+		);
+		sequentialContainerTasks.add(sequentialContainerTask);
+		return sequentialContainerTask;
 	}
 
 	private ExecutionTask createContainerTask(TestDescriptor containerDescriptor, Pipeline pipeline, PropertyExecutionListener listener) {
-		return containerTaskCreator.createTask(containerDescriptor, childTaskCreator, pipeline, registry, listener);
+		return containerTaskCreator.createTask(containerDescriptor, childTaskCreator, pipeline, registry, listener, reportingLimits);
 	}
 
 }
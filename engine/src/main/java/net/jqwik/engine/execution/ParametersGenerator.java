@@ -11,6 +11,12 @@ public interface ParametersGenerator {
 
 	List<Shrinkable<Object>> next(TryLifecycleContext context);
 
+	/**
+	 * Is called in the order of generation for each try that has been finished without falsifying the property.
+	 */
+	default void tryFinished() {
+	}
+
 	int edgeCasesTotal();
 
 	int edgeCasesTried();
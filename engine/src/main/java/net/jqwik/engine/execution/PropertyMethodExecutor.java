@@ -11,9 +11,11 @@ import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
 import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 public class PropertyMethodExecutor {
@@ -23,16 +25,21 @@ public class PropertyMethodExecutor {
 	private final PropertyMethodDescriptor methodDescriptor;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final boolean reportOnlyFailures;
-	private final CheckedPropertyFactory checkedPropertyFactory = new CheckedPropertyFactory();
+	private final ReportingLimits reportingLimits;
+	private final CheckedPropertyFactory checkedPropertyFactory;
 
 	public PropertyMethodExecutor(
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits,
+		ExhaustiveCheckpoints exhaustiveCheckpoints
 	) {
 		this.methodDescriptor = methodDescriptor;
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.reportingLimits = reportingLimits;
+		this.checkedPropertyFactory = new CheckedPropertyFactory(exhaustiveCheckpoints);
 	}
 
 	public PropertyExecutionResult execute(LifecycleHooksSupplier lifecycleSupplier) {
@@ -80,6 +87,7 @@ public class PropertyMethodExecutor {
 		AroundPropertyHook aroundProperty = lifecycleSupplier.aroundPropertyHook(methodDescriptor);
 		AroundTryHook aroundTry = lifecycleSupplier.aroundTryHook(methodDescriptor);
 		ResolveParameterHook resolveParameter = lifecycleSupplier.resolveParameterHook(methodDescriptor);
+		PropertyMetricsHook propertyMetrics = lifecycleSupplier.propertyMetricsHook(methodDescriptor);
 
 		PropertyExecutionResult propertyExecutionResult;
 		try {
@@ -97,9 +105,34 @@ public class PropertyMethodExecutor {
 		StoreRepository.getCurrent().finishProperty(methodDescriptor);
 		StoreRepository.getCurrent().finishScope(methodDescriptor);
 		reportResult(propertyLifecycleContext.reporter(), propertyExecutionResult);
+		handleMetrics(propertyMetrics, propertyExecutionResult);
 		return propertyExecutionResult;
 	}
 
+	private void handleMetrics(PropertyMetricsHook propertyMetrics, PropertyExecutionResult propertyExecutionResult) {
+		propertyExecutionResult.metrics().ifPresent(metrics -> {
+			if (Reporting.METRICS.containedIn(methodDescriptor.getReporting())) {
+				reportMetrics(propertyLifecycleContext.reporter(), metrics);
+			}
+			try {
+				propertyMetrics.metricsAvailable(propertyLifecycleContext, propertyExecutionResult, metrics);
+			} catch (Throwable throwable) {
+				// Exporting metrics must never change the outcome of a property
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				String message = String.format("Exporting metrics of [%s] failed: %s", methodDescriptor.extendedLabel(), throwable);
+				LOG.log(Level.WARNING, message, throwable);
+			}
+		});
+	}
+
+	private void reportMetrics(Reporter reporter, PropertyExecutionMetrics metrics) {
+		if (metrics instanceof PropertyMetricsRecorder) {
+			reporter.publishReports("metrics", ((PropertyMetricsRecorder) metrics).toReports());
+		} else {
+			reporter.publishValue("metrics", metrics.toString());
+		}
+	}
+
 	private ExtendedPropertyExecutionResult executeMethod(
 		AroundTryHook aroundTry,
 		ResolveParameterHook resolveParameter
@@ -133,7 +166,8 @@ public class PropertyMethodExecutor {
 			if (isReportWorthy((ExtendedPropertyExecutionResult) executionResult)) {
 				String reportEntry = ExecutionResultReport.from(
 					methodDescriptor,
-					(ExtendedPropertyExecutionResult) executionResult
+					(ExtendedPropertyExecutionResult) executionResult,
+					reportingLimits
 				);
 				reporter.publishValue(methodDescriptor.extendedLabel(), reportEntry);
 			}
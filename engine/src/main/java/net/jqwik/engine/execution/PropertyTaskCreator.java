@@ -11,6 +11,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 class PropertyTaskCreator {
@@ -18,7 +19,9 @@ class PropertyTaskCreator {
 	ExecutionTask createTask(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits,
+		ExhaustiveCheckpoints exhaustiveCheckpoints
 	) {
 		return ExecutionTask.from(
 			(listener, predecessorResult) -> {
@@ -33,7 +36,7 @@ class PropertyTaskCreator {
 
 				try {
 					ResolveParameterHook resolveParameterHook = lifecycleSupplier.resolveParameterHook(methodDescriptor);
-					Reporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor);
+					Reporter reporter = new DefaultReporter(listener::reportingEntryPublished, methodDescriptor, reportingLimits);
 					Object testInstance = createTestInstance(methodDescriptor, lifecycleSupplier, reporter);
 					propertyLifecycleContext = new DefaultPropertyLifecycleContext(methodDescriptor, testInstance, reporter, resolveParameterHook);
 
@@ -53,7 +56,7 @@ class PropertyTaskCreator {
 
 				listener.executionStarted(methodDescriptor);
 				PropertyExecutionResult executionResult = executeTestMethod(
-					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, reportOnlyFailures
+					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, reportOnlyFailures, reportingLimits, exhaustiveCheckpoints
 				);
 				listener.executionFinished(methodDescriptor, executionResult);
 
@@ -123,9 +126,13 @@ class PropertyTaskCreator {
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		ReportingLimits reportingLimits,
+		ExhaustiveCheckpoints exhaustiveCheckpoints
 	) {
-		PropertyMethodExecutor executor = new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures);
+		PropertyMethodExecutor executor = new PropertyMethodExecutor(
+			methodDescriptor, propertyLifecycleContext, reportOnlyFailures, reportingLimits, exhaustiveCheckpoints
+		);
 		return executor.execute(lifecycleSupplier);
 	}
 
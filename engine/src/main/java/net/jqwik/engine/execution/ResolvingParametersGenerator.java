@@ -46,6 +46,11 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return next;
 	}
 
+	@Override
+	public void tryFinished() {
+		forAllParametersGenerator.tryFinished();
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return forAllParametersGenerator.edgeCasesTotal();
@@ -0,0 +1,15 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Implemented by engine hooks that can tell in advance that they would do nothing
+ * for a descriptor. Those hooks are left out of the descriptor's compiled hook chains.
+ */
+public interface ConditionalLifecycleHook extends LifecycleHook {
+
+	boolean isNoOpFor(TestDescriptor descriptor);
+
+}
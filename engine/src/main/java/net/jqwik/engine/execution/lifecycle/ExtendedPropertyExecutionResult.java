@@ -1,7 +1,10 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.recording.*;
 
 public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult {
 
@@ -13,6 +16,11 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * @return the coordinate to generate the falsified sample again
+	 */
+	Optional<GenerationCoordinate> generationCoordinate();
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
@@ -14,6 +14,10 @@ public class HookSupport {
 		if (aroundPropertyHooks.isEmpty()) {
 			return AroundPropertyHook.BASE;
 		}
+		// The innermost hook can call the property directly
+		if (aroundPropertyHooks.size() == 1) {
+			return aroundPropertyHooks.get(0);
+		}
 		aroundPropertyHooks = new ArrayList<>(aroundPropertyHooks);
 		AroundPropertyHook first = aroundPropertyHooks.remove(0);
 		return wrap(first, combineAroundPropertyHooks(aroundPropertyHooks));
@@ -36,6 +40,10 @@ public class HookSupport {
 		if (aroundTryHooks.isEmpty()) {
 			return AroundTryHook.BASE;
 		}
+		// The innermost hook can call the try directly
+		if (aroundTryHooks.size() == 1) {
+			return aroundTryHooks.get(0);
+		}
 		aroundTryHooks = new ArrayList<>(aroundTryHooks);
 		AroundTryHook first = aroundTryHooks.remove(0);
 		return wrap(first, combineAroundTryHooks(aroundTryHooks));
@@ -58,6 +66,7 @@ public class HookSupport {
 		if (skipExecutionHooks.isEmpty()) {
 			return SkipExecutionHook.DO_NOT_SKIP;
 		}
+		skipExecutionHooks = new ArrayList<>(skipExecutionHooks);
 		SkipExecutionHook first = skipExecutionHooks.remove(0);
 		return then(first, combineSkipExecutionHooks(skipExecutionHooks));
 	}
@@ -97,6 +106,21 @@ public class HookSupport {
 		};
 	}
 
+	public static PropertyMetricsHook combinePropertyMetricsHooks(List<PropertyMetricsHook> propertyMetricsHooks) {
+		if (propertyMetricsHooks.isEmpty()) {
+			return PropertyMetricsHook.DO_NOTHING;
+		}
+		return (context, result, metrics) -> {
+			ThrowableCollector throwableCollector = new ThrowableCollector(ignore -> false);
+			for (PropertyMetricsHook hook : propertyMetricsHooks) {
+				throwableCollector.execute(() -> {
+					hook.metricsAvailable(context, result, metrics);
+				});
+			}
+			throwableCollector.assertEmpty();
+		};
+	}
+
 	public static ResolveParameterHook combineResolveParameterHooks(List<ResolveParameterHook> resolveParameterHooks) {
 		if (resolveParameterHooks.isEmpty()) {
 			return ResolveParameterHook.DO_NOT_RESOLVE;
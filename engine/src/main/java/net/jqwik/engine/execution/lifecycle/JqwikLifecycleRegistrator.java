@@ -2,6 +2,7 @@ package net.jqwik.engine.execution.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.logging.*;
 
 import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
@@ -11,6 +12,8 @@ import net.jqwik.engine.descriptor.*;
 
 public class JqwikLifecycleRegistrator {
 
+	private static final Logger LOG = Logger.getLogger(JqwikLifecycleRegistrator.class.getName());
+
 	private final LifecycleHooksRegistry lifecycleRegistry;
 
 	public JqwikLifecycleRegistrator(LifecycleHooksRegistry lifecycleRegistry, ConfigurationParameters configurationParameters) {
@@ -20,6 +23,9 @@ public class JqwikLifecycleRegistrator {
 	public void registerLifecycleHooks(TestDescriptor rootDescriptor) {
 		registerGlobalHooks(rootDescriptor);
 		register(rootDescriptor);
+		if (LOG.isLoggable(Level.FINE)) {
+			LOG.fine(String.format("Lifecycle hook chains:%n%s", lifecycleRegistry.dumpHookChains(rootDescriptor)));
+		}
 	}
 
 	private void registerGlobalHooks(TestDescriptor rootDescriptor) {
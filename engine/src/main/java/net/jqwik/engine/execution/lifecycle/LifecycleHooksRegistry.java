@@ -2,6 +2,7 @@ package net.jqwik.engine.execution.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.logging.*;
 import java.util.stream.*;
 
@@ -9,6 +10,7 @@ import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.support.*;
@@ -26,6 +28,10 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 	private final List<HookRegistration> registrations = new ArrayList<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new HashMap<>();
 
+	// Hook chains are compiled on first use and discarded whenever another hook is registered
+	private final Map<Tuple2<TestDescriptor, Class<? extends LifecycleHook>>, List<? extends LifecycleHook>> hookChains =
+		new ConcurrentHashMap<>();
+
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
 		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
@@ -62,14 +68,37 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return HookSupport.combineSkipExecutionHooks(skipExecutionHooks);
 	}
 
+	@Override
+	public PropertyMetricsHook propertyMetricsHook(PropertyMethodDescriptor propertyMethodDescriptor) {
+		List<PropertyMetricsHook> propertyMetricsHooks = findHooks(propertyMethodDescriptor, PropertyMetricsHook.class, dontCompare());
+		return HookSupport.combinePropertyMetricsHooks(propertyMetricsHooks);
+	}
+
+	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
+		return (List<T>) hookChains.computeIfAbsent(
+			Tuple.of(descriptor, hookType),
+			ignore -> compileHookChain(descriptor, hookType, comparator)
+		);
+	}
+
+	private <T extends LifecycleHook> List<T> compileHookChain(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
 		List<Class<T>> hookClasses = findHookClasses(descriptor, hookType);
-		return hookClasses
-				   .stream()
-				   .map(this::getHook)
-				   .filter(hook -> hookAppliesTo(hook, descriptor))
-				   .sorted(comparator)
-				   .collect(Collectors.toList());
+		List<T> hookChain = hookClasses
+								.stream()
+								.map(this::getHook)
+								.filter(hook -> hookAppliesTo(hook, descriptor))
+								.filter(hook -> !isNoOp(hook, descriptor))
+								.sorted(comparator)
+								.collect(Collectors.toList());
+		return Collections.unmodifiableList(hookChain);
+	}
+
+	private <T extends LifecycleHook> boolean isNoOp(T hook, TestDescriptor descriptor) {
+		if (hook instanceof ConditionalLifecycleHook) {
+			return ((ConditionalLifecycleHook) hook).isNoOpFor(descriptor);
+		}
+		return false;
 	}
 
 	private <T extends LifecycleHook> boolean hookAppliesTo(T hook, TestDescriptor descriptor) {
@@ -85,6 +114,46 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return element;
 	}
 
+	/**
+	 * Compiles the hook chains of {@code rootDescriptor} and all its descendants.
+	 * Meant for debugging hook registration.
+	 *
+	 * @return one line per descriptor followed by one line per non-empty chain listing its hooks in order
+	 */
+	public String dumpHookChains(TestDescriptor rootDescriptor) {
+		StringBuilder dump = new StringBuilder();
+		List<TestDescriptor> descriptors = new ArrayList<>();
+		descriptors.add(rootDescriptor);
+		descriptors.addAll(rootDescriptor.getDescendants());
+		for (TestDescriptor descriptor : descriptors) {
+			dump.append(String.format("%s%n", descriptor.getUniqueId()));
+			for (Map.Entry<String, List<? extends LifecycleHook>> chain : hookChains(descriptor).entrySet()) {
+				if (chain.getValue().isEmpty()) {
+					continue;
+				}
+				String hooks = chain.getValue().stream()
+									.map(hook -> hook.getClass().getName())
+									.collect(Collectors.joining(", "));
+				dump.append(String.format("    %s: %s%n", chain.getKey(), hooks));
+			}
+		}
+		return dump.toString();
+	}
+
+	private Map<String, List<? extends LifecycleHook>> hookChains(TestDescriptor descriptor) {
+		Map<String, List<? extends LifecycleHook>> chains = new LinkedHashMap<>();
+		chains.put("SkipExecutionHook", findHooks(descriptor, SkipExecutionHook.class, dontCompare()));
+		chains.put("BeforeContainerHook", findHooks(descriptor, BeforeContainerHook.class, BeforeContainerHook::compareTo));
+		chains.put("AfterContainerHook", findHooks(descriptor, AfterContainerHook.class, AfterContainerHook::compareTo));
+		chains.put("ResolveParameterHook", findHooks(descriptor, ResolveParameterHook.class, dontCompare()));
+		if (descriptor instanceof PropertyMethodDescriptor) {
+			chains.put("AroundPropertyHook", findHooks(descriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo));
+			chains.put("AroundTryHook", findHooks(descriptor, AroundTryHook.class, AroundTryHook::compareTo));
+			chains.put("PropertyMetricsHook", findHooks(descriptor, PropertyMetricsHook.class, dontCompare()));
+		}
+		return chains;
+	}
+
 	/*
 	 * For testing only
 	 */
@@ -129,6 +198,7 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
 		if (!registrations.contains(registration)) {
 			registrations.add(registration);
+			hookChains.clear();
 		}
 	}
 
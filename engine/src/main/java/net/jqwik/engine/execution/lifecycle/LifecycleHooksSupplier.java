@@ -19,4 +19,6 @@ public interface LifecycleHooksSupplier {
 
 	SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor);
 
+	PropertyMetricsHook propertyMetricsHook(PropertyMethodDescriptor propertyMethodDescriptor);
+
 }
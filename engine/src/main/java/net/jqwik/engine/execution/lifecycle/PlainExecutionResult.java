@@ -5,6 +5,7 @@ import java.util.*;
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.recording.*;
 
 public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 
@@ -100,6 +101,11 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(EdgeCasesMode.NOT_SET, 0, 0);
 	}
 
+	@Override
+	public Optional<GenerationCoordinate> generationCoordinate() {
+		return Optional.empty();
+	}
+
 	@Override
 	public String randomSeed() {
 		return Long.toString(0L);
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -20,10 +21,16 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initializer;
 
-	private final Set<Consumer<T>> onCloseCallbacks = new HashSet<>();
+	private final Set<Consumer<T>> onCloseCallbacks = Collections.newSetFromMap(new ConcurrentHashMap<>());
 	private T value;
 	private boolean initialized = false;
 
+	// Values of concurrent tries, see TryStoreScope
+	private final Map<TryStoreScope, T> valuesPerTry = new HashMap<>();
+
+	// Values of concurrent properties, see currentOwningProperty()
+	private final Map<TestDescriptor, T> valuesPerProperty = new HashMap<>();
+
 	public ScopedStore(Object identifier, Lifespan lifespan, TestDescriptor scope, Supplier<T> initializer) {
 		this.identifier = identifier;
 		this.lifespan = lifespan;
@@ -33,6 +40,14 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized T get() {
+		Optional<TryStoreScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			return valueOf(valuesPerTry, tryScope.get());
+		}
+		Optional<TestDescriptor> owningProperty = currentOwningProperty();
+		if (owningProperty.isPresent()) {
+			return valueOf(valuesPerProperty, owningProperty.get());
+		}
 		if (!initialized) {
 			value = initializer.get();
 			initialized = true;
@@ -40,6 +55,13 @@ public class ScopedStore<T> implements Store<T> {
 		return value;
 	}
 
+	private <K> T valueOf(Map<K, T> values, K key) {
+		if (!values.containsKey(key)) {
+			values.put(key, initializer.get());
+		}
+		return values.get(key);
+	}
+
 	@Override
 	public Lifespan lifespan() {
 		return lifespan;
@@ -47,15 +69,83 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+		T newValue = updater.apply(get());
+		Optional<TryStoreScope> tryScope = currentTryScope();
+		Optional<TestDescriptor> owningProperty = currentOwningProperty();
+		if (tryScope.isPresent()) {
+			valuesPerTry.put(tryScope.get(), newValue);
+		} else if (owningProperty.isPresent()) {
+			valuesPerProperty.put(owningProperty.get(), newValue);
+		} else {
+			value = newValue;
+		}
 	}
 
 	@Override
 	public synchronized void reset() {
-		close();
+		Optional<TryStoreScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			resetValueOf(valuesPerTry, tryScope.get());
+			return;
+		}
+		Optional<TestDescriptor> owningProperty = currentOwningProperty();
+		if (owningProperty.isPresent()) {
+			resetValueOf(valuesPerProperty, owningProperty.get());
+			return;
+		}
+		resetSharedValue();
+	}
+
+	/**
+	 * Reset the value owned by {@code property} - unless the current thread runs in a try scope -
+	 * and the value shared by all retrievers that do not own a value of their own.
+	 */
+	synchronized void reset(TestDescriptor property) {
+		Optional<TryStoreScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			resetValueOf(valuesPerTry, tryScope.get());
+			return;
+		}
+		resetValueOf(valuesPerProperty, property);
+		resetSharedValue();
+	}
+
+	private <K> void resetValueOf(Map<K, T> values, K key) {
+		if (values.containsKey(key)) {
+			runOnCloseCallbacks(values.remove(key));
+		}
+	}
+
+	private void resetSharedValue() {
+		if (initialized) {
+			runOnCloseCallbacks(value);
+		}
 		initialized = false;
 	}
 
+	private Optional<TryStoreScope> currentTryScope() {
+		if (lifespan != Lifespan.TRY) {
+			return Optional.empty();
+		}
+		return TryStoreScope.current();
+	}
+
+	/**
+	 * A property that runs within the store's scope owns the values of stores with lifespan
+	 * {@linkplain Lifespan#PROPERTY} or {@linkplain Lifespan#TRY} that belong to one of its containers.
+	 * That way properties running concurrently neither see nor reset each other's values.
+	 */
+	private Optional<TestDescriptor> currentOwningProperty() {
+		if (lifespan == Lifespan.RUN || CurrentTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		TestDescriptor current = CurrentTestDescriptor.get();
+		if (current == scope || !current.isTest() || !isInScope(current)) {
+			return Optional.empty();
+		}
+		return Optional.of(current);
+	}
+
 	@Override
 	public ScopedStore<T> onClose(Consumer<T> onCloseCallback) {
 		onCloseCallbacks.add(onCloseCallback);
@@ -92,10 +182,22 @@ public class ScopedStore<T> implements Store<T> {
 		);
 	}
 
-	public void close() {
+	public synchronized void close() {
+		for (T valueOfTry : valuesPerTry.values()) {
+			runOnCloseCallbacks(valueOfTry);
+		}
+		valuesPerTry.clear();
+		for (T valueOfProperty : valuesPerProperty.values()) {
+			runOnCloseCallbacks(valueOfProperty);
+		}
+		valuesPerProperty.clear();
 		if (!initialized) {
 			return;
 		}
+		runOnCloseCallbacks(value);
+	}
+
+	private void runOnCloseCallbacks(T value) {
 		for (Consumer<T> onCloseCallback : onCloseCallbacks) {
 			try {
 				onCloseCallback.accept(value);
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -10,7 +11,12 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * StoreRepository and ScopedStore can handle concurrent execution of properties.
+ * Stores with lifespan {@linkplain Lifespan#PROPERTY} or {@linkplain Lifespan#TRY}
+ * that belong to a container keep a separate value for each property running in it.
+ * Finishing a property or try only resets the values owned by that property.
+ * Concurrent tries of a single property do not interfere since each of them
+ * runs in its own {@linkplain TryStoreScope}.
  */
 public class StoreRepository {
 
@@ -25,7 +31,16 @@ public class StoreRepository {
 		return current;
 	}
 
-	private Set<ScopedStore<?>> stores = new HashSet<>();
+	// Stores are indexed so that lookups and resets do not have to scan all stores:
+	// By identifier for retrieval and by lifespan and scope for resetting and removing.
+	private final Map<Object, List<ScopedStore<?>>> storesByIdentifier = new ConcurrentHashMap<>();
+	private final Map<Lifespan, Map<TestDescriptor, Set<ScopedStore<?>>>> storesByLifespanAndScope = new EnumMap<>(Lifespan.class);
+
+	public StoreRepository() {
+		for (Lifespan lifespan : Lifespan.values()) {
+			storesByLifespanAndScope.put(lifespan, new ConcurrentHashMap<>());
+		}
+	}
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -50,12 +65,13 @@ public class StoreRepository {
 		return store;
 	}
 
-	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
+	// Checking for conflicts and adding must happen atomically
+	private synchronized <T> void addStore(Object identifier, ScopedStore<T> newStore) {
+		List<ScopedStore<?>> storesWithSameIdentifier = storesByIdentifier.getOrDefault(identifier, Collections.emptyList());
 		Optional<ScopedStore<?>> conflictingStore =
-			stores.stream()
-				  .filter(store -> store.getIdentifier().equals(newStore.getIdentifier()))
-				  .filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
-				  .findFirst();
+			storesWithSameIdentifier.stream()
+									.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
+									.findFirst();
 
 		conflictingStore.ifPresent(existingStore -> {
 			String message = String.format(
@@ -67,7 +83,10 @@ public class StoreRepository {
 			throw new JqwikException(message);
 		});
 
-		stores.add(newStore);
+		storesByIdentifier.computeIfAbsent(identifier, ignore -> new CopyOnWriteArrayList<>()).add(newStore);
+		storesByLifespanAndScope.get(newStore.lifespan())
+								.computeIfAbsent(newStore.getScope(), ignore -> ConcurrentHashMap.newKeySet())
+								.add(newStore);
 	}
 
 	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
@@ -79,44 +98,68 @@ public class StoreRepository {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
 
+		List<ScopedStore<?>> storesWithSameIdentifier = storesByIdentifier.getOrDefault(identifier, Collections.emptyList());
 		//noinspection unchecked
-		return stores.stream()
-					 .filter(store -> store.getIdentifier().equals(identifier))
-					 .filter(store -> store.isVisibleFor(retriever))
-					 .map(store -> (ScopedStore<T>) store)
-					 .findFirst();
+		return storesWithSameIdentifier.stream()
+									   .filter(store -> store.isVisibleFor(retriever))
+									   .map(store -> (ScopedStore<T>) store)
+									   .findFirst();
 	}
 
-	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			stores
-				.stream()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
+	public synchronized void finishScope(TestDescriptor scope) {
+		for (Map<TestDescriptor, Set<ScopedStore<?>>> storesByScope : storesByLifespanAndScope.values()) {
+			List<TestDescriptor> scopesToRemove =
+				storesByScope.keySet()
+							 .stream()
+							 .filter(storeScope -> isSameOrDescendant(storeScope, scope))
+							 .collect(Collectors.toList());
+			for (TestDescriptor scopeToRemove : scopesToRemove) {
+				Set<ScopedStore<?>> storesToRemove = storesByScope.remove(scopeToRemove);
+				for (ScopedStore<?> store : storesToRemove) {
+					store.close();
+					removeFromIdentifierIndex(store);
+				}
+			}
+		}
+	}
 
-		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
-			stores.remove(store);
+	private void removeFromIdentifierIndex(ScopedStore<?> store) {
+		List<ScopedStore<?>> storesWithSameIdentifier = storesByIdentifier.get(store.getIdentifier());
+		storesWithSameIdentifier.remove(store);
+		if (storesWithSameIdentifier.isEmpty()) {
+			storesByIdentifier.remove(store.getIdentifier());
 		}
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	private boolean isSameOrDescendant(TestDescriptor descriptor, TestDescriptor scope) {
+		if (descriptor == scope) {
+			return true;
+		}
+		return descriptor.getParent().map(parent -> isSameOrDescendant(parent, scope)).orElse(false);
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(ScopedStore::reset);
+		resetVisibleStores(Lifespan.PROPERTY, scope);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(ScopedStore::reset);
+		resetVisibleStores(Lifespan.TRY, scope);
+	}
+
+	// Visible stores belong to the scope itself or to one of its ancestors
+	private void resetVisibleStores(Lifespan lifespan, TestDescriptor scope) {
+		Map<TestDescriptor, Set<ScopedStore<?>>> storesByScope = storesByLifespanAndScope.get(lifespan);
+		if (storesByScope.isEmpty()) {
+			return;
+		}
+		Optional<TestDescriptor> current = Optional.of(scope);
+		while (current.isPresent()) {
+			TestDescriptor descriptor = current.get();
+			Set<ScopedStore<?>> stores = storesByScope.get(descriptor);
+			if (stores != null) {
+				stores.forEach(store -> store.reset(scope));
+			}
+			current = descriptor.getParent();
+		}
 	}
 }
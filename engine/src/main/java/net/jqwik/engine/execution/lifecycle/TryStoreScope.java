@@ -0,0 +1,57 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Separates the values of stores with lifespan {@linkplain Lifespan#TRY} for tries that run concurrently.
+ *
+ * <p>
+ * Code running within a try scope sees its own values of those stores,
+ * and {@linkplain StoreRepository#finishTry(org.junit.platform.engine.TestDescriptor)}
+ * only resets the values of the current try scope.
+ * Outside of any try scope - i.e. when tries are executed sequentially - all tries share the same values.
+ * </p>
+ */
+public class TryStoreScope {
+
+	private static final ThreadLocal<TryStoreScope> current = new ThreadLocal<>();
+
+	public static Optional<TryStoreScope> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	/**
+	 * @return a supplier that runs {@code code} in the try scope of the calling thread, if there is one
+	 */
+	public static <T> Supplier<T> propagate(Supplier<T> code) {
+		TryStoreScope scope = current.get();
+		if (scope == null) {
+			return code;
+		}
+		return () -> scope.run(code);
+	}
+
+	public <T> T run(Supplier<T> code) {
+		TryStoreScope previous = current.get();
+		current.set(this);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	public void run(Runnable code) {
+		run(() -> {
+			code.run();
+			return null;
+		});
+	}
+}
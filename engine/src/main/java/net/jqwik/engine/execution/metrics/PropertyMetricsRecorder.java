@@ -0,0 +1,137 @@
+package net.jqwik.engine.execution.metrics;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Collects the metrics of a single property run.
+ *
+ * <p>
+ * The recorder of the property currently running is bound to the executing thread
+ * so that code without access to the property, e.g. generators, can record into it.
+ * All recording methods are cheap and thread safe.
+ * </p>
+ */
+public class PropertyMetricsRecorder implements PropertyExecutionMetrics {
+
+	private static final ThreadLocal<PropertyMetricsRecorder> current = new ThreadLocal<>();
+
+	/**
+	 * @return the recorder bound to the current thread or {@code null}
+	 */
+	public static PropertyMetricsRecorder current() {
+		return current.get();
+	}
+
+	public static <T> T runWithRecorder(PropertyMetricsRecorder recorder, Supplier<T> code) {
+		PropertyMetricsRecorder previous = current.get();
+		current.set(recorder);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	public static void recordFilterMisses(long misses) {
+		PropertyMetricsRecorder recorder = current.get();
+		if (recorder != null) {
+			recorder.filterMisses.addAndGet(misses);
+		}
+	}
+
+	private final TimingRecorder generation = new TimingRecorder();
+	private final TimingRecorder tryExecution = new TimingRecorder();
+	private final TimingRecorder propertyMethod = new TimingRecorder();
+	private final TimingRecorder lifecycleHooks = new TimingRecorder();
+	private final TimingRecorder shrinking = new TimingRecorder();
+	private final AtomicLong filterMisses = new AtomicLong(0);
+	private final AtomicLong shrinkingCandidates = new AtomicLong(0);
+	private volatile int shrinkingSteps = 0;
+
+	public void recordGeneration(long nanos) {
+		generation.record(nanos);
+	}
+
+	public void recordTry(long tryNanos, long propertyMethodNanos) {
+		tryExecution.record(tryNanos);
+		propertyMethod.record(propertyMethodNanos);
+		lifecycleHooks.record(tryNanos - propertyMethodNanos);
+	}
+
+	public void recordShrinking(long nanos, int steps) {
+		shrinking.record(nanos);
+		shrinkingSteps += steps;
+	}
+
+	public void recordShrinkingCandidate() {
+		shrinkingCandidates.incrementAndGet();
+	}
+
+	@Override
+	public Timing generation() {
+		return generation;
+	}
+
+	@Override
+	public Timing tryExecution() {
+		return tryExecution;
+	}
+
+	@Override
+	public Timing propertyMethod() {
+		return propertyMethod;
+	}
+
+	@Override
+	public Timing lifecycleHooks() {
+		return lifecycleHooks;
+	}
+
+	@Override
+	public Timing shrinking() {
+		return shrinking;
+	}
+
+	@Override
+	public long filterMisses() {
+		return filterMisses.get();
+	}
+
+	@Override
+	public int shrinkingSteps() {
+		return shrinkingSteps;
+	}
+
+	@Override
+	public long shrinkingCandidates() {
+		return shrinkingCandidates.get();
+	}
+
+	public Map<String, Object> toReports() {
+		Map<String, Object> reports = new LinkedHashMap<>();
+		reports.put("generation", generation.toString());
+		reports.put("try-execution", tryExecution.toString());
+		reports.put("property-method", propertyMethod.toString());
+		reports.put("lifecycle-hooks", lifecycleHooks.toString());
+		reports.put("filter-misses", filterMisses());
+		if (shrinking.count() > 0) {
+			reports.put("shrinking", shrinking.toString());
+			reports.put("shrinking-steps", shrinkingSteps());
+			reports.put("shrinking-candidates", shrinkingCandidates());
+		}
+		return reports;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PropertyExecutionMetrics%s", toReports());
+	}
+}
@@ -0,0 +1,83 @@
+package net.jqwik.engine.execution.metrics;
+
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Lock free recording of durations. Safe to be used from several threads at once.
+ */
+public class TimingRecorder implements PropertyExecutionMetrics.Timing {
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong(0);
+	private final AtomicLong totalNanos = new AtomicLong(0);
+	private final AtomicLong maxNanos = new AtomicLong(0);
+
+	public void record(long nanos) {
+		long duration = Math.max(0, nanos);
+		buckets.incrementAndGet(bucketFor(duration));
+		count.incrementAndGet();
+		totalNanos.addAndGet(duration);
+		long currentMax = maxNanos.get();
+		while (duration > currentMax && !maxNanos.compareAndSet(currentMax, duration)) {
+			currentMax = maxNanos.get();
+		}
+	}
+
+	static int bucketFor(long nanos) {
+		if (nanos == 0) {
+			return 0;
+		}
+		return 63 - Long.numberOfLeadingZeros(nanos);
+	}
+
+	@Override
+	public long count() {
+		return count.get();
+	}
+
+	@Override
+	public long totalNanos() {
+		return totalNanos.get();
+	}
+
+	@Override
+	public long maxNanos() {
+		return maxNanos.get();
+	}
+
+	@Override
+	public long[] histogram() {
+		long[] histogram = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram[i] = buckets.get(i);
+		}
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"count=%d, total=%s, mean=%s, p90=%s, max=%s",
+			count(),
+			formatNanos(totalNanos()),
+			formatNanos(meanNanos()),
+			formatNanos(percentileNanos(90.0)),
+			formatNanos(maxNanos())
+		);
+	}
+
+	static String formatNanos(long nanos) {
+		if (nanos < 10_000L) {
+			return nanos + "ns";
+		}
+		if (nanos < 10_000_000L) {
+			return nanos / 1_000L + "us";
+		}
+		if (nanos < 10_000_000_000L) {
+			return nanos / 1_000_000L + "ms";
+		}
+		return nanos / 1_000_000_000L + "s";
+	}
+}
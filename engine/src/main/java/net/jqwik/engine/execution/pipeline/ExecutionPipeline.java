@@ -9,10 +9,10 @@ import net.jqwik.engine.execution.*;
 
 public class ExecutionPipeline implements Pipeline {
 
-	private final List<ExecutionTask> tasks = new ArrayList<>();
-	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
-	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
-	private final PropertyExecutionListener executionListener;
+	final List<ExecutionTask> tasks = new ArrayList<>();
+	final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
+	final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
+	final PropertyExecutionListener executionListener;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
 		this.executionListener = executionListener;
@@ -28,7 +28,7 @@ public class ExecutionPipeline implements Pipeline {
 			tasks.add(task);
 	}
 
-	private void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
+	void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
 		for (ExecutionTask predecessor : predecessors) {
 			if (!taskFinished.containsKey(predecessor))
 				throw new PredecessorNotSubmittedException(task, predecessor);
@@ -74,7 +74,16 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
-		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
+		runSequentially(TaskExecutionResult.success());
+	}
+
+	/**
+	 * Run all tasks one after the other in the current thread.
+	 *
+	 * @param predecessorResult is handed to the first task
+	 * @return the result of the last task
+	 */
+	public TaskExecutionResult runSequentially(TaskExecutionResult predecessorResult) {
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
 			if (movedPredecessorsToTopOfQueue(head))
@@ -83,6 +92,7 @@ public class ExecutionPipeline implements Pipeline {
 			taskFinished.put(head, true);
 			tasks.remove(0);
 		}
+		return predecessorResult;
 	}
 
 	private boolean movedPredecessorsToTopOfQueue(ExecutionTask head) {
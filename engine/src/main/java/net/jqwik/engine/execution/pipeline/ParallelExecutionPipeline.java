@@ -0,0 +1,169 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs independent tasks concurrently on a work-stealing pool.
+ *
+ * <p>
+ * A task is only started when all its predecessors have finished.
+ * Tasks that are ready at the same time are started in queue order,
+ * so {@linkplain #executeFirst(List)} still has an effect.
+ * The predecessor result handed to a task is the first failed result of its predecessors
+ * or a successful result if all predecessors succeeded.
+ * </p>
+ *
+ * <p>
+ * An unexpected error thrown by a task stops the start of further tasks.
+ * It is rethrown after all running tasks have finished.
+ * </p>
+ */
+public class ParallelExecutionPipeline extends ExecutionPipeline {
+
+	private final int parallelism;
+	private final Map<ExecutionTask, TaskExecutionResult> taskResults = new IdentityHashMap<>();
+
+	private int countRunning = 0;
+	private Throwable unexpectedError = null;
+
+	public ParallelExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		super(executionListener);
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be at least 1");
+		}
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public synchronized void submit(ExecutionTask task, ExecutionTask... predecessors) {
+		super.submit(task, predecessors);
+	}
+
+	/**
+	 * In addition to moving the tasks themselves to the front,
+	 * all their unfinished predecessors are moved in front of them.
+	 * Otherwise the tasks would have to wait for predecessors queued far behind.
+	 */
+	@Override
+	public synchronized void executeFirst(List<ExecutionTask> executionTaskList) {
+		Set<ExecutionTask> withPredecessors = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<ExecutionTask> orderedTasks = new ArrayList<>();
+		for (ExecutionTask task : executionTaskList) {
+			addWithUnfinishedPredecessors(task, withPredecessors, orderedTasks);
+		}
+		super.executeFirst(orderedTasks);
+	}
+
+	private void addWithUnfinishedPredecessors(ExecutionTask task, Set<ExecutionTask> alreadyAdded, List<ExecutionTask> orderedTasks) {
+		if (!alreadyAdded.add(task)) {
+			return;
+		}
+		for (ExecutionTask predecessor : taskPredecessors.getOrDefault(task, new ExecutionTask[0])) {
+			if (!taskFinished.getOrDefault(predecessor, false)) {
+				addWithUnfinishedPredecessors(predecessor, alreadyAdded, orderedTasks);
+			}
+		}
+		orderedTasks.add(task);
+	}
+
+	@Override
+	public void runToTermination() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+			thread.setName("jqwik-execution-" + thread.getPoolIndex());
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}, null, false);
+		try {
+			scheduleUntilAllTasksFinished(pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private synchronized void scheduleUntilAllTasksFinished(ForkJoinPool pool) {
+		while (!tasks.isEmpty() || countRunning > 0) {
+			if (unexpectedError != null) {
+				break;
+			}
+			for (ExecutionTask task : startableTasks()) {
+				TaskExecutionResult predecessorResult = combinedPredecessorResult(task);
+				tasks.remove(task);
+				countRunning++;
+				pool.execute(() -> runTask(task, predecessorResult));
+			}
+			if (countRunning == 0 && !tasks.isEmpty()) {
+				String message = String.format("No task can be started. Remaining tasks have cyclic predecessors: %s", tasks);
+				throw new JqwikException(message);
+			}
+			waitForRunningTask();
+		}
+		if (unexpectedError != null) {
+			// No more tasks are started but the running ones must finish before the error is propagated
+			while (countRunning > 0) {
+				waitForRunningTask();
+			}
+			JqwikExceptionSupport.throwAsUncheckedException(unexpectedError);
+		}
+	}
+
+	private List<ExecutionTask> startableTasks() {
+		List<ExecutionTask> startable = new ArrayList<>();
+		for (ExecutionTask task : tasks) {
+			if (countRunning + startable.size() >= parallelism) {
+				break;
+			}
+			ExecutionTask[] predecessors = taskPredecessors.get(task);
+			ensurePredecessorsSubmitted(task, predecessors);
+			if (Arrays.stream(predecessors).allMatch(taskFinished::get)) {
+				startable.add(task);
+			}
+		}
+		return startable;
+	}
+
+	private TaskExecutionResult combinedPredecessorResult(ExecutionTask task) {
+		return Arrays.stream(taskPredecessors.get(task))
+					 .map(taskResults::get)
+					 .filter(result -> !result.successful())
+					 .findFirst()
+					 .orElse(TaskExecutionResult.success());
+	}
+
+	private void waitForRunningTask() {
+		try {
+			wait();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	private void runTask(ExecutionTask task, TaskExecutionResult predecessorResult) {
+		TaskExecutionResult result;
+		Throwable error = null;
+		try {
+			result = task.execute(executionListener, predecessorResult);
+		} catch (Throwable throwable) {
+			result = TaskExecutionResult.failure(throwable);
+			error = throwable;
+		}
+		taskFinished(task, result, error);
+	}
+
+	private synchronized void taskFinished(ExecutionTask task, TaskExecutionResult result, Throwable error) {
+		taskResults.put(task, result);
+		taskFinished.put(task, true);
+		countRunning--;
+		if (error != null && unexpectedError == null) {
+			unexpectedError = error;
+		}
+		notifyAll();
+	}
+}
@@ -9,6 +9,8 @@ class CollectionValueReport extends ValueReport {
 
 	private final List<ValueReport> collection;
 
+	private String singleLineReport;
+
 	CollectionValueReport(Optional<String> label, List<ValueReport> collection) {
 		super(label);
 		this.collection = collection;
@@ -16,7 +18,10 @@ class CollectionValueReport extends ValueReport {
 
 	@Override
 	public String singleLineReport() {
-		return label.orElse("") + "[" + singleLineCollection() + "]";
+		if (singleLineReport == null) {
+			singleLineReport = label.orElse("") + "[" + singleLineCollection() + "]";
+		}
+		return singleLineReport;
 	}
 
 	private String singleLineCollection() {
@@ -12,10 +12,12 @@ public class DefaultReporter implements Reporter {
 
 	private final BiConsumer<TestDescriptor, ReportEntry> listener;
 	private final TestDescriptor descriptor;
+	private final ReportingLimits limits;
 
-	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor) {
+	public DefaultReporter(BiConsumer<TestDescriptor, ReportEntry> listener, TestDescriptor descriptor, ReportingLimits limits) {
 		this.listener = listener;
 		this.descriptor = descriptor;
+		this.limits = limits;
 	}
 
 	@Override
@@ -31,7 +33,7 @@ public class DefaultReporter implements Reporter {
 	private String buildReport(Object object) {
 		StringBuilder stringBuilder = new StringBuilder();
 
-		ValueReport sampleReport = ValueReport.of(object);
+		ValueReport sampleReport = ValueReport.of(object, limits);
 		int lengthOfTimestamp = 35;
 		if (sampleReport.singleLineLength() < SampleReporter.MAX_LINE_LENGTH - lengthOfTimestamp) {
 			String line = sampleReport.singleLineReport();
@@ -51,7 +53,7 @@ public class DefaultReporter implements Reporter {
 	}
 
 	private String buildReports(Map<String, Object> reports) {
-		SampleReporter sampleReporter = new SampleReporter(null, reports);
+		SampleReporter sampleReporter = new SampleReporter(null, reports, limits);
 		StringBuilder stringBuilder = new StringBuilder();
 		LineReporter lineReporter = new BuilderBasedLineReporter(stringBuilder, 0);
 		sampleReporter.reportTo(lineReporter);
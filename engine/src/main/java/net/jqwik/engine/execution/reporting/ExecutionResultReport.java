@@ -10,6 +10,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class ExecutionResultReport {
@@ -22,31 +23,35 @@ public class ExecutionResultReport {
 	private static final String EDGE_CASES_TRIED_KEY = "edge-cases#tried";
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String SEED_KEY = "seed";
+	private static final String SHRINKING_CACHE_KEY = "shrinking-cache";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
 	private static final String ORIGINAL_SAMPLE_HEADLINE = "Original Sample";
 
 	public static String from(
 		PropertyMethodDescriptor methodDescriptor,
-		ExtendedPropertyExecutionResult executionResult
+		ExtendedPropertyExecutionResult executionResult,
+		ReportingLimits limits
 	) {
 		return buildJqwikReport(
 			methodDescriptor.getConfiguration().getAfterFailureMode(),
 			methodDescriptor.getTargetMethod(),
-			executionResult
+			executionResult,
+			limits
 		);
 	}
 
 	private static String buildJqwikReport(
 		AfterFailureMode afterFailureMode,
 		Method propertyMethod,
-		ExtendedPropertyExecutionResult executionResult
+		ExtendedPropertyExecutionResult executionResult,
+		ReportingLimits limits
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
 		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode);
-		appendSamples(reportLines, propertyMethod, executionResult);
+		appendSamples(reportLines, propertyMethod, executionResult, limits);
 
 		return reportLines.toString();
 	}
@@ -54,15 +59,16 @@ public class ExecutionResultReport {
 	private static void appendSamples(
 		StringBuilder reportLines,
 		Method propertyMethod,
-		PropertyExecutionResult executionResult
+		PropertyExecutionResult executionResult,
+		ReportingLimits limits
 	) {
 		executionResult.shrunkSample().ifPresent(shrunkSample -> {
 			List<Object> parameters = shrunkSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = shrunkSample.parameters();
 			if (!parameters.isEmpty()) {
 				String shrunkSampleHeadline = String.format("%s (%s steps)", SHRUNK_SAMPLE_HEADLINE, shrunkSample.countShrinkingSteps());
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline, limits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, limits);
 			}
 		});
 
@@ -71,8 +77,8 @@ public class ExecutionResultReport {
 			List<Object> parameters = originalSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = originalSample.parameters();
 			if (!parameters.isEmpty()) {
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline, limits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, limits);
 				if (executionResult.shrunkSample().isPresent()) {
 					originalSample.falsifyingError().ifPresent(error -> {
 						appendOriginalError(reportLines, error);
@@ -86,11 +92,12 @@ public class ExecutionResultReport {
 		StringBuilder reportLines,
 		Method propertyMethod,
 		List<Object> parameters,
-		List<Object> parametersAfterRun
+		List<Object> parametersAfterRun,
+		ReportingLimits limits
 	) {
 		if (ParameterChangesDetector.haveParametersChanged(parameters, parametersAfterRun)) {
 			String changesSampleHeadline = "After Execution";
-			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1);
+			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1, limits);
 		}
 	}
 
@@ -136,6 +143,15 @@ public class ExecutionResultReport {
 																				 .tried(), "# of edge cases tried in current run");
 		}
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		executionResult.shrunkSample()
+					   .filter(shrunkSample -> shrunkSample instanceof ShrunkFalsifiedSampleImpl)
+					   .flatMap(shrunkSample -> ((ShrunkFalsifiedSampleImpl) shrunkSample).cacheStatistics())
+					   .ifPresent(statistics -> appendProperty(
+						   propertiesLines,
+						   SHRINKING_CACHE_KEY,
+						   statistics,
+						   "hits/misses/evictions of falsification cache"
+					   ));
 
 		prependFixedSizedPropertiesHeader(reportLines, propertiesLines);
 		propertiesLines.forEach(reportLines::append);
@@ -8,19 +8,38 @@ class MapValueReport extends ValueReport {
 	private static final int MAX_LINE_LENGTH = 100;
 
 	private final List<Map.Entry<ValueReport, ValueReport>> reportEntries;
+	private final int omittedEntries;
 
-	MapValueReport(final Optional<String> label, final List<Map.Entry<ValueReport, ValueReport>> reportEntries) {
+	private String singleLineReport;
+
+	MapValueReport(
+		final Optional<String> label,
+		final List<Map.Entry<ValueReport, ValueReport>> reportEntries,
+		final int omittedEntries
+	) {
 		super(label);
 		this.reportEntries = reportEntries;
+		this.omittedEntries = omittedEntries;
 	}
 
 	@Override
 	public String singleLineReport() {
-		return label.orElse("") + "{" + singleLineEntries() + "}";
+		if (singleLineReport == null) {
+			singleLineReport = label.orElse("") + "{" + singleLineEntries() + "}";
+		}
+		return singleLineReport;
 	}
 
 	private String singleLineEntries() {
-		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
+		Stream<String> entries = reportEntries.stream().map(this::singleLineEntry);
+		if (omittedEntries > 0) {
+			entries = Stream.concat(entries, Stream.of(omittedEntriesMarker()));
+		}
+		return entries.collect(Collectors.joining(", "));
+	}
+
+	private String omittedEntriesMarker() {
+		return TruncationReport.moreElements(omittedEntries).singleLineReport();
 	}
 
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
@@ -36,7 +55,7 @@ class MapValueReport extends ValueReport {
 
 	private void reportEntries(LineReporter lineReporter, int indentLevel) {
 		for (int i = 0; i < reportEntries.size(); i++) {
-			boolean isNotLast = i < reportEntries.size() - 1;
+			boolean isNotLast = i < reportEntries.size() - 1 || omittedEntries > 0;
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
@@ -47,5 +66,8 @@ class MapValueReport extends ValueReport {
 				reportEntry.getValue().report(lineReporter, indentLevel + 1, optionalComma);
 			}
 		}
+		if (omittedEntries > 0) {
+			lineReporter.addLine(indentLevel, omittedEntriesMarker());
+		}
 	}
 }
@@ -8,16 +8,38 @@ class ObjectValueReport extends ValueReport {
 
 	private List<String> lines;
 
-	ObjectValueReport(Optional<String> header, Object value) {
+	ObjectValueReport(Optional<String> header, Object value, ReportingLimits limits) {
 		super(header);
-		this.lines = toStringLines(value);
+		this.lines = toStringLines(value, limits);
 	}
 
-	private List<String> toStringLines(Object value) {
+	private List<String> toStringLines(Object value, ReportingLimits limits) {
+		if (value instanceof String) {
+			return JqwikStringSupport.toLines(stringWithinLimits((String) value, limits));
+		}
 		String s = JqwikStringSupport.displayString(value);
+		if (limits.exceedsCharacters(s.length())) {
+			s = truncate(s, limits.maxCharacters(), s.length());
+		}
 		return JqwikStringSupport.toLines(s);
 	}
 
+	// Long strings are cut before their display string is built. Quotes are part of the display string.
+	private String stringWithinLimits(String aString, ReportingLimits limits) {
+		int displayLength = aString.length() + 2;
+		if (!limits.exceedsCharacters(displayLength)) {
+			return JqwikStringSupport.displayString(aString);
+		}
+		int maxCharacters = limits.maxCharacters();
+		String displayStart = JqwikStringSupport.displayString(aString.substring(0, maxCharacters - 1));
+		return truncate(displayStart, maxCharacters, displayLength);
+	}
+
+	private String truncate(String displayString, int maxCharacters, int displayLength) {
+		int omittedCharacters = displayLength - maxCharacters;
+		return String.format("%s... %s more characters", displayString.substring(0, maxCharacters), omittedCharacters);
+	}
+
 	@Override
 	public String singleLineReport() {
 		return label.orElse("") + String.join(" ", lines);
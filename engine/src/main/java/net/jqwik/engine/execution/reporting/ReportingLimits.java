@@ -0,0 +1,59 @@
+package net.jqwik.engine.execution.reporting;
+
+/**
+ * Limits the size of reported sample values. Parts beyond a limit are left out
+ * and replaced by a marker. A limit of 0 means no limit.
+ *
+ * <p>
+ * The {@linkplain #DEFAULT default limits} apply unless others are configured.
+ * Use {@linkplain #UNLIMITED} to report values in full.
+ * </p>
+ */
+public class ReportingLimits {
+
+	public static final int DEFAULT_MAX_ELEMENTS = 1000;
+	public static final int DEFAULT_MAX_DEPTH = 50;
+	public static final int DEFAULT_MAX_CHARACTERS = 10000;
+
+	public static final ReportingLimits DEFAULT = new ReportingLimits(DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH, DEFAULT_MAX_CHARACTERS);
+	public static final ReportingLimits UNLIMITED = new ReportingLimits(0, 0, 0);
+
+	private final int maxElements;
+	private final int maxDepth;
+	private final int maxCharacters;
+
+	/**
+	 * @param maxElements   The maximum number of reported elements of a collection or entries of a map
+	 * @param maxDepth      The maximum nesting depth of reported collections, maps and tuples
+	 * @param maxCharacters The maximum number of characters of a single reported value
+	 */
+	public ReportingLimits(int maxElements, int maxDepth, int maxCharacters) {
+		if (maxElements < 0 || maxDepth < 0 || maxCharacters < 0) {
+			throw new IllegalArgumentException("Reporting limits must not be negative");
+		}
+		this.maxElements = maxElements;
+		this.maxDepth = maxDepth;
+		this.maxCharacters = maxCharacters;
+	}
+
+	int maxCharacters() {
+		return maxCharacters;
+	}
+
+	boolean exceedsElements(int count) {
+		return maxElements > 0 && count > maxElements;
+	}
+
+	boolean exceedsDepth(int depth) {
+		return maxDepth > 0 && depth > maxDepth;
+	}
+
+	boolean exceedsCharacters(int length) {
+		return maxCharacters > 0 && length > maxCharacters;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ReportingLimits[elements=%s, depth=%s, characters=%s]", maxElements, maxDepth, maxCharacters);
+	}
+}
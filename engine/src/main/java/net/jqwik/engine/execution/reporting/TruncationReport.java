@@ -0,0 +1,30 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+/**
+ * Stands for a part of a value that has been left out because of {@linkplain ReportingLimits}.
+ */
+class TruncationReport extends ValueReport {
+
+	static TruncationReport moreElements(int count) {
+		return new TruncationReport(String.format("... %s more", count));
+	}
+
+	private final String marker;
+
+	TruncationReport(String marker) {
+		super(Optional.empty());
+		this.marker = marker;
+	}
+
+	@Override
+	public String singleLineReport() {
+		return marker;
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, marker + appendix);
+	}
+}
@@ -1,7 +1,6 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.util.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 
@@ -12,105 +11,105 @@ public abstract class ValueReport {
 	}
 
 	public static ValueReport of(Object value) {
+		return of(value, ReportingLimits.DEFAULT);
+	}
+
+	public static ValueReport of(Object value, ReportingLimits limits) {
 		ReportingFormatFinder formatFinder = reportingFormatFinder();
-		return of(value, formatFinder);
+		return of(value, formatFinder, limits);
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
-		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
+		return of(value, formatFinder, ReportingLimits.DEFAULT);
 	}
 
-	private static Set<Object> visitedSet(Set<Object> from) {
-		Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
-		objects.addAll(from);
-		return objects;
+	static ValueReport of(Object value, ReportingFormatFinder formatFinder, ReportingLimits limits) {
+		// Only the values on the path from the root are visited at any time
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		return new ValueReportBuilder(formatFinder, limits, visited).of(value, 1);
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
-		SampleReportingFormat format = formatFinder.find(value);
-		if (visited.contains(value)) {
-			return new CircularDependencyReport(format.label(value), value);
-		} else {
-			visited.add(value);
-		}
-		Object reportedValue = format.report(value);
-		if (reportedValue instanceof Collection) {
-			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+	private static class ValueReportBuilder {
+
+		private final ReportingFormatFinder formatFinder;
+		private final ReportingLimits limits;
+		private final Set<Object> visited;
+
+		private ValueReportBuilder(ReportingFormatFinder formatFinder, ReportingLimits limits, Set<Object> visited) {
+			this.formatFinder = formatFinder;
+			this.limits = limits;
+			this.visited = visited;
 		}
-		if (reportedValue instanceof Map) {
-			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+
+		private ValueReport of(Object value, int depth) {
+			SampleReportingFormat format = formatFinder.find(value);
+			if (visited.contains(value)) {
+				return new CircularDependencyReport(format.label(value), value);
+			}
+			visited.add(value);
+			try {
+				return createReport(format.label(value), format.report(value), depth);
+			} finally {
+				visited.remove(value);
+			}
 		}
-		if (reportedValue instanceof Tuple) {
-			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+
+		private ValueReport createReport(Optional<String> label, Object reportedValue, int depth) {
+			if (reportedValue instanceof Collection) {
+				//noinspection unchecked
+				return createCollectionReport(label, (Collection<Object>) reportedValue, depth);
+			}
+			if (reportedValue instanceof Map) {
+				//noinspection unchecked
+				return createMapReport(label, (Map<Object, Object>) reportedValue, depth);
+			}
+			if (reportedValue instanceof Tuple) {
+				return createTupleReport(label, (Tuple) reportedValue, depth);
+			}
+			return new ObjectValueReport(label, reportedValue, limits);
 		}
-		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
-	}
 
-	private static ValueReport createTupleReport(
-		Optional<String> label,
-		Tuple tuple,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<ValueReport> tupleReports =
-			tuple.items()
-				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
-				 .collect(Collectors.toList());
-
-		return new TupleValueReport(label, tupleReports);
-	}
+		private ValueReport createTupleReport(Optional<String> label, Tuple tuple, int depth) {
+			if (limits.exceedsDepth(depth)) {
+				return new TruncationReport(label.orElse("") + "(...)");
+			}
+			List<ValueReport> tupleReports = new ArrayList<>();
+			for (Object value : tuple.items()) {
+				tupleReports.add(of(value, depth + 1));
+			}
+			return new TupleValueReport(label, tupleReports);
+		}
 
-	private static ValueReport createMapReport(
-		final Optional<String> label,
-		final Map<Object, Object> map,
-		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
-	}
+		private ValueReport createMapReport(Optional<String> label, Map<Object, Object> map, int depth) {
+			if (limits.exceedsDepth(depth)) {
+				return new TruncationReport(label.orElse("") + "{...}");
+			}
+			List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+			Iterator<Map.Entry<Object, Object>> entries = map.entrySet().iterator();
+			while (entries.hasNext() && !limits.exceedsElements(reportEntries.size() + 1)) {
+				Map.Entry<Object, Object> entry = entries.next();
+				ValueReport keyReport = of(entry.getKey(), depth + 1);
+				ValueReport valueReport = of(entry.getValue(), depth + 1);
+				reportEntries.add(new AbstractMap.SimpleImmutableEntry<>(keyReport, valueReport));
+			}
+			return new MapValueReport(label, reportEntries, map.size() - reportEntries.size());
+		}
 
-	private static ValueReport createCollectionReport(
-		Optional<String> label,
-		Collection<Object> collection,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
-		return new CollectionValueReport(label, reportCollection);
+		private ValueReport createCollectionReport(Optional<String> label, Collection<Object> collection, int depth) {
+			if (limits.exceedsDepth(depth)) {
+				return new TruncationReport(label.orElse("") + "[...]");
+			}
+			List<ValueReport> reportCollection = new ArrayList<>();
+			Iterator<Object> elements = collection.iterator();
+			while (elements.hasNext() && !limits.exceedsElements(reportCollection.size() + 1)) {
+				reportCollection.add(of(elements.next(), depth + 1));
+			}
+			int omittedElements = collection.size() - reportCollection.size();
+			if (omittedElements > 0) {
+				reportCollection.add(TruncationReport.moreElements(omittedElements));
+			}
+			return new CollectionValueReport(label, reportCollection);
+		}
 	}
 
 	private static ReportingFormatFinder reportingFormatFinder() {
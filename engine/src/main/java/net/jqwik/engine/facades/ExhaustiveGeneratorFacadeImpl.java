@@ -1,9 +1,11 @@
 package net.jqwik.engine.facades;
 
+import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.support.combinatorics.*;
 
 /**
  * Is loaded through reflection in api module
@@ -33,4 +35,24 @@ public class ExhaustiveGeneratorFacadeImpl extends ExhaustiveGenerator.Exhaustiv
 	public <T> ExhaustiveGenerator<T> ignoreException(final ExhaustiveGenerator<T> self, final Class<? extends Throwable> exceptionType) {
 		return new IgnoreExceptionExhaustiveGenerator<>(self, exceptionType);
 	}
+
+	@Override
+	public <T> T get(ExhaustiveGenerator<T> self, long index) {
+		Iterator<T> iterator = self.iterator();
+		for (long i = 0; i < index && iterator.hasNext(); i++) {
+			iterator.next();
+		}
+		if (index < 0 || !iterator.hasNext()) {
+			throw new NoSuchElementException(String.format("There is no value at index %s", index));
+		}
+		return iterator.next();
+	}
+
+	@Override
+	public <T> Spliterator<T> spliterator(ExhaustiveGenerator<T> self) {
+		if (self.isIndexed()) {
+			return new IndexedSpliterator<>(self::get, 0, self.maxCount());
+		}
+		return Spliterators.spliteratorUnknownSize(self.iterator(), Spliterator.ORDERED);
+	}
 }
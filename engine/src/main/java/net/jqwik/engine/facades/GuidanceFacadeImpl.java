@@ -0,0 +1,15 @@
+package net.jqwik.engine.facades;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class GuidanceFacadeImpl extends Guidance.GuidanceFacade {
+
+	@Override
+	public void feedback(Object feature) {
+		GuidanceFeedback.record(feature);
+	}
+}
@@ -3,13 +3,17 @@ package net.jqwik.engine.hooks.lifecycle;
 import java.lang.reflect.*;
 import java.util.*;
 
+import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.hierarchical.*;
 
+import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.hooks.*;
 import net.jqwik.engine.support.*;
 
-public class TryLifecycleMethodsHook implements AroundTryHook {
+public class TryLifecycleMethodsHook implements AroundTryHook, ConditionalLifecycleHook {
 
 	private void beforeTry(TryLifecycleContext context) {
 		List<Method> beforeTryMethods = LifecycleMethods.findBeforeTryMethods(context.containerClass());
@@ -45,6 +49,21 @@ public class TryLifecycleMethodsHook implements AroundTryHook {
 		return element.map(e -> e instanceof Method).orElse(false);
 	}
 
+	@Override
+	public boolean isNoOpFor(TestDescriptor descriptor) {
+		if (!(descriptor instanceof PropertyMethodDescriptor)) {
+			return false;
+		}
+		Class<?> containerClass = ((PropertyMethodDescriptor) descriptor).getContainerClass();
+		try {
+			return LifecycleMethods.findBeforeTryMethods(containerClass).isEmpty()
+					   && LifecycleMethods.findAfterTryMethods(containerClass).isEmpty();
+		} catch (JqwikException invalidLifecycleMethod) {
+			// Invalid lifecycle methods are reported when the try is executed
+			return false;
+		}
+	}
+
 	@Override
 	public int aroundTryProximity() {
 		return Hooks.AroundTry.TRY_LIFECYCLE_METHODS_PROXIMITY;
@@ -0,0 +1,116 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Estimates counts in fixed memory regardless of the number of distinct keys.
+ *
+ * <p>
+ * The keys to report are chosen by the space-saving algorithm: A key that is not yet tracked
+ * replaces the tracked key with the smallest count and takes over that count plus one.
+ * Thereby each tracked count is never smaller than the key's real count
+ * and every key that occurs more often than {@code countAll / MAX_TRACKED_KEYS} times is tracked.
+ * </p>
+ *
+ * <p>
+ * In addition all counts are kept in a count-min sketch, which is never smaller than the real count either.
+ * The smaller one of both is used as a key's estimate.
+ * </p>
+ */
+class ApproximateStatisticsCounts extends StatisticsCounts {
+
+	static final int MAX_TRACKED_KEYS = 100;
+
+	private static final int DEPTH = 4;
+	private static final int WIDTH = 2048;
+	private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+	private final int[][] sketch = new int[DEPTH][WIDTH];
+	private final Map<Object, Integer> trackedKeys = new HashMap<>();
+
+	@Override
+	protected synchronized void incrementKey(Object key) {
+		addToSketch(key);
+		Integer trackedCount = trackedKeys.get(key);
+		if (trackedCount != null) {
+			trackedKeys.put(key, trackedCount + 1);
+			return;
+		}
+		if (trackedKeys.size() < MAX_TRACKED_KEYS) {
+			trackedKeys.put(key, 1);
+			return;
+		}
+		Map.Entry<Object, Integer> smallest = smallestTrackedKey();
+		trackedKeys.remove(smallest.getKey());
+		trackedKeys.put(key, smallest.getValue() + 1);
+	}
+
+	private Map.Entry<Object, Integer> smallestTrackedKey() {
+		return Collections.min(trackedKeys.entrySet(), Map.Entry.comparingByValue());
+	}
+
+	private void addToSketch(Object key) {
+		int hash = key.hashCode();
+		for (int row = 0; row < DEPTH; row++) {
+			sketch[row][column(hash, row)]++;
+		}
+	}
+
+	@Override
+	protected synchronized int countKey(Object key) {
+		Integer trackedCount = trackedKeys.get(key);
+		if (trackedCount != null) {
+			return estimate(key, trackedCount);
+		}
+		if (trackedKeys.size() < MAX_TRACKED_KEYS) {
+			return 0;
+		}
+		// A key that is not tracked has never occurred more often than the smallest tracked count
+		return estimate(key, smallestTrackedKey().getValue());
+	}
+
+	// Both the sketch and the space-saving count are upper bounds of the real count
+	private int estimate(Object key, int upperBound) {
+		return Math.min(sketchEstimate(key), upperBound);
+	}
+
+	private int sketchEstimate(Object key) {
+		int hash = key.hashCode();
+		int estimate = Integer.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			estimate = Math.min(estimate, sketch[row][column(hash, row)]);
+		}
+		return estimate;
+	}
+
+	private static int column(int hash, int row) {
+		// Murmur3 finalizer to get independent columns for each row
+		int h = hash ^ SEEDS[row];
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h & (WIDTH - 1);
+	}
+
+	@Override
+	synchronized int countDistinct() {
+		return trackedKeys.size();
+	}
+
+	@Override
+	protected void forEachKey(BiConsumer<Object, Integer> action) {
+		Map<Object, Integer> snapshot = new HashMap<>();
+		synchronized (this) {
+			trackedKeys.forEach((key, trackedCount) -> snapshot.put(key, estimate(key, trackedCount)));
+		}
+		snapshot.forEach(action);
+	}
+
+	@Override
+	boolean isApproximate() {
+		return true;
+	}
+}
@@ -0,0 +1,52 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Counts every distinct key exactly.
+ *
+ * <p>
+ * Counters are mutable so that collecting a known value does not allocate anything.
+ * </p>
+ */
+class ExactStatisticsCounts extends StatisticsCounts {
+
+	private final ConcurrentMap<Object, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+	@Override
+	protected void incrementKey(Object key) {
+		counter(key).incrementAndGet();
+	}
+
+	private AtomicInteger counter(Object key) {
+		// Plain get() first since computeIfAbsent() always locks in Java 8
+		AtomicInteger counter = counters.get(key);
+		if (counter != null) {
+			return counter;
+		}
+		return counters.computeIfAbsent(key, ignore -> new AtomicInteger(0));
+	}
+
+	@Override
+	protected int countKey(Object key) {
+		AtomicInteger counter = counters.get(key);
+		return counter == null ? 0 : counter.get();
+	}
+
+	@Override
+	int countDistinct() {
+		return counters.size();
+	}
+
+	@Override
+	protected void forEachKey(BiConsumer<Object, Integer> action) {
+		counters.forEach((key, counter) -> action.accept(key, counter.get()));
+	}
+
+	@Override
+	boolean isApproximate() {
+		return false;
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.hooks.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -14,49 +15,44 @@ import net.jqwik.engine.facades.*;
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new HashMap<>();
-	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
+	private final StatisticsCounts counts;
+	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new CopyOnWriteArrayList<>();
 	private final String label;
 
+	// Sorted entries are only needed for reporting and are cached as long as nothing is collected
 	private List<StatisticsEntryImpl> statisticsEntries = null;
+	private int statisticsEntriesCountAll = -1;
 
 	public StatisticsCollectorImpl(String label) {
+		this(label, false);
+	}
+
+	/**
+	 * @param approximate Estimate counts in fixed memory and only remember the most frequent values
+	 */
+	public StatisticsCollectorImpl(String label, boolean approximate) {
 		this.label = label;
+		this.counts = approximate ? new ApproximateStatisticsCounts() : new ExactStatisticsCounts();
 	}
 
 	@Override
 	public StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
-		List<Object> key = keyFrom(values);
-		ensureSameNumberOfValues(key);
-		updateCounts(key);
+		Object[] keyValues = values != null ? values : new Object[]{null};
+		if (!counts.increment(keyValues)) {
+			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
+			throw new IllegalArgumentException(message);
+		}
 		return this;
 	}
 
-	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
-		statisticsEntries = null;
-	}
-
 	private void ensureAtLeastOneParameter(Object[] values) {
-		if (Arrays.equals(values, new Object[0])) {
+		if (values != null && values.length == 0) {
 			String message = String.format("StatisticsCollector[%s] must be called with at least one value", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
-			return;
-		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
-			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
-			throw new IllegalArgumentException(message);
-		}
-	}
-
 	private List<Object> keyFrom(Object[] values) {
 		if (values != null) {
 			return Arrays.asList(values);
@@ -70,39 +66,57 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return statisticsEntry(values).percentage();
 	}
 
-	private StatisticsEntry statisticsEntry(Object[] values) {
+	private StatisticsEntryImpl statisticsEntry(Object[] values) {
 		List<Object> key = keyFrom(values);
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> entry.values().equals(key))
-				   .findFirst()
-				   .orElse(StatisticsEntryImpl.nullFor(key));
+		int count = counts.count(key);
+		if (count == 0) {
+			return StatisticsEntryImpl.nullFor(key);
+		}
+		return statisticsEntry(key, count, counts.countAll());
+	}
+
+	private StatisticsEntryImpl statisticsEntry(List<Object> key, int count, int countAll) {
+		double percentage = count * 100.0 / countAll;
+		return new StatisticsEntryImpl(key, displayKey(key), count, percentage);
 	}
 
 	private StatisticsEntry query(Predicate<List<Object>> query) {
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> {
-					   List<Object> values = entry.values();
-					   return query.test(values);
-				   })
-				   .reduce(StatisticsEntryImpl.NULL, StatisticsEntryImpl::plus);
+		int countAll = counts.countAll();
+		StatisticsEntryImpl[] result = {StatisticsEntryImpl.NULL};
+		counts.forEach((key, count) -> {
+			if (query.test(key)) {
+				result[0] = result[0].plus(statisticsEntry(key, count, countAll));
+			}
+		});
+		return result[0];
 	}
 
 	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+		return counts.countAll();
+	}
+
+	/**
+	 * @return the number of distinct values or value combinations collected so far.
+	 * In approximate mode only the most frequent ones are considered.
+	 */
+	public int countDistinctValues() {
+		return counts.countDistinct();
 	}
 
 	// Currently only used for testing
 	public int count(Object... values) {
-		return statisticsEntry(values).count();
+		return counts.count(keyFrom(values));
 	}
 
 	@Override
 	public void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
-			coverageCheckers.add(checker);
+			synchronized (coverageCheckers) {
+				if (!coverageCheckers.contains(checker)) {
+					coverageCheckers.add(checker);
+				}
+			}
 		}
 	}
 
@@ -113,42 +127,38 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		}
 	}
 
+	/**
+	 * @return a snapshot of all counts
+	 */
 	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+		Map<List<Object>, Integer> snapshot = new HashMap<>();
+		counts.forEach(snapshot::put);
+		return snapshot;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
-		if (statisticsEntries != null) {
-			return statisticsEntries;
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
+		int countAll = counts.countAll();
+		if (statisticsEntries == null || statisticsEntriesCountAll != countAll) {
+			statisticsEntries = calculateStatistics(countAll);
+			statisticsEntriesCountAll = countAll;
 		}
-		statisticsEntries = calculateStatistics();
 		return statisticsEntries;
 	}
 
-	private List<StatisticsEntryImpl> calculateStatistics() {
-		int sum = countAllCollects();
-		return counts.entrySet()
-					 .stream()
-					 .sorted(this::compareStatisticsEntries)
-					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
-					 .collect(Collectors.toList());
+	private List<StatisticsEntryImpl> calculateStatistics(int countAll) {
+		List<StatisticsEntryImpl> entries = new ArrayList<>(counts.countDistinct());
+		counts.forEach((key, count) -> entries.add(statisticsEntry(key, count, countAll)));
+		entries.sort(this::compareStatisticsEntries);
+		return entries;
 	}
 
-	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
-		List<Object> k1 = e1.getKey();
-		List<Object> k2 = e2.getKey();
+	private int compareStatisticsEntries(StatisticsEntry e1, StatisticsEntry e2) {
+		List<Object> k1 = e1.values();
+		List<Object> k2 = e2.values();
 		if (k1.size() != k2.size()) {
 			return Integer.compare(k1.size(), k2.size());
 		}
-		return e2.getValue().compareTo(e1.getValue());
+		return Integer.compare(e2.count(), e1.count());
 	}
 
 	private String displayKey(List<Object> key) {
@@ -159,6 +169,10 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return label;
 	}
 
+	boolean isApproximate() {
+		return counts.isApproximate();
+	}
+
 	private static String statisticsLabel(String label) {
 		return label.equals(StatisticsFacadeImpl.DEFAULT_LABEL) ? "" : String.format(" for label \"%s\"", label);
 	}
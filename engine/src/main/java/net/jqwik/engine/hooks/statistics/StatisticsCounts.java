@@ -0,0 +1,90 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Thread-safe counts of collected values.
+ *
+ * <p>
+ * Single values - which is by far the most common case - are used as keys directly
+ * without wrapping them into a list.
+ * </p>
+ */
+abstract class StatisticsCounts {
+
+	private static final Object NULL_KEY = new Object();
+
+	private static final int UNKNOWN = -1;
+
+	private final AtomicInteger countAll = new AtomicInteger(0);
+	private final AtomicInteger numberOfValues = new AtomicInteger(UNKNOWN);
+
+	/**
+	 * @return false if values have been counted before with a different number of values
+	 */
+	boolean increment(Object[] values) {
+		if (!ensureNumberOfValues(values.length)) {
+			return false;
+		}
+		incrementKey(keyFrom(values));
+		countAll.incrementAndGet();
+		return true;
+	}
+
+	private boolean ensureNumberOfValues(int size) {
+		int expected = numberOfValues.get();
+		if (expected == UNKNOWN && numberOfValues.compareAndSet(UNKNOWN, size)) {
+			return true;
+		}
+		return numberOfValues.get() == size;
+	}
+
+	protected abstract void incrementKey(Object key);
+
+	int count(List<Object> values) {
+		if (numberOfValues.get() != values.size()) {
+			return 0;
+		}
+		return countKey(keyFrom(values.toArray()));
+	}
+
+	protected abstract int countKey(Object key);
+
+	int countAll() {
+		return countAll.get();
+	}
+
+	/**
+	 * @return the number of distinct keys that are available through {@linkplain #forEach(BiConsumer)}
+	 */
+	abstract int countDistinct();
+
+	void forEach(BiConsumer<List<Object>, Integer> action) {
+		forEachKey((key, count) -> action.accept(valuesFrom(key), count));
+	}
+
+	protected abstract void forEachKey(BiConsumer<Object, Integer> action);
+
+	/**
+	 * @return true if counts are estimated
+	 */
+	abstract boolean isApproximate();
+
+	// Concurrent hash maps do not allow null keys
+	private Object keyFrom(Object[] values) {
+		if (values.length == 1) {
+			return values[0] == null ? NULL_KEY : values[0];
+		}
+		return Arrays.asList(values);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> valuesFrom(Object key) {
+		if (numberOfValues.get() == 1) {
+			return Collections.singletonList(key == NULL_KEY ? null : key);
+		}
+		return (List<Object>) key;
+	}
+}
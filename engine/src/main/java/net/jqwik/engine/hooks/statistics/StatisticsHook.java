@@ -12,27 +12,33 @@ import net.jqwik.engine.support.*;
 
 public class StatisticsHook implements AroundPropertyHook {
 
-	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
-		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
+	// Collectors are looked up concurrently when tries run in parallel
+	private static Supplier<Map<String, StatisticsCollectorImpl>> statisticsMapSupplier(boolean approximate) {
+		return () -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
-				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
+			public synchronized StatisticsCollectorImpl get(Object key) {
+				return this.computeIfAbsent((String) key, label -> new StatisticsCollectorImpl(label, approximate));
 			}
 		};
+	}
 
 	@Override
 	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) throws Throwable {
+		Optional<StatisticsReport> optionalStatisticsReport =
+			JqwikAnnotationSupport.findAnnotationOnElementOrContainer(context.targetMethod(), StatisticsReport.class);
+		boolean approximate = optionalStatisticsReport.map(StatisticsReport::approximate).orElse(false);
+
 		Store<Map<String, StatisticsCollectorImpl>> collectorsStore =
 			Store.create(
 				StatisticsCollectorImpl.COLLECTORS_ID,
 				Lifespan.PROPERTY,
-				STATISTICS_MAP_SUPPLIER
+				statisticsMapSupplier(approximate)
 			);
 
 		PropertyExecutionResult testExecutionResult = property.execute();
 
 		Map<String, StatisticsCollectorImpl> collectors = collectorsStore.get();
-		createStatisticsReports(collectors, context);
+		createStatisticsReports(collectors, context, optionalStatisticsReport);
 		if (testExecutionResult.status() == PropertyExecutionResult.Status.SUCCESSFUL) {
 			return checkCoverages(testExecutionResult, collectors.values());
 		}
@@ -54,17 +60,21 @@ public class StatisticsHook implements AroundPropertyHook {
 		}
 	}
 
-	private void createStatisticsReports(Map<String, StatisticsCollectorImpl> collectors, PropertyLifecycleContext context) {
+	private void createStatisticsReports(
+		Map<String, StatisticsCollectorImpl> collectors,
+		PropertyLifecycleContext context,
+		Optional<StatisticsReport> optionalStatisticsReport
+	) {
 		StatisticsReportFormat reportFormat = new StandardStatisticsReportFormat();
-		Optional<StatisticsReport> optionalStatisticsReport =
-			JqwikAnnotationSupport.findAnnotationOnElementOrContainer(context.targetMethod(), StatisticsReport.class);
 
 		if (optionalStatisticsReport.isPresent()) {
 			StatisticsReport reportConfiguration = optionalStatisticsReport.get();
 			if (reportConfiguration.value() == StatisticsReportMode.OFF) {
 				return;
 			}
-			if (reportConfiguration.value() == StatisticsReportMode.PLUG_IN) {
+			// Allows @StatisticsReport(approximate = true) without specifying a format
+			boolean formatIsPlugged = reportConfiguration.format() != StatisticsReport.None.class;
+			if (reportConfiguration.value() == StatisticsReportMode.PLUG_IN && formatIsPlugged) {
 				reportFormat = JqwikReflectionSupport.newInstanceInTestContext(reportConfiguration.format(), context.testInstance());
 			}
 		}
@@ -19,10 +19,17 @@ public class StatisticsPublisher {
 			statisticsReportFormat,
 			statisticsCollector.statisticsEntries(),
 			statisticsCollector.countAllCollects(),
-			statisticsCollector.label()
+			reportLabel(statisticsCollector)
 		);
 	}
 
+	private static String reportLabel(StatisticsCollectorImpl statisticsCollector) {
+		if (statisticsCollector.isApproximate()) {
+			return String.format("%s (approximate)", statisticsCollector.label());
+		}
+		return statisticsCollector.label();
+	}
+
 	private StatisticsPublisher(
 		StatisticsReportFormat statisticsReportFormat,
 		List<? extends StatisticsEntry> entries,
@@ -0,0 +1,161 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Engine-wide cache of arbitraries resolved through registered providers and configurators.
+ *
+ * <p>
+ * An entry is keyed by the target type including all its annotations and by a key
+ * that identifies the domain contexts used for resolution. Types that refer to
+ * provider methods - through {@code @ForAll("name")} or {@code @From} on any nesting level -
+ * depend on a container instance and will never be cached.
+ * </p>
+ *
+ * <p>
+ * Registering or unregistering arbitrary providers or configurators invalidates all entries.
+ * </p>
+ */
+public class ArbitraryResolutionCache {
+
+	private static final ArbitraryResolutionCache INSTANCE = new ArbitraryResolutionCache();
+
+	public static ArbitraryResolutionCache getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<Key, Set<Arbitrary<?>>> cache = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	ArbitraryResolutionCache() {
+	}
+
+	/**
+	 * Domain contexts are created anew for every property. Thus the key is built from the
+	 * {@linkplain Domain} annotations that determine them.
+	 *
+	 * @return empty if a domain context is an inner class since it might depend on the container instance
+	 */
+	public static Optional<Object> keyForDomains(Set<Domain> domains) {
+		boolean anyInnerClass = domains.stream().anyMatch(domain -> JqwikReflectionSupport.isInnerClass(domain.value()));
+		if (anyInnerClass) {
+			return Optional.empty();
+		}
+		return Optional.of(new HashSet<>(domains));
+	}
+
+	static boolean isCacheable(TypeUsage typeUsage) {
+		if (typeUsage.isTypeVariableOrWildcard()) {
+			return false;
+		}
+		Optional<ForAll> forAll = typeUsage.findAnnotation(ForAll.class);
+		if (forAll.isPresent() && !forAll.get().value().equals(ForAll.NO_VALUE)) {
+			return false;
+		}
+		if (typeUsage.isAnnotated(From.class)) {
+			return false;
+		}
+		Optional<TypeUsage> componentType = typeUsage.getComponentType();
+		if (componentType.isPresent() && !isCacheable(componentType.get())) {
+			return false;
+		}
+		return typeUsage.getTypeArguments().stream().allMatch(ArbitraryResolutionCache::isCacheable);
+	}
+
+	Optional<Set<Arbitrary<?>>> get(TypeUsage typeUsage, Object domainKey) {
+		Set<Arbitrary<?>> arbitraries = cache.get(new Key(typeUsage, domainKey));
+		if (arbitraries == null) {
+			misses.incrementAndGet();
+			return Optional.empty();
+		}
+		hits.incrementAndGet();
+		return Optional.of(arbitraries);
+	}
+
+	Set<Arbitrary<?>> put(TypeUsage typeUsage, Object domainKey, Set<Arbitrary<?>> arbitraries) {
+		Set<Arbitrary<?>> unmodifiable = Collections.unmodifiableSet(arbitraries);
+		// Resolution can happen concurrently; the first resolved set wins
+		Set<Arbitrary<?>> previous = cache.putIfAbsent(new Key(typeUsage, domainKey), unmodifiable);
+		return previous == null ? unmodifiable : previous;
+	}
+
+	public Statistics statistics() {
+		return new Statistics(hits.get(), misses.get(), cache.size());
+	}
+
+	/**
+	 * Removes all entries but keeps the statistics.
+	 */
+	public void invalidate() {
+		cache.clear();
+	}
+
+	public void clear() {
+		cache.clear();
+		hits.set(0);
+		misses.set(0);
+	}
+
+	public static class Statistics {
+		private final long hits;
+		private final long misses;
+		private final int size;
+
+		private Statistics(long hits, long misses, int size) {
+			this.hits = hits;
+			this.misses = misses;
+			this.size = size;
+		}
+
+		public long hits() {
+			return hits;
+		}
+
+		public long misses() {
+			return misses;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("ArbitraryResolutionCache[hits=%s, misses=%s, size=%s]", hits, misses, size);
+		}
+	}
+
+	private static class Key {
+		private final TypeUsage typeUsage;
+		private final Object domainKey;
+		private final int hashCode;
+
+		private Key(TypeUsage typeUsage, Object domainKey) {
+			this.typeUsage = typeUsage;
+			this.domainKey = domainKey;
+			// TypeUsage's own hash code only considers the raw type
+			this.hashCode = Objects.hash(typeUsage.getType(), typeUsage.getAnnotations(), domainKey);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return domainKey.equals(key.domainKey) && typeUsage.equals(key.typeUsage);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
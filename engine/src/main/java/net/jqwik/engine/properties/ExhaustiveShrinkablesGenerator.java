@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -46,17 +47,25 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private final List<List<ExhaustiveGenerator<Object>>> generators;
 	private final long maxCount;
+	private final boolean indexed;
+
+	// Only used if not indexed
+	private Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+
+	private long nextIndex = 0;
+	private long finishedIndex = 0;
+	private LongConsumer progressListener = finishedTries -> {};
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
+		this.generators = generators;
 		this.maxCount = generators
 							.stream()
 							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
-
-		this.combinatorialIterator = combine(generators);
+		this.indexed = generators.stream().allMatch(set -> set.stream().allMatch(ExhaustiveGenerator::isIndexed));
 	}
 
 	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
@@ -75,11 +84,7 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 			@Override
 			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
-					values.add(Shrinkable.unshrinkable(o));
-				}
-				return values;
+				return toShrinkables(iterator.next());
 			}
 		};
 	}
@@ -92,14 +97,120 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 		return () -> Combinatorics.concat(iterables);
 	}
 
+	private static List<Shrinkable<Object>> toShrinkables(List<Object> values) {
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(values.size());
+		for (Object value : values) {
+			shrinkables.add(Shrinkable.unshrinkable(value));
+		}
+		return shrinkables;
+	}
+
+	/**
+	 * @return true if generation can {@linkplain #startAt(long) start at} any parameter combination
+	 * without generating all combinations before it
+	 */
+	public boolean isIndexed() {
+		return indexed;
+	}
+
+	// Only used if indexed
+	private List<Shrinkable<Object>> get(long index) {
+		if (index >= maxCount) {
+			throw noCombinationAt(index);
+		}
+		long[] parameterCounts = generators
+									 .stream()
+									 .mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
+									 .toArray();
+		long[] positions = Combinatorics.combinationAt(index, parameterCounts);
+		List<Object> values = new ArrayList<>(positions.length);
+		for (int i = 0; i < positions.length; i++) {
+			values.add(valueAt(generators.get(i), positions[i]));
+		}
+		return toShrinkables(values);
+	}
+
+	private static NoSuchElementException noCombinationAt(long index) {
+		return new NoSuchElementException(String.format("There is no parameter combination at index %s", index));
+	}
+
+	// Values of several generators for the same parameter are concatenated
+	private static Object valueAt(List<ExhaustiveGenerator<Object>> generatorList, long position) {
+		for (ExhaustiveGenerator<Object> generator : generatorList) {
+			if (position < generator.maxCount()) {
+				return generator.get(position);
+			}
+			position -= generator.maxCount();
+		}
+		throw new NoSuchElementException();
+	}
+
+	private static void skip(Iterator<?> iterator, long count) {
+		for (long i = 0; i < count && iterator.hasNext(); i++) {
+			iterator.next();
+		}
+	}
+
+	/**
+	 * Continue generation at a given index, e.g. to resume an aborted run.
+	 * Only indexed generators can do that without generating all combinations before it.
+	 */
+	public void startAt(long index) {
+		if (!indexed) {
+			combinatorialIterator = combine(generators);
+			skip(combinatorialIterator, index);
+		}
+		nextIndex = index;
+		finishedIndex = index;
+	}
+
+	/**
+	 * @return the index of the next parameter combination to generate
+	 */
+	public long nextIndex() {
+		return nextIndex;
+	}
+
+	/**
+	 * @param progressListener Is called with the index of the first try that has not been finished
+	 *                         whenever a try has been finished
+	 */
+	public void onProgress(LongConsumer progressListener) {
+		this.progressListener = progressListener;
+	}
+
+	@Override
+	public void tryFinished() {
+		// Tries are finished in the order of their generation
+		if (finishedIndex < nextIndex) {
+			finishedIndex++;
+			progressListener.accept(finishedIndex);
+		}
+	}
+
+	private Iterator<List<Shrinkable<Object>>> iterator() {
+		if (combinatorialIterator == null) {
+			combinatorialIterator = combine(generators);
+		}
+		return combinatorialIterator;
+	}
+
 	@Override
 	public boolean hasNext() {
-		return combinatorialIterator.hasNext();
+		if (indexed) {
+			return nextIndex < maxCount;
+		}
+		return iterator().hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return combinatorialIterator.next();
+		if (indexed) {
+			return get(nextIndex++);
+		}
+		List<Shrinkable<Object>> next = iterator().next();
+		nextIndex++;
+		return next;
 	}
 
 	public long maxCount() {
@@ -4,17 +4,29 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class FalsifiedSampleImpl implements FalsifiedSample {
 
 	private final List<Object> parameters;
 	private final List<Shrinkable<Object>> shrinkables;
 	private final Optional<Throwable> falsifyingError;
+	private final ShrinkingPath shrinkingPath;
 
 	public FalsifiedSampleImpl(List<Object> parameters, List<Shrinkable<Object>> shrinkables, Optional<Throwable> falsifyingError) {
+		this(parameters, shrinkables, falsifyingError, ShrinkingPath.EMPTY);
+	}
+
+	public FalsifiedSampleImpl(
+		List<Object> parameters,
+		List<Shrinkable<Object>> shrinkables,
+		Optional<Throwable> falsifyingError,
+		ShrinkingPath shrinkingPath
+	) {
 		this.parameters = parameters;
 		this.shrinkables = shrinkables;
 		this.falsifyingError = falsifyingError;
+		this.shrinkingPath = shrinkingPath;
 	}
 
 	@Override
@@ -32,6 +44,14 @@ public class FalsifiedSampleImpl implements FalsifiedSample {
 		return falsifyingError;
 	}
 
+	/**
+	 * The steps that lead from the generated sample to this sample.
+	 * Not considered in {@linkplain #equals(Object)}
+	 */
+	public ShrinkingPath shrinkingPath() {
+		return shrinkingPath;
+	}
+
 	@Override
 	public boolean equals(final Object o) {
 		if (this == o) return true;
@@ -20,8 +20,13 @@ public interface FeatureExtractor<T> extends Function<T, Object> {
 	}
 
 	default boolean isUniqueIn(T value, Collection<T> elements) {
-		Set<Object> elementFeatures = elements.stream().map(this::applySafe).collect(Collectors.toSet());
-		return !elementFeatures.contains(this.applySafe(value));
+		Object feature = this.applySafe(value);
+		for (T element : elements) {
+			if (Objects.equals(feature, this.applySafe(element))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	default boolean areUnique(Collection<T> elements) {
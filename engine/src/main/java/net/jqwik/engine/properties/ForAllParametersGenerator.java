@@ -27,6 +27,12 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 				return afterSuccessGenerator.next();
 			}
 
+			@Override
+			public void tryFinished() {
+				first.tryFinished();
+				afterSuccessGenerator.tryFinished();
+			}
+
 			@Override
 			public int edgeCasesTotal() {
 				if (first.hasNext()) {
@@ -45,6 +51,12 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		};
 	}
 
+	/**
+	 * Is called in the order of generation for each try that has been finished without falsifying the property.
+	 */
+	default void tryFinished() {
+	}
+
 	default int edgeCasesTotal() {
 		return 0;
 	}
@@ -10,8 +10,10 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
 import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 public class GenericProperty {
@@ -37,77 +39,122 @@ public class GenericProperty {
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		PropertyMetricsRecorder metrics = new PropertyMetricsRecorder();
+		PropertyCheckResult checkResult = PropertyMetricsRecorder.runWithRecorder(
+			metrics,
+			() -> {
+				try (TimeLimitedTryExecutor tryExecutor = createTryExecutor()) {
+					return check(reporter, reporting, metrics, tryExecutor);
+				}
+			}
+		);
+		return checkResult.withMetrics(metrics);
+	}
+
+	private TimeLimitedTryExecutor createTryExecutor() {
+		return new TimeLimitedTryExecutor(
+			tryLifecycleExecutor,
+			configuration.getTryTimeoutMillis(),
+			configuration.getTimeoutSeconds()
+		);
+	}
+
+	private PropertyCheckResult check(
+		Reporter reporter,
+		Reporting[] reporting,
+		PropertyMetricsRecorder metrics,
+		TimeLimitedTryExecutor tryExecutor
+	) {
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
 		boolean finishEarly = false;
-		while (countTries < maxTries) {
-			if (finishEarly) {
-				break;
-			}
-			if (!parametersGenerator.hasNext()) {
-				break;
-			}
-			countTries++;
-
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			List<Shrinkable<Object>> shrinkableParams = parametersGenerator.next(tryLifecycleContext);
-			List<Object> sample = extractParams(shrinkableParams);
-
-			try {
-				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
-				switch (tryExecutionResult.status()) {
-					case SATISFIED:
-						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
-						continue;
-					case FALSIFIED:
-						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-							sample,
-							shrinkableParams,
-							tryExecutionResult.throwable()
-						);
-						return shrinkAndCreateCheckResult(
-							reporter,
-							reporting,
-							countChecks,
-							countTries,
-							falsifiedSample,
-							tryLifecycleContext.targetMethod()
-						);
-					case INVALID:
-						countChecks--;
-						if (maxTries == 1) { // Examples have exactly one try
-							return PropertyCheckResult.skipExample(
-								configuration.getStereotype(),
-								name,
-								configuration.getSeed(),
-								configuration.getGenerationMode(),
-								configuration.getEdgeCasesMode(),
-								parametersGenerator.edgeCasesTotal(),
-								parametersGenerator.edgeCasesTried(),
-								tryExecutionResult.throwable().orElse(null)
+		try (TryRunner tryRunner = createTryRunner(maxTries, reporter, reporting, metrics, tryExecutor)) {
+			while (countTries < maxTries) {
+				if (finishEarly) {
+					break;
+				}
+				if (!tryRunner.hasNext()) {
+					break;
+				}
+				countTries++;
+
+				PendingTry pendingTry = tryRunner.next();
+				TryLifecycleContext tryLifecycleContext = pendingTry.context();
+				List<Shrinkable<Object>> shrinkableParams = pendingTry.shrinkables();
+				List<Object> sample = pendingTry.sample();
+
+				try {
+					countChecks++;
+					TryExecutionResult tryExecutionResult = pendingTry.result();
+					switch (tryExecutionResult.status()) {
+						case SATISFIED:
+							finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
+							parametersGenerator.tryFinished();
+							continue;
+						case FALSIFIED:
+							FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+								sample,
+								shrinkableParams,
+								tryExecutionResult.throwable()
+							);
+							// Remaining tries must not run concurrently with shrinking
+							tryRunner.close();
+							Optional<TimeoutError> timeoutError = timeoutError(tryExecutionResult);
+							timeoutError.ifPresent(error -> reporter.publishValue("thread dump", error.threadDump()));
+							if (timeoutError.map(TimeoutError::isPropertyTimeout).orElse(false)) {
+								return PropertyCheckResult.failed(
+									configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+									configuration.getGenerationMode(),
+									configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+									falsifiedSample, null, timeoutError.get()
+								);
+							}
+							return shrinkAndCreateCheckResult(
+								reporter,
+								reporting,
+								countChecks,
+								countTries,
+								falsifiedSample,
+								tryLifecycleContext.targetMethod(),
+								metrics,
+								tryExecutor
 							);
-						}
-						break;
-					default:
-						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
-						throw new RuntimeException(message);
+						case INVALID:
+							countChecks--;
+							parametersGenerator.tryFinished();
+							if (maxTries == 1) { // Examples have exactly one try
+								return PropertyCheckResult.skipExample(
+									configuration.getStereotype(),
+									name,
+									configuration.getSeed(),
+									configuration.getGenerationMode(),
+									configuration.getEdgeCasesMode(),
+									parametersGenerator.edgeCasesTotal(),
+									parametersGenerator.edgeCasesTried(),
+									tryExecutionResult.throwable().orElse(null)
+								);
+							}
+							break;
+						default:
+							String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+							throw new RuntimeException(message);
+					}
+				} catch (Throwable throwable) {
+					// Only not AssertionErrors and non Exceptions get here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+						sample,
+						shrinkableParams,
+						Optional.of(throwable)
+					);
+					return PropertyCheckResult.failed(
+						configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+						configuration.getGenerationMode(),
+						configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+						falsifiedSample, null, throwable
+					);
 				}
-			} catch (Throwable throwable) {
-				// Only not AssertionErrors and non Exceptions get here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable)
-				);
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
-				);
 			}
 		}
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
@@ -136,7 +183,53 @@ public class GenericProperty {
 		);
 	}
 
+	private static Optional<TimeoutError> timeoutError(TryExecutionResult tryExecutionResult) {
+		return tryExecutionResult.throwable()
+								 .filter(throwable -> throwable instanceof TimeoutError)
+								 .map(throwable -> (TimeoutError) throwable);
+	}
+
+	private TryRunner createTryRunner(
+		int maxTries,
+		Reporter reporter,
+		Reporting[] reporting,
+		PropertyMetricsRecorder metrics,
+		TryLifecycleExecutor tryExecutor
+	) {
+		int parallelism = configuration.getParallelism();
+		// Guided generation needs the feedback of a try before it generates the next one
+		boolean guided = configuration.getGenerationMode() == GenerationMode.GUIDED;
+		if (parallelism > 1 && maxTries > 1 && !guided) {
+			return new ParallelTryRunner(
+				parametersGenerator,
+				tryLifecycleContextSupplier,
+				(tryLifecycleContext, sample) -> reportGeneratedSample(tryLifecycleContext, sample, reporter, reporting),
+				tryExecutor,
+				maxTries,
+				parallelism,
+				metrics
+			);
+		}
+		return new SequentialTryRunner(
+			parametersGenerator,
+			tryLifecycleContextSupplier,
+			(tryLifecycleContext, sample) -> testPredicate(tryLifecycleContext, sample, reporter, reporting, tryExecutor),
+			metrics
+		);
+	}
+
 	private TryExecutionResult testPredicate(
+		TryLifecycleContext tryLifecycleContext,
+		List<Object> sample,
+		Reporter reporter,
+		Reporting[] reporting,
+		TryLifecycleExecutor tryExecutor
+	) {
+		reportGeneratedSample(tryLifecycleContext, sample, reporter, reporting);
+		return tryExecutor.execute(tryLifecycleContext, sample);
+	}
+
+	private void reportGeneratedSample(
 		TryLifecycleContext tryLifecycleContext,
 		List<Object> sample,
 		Reporter reporter,
@@ -146,7 +239,6 @@ public class GenericProperty {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -154,16 +246,24 @@ public class GenericProperty {
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
-	private List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
+	static List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
 		return shrinkableParams.stream().map(Shrinkable::value).collect(Collectors.toList());
 	}
 
 	private PropertyCheckResult shrinkAndCreateCheckResult(
 		Reporter reporter, Reporting[] reporting, int countChecks,
 		int countTries, FalsifiedSample originalSample,
-		Method targetMethod
+		Method targetMethod,
+		PropertyMetricsRecorder metrics,
+		TimeLimitedTryExecutor tryExecutor
 	) {
-		ShrunkFalsifiedSample shrunkSample = shrink(reporter, reporting, originalSample, targetMethod);
+		long shrinkingStart = System.nanoTime();
+		// Tries and generation during shrinking should not show up in the property's try metrics
+		ShrunkFalsifiedSample shrunkSample = PropertyMetricsRecorder.runWithRecorder(
+			null,
+			() -> shrink(reporter, reporting, originalSample, countTries, targetMethod, metrics, tryExecutor.withoutPropertyTimeout())
+		);
+		metrics.recordShrinking(System.nanoTime() - shrinkingStart, shrunkSample.countShrinkingSteps());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
@@ -175,7 +275,10 @@ public class GenericProperty {
 		Reporter reporter,
 		Reporting[] reporting,
 		FalsifiedSample originalSample,
-		Method targetMethod
+		int countTries,
+		Method targetMethod,
+		PropertyMetricsRecorder metrics,
+		TryLifecycleExecutor tryExecutor
 	) {
 		// TODO: Find a way that falsifier and resolved ParameterSupplier get the same instance of tryLifecycleContext during shrinking.
 		//       This will probably require some major modification to shrinking / shrinking API.
@@ -186,14 +289,39 @@ public class GenericProperty {
 			originalSample,
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
+			configuration.getShrinkingParallelism(),
+			configuration.shrinkingCacheSize(),
+			configuration.shrinkingThreads(),
 			falsifiedSampleReporter,
-			targetMethod
+			targetMethod,
+			shrinkingPathToReplay(countTries)
 		);
 
-		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
+		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryExecutor, metrics);
 		return shrinker.shrink(forAllFalsifier);
 	}
 
+	/**
+	 * A rerun with the previous seed falsifies the same try again - as long as neither
+	 * the property nor its arbitraries have changed. The previous shrinking can then be replayed.
+	 */
+	private ShrinkingPath shrinkingPathToReplay(int countTries) {
+		GenerationCoordinate previousCoordinate = configuration.getPreviousGenerationCoordinate();
+		if (previousCoordinate == null || previousCoordinate.isCheckpoint() || previousCoordinate.tryIndex() != countTries - 1) {
+			return ShrinkingPath.EMPTY;
+		}
+		if (configuration.getAfterFailureMode() != AfterFailureMode.PREVIOUS_SEED) {
+			return ShrinkingPath.EMPTY;
+		}
+		if (configuration.getGenerationMode() != GenerationMode.RANDOMIZED) {
+			return ShrinkingPath.EMPTY;
+		}
+		if (!configuration.getSeed().equals(configuration.getPreviousSeed())) {
+			return ShrinkingPath.EMPTY;
+		}
+		return previousCoordinate.shrinkingPath();
+	}
+
 	private Consumer<FalsifiedSample> createFalsifiedSampleReporter(Reporter reporter, Reporting[] reporting) {
 		return sample -> {
 			if (Reporting.FALSIFIED.containedIn(reporting)) {
@@ -204,8 +332,15 @@ public class GenericProperty {
 		};
 	}
 
-	private Falsifier<List<Object>> createFalsifier(Supplier<TryLifecycleContext> tryLifecycleContext, TryLifecycleExecutor tryExecutor) {
-		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
+	private Falsifier<List<Object>> createFalsifier(
+		Supplier<TryLifecycleContext> tryLifecycleContext,
+		TryLifecycleExecutor tryExecutor,
+		PropertyMetricsRecorder metrics
+	) {
+		return params -> {
+			metrics.recordShrinkingCandidate();
+			return tryExecutor.execute(tryLifecycleContext.get(), params);
+		};
 	}
 
 }
@@ -0,0 +1,54 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.hooks.statistics.*;
+
+/**
+ * Counts the distinct features the tries of the current property have exercised so far.
+ * A try that increases the count has exercised something new.
+ *
+ * <p>
+ * Features are the keys of all collected statistics and all features reported
+ * through {@linkplain Guidance#feedback(Object)}.
+ * </p>
+ */
+public class GuidanceFeedback {
+
+	private static final Object FEATURES_ID = Tuple.of(GuidanceFeedback.class, "features");
+
+	private GuidanceFeedback() {
+	}
+
+	public static void record(Object feature) {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return;
+		}
+		features().add(feature);
+	}
+
+	public static int countFeatures() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return 0;
+		}
+		return features().size() + countStatisticsKeys();
+	}
+
+	private static Set<Object> features() {
+		Store<Set<Object>> featuresStore =
+			Store.getOrCreate(FEATURES_ID, Lifespan.PROPERTY, () -> Collections.synchronizedSet(new HashSet<>()));
+		return featuresStore.get();
+	}
+
+	private static int countStatisticsKeys() {
+		try {
+			Store<Map<String, StatisticsCollectorImpl>> collectorsStore = Store.get(StatisticsCollectorImpl.COLLECTORS_ID);
+			return collectorsStore.get().values().stream().mapToInt(StatisticsCollectorImpl::countDistinctValues).sum();
+		} catch (CannotFindStoreException cannotFindStore) {
+			return 0;
+		}
+	}
+}
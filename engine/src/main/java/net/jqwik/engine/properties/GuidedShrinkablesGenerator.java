@@ -0,0 +1,139 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Generates tries by mutating parameters of earlier tries that have exercised new features.
+ *
+ * <p>
+ * After each try the feature counter is asked if the number of distinct features has grown.
+ * If so, the try's parameters are added to the corpus.
+ * A mutation replaces one or more parameters of a corpus entry by one of their
+ * {@linkplain Shrinkable#grow() grown} or {@linkplain Shrinkable#shrink() shrunk} variants.
+ * Some tries are always generated by the underlying random generator
+ * so that generation does not get stuck with the first entries of the corpus.
+ * </p>
+ *
+ * <p>
+ * Feedback is only attributed correctly if each try is executed before the next one is generated.
+ * </p>
+ */
+public class GuidedShrinkablesGenerator implements ForAllParametersGenerator {
+
+	public static final int MAX_CORPUS_SIZE = 1000;
+
+	// Percentage of tries that are generated randomly although the corpus is not empty
+	private static final int RANDOM_TRIES_PERCENTAGE = 20;
+	private static final int MAX_MUTATIONS_PER_TRY = 3;
+	// Only the first candidates are considered since shrinking and growing can be expensive
+	private static final int MAX_MUTATION_CANDIDATES = 50;
+
+	private final ForAllParametersGenerator randomGenerator;
+	private final Random random;
+	private final IntSupplier featureCounter;
+
+	private final List<List<Shrinkable<Object>>> corpus = new ArrayList<>();
+	private int latestEntry = -1;
+	private List<Shrinkable<Object>> lastTry = null;
+	private int lastCountFeatures = 0;
+
+	/**
+	 * @param randomGenerator Generates tries when the corpus is empty or cannot be mutated
+	 * @param featureCounter  Returns the number of distinct features all tries so far have exercised
+	 */
+	public GuidedShrinkablesGenerator(ForAllParametersGenerator randomGenerator, Random random, IntSupplier featureCounter) {
+		this.randomGenerator = randomGenerator;
+		this.random = random;
+		this.featureCounter = featureCounter;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return randomGenerator.hasNext();
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		evaluateLastTry();
+		lastTry = nextTry();
+		return lastTry;
+	}
+
+	private void evaluateLastTry() {
+		int countFeatures = featureCounter.getAsInt();
+		if (lastTry != null && countFeatures > lastCountFeatures) {
+			addToCorpus(lastTry);
+		}
+		lastCountFeatures = countFeatures;
+	}
+
+	private void addToCorpus(List<Shrinkable<Object>> shrinkables) {
+		if (corpus.size() < MAX_CORPUS_SIZE) {
+			latestEntry = corpus.size();
+			corpus.add(shrinkables);
+		} else {
+			latestEntry = random.nextInt(MAX_CORPUS_SIZE);
+			corpus.set(latestEntry, shrinkables);
+		}
+	}
+
+	private List<Shrinkable<Object>> nextTry() {
+		if (corpus.isEmpty() || random.nextInt(100) < RANDOM_TRIES_PERCENTAGE) {
+			return randomGenerator.next();
+		}
+		return mutate(chooseParent()).orElseGet(randomGenerator::next);
+	}
+
+	// The latest entry is preferred since it has been the latest to exercise something new
+	private List<Shrinkable<Object>> chooseParent() {
+		if (random.nextBoolean()) {
+			return corpus.get(latestEntry);
+		}
+		return corpus.get(random.nextInt(corpus.size()));
+	}
+
+	private Optional<List<Shrinkable<Object>>> mutate(List<Shrinkable<Object>> parent) {
+		if (parent.isEmpty()) {
+			return Optional.empty();
+		}
+		List<Shrinkable<Object>> mutant = new ArrayList<>(parent);
+		boolean mutated = false;
+		int countMutations = 1 + random.nextInt(MAX_MUTATIONS_PER_TRY);
+		for (int i = 0; i < countMutations; i++) {
+			int index = random.nextInt(mutant.size());
+			Optional<Shrinkable<Object>> mutatedParameter = mutate(mutant.get(index));
+			if (mutatedParameter.isPresent()) {
+				mutant.set(index, mutatedParameter.get());
+				mutated = true;
+			}
+		}
+		return mutated ? Optional.of(mutant) : Optional.empty();
+	}
+
+	private Optional<Shrinkable<Object>> mutate(Shrinkable<Object> parameter) {
+		List<Shrinkable<Object>> candidates = new ArrayList<>();
+		parameter.grow().limit(MAX_MUTATION_CANDIDATES).forEach(candidates::add);
+		parameter.shrink().limit(MAX_MUTATION_CANDIDATES).forEach(candidates::add);
+		if (candidates.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(candidates.get(random.nextInt(candidates.size())));
+	}
+
+	public int corpusSize() {
+		return corpus.size();
+	}
+
+	@Override
+	public int edgeCasesTotal() {
+		return randomGenerator.edgeCasesTotal();
+	}
+
+	@Override
+	public int edgeCasesTried() {
+		return randomGenerator.edgeCasesTried();
+	}
+}
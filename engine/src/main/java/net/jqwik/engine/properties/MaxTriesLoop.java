@@ -4,6 +4,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.execution.metrics.*;
 
 public class MaxTriesLoop {
 	private static final long MAX_MISSES = 10000;
@@ -15,14 +16,21 @@ public class MaxTriesLoop {
 	) {
 		long count = 0;
 		T value = null;
-		while (loopCondition.getAsBoolean()) {
-			Tuple2<Boolean, T> result = loopAndReturn.apply(value);
-			value = result.get2();
-			if (result.get1()) {
-				break;
+		try {
+			while (loopCondition.getAsBoolean()) {
+				Tuple2<Boolean, T> result = loopAndReturn.apply(value);
+				value = result.get2();
+				if (result.get1()) {
+					break;
+				}
+				if (++count > MAX_MISSES) {
+					throw tooManyMissesExceptionSupplier.apply(MAX_MISSES);
+				}
 			}
-			if (++count > MAX_MISSES) {
-				throw tooManyMissesExceptionSupplier.apply(MAX_MISSES);
+		} finally {
+			// Every iteration that does not end the loop is a miss
+			if (count > 0) {
+				PropertyMetricsRecorder.recordFilterMisses(count);
 			}
 		}
 		return value;
@@ -0,0 +1,194 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes tries on a fixed number of worker threads.
+ *
+ * <p>
+ * Parameters are always generated on the calling thread and in the same order
+ * as during sequential execution. Thereby the same seed leads to the same samples
+ * and tries are handed out in the order of their generation,
+ * which makes the first failing try the one that will be reported and shrunk.
+ * </p>
+ *
+ * <p>
+ * Each try - including the generation of its parameters - runs in its own {@linkplain TryStoreScope}
+ * so that stores with lifespan {@linkplain Lifespan#TRY} are not shared between concurrent tries.
+ * </p>
+ */
+class ParallelTryRunner implements TryRunner {
+
+	private static final AtomicInteger poolCounter = new AtomicInteger(0);
+
+	private final ParametersGenerator parametersGenerator;
+	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final BiConsumer<TryLifecycleContext, List<Object>> generatedSampleReporter;
+	private final TryLifecycleExecutor tryLifecycleExecutor;
+	private final int maxTries;
+	private final int maxScheduled;
+
+	private final ExecutorService executorService;
+	private final Deque<ScheduledTry> scheduledTries = new ArrayDeque<>();
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+	private final PropertyMetricsRecorder metrics;
+
+	private int countScheduled = 0;
+
+	ParallelTryRunner(
+		ParametersGenerator parametersGenerator,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		BiConsumer<TryLifecycleContext, List<Object>> generatedSampleReporter,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		int maxTries,
+		int parallelism,
+		PropertyMetricsRecorder metrics
+	) {
+		this.parametersGenerator = parametersGenerator;
+		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.generatedSampleReporter = generatedSampleReporter;
+		this.tryLifecycleExecutor = tryLifecycleExecutor;
+		this.maxTries = maxTries;
+		// Keep a few tries in stock so that workers do not wait for generation
+		this.maxScheduled = parallelism * 2;
+		this.executorService = Executors.newFixedThreadPool(parallelism, createThreadFactory());
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+		this.metrics = metrics;
+	}
+
+	private static ThreadFactory createThreadFactory() {
+		String namePrefix = String.format("jqwik-tries-%s-", poolCounter.incrementAndGet());
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public boolean hasNext() {
+		scheduleTries();
+		return !scheduledTries.isEmpty();
+	}
+
+	@Override
+	public PendingTry next() {
+		scheduleTries();
+		ScheduledTry next = scheduledTries.poll();
+		if (next == null) {
+			throw new NoSuchElementException();
+		}
+		return next.pendingTry;
+	}
+
+	private void scheduleTries() {
+		while (scheduledTries.size() < maxScheduled && countScheduled < maxTries && parametersGenerator.hasNext()) {
+			scheduledTries.add(scheduleNextTry());
+			countScheduled++;
+		}
+	}
+
+	private ScheduledTry scheduleNextTry() {
+		TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+		TryStoreScope tryScope = new TryStoreScope();
+		long generationStart = System.nanoTime();
+		List<Shrinkable<Object>> shrinkableParams = tryScope.run(() -> parametersGenerator.next(tryLifecycleContext));
+		metrics.recordGeneration(System.nanoTime() - generationStart);
+		List<Object> sample = GenericProperty.extractParams(shrinkableParams);
+		generatedSampleReporter.accept(tryLifecycleContext, sample);
+
+		Future<TryExecutionResult> future = executorService.submit(() -> executeTry(tryScope, tryLifecycleContext, sample));
+		PendingTry pendingTry = new PendingTry(tryLifecycleContext, shrinkableParams, sample, () -> await(future));
+		return new ScheduledTry(pendingTry, future, tryScope);
+	}
+
+	private TryExecutionResult executeTry(TryStoreScope tryScope, TryLifecycleContext tryLifecycleContext, List<Object> sample) {
+		DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+		try {
+			Supplier<TryExecutionResult> execution = () -> PropertyMetricsRecorder.runWithRecorder(
+				metrics,
+				() -> tryScope.run(() -> tryLifecycleExecutor.execute(tryLifecycleContext, sample))
+			);
+			if (currentDescriptor == null) {
+				return execution.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, execution);
+		} finally {
+			DomainContextFacadeImpl.removeCurrentContext();
+		}
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Tries that have been scheduled but not been handed out are cancelled.
+	 * Tries already running are allowed to finish so that shrinking
+	 * will not interfere with them.
+	 */
+	@Override
+	public void close() {
+		for (ScheduledTry scheduledTry : scheduledTries) {
+			if (scheduledTry.future.cancel(false)) {
+				finishCancelledTry(scheduledTry.tryScope);
+			}
+		}
+		scheduledTries.clear();
+		executorService.shutdown();
+		boolean interrupted = false;
+		while (!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Store values created during generation of a cancelled try would otherwise live until the end of the property
+	private void finishCancelledTry(TryStoreScope tryScope) {
+		if (currentDescriptor != null) {
+			tryScope.run(() -> StoreRepository.getCurrent().finishTry(currentDescriptor));
+		}
+	}
+
+	private static class ScheduledTry {
+		private final PendingTry pendingTry;
+		private final Future<TryExecutionResult> future;
+		private final TryStoreScope tryScope;
+
+		private ScheduledTry(PendingTry pendingTry, Future<TryExecutionResult> future, TryStoreScope tryScope) {
+			this.pendingTry = pendingTry;
+			this.future = future;
+			this.tryScope = tryScope;
+		}
+	}
+}
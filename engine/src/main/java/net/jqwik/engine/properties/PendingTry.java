@@ -0,0 +1,47 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+class PendingTry {
+
+	private final TryLifecycleContext context;
+	private final List<Shrinkable<Object>> shrinkables;
+	private final List<Object> sample;
+	private final Supplier<TryExecutionResult> result;
+
+	PendingTry(
+		TryLifecycleContext context,
+		List<Shrinkable<Object>> shrinkables,
+		List<Object> sample,
+		Supplier<TryExecutionResult> result
+	) {
+		this.context = context;
+		this.shrinkables = shrinkables;
+		this.sample = sample;
+		this.result = result;
+	}
+
+	TryLifecycleContext context() {
+		return context;
+	}
+
+	List<Shrinkable<Object>> shrinkables() {
+		return shrinkables;
+	}
+
+	List<Object> sample() {
+		return sample;
+	}
+
+	/**
+	 * Blocks until the try has been executed.
+	 * Errors which are not handled by the try lifecycle are rethrown.
+	 */
+	TryExecutionResult result() {
+		return result.get();
+	}
+}
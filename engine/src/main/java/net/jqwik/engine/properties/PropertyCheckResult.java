@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.recording.*;
 
 public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 
@@ -152,6 +153,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final PropertyExecutionMetrics metrics;
+	private final GenerationCoordinate generationCoordinate;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -166,6 +169,29 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
 		Throwable throwable
+	) {
+		this(
+			status, stereotype, propertyName, tries, checks, randomSeed, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable,
+			null, null
+		);
+	}
+
+	private PropertyCheckResult(
+		CheckStatus status, String stereotype,
+		String propertyName,
+		int tries,
+		int checks,
+		String randomSeed,
+		GenerationMode generation,
+		EdgeCasesMode edgeCasesMode,
+		int edgeCasesTotal,
+		int edgeCasesTried,
+		FalsifiedSample originalSample,
+		ShrunkFalsifiedSample shrunkSample,
+		Throwable throwable,
+		PropertyExecutionMetrics metrics,
+		GenerationCoordinate generationCoordinate
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -180,6 +206,24 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.metrics = metrics;
+		this.generationCoordinate = generationCoordinate;
+	}
+
+	public PropertyCheckResult withMetrics(PropertyExecutionMetrics metrics) {
+		return new PropertyCheckResult(
+			status, stereotype, propertyName, tries, checks, randomSeed, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable,
+			metrics, generationCoordinate
+		);
+	}
+
+	public PropertyCheckResult withGenerationCoordinate(GenerationCoordinate generationCoordinate) {
+		return new PropertyCheckResult(
+			status, stereotype, propertyName, tries, checks, randomSeed, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable,
+			metrics, generationCoordinate
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -239,7 +283,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					metrics,
+					generationCoordinate
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -255,7 +301,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					metrics,
+					null
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -295,6 +343,16 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return Optional.ofNullable(shrunkSample);
 	}
 
+	@Override
+	public Optional<GenerationCoordinate> generationCoordinate() {
+		return Optional.ofNullable(generationCoordinate);
+	}
+
+	@Override
+	public Optional<PropertyExecutionMetrics> metrics() {
+		return Optional.ofNullable(metrics);
+	}
+
 	public GenerationMode generation() {
 		return generation;
 	}
@@ -21,13 +21,25 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 	private final Object testInstance;
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
+	private final ArbitraryResolutionCache cache;
+	private final Object domainKey;
 
 	public PropertyMethodArbitraryResolver(Class<?> containerClass, Object testInstance, DomainContext domainContext) {
+		this(containerClass, testInstance, domainContext, null);
+	}
+
+	/**
+	 * @param domainKey Identifies the domain context in the engine-wide {@linkplain ArbitraryResolutionCache}.
+	 *                  Use {@code null} to switch off caching.
+	 */
+	public PropertyMethodArbitraryResolver(Class<?> containerClass, Object testInstance, DomainContext domainContext, Object domainKey) {
 		this(
 			containerClass,
 			testInstance,
 			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			ArbitraryResolutionCache.getInstance(),
+			domainKey
 		);
 	}
 
@@ -35,11 +47,23 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 		Class<?> containerClass, Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(containerClass, testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, null, null);
+	}
+
+	PropertyMethodArbitraryResolver(
+		Class<?> containerClass, Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		ArbitraryResolutionCache cache,
+		Object domainKey
 	) {
 		this.containerClass = containerClass;
 		this.testInstance = testInstance;
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.cache = cache;
+		this.domainKey = domainKey;
 	}
 
 	@Override
@@ -49,6 +73,18 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 	}
 
 	private Set<Arbitrary<?>> createForType(TypeUsage targetType) {
+		if (cache == null || domainKey == null || !ArbitraryResolutionCache.isCacheable(targetType)) {
+			return resolveForType(targetType);
+		}
+		Optional<Set<Arbitrary<?>>> cached = cache.get(targetType, domainKey);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		// Not using computeIfAbsent since resolution recursively resolves subtypes
+		return cache.put(targetType, domainKey, resolveForType(targetType));
+	}
+
+	private Set<Arbitrary<?>> resolveForType(TypeUsage targetType) {
 		Optional<String> optionalForAllValue =
 			targetType
 				.findAnnotation(ForAll.class)
@@ -0,0 +1,82 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Provides a previously falsified sample that could not be stored by generating it again:
+ * Tries are generated - but not executed - up to the falsified one
+ * and the recorded shrinking steps are applied to it.
+ *
+ * <p>
+ * If generation has changed in the meantime, shrinking steps that cannot be followed
+ * are skipped. The resulting sample will then be shrunk as usual if it still falsifies the property.
+ * </p>
+ */
+public class ReplayShrinkablesGenerator implements ForAllParametersGenerator {
+
+	private final Supplier<ForAllParametersGenerator> generatorSupplier;
+	private final int tryIndex;
+	private final ShrinkingPath shrinkingPath;
+
+	private boolean generated = false;
+	private int countReplayedSteps = 0;
+
+	/**
+	 * @param generatorSupplier Creates the generator that has generated the falsified try
+	 * @param shrinkingPath     Parameter indices must refer to the parameters generated by {@code generatorSupplier}
+	 */
+	public ReplayShrinkablesGenerator(Supplier<ForAllParametersGenerator> generatorSupplier, int tryIndex, ShrinkingPath shrinkingPath) {
+		this.generatorSupplier = generatorSupplier;
+		this.tryIndex = tryIndex;
+		this.shrinkingPath = shrinkingPath;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !generated;
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		if (generated) {
+			throw new NoSuchElementException("Sample has already been provided");
+		}
+		generated = true;
+		List<Shrinkable<Object>> shrinkables = generateFalsifiedTry();
+		for (ShrinkingPath.Step step : shrinkingPath.steps()) {
+			Optional<List<Shrinkable<Object>>> shrunk = step.apply(shrinkables);
+			if (!shrunk.isPresent()) {
+				break;
+			}
+			shrinkables = shrunk.get();
+			countReplayedSteps++;
+		}
+		return shrinkables;
+	}
+
+	private List<Shrinkable<Object>> generateFalsifiedTry() {
+		ForAllParametersGenerator generator = generatorSupplier.get();
+		for (int i = 0; i < tryIndex; i++) {
+			if (!generator.hasNext()) {
+				break;
+			}
+			generator.next();
+		}
+		if (!generator.hasNext()) {
+			String message = String.format("Try %s cannot be generated again", tryIndex);
+			throw new IncompatibleDataException(message);
+		}
+		return generator.next();
+	}
+
+	/**
+	 * @return the number of shrinking steps that could be followed when the sample was provided
+	 */
+	public int countReplayedSteps() {
+		return countReplayedSteps;
+	}
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.metrics.*;
+
+class SequentialTryRunner implements TryRunner {
+
+	private final ParametersGenerator parametersGenerator;
+	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryExecution;
+	private final PropertyMetricsRecorder metrics;
+
+	SequentialTryRunner(
+		ParametersGenerator parametersGenerator,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryExecution,
+		PropertyMetricsRecorder metrics
+	) {
+		this.parametersGenerator = parametersGenerator;
+		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.tryExecution = tryExecution;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return parametersGenerator.hasNext();
+	}
+
+	@Override
+	public PendingTry next() {
+		TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+		long generationStart = System.nanoTime();
+		List<Shrinkable<Object>> shrinkableParams = parametersGenerator.next(tryLifecycleContext);
+		metrics.recordGeneration(System.nanoTime() - generationStart);
+		List<Object> sample = GenericProperty.extractParams(shrinkableParams);
+		return new PendingTry(
+			tryLifecycleContext,
+			shrinkableParams,
+			sample,
+			() -> tryExecution.apply(tryLifecycleContext, sample)
+		);
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -4,16 +4,33 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements ShrunkFalsifiedSample {
 
 	private final int shrinkingSteps;
+	private final FalsificationCacheStatistics cacheStatistics;
 
 	public ShrunkFalsifiedSampleImpl(
 		FalsifiedSample falsifiedSample,
 		int shrinkingSteps
 	) {
-		this(falsifiedSample.parameters(), falsifiedSample.shrinkables(), falsifiedSample.falsifyingError(), shrinkingSteps);
+		this(falsifiedSample, shrinkingSteps, null);
+	}
+
+	public ShrunkFalsifiedSampleImpl(
+		FalsifiedSample falsifiedSample,
+		int shrinkingSteps,
+		FalsificationCacheStatistics cacheStatistics
+	) {
+		this(
+			falsifiedSample.parameters(),
+			falsifiedSample.shrinkables(),
+			falsifiedSample.falsifyingError(),
+			shrinkingPath(falsifiedSample),
+			shrinkingSteps,
+			cacheStatistics
+		);
 	}
 
 	public ShrunkFalsifiedSampleImpl(
@@ -22,8 +39,27 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		Optional<Throwable> falsifyingError,
 		int shrinkingSteps
 	) {
-		super(parameters, shrinkables, falsifyingError);
+		this(parameters, shrinkables, falsifyingError, ShrinkingPath.EMPTY, shrinkingSteps, null);
+	}
+
+	private ShrunkFalsifiedSampleImpl(
+		List<Object> parameters,
+		List<Shrinkable<Object>> shrinkables,
+		Optional<Throwable> falsifyingError,
+		ShrinkingPath shrinkingPath,
+		int shrinkingSteps,
+		FalsificationCacheStatistics cacheStatistics
+	) {
+		super(parameters, shrinkables, falsifyingError, shrinkingPath);
 		this.shrinkingSteps = shrinkingSteps;
+		this.cacheStatistics = cacheStatistics;
+	}
+
+	private static ShrinkingPath shrinkingPath(FalsifiedSample falsifiedSample) {
+		if (falsifiedSample instanceof FalsifiedSampleImpl) {
+			return ((FalsifiedSampleImpl) falsifiedSample).shrinkingPath();
+		}
+		return ShrinkingPath.EMPTY;
 	}
 
 	@Override
@@ -31,6 +67,13 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		return shrinkingSteps;
 	}
 
+	/**
+	 * Not considered in {@linkplain #equals(Object)}
+	 */
+	public Optional<FalsificationCacheStatistics> cacheStatistics() {
+		return Optional.ofNullable(cacheStatistics);
+	}
+
 	public boolean equivalentTo(FalsifiedSample sample) {
 		if (sample == null) {
 			return false;
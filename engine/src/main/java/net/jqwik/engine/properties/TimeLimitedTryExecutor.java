@@ -0,0 +1,196 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Enforces the try timeout and the property timeout.
+ *
+ * <p>
+ * With a timeout in place every try is executed on a separate thread,
+ * even if it finishes well in time.
+ * When the timeout is exceeded the {@linkplain TimeoutWatchdog} interrupts that thread
+ * and the try is falsified with a {@linkplain TimeoutError}.
+ * A try that does not react to interruption is abandoned and keeps running on its thread.
+ * </p>
+ *
+ * <p>
+ * Only the execution of a try is limited.
+ * Generating and filtering its parameters happen on the calling thread before
+ * and are neither interrupted nor abandoned.
+ * </p>
+ *
+ * <p>
+ * Unless the calling thread already runs in a {@linkplain TryStoreScope} each try runs in a scope of its own.
+ * Thereby an abandoned try that finishes later on will not reset the values of
+ * {@linkplain Lifespan#TRY} stores used by subsequent tries.
+ * The values shared with the calling thread are reset there instead.
+ * </p>
+ */
+class TimeLimitedTryExecutor implements TryLifecycleExecutor, AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger(TimeLimitedTryExecutor.class.getName());
+
+	private static final AtomicInteger poolCounter = new AtomicInteger(0);
+
+	// How long closing waits for abandoned tries to react to interruption
+	private static final long ABANDONED_TRIES_TERMINATION_MILLIS = 1000;
+
+	private final TryLifecycleExecutor tryLifecycleExecutor;
+	private final int tryTimeoutMillis;
+	private final int timeoutSeconds;
+	private final long propertyDeadline;
+
+	private ExecutorService executorService;
+
+	TimeLimitedTryExecutor(TryLifecycleExecutor tryLifecycleExecutor, int tryTimeoutMillis, int timeoutSeconds) {
+		this.tryLifecycleExecutor = tryLifecycleExecutor;
+		this.tryTimeoutMillis = tryTimeoutMillis;
+		this.timeoutSeconds = timeoutSeconds;
+		this.propertyDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+	}
+
+	private static ThreadFactory createThreadFactory() {
+		String namePrefix = String.format("jqwik-timed-tries-%s-", poolCounter.incrementAndGet());
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public TryExecutionResult execute(TryLifecycleContext tryLifecycleContext, List<Object> parameters) {
+		return execute(tryLifecycleContext, parameters, true);
+	}
+
+	/**
+	 * Shrinking has its own bound and is therefore only subject to the try timeout.
+	 */
+	TryLifecycleExecutor withoutPropertyTimeout() {
+		return (tryLifecycleContext, parameters) -> execute(tryLifecycleContext, parameters, false);
+	}
+
+	private TryExecutionResult execute(
+		TryLifecycleContext tryLifecycleContext,
+		List<Object> parameters,
+		boolean limitedByProperty
+	) {
+		boolean propertyTimeout = limitedByProperty && timeoutSeconds > 0 && remainingPropertyMillis() < tryTimeoutOrMax();
+		if (!propertyTimeout && tryTimeoutMillis <= 0) {
+			return tryLifecycleExecutor.execute(tryLifecycleContext, parameters);
+		}
+		long timeoutMillis = propertyTimeout ? remainingPropertyMillis() : tryTimeoutMillis;
+
+		Optional<TryStoreScope> callerScope = TryStoreScope.current();
+		TryStoreScope tryScope = callerScope.orElseGet(TryStoreScope::new);
+		CompletableFuture<TryExecutionResult> result = new CompletableFuture<>();
+		AtomicReference<Thread> tryThread = new AtomicReference<>();
+		Supplier<TryExecutionResult> tryExecution = withCurrentThreadContext(
+			() -> tryScope.run(() -> tryLifecycleExecutor.execute(tryLifecycleContext, parameters))
+		);
+		Future<?> runningTry = executorService().submit(() -> {
+			tryThread.set(Thread.currentThread());
+			try {
+				result.complete(tryExecution.get());
+			} catch (Throwable throwable) {
+				result.completeExceptionally(throwable);
+			}
+		});
+		TimeoutWatchdog.Watch watch = TimeoutWatchdog.watch(timeoutMillis, () -> {
+			TimeoutError timeoutError = propertyTimeout
+											? TimeoutError.propertyTimedOut(timeoutSeconds, tryThread.get())
+											: TimeoutError.tryTimedOut(timeoutMillis, tryThread.get());
+			if (result.complete(TryExecutionResult.falsified(timeoutError))) {
+				runningTry.cancel(true);
+			}
+		});
+		try {
+			return result.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			runningTry.cancel(true);
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		} finally {
+			watch.cancel();
+			if (!callerScope.isPresent()) {
+				finishSharedTryValues();
+			}
+		}
+	}
+
+	// Values created outside the try's own scope, e.g. during generation, are reset as in sequential execution
+	private static void finishSharedTryValues() {
+		if (!CurrentTestDescriptor.isEmpty()) {
+			StoreRepository.getCurrent().finishTry(CurrentTestDescriptor.get());
+		}
+	}
+
+	private long tryTimeoutOrMax() {
+		return tryTimeoutMillis > 0 ? tryTimeoutMillis : Long.MAX_VALUE;
+	}
+
+	private long remainingPropertyMillis() {
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(propertyDeadline - System.nanoTime()));
+	}
+
+	private static Supplier<TryExecutionResult> withCurrentThreadContext(Supplier<TryExecutionResult> execution) {
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		DomainContext currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+		PropertyMetricsRecorder metrics = PropertyMetricsRecorder.current();
+		return () -> {
+			DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+			try {
+				Supplier<TryExecutionResult> recordedExecution = () -> PropertyMetricsRecorder.runWithRecorder(metrics, execution);
+				if (currentDescriptor == null) {
+					return recordedExecution.get();
+				}
+				return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, recordedExecution);
+			} finally {
+				DomainContextFacadeImpl.removeCurrentContext();
+			}
+		};
+	}
+
+	// Tries of a property can be executed concurrently
+	private synchronized ExecutorService executorService() {
+		if (executorService == null) {
+			executorService = Executors.newCachedThreadPool(createThreadFactory());
+		}
+		return executorService;
+	}
+
+	/**
+	 * Tries that are still running, e.g. abandoned after their timeout, are interrupted once more
+	 * and given a short time to terminate. Tries that still ignore interruption are left behind.
+	 */
+	@Override
+	public synchronized void close() {
+		if (executorService == null) {
+			return;
+		}
+		executorService.shutdownNow();
+		try {
+			if (!executorService.awaitTermination(ABANDONED_TRIES_TERMINATION_MILLIS, TimeUnit.MILLISECONDS)) {
+				LOG.warning("Abandoned tries did not terminate after interruption and keep running in the background");
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package net.jqwik.engine.properties;
+
+import java.lang.management.*;
+import java.util.*;
+
+/**
+ * Falsifies a try that has not finished in time.
+ *
+ * <p>
+ * The stack trace is the one of the try's thread at the moment of the timeout
+ * and the thread dump covers all threads at that moment.
+ * </p>
+ */
+public class TimeoutError extends AssertionError {
+
+	static TimeoutError tryTimedOut(long timeoutMillis, Thread tryThread) {
+		String message = String.format("Try did not finish within %s ms", timeoutMillis);
+		return new TimeoutError(message, false, tryThread);
+	}
+
+	static TimeoutError propertyTimedOut(int timeoutSeconds, Thread tryThread) {
+		String message = String.format("Property did not finish within %s s", timeoutSeconds);
+		return new TimeoutError(message, true, tryThread);
+	}
+
+	private final boolean propertyTimeout;
+	private final String threadDump;
+
+	private TimeoutError(String message, boolean propertyTimeout, Thread tryThread) {
+		super(message);
+		this.propertyTimeout = propertyTimeout;
+		this.threadDump = dumpAllThreads();
+		setStackTrace(tryThread == null ? new StackTraceElement[0] : tryThread.getStackTrace());
+	}
+
+	/**
+	 * @return true if the timeout of the whole property, not of the single try, has been exceeded
+	 */
+	public boolean isPropertyTimeout() {
+		return propertyTimeout;
+	}
+
+	public String threadDump() {
+		return threadDump;
+	}
+
+	private static String dumpAllThreads() {
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		ThreadInfo[] threadInfos = threadBean.dumpAllThreads(
+			threadBean.isObjectMonitorUsageSupported(),
+			threadBean.isSynchronizerUsageSupported()
+		);
+		StringBuilder dump = new StringBuilder();
+		long[] deadlocked = findDeadlockedThreads(threadBean);
+		if (deadlocked.length > 0) {
+			dump.append(String.format("Deadlocked thread ids: %s%n%n", Arrays.toString(deadlocked)));
+		}
+		for (ThreadInfo threadInfo : threadInfos) {
+			appendThreadInfo(dump, threadInfo);
+		}
+		return dump.toString();
+	}
+
+	private static long[] findDeadlockedThreads(ThreadMXBean threadBean) {
+		long[] deadlocked = threadBean.isSynchronizerUsageSupported()
+								? threadBean.findDeadlockedThreads()
+								: threadBean.findMonitorDeadlockedThreads();
+		return deadlocked == null ? new long[0] : deadlocked;
+	}
+
+	private static void appendThreadInfo(StringBuilder dump, ThreadInfo threadInfo) {
+		dump.append(String.format("\"%s\" Id=%s %s", threadInfo.getThreadName(), threadInfo.getThreadId(), threadInfo.getThreadState()));
+		if (threadInfo.getLockName() != null) {
+			dump.append(" on ").append(threadInfo.getLockName());
+		}
+		if (threadInfo.getLockOwnerName() != null) {
+			dump.append(String.format(" owned by \"%s\" Id=%s", threadInfo.getLockOwnerName(), threadInfo.getLockOwnerId()));
+		}
+		dump.append(String.format("%n"));
+		StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+		for (int depth = 0; depth < stackTrace.length; depth++) {
+			dump.append(String.format("\tat %s%n", stackTrace[depth]));
+			for (MonitorInfo monitor : threadInfo.getLockedMonitors()) {
+				if (monitor.getLockedStackDepth() == depth) {
+					dump.append(String.format("\t-  locked %s%n", monitor));
+				}
+			}
+		}
+		dump.append(String.format("%n"));
+	}
+}
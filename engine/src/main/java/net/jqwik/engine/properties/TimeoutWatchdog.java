@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties;
+
+import java.util.concurrent.*;
+
+/**
+ * A single daemon thread that fires the timeouts of tries and properties.
+ * Timeout actions should be short since all of them run on the same thread.
+ */
+class TimeoutWatchdog {
+
+	private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+	private static ScheduledThreadPoolExecutor createScheduler() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "jqwik-timeout-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// Most watches are cancelled long before they would fire
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+
+	private TimeoutWatchdog() {
+	}
+
+	static Watch watch(long timeoutMillis, Runnable onTimeout) {
+		ScheduledFuture<?> timeout = scheduler.schedule(onTimeout, timeoutMillis, TimeUnit.MILLISECONDS);
+		return () -> timeout.cancel(false);
+	}
+
+	interface Watch {
+		void cancel();
+	}
+}
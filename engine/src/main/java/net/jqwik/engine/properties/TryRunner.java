@@ -0,0 +1,18 @@
+package net.jqwik.engine.properties;
+
+/**
+ * Hands out the tries of a property in the order in which their parameters have been generated.
+ * Implementations decide if and when a try is actually executed.
+ */
+interface TryRunner extends AutoCloseable {
+
+	boolean hasNext();
+
+	PendingTry next();
+
+	/**
+	 * Must be idempotent since it can be called before the end of the try-with-resources block.
+	 */
+	@Override
+	void close();
+}
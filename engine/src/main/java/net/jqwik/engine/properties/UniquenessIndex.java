@@ -0,0 +1,45 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Keeps the features of all values added so far so that checking
+ * the uniqueness of another value is independent of the number of values.
+ */
+public class UniquenessIndex<T> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Set<Object>> featuresPerExtractor;
+
+	public UniquenessIndex(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featuresPerExtractor = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featuresPerExtractor.add(new HashSet<>());
+		}
+	}
+
+	/**
+	 * @return true if value has been added because it is unique with regards to all feature extractors
+	 */
+	public boolean tryAdd(T value) {
+		if (extractors.isEmpty()) {
+			return true;
+		}
+		if (extractors.size() == 1) {
+			return featuresPerExtractor.get(0).add(extractors.get(0).applySafe(value));
+		}
+		Object[] features = new Object[extractors.size()];
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			if (featuresPerExtractor.get(i).contains(feature)) {
+				return false;
+			}
+			features[i] = feature;
+		}
+		for (int i = 0; i < features.length; i++) {
+			featuresPerExtractor.get(i).add(features[i]);
+		}
+		return true;
+	}
+}
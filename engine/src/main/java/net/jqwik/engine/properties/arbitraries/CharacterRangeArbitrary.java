@@ -26,23 +26,19 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 
 	private List<Shrinkable<Character>> listOfEdgeCases() {
 		return Stream.of(min, max)
-					 .map(aCharacter -> new ShrinkableBigInteger(
-							 BigInteger.valueOf((int) aCharacter),
-							 Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max)),
-							 BigInteger.valueOf(min)
-						  )
-					 )
-					 .map(shrinkableBigInteger -> shrinkableBigInteger.map(BigInteger::intValueExact))
-					 .map(shrinkableInteger -> shrinkableInteger.map(anInt -> ((char) (int) anInt)))
+					 .map(aCharacter -> new ShrinkableLong(aCharacter, min, max, min))
+					 .map(shrinkableLong -> shrinkableLong.map(aLong -> ((char) (long) aLong)))
 					 .collect(Collectors.toList());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		long maxCount = max + 1 - min;
-		return ExhaustiveGenerators
-				   .fromIterable(() -> IntStream.range(min, max + 1).iterator(), maxCount, maxNumberOfSamples)
-				   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
+		return ExhaustiveGenerators.fromIndex(index -> (char) (min + index), maxCount, maxNumberOfSamples);
+	}
+
+	PrimitiveElementShrinker primitiveShrinker() {
+		return new PrimitiveElementShrinker(min, max, RandomIntegralGenerators.defaultShrinkingTarget(min, max));
 	}
 
 	@Override
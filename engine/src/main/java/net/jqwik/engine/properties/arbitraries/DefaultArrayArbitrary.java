@@ -10,6 +10,7 @@ import net.jqwik.api.configurators.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implements ArrayArbitrary<T, A>, SelfConfiguringArbitrary<A> {
@@ -33,9 +34,46 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	public RandomGenerator<A> generator(int genSize) {
+		Optional<BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<A>>> primitiveArrayCreator = primitiveArrayCreator();
+		if (primitiveArrayCreator.isPresent()) {
+			return RandomGenerators.container(
+					elementGenerator(elementArbitrary, genSize),
+					elements -> primitiveArrayCreator.get().apply(elements, minSize),
+					minSize,
+					maxSize,
+					cutoffSize(genSize)
+			).withEdgeCases(genSize, edgeCases());
+		}
 		return createListGenerator(genSize).map(this::toArray);
 	}
 
+	/**
+	 * Arrays of bytes and chars are backed by a primitive array if
+	 * shrinking of elements allows it.
+	 */
+	@SuppressWarnings("unchecked")
+	private Optional<BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<A>>> primitiveArrayCreator() {
+		if (!uniquenessExtractors.isEmpty()) {
+			return Optional.empty();
+		}
+		if (arrayClass == byte[].class && elementArbitrary instanceof DefaultByteArbitrary) {
+			PrimitiveElementShrinker byteShrinker = ((DefaultByteArbitrary) elementArbitrary).primitiveShrinker();
+			return Optional.of((elements, minimalSize) -> {
+				List<Shrinkable<Byte>> bytes = (List<Shrinkable<Byte>>) (List<?>) elements;
+				return (Shrinkable<A>) (Shrinkable<?>) new ShrinkableByteArray(bytes, minimalSize, maxSize, byteShrinker);
+			});
+		}
+		if (arrayClass == char[].class && elementArbitrary instanceof DefaultCharacterArbitrary) {
+			return ((DefaultCharacterArbitrary) elementArbitrary).primitiveShrinker().map(
+					charShrinker -> (elements, minimalSize) -> {
+						List<Shrinkable<Character>> chars = (List<Shrinkable<Character>>) (List<?>) elements;
+						return (Shrinkable<A>) (Shrinkable<?>) ShrinkableCharArray.forCharArray(chars, minimalSize, maxSize, charShrinker);
+					}
+			);
+		}
+		return Optional.empty();
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<A>> exhaustive(long maxNumberOfSamples) {
 		return ExhaustiveGenerators
@@ -45,6 +83,10 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	public EdgeCases<A> edgeCases() {
+		Optional<BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<A>>> primitiveArrayCreator = primitiveArrayCreator();
+		if (primitiveArrayCreator.isPresent()) {
+			return edgeCases(primitiveArrayCreator.get());
+		}
 		return EdgeCasesSupport.map(
 				edgeCases((elements, minSize1) -> new ShrinkableList<>(elements, minSize1, maxSize, uniquenessExtractors)),
 				this::toArray
@@ -6,6 +6,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
 
@@ -20,7 +21,15 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.longGenerator(genSize).map(Long::byteValue);
+	}
+
+	PrimitiveElementShrinker primitiveShrinker() {
+		return new PrimitiveElementShrinker(
+			generatingArbitrary.min.longValueExact(),
+			generatingArbitrary.max.longValueExact(),
+			generatingArbitrary.shrinkingTarget().longValueExact()
+		);
 	}
 
 	@Override
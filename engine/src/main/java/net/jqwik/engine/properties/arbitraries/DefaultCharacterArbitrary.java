@@ -5,6 +5,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultCharacterArbitrary extends TypedCloneable implements CharacterArbitrary {
 
@@ -65,6 +66,24 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
 	}
 
+	/**
+	 * Only available if shrinking of all characters can be described by a single range.
+	 */
+	Optional<PrimitiveElementShrinker> primitiveShrinker() {
+		if (partsWithSize.isEmpty()) {
+			return Optional.of(new PrimitiveElementShrinker(
+				Character.MIN_VALUE,
+				Character.MAX_VALUE,
+				Character.MIN_VALUE,
+				c -> !isNoncharacter((int) c) && !isPrivateUseCharacter((int) c)
+			));
+		}
+		if (partsWithSize.size() == 1 && partsWithSize.get(0).get2() instanceof CharacterRangeArbitrary) {
+			return Optional.of(((CharacterRangeArbitrary) partsWithSize.get(0).get2()).primitiveShrinker());
+		}
+		return Optional.empty();
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		return arbitrary().exhaustive(maxNumberOfSamples);
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -18,7 +19,26 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		final int cutoffLength = RandomGenerators.defaultCutoffSize(minLength, maxLength, genSize);
-		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, cutoffLength).withEdgeCases(genSize, edgeCases());
+		return RandomGenerators.container(randomCharacterGenerator(), shrinkableCreator(), minLength, maxLength, cutoffLength)
+							   .withEdgeCases(genSize, edgeCases());
+	}
+
+	/**
+	 * Strings are backed by a primitive char array if shrinking of characters allows it.
+	 */
+	private Function<List<Shrinkable<Character>>, Shrinkable<String>> shrinkableCreator() {
+		Optional<PrimitiveElementShrinker> charShrinker = primitiveCharShrinker();
+		if (charShrinker.isPresent()) {
+			return chars -> ShrinkableCharArray.forString(chars, minLength, maxLength, charShrinker.get());
+		}
+		return chars -> new ShrinkableString(chars, minLength, maxLength);
+	}
+
+	private Optional<PrimitiveElementShrinker> primitiveCharShrinker() {
+		if (characterArbitrary instanceof DefaultCharacterArbitrary) {
+			return ((DefaultCharacterArbitrary) characterArbitrary).primitiveShrinker();
+		}
+		return Optional.empty();
 	}
 
 	@Override
@@ -56,15 +76,17 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	}
 
 	private EdgeCases<String> emptyStringEdgeCase() {
-		return EdgeCases.fromSupplier(() -> new ShrinkableString(Collections.emptyList(), minLength, maxLength));
+		Function<List<Shrinkable<Character>>, Shrinkable<String>> shrinkableCreator = shrinkableCreator();
+		return EdgeCases.fromSupplier(() -> shrinkableCreator.apply(Collections.emptyList()));
 	}
 
 	private EdgeCases<String> fixedSizedEdgeCases(int fixedSize) {
+		Function<List<Shrinkable<Character>>, Shrinkable<String>> shrinkableCreator = shrinkableCreator();
 		return EdgeCasesSupport.mapShrinkable(
 				characterArbitrary.edgeCases(),
 				shrinkableChar -> {
 					List<Shrinkable<Character>> chars = new ArrayList<>(Collections.nCopies(fixedSize, shrinkableChar));
-					return new ShrinkableString(chars, minLength, maxLength);
+					return shrinkableCreator.apply(chars);
 				}
 		);
 	}
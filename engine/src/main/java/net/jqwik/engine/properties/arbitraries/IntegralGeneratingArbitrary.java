@@ -28,13 +28,43 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		this.shrinkingTarget = null;
 	}
 
+	private static final BigInteger LONG_MIN = valueOf(Long.MIN_VALUE);
+	private static final BigInteger LONG_MAX = valueOf(Long.MAX_VALUE);
+
 	@Override
 	public RandomGenerator<BigInteger> generator(int genSize) {
+		if (fitsIntoLong()) {
+			return primitiveGenerator().map(BigInteger::valueOf).withEdgeCases(genSize, edgeCases());
+		}
 		return RandomGenerators
 			.bigIntegers(min, max, shrinkingTarget(), distribution)
 			.withEdgeCases(genSize, edgeCases());
 	}
 
+	/**
+	 * Generates the same values as {@linkplain #generator(int)} but avoids
+	 * creating BigIntegers whenever the range fits into a long.
+	 */
+	RandomGenerator<Long> longGenerator(int genSize) {
+		if (!fitsIntoLong()) {
+			return generator(genSize).map(BigInteger::longValueExact);
+		}
+		return primitiveGenerator().withEdgeCases(genSize, EdgeCasesSupport.map(edgeCases(), BigInteger::longValueExact));
+	}
+
+	private RandomGenerator<Long> primitiveGenerator() {
+		return RandomGenerators.longs(
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution
+		);
+	}
+
+	private boolean fitsIntoLong() {
+		return min.compareTo(LONG_MIN) >= 0 && max.compareTo(LONG_MAX) <= 0;
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -43,7 +73,7 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			return ExhaustiveGenerators.fromIndex(index -> min.add(valueOf(index)), maxCount.longValueExact(), maxNumberOfSamples);
 		}
 	}
 
@@ -87,7 +117,7 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 				   : Stream.concat(Stream.of(shrinkingTarget), Arrays.stream(literalEdgeCases));
 	}
 
-	private BigInteger shrinkingTarget() {
+	BigInteger shrinkingTarget() {
 		if (shrinkingTarget == null) {
 			return RandomIntegralGenerators.defaultShrinkingTarget(Range.of(min, max));
 		} else {
@@ -95,24 +125,4 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
-
-		BigInteger current = min;
-
-		@Override
-		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
-		}
-
-		@Override
-		public BigInteger next() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-			BigInteger next = current;
-			current = current.add(BigInteger.ONE);
-			return next;
-		}
-	}
-
 }
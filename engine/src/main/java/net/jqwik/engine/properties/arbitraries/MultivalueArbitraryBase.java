@@ -83,7 +83,7 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 		return elementArbitrary.generator(genSize);
 	}
 
-	protected <C extends Collection<?>> EdgeCases<C> edgeCases(BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<C>> shrinkableCreator) {
+	protected <C> EdgeCases<C> edgeCases(BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<C>> shrinkableCreator) {
 		EdgeCases<C> emptyListEdgeCase = (minSize == 0) ? emptyListEdgeCase(shrinkableCreator) : EdgeCases.none();
 		EdgeCases<C> singleElementEdgeCases = (minSize <= 1 && maxSize >= 1) ? fixedSizeEdgeCases(1, shrinkableCreator) : EdgeCases.none();
 		EdgeCases<C> fixedSizeEdgeCases = generateFixedSizeEdgeCases() ? fixedSizeEdgeCases(minSize, shrinkableCreator) : EdgeCases.none();
@@ -97,7 +97,7 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 		return minSize == maxSize && minSize > 1;
 	}
 
-	private <C extends Collection<?>> EdgeCases<C> fixedSizeEdgeCases(
+	private <C> EdgeCases<C> fixedSizeEdgeCases(
 			final int fixedSize,
 			final BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<C>> shrinkableCreator
 	) {
@@ -113,7 +113,7 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 		);
 	}
 
-	private <C extends Collection<?>> EdgeCases<C> emptyListEdgeCase(BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<C>> shrinkableCreator) {
+	private <C> EdgeCases<C> emptyListEdgeCase(BiFunction<List<Shrinkable<T>>, Integer, Shrinkable<C>> shrinkableCreator) {
 		return EdgeCases.fromSupplier(
 				() -> shrinkableCreator.apply(Collections.emptyList(), minSize)
 		);
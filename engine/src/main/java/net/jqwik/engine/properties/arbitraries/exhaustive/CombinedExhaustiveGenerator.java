@@ -12,6 +12,9 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 	private final List<Arbitrary<Object>> arbitraries;
 	private final Function<List<Object>, R> combinator;
 
+	// Only created when needed for indexed access
+	private volatile List<ExhaustiveGenerator<Object>> generators;
+
 	static Optional<Long> calculateMaxCount(List<Arbitrary<Object>> arbitraries, long maxNumberOfSamples) {
 		long product = 1;
 		for (Arbitrary<Object> arbitrary : arbitraries) {
@@ -38,6 +41,37 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 		return maxCount;
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return generators().stream().allMatch(ExhaustiveGenerator::isIndexed);
+	}
+
+	@Override
+	public R get(long index) {
+		if (!isIndexed()) {
+			return ExhaustiveGenerator.super.get(index);
+		}
+		ExhaustiveGenerators.checkIndex(index, maxCount);
+		List<ExhaustiveGenerator<Object>> generators = generators();
+		long[] counts = generators.stream().mapToLong(ExhaustiveGenerator::maxCount).toArray();
+		long[] positions = Combinatorics.combinationAt(index, counts);
+		List<Object> values = new ArrayList<>(generators.size());
+		for (int i = 0; i < positions.length; i++) {
+			values.add(generators.get(i).get(positions[i]));
+		}
+		return combinator.apply(values);
+	}
+
+	private List<ExhaustiveGenerator<Object>> generators() {
+		if (generators == null) {
+			generators = arbitraries
+							 .stream()
+							 .map(a -> a.exhaustive().get())
+							 .collect(Collectors.toList());
+		}
+		return generators;
+	}
+
 	@Override
 	public Iterator<R> iterator() {
 		List<Iterable<Object>> iterables = arbitraries
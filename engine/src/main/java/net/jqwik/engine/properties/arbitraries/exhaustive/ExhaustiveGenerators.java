@@ -12,11 +12,11 @@ import static net.jqwik.engine.properties.UniquenessChecker.*;
 public class ExhaustiveGenerators {
 
 	public static <T> Optional<ExhaustiveGenerator<T>> create(Supplier<T> supplier, long maxNumberOfSamples) {
-		return fromIterable(() -> new SupplierIterator<>(supplier), 1, maxNumberOfSamples);
+		return fromIndex(index -> supplier.get(), 1, maxNumberOfSamples);
 	}
 
 	public static <T> Optional<ExhaustiveGenerator<T>> choose(List<T> values, long maxNumberOfSamples) {
-		return fromIterable(values, values.size(), maxNumberOfSamples);
+		return fromIndex(index -> values.get((int) index), values.size(), maxNumberOfSamples);
 	}
 
 	public static Optional<ExhaustiveGenerator<Character>> choose(char[] characters, long maxNumberOfSamples) {
@@ -34,6 +34,23 @@ public class ExhaustiveGenerators {
 		return Optional.of(new IterableBasedExhaustiveGenerator<>(iterator, maxCount));
 	}
 
+	/**
+	 * @param valueAt  Returns the value at a given index. Must be safe to call concurrently.
+	 * @param maxCount The exact number of values
+	 */
+	public static <T> Optional<ExhaustiveGenerator<T>> fromIndex(LongFunction<T> valueAt, long maxCount, long maxNumberOfSamples) {
+		if (maxCount > maxNumberOfSamples) {
+			return Optional.empty();
+		}
+		return Optional.of(new IndexedExhaustiveGenerator<>(valueAt, maxCount));
+	}
+
+	static void checkIndex(long index, long maxCount) {
+		if (index < 0 || index >= maxCount) {
+			throw new NoSuchElementException(String.format("There is no value at index %s of %s values", index, maxCount));
+		}
+	}
+
 	public static <T> Optional<ExhaustiveGenerator<List<T>>> list(
 			Arbitrary<T> elementArbitrary,
 			int minSize, int maxSize,
@@ -51,6 +68,10 @@ public class ExhaustiveGenerators {
 					if (elementArbitrary.isUnique()) {
 						extractors.add(FeatureExtractor.identity());
 					}
+					if (extractors.isEmpty()) {
+						// Without filtering the generator stays indexed
+						return exhaustiveGenerator;
+					}
 
 					return exhaustiveGenerator.filter(l -> checkUniquenessOfValues(extractors, l));
 				}
@@ -110,28 +131,4 @@ public class ExhaustiveGenerators {
 			maxCount -> new FlatMappedExhaustiveGenerator<>(base, maxCount, mapper)
 		);
 	}
-
-	private static class SupplierIterator<T> implements Iterator<T> {
-
-		private final Supplier<T> supplier;
-		private volatile boolean generated = false;
-
-		private SupplierIterator(Supplier<T> supplier) {
-			this.supplier = supplier;
-		}
-
-		@Override
-		public boolean hasNext() {
-			return !generated;
-		}
-
-		@Override
-		public T next() {
-			if (generated) {
-				throw new NoSuchElementException();
-			}
-			generated = true;
-			return supplier.get();
-		}
-	}
 }
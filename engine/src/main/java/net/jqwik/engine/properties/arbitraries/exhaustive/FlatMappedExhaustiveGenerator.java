@@ -12,6 +12,9 @@ public class FlatMappedExhaustiveGenerator<U, T> implements ExhaustiveGenerator<
 	private final long maxCount;
 	private final Function<T, Arbitrary<U>> mapper;
 
+	// Only created when needed for indexed access
+	private volatile List<ExhaustiveGenerator<U>> generators;
+
 	public static <T, U> Optional<Long> calculateMaxCounts(
 		ExhaustiveGenerator<T> baseGenerator,
 		Function<T, Arbitrary<U>> mapper,
@@ -42,6 +45,39 @@ public class FlatMappedExhaustiveGenerator<U, T> implements ExhaustiveGenerator<
 		return maxCount;
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return generators().stream().allMatch(ExhaustiveGenerator::isIndexed);
+	}
+
+	/**
+	 * Base values are generated only once for all indexed accesses.
+	 */
+	@Override
+	public U get(long index) {
+		if (!isIndexed()) {
+			return ExhaustiveGenerator.super.get(index);
+		}
+		ExhaustiveGenerators.checkIndex(index, maxCount);
+		long position = index;
+		for (ExhaustiveGenerator<U> generator : generators()) {
+			if (position < generator.maxCount()) {
+				return generator.get(position);
+			}
+			position -= generator.maxCount();
+		}
+		throw new NoSuchElementException(String.format("There is no value at index %s", index));
+	}
+
+	private List<ExhaustiveGenerator<U>> generators() {
+		if (generators == null) {
+			generators = StreamSupport.stream(baseGenerator.spliterator(), false)
+									  .map(baseValue -> mapper.apply(baseValue).exhaustive().get())
+									  .collect(Collectors.toList());
+		}
+		return generators;
+	}
+
 	@Override
 	public Iterator<U> iterator() {
 		List<Iterable<U>> iterators =
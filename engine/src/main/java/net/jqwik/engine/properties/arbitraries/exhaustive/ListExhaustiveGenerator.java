@@ -11,6 +11,9 @@ class ListExhaustiveGenerator<T> implements ExhaustiveGenerator<List<T>> {
 	private final int minSize;
 	private final int maxSize;
 
+	// Only created when needed for indexed access
+	private volatile ExhaustiveGenerator<T> elementGenerator;
+
 	static Optional<Long> calculateMaxCount(Arbitrary<?> elementArbitrary, int minSize, int maxSize, long maxNumberOfSamples) {
 		Optional<? extends ExhaustiveGenerator<?>> exhaustiveElement = elementArbitrary.exhaustive(maxNumberOfSamples);
 		if (!exhaustiveElement.isPresent())
@@ -41,6 +44,46 @@ class ListExhaustiveGenerator<T> implements ExhaustiveGenerator<List<T>> {
 			.listCombinations(elementArbitrary.exhaustive().get(), minSize, maxSize);
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return elementGenerator().isIndexed();
+	}
+
+	/**
+	 * Lists of each size take up a block of indices; within a block the last element changes fastest.
+	 */
+	@Override
+	public List<T> get(long index) {
+		if (!isIndexed()) {
+			return ExhaustiveGenerator.super.get(index);
+		}
+		ExhaustiveGenerators.checkIndex(index, maxCount);
+		ExhaustiveGenerator<T> elementGenerator = elementGenerator();
+		long elementCount = elementGenerator.maxCount();
+		long indexInBlock = index;
+		for (int size = minSize; size <= maxSize; size++) {
+			long blockCount = (long) Math.pow(elementCount, size);
+			if (indexInBlock < blockCount) {
+				long[] counts = new long[size];
+				Arrays.fill(counts, elementCount);
+				List<T> list = new ArrayList<>(size);
+				for (long position : Combinatorics.combinationAt(indexInBlock, counts)) {
+					list.add(elementGenerator.get(position));
+				}
+				return list;
+			}
+			indexInBlock -= blockCount;
+		}
+		throw new NoSuchElementException(String.format("There is no value at index %s", index));
+	}
+
+	private ExhaustiveGenerator<T> elementGenerator() {
+		if (elementGenerator == null) {
+			elementGenerator = elementArbitrary.exhaustive().get();
+		}
+		return elementGenerator;
+	}
+
 	@Override
 	public long maxCount() {
 		return maxCount;
@@ -18,6 +18,16 @@ public class MappedExhaustiveGenerator<T, U> implements ExhaustiveGenerator<U> {
 		return toMap.maxCount();
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return toMap.isIndexed();
+	}
+
+	@Override
+	public U get(long index) {
+		return mapper.apply(toMap.get(index));
+	}
+
 	@Override
 	public Iterator<U> iterator() {
 		final Iterator<T> mappedIterator = toMap.iterator();
@@ -16,6 +16,19 @@ public class WithNullExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 		return base.maxCount() + 1;
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return base.isIndexed();
+	}
+
+	@Override
+	public T get(long index) {
+		if (index == 0) {
+			return null;
+		}
+		return base.get(index - 1);
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		return new Iterator<T>() {
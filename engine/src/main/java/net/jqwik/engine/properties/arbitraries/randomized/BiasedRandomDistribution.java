@@ -4,12 +4,17 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class BiasedRandomDistribution implements RandomDistribution {
+public class BiasedRandomDistribution implements RandomDistribution, PrimitiveRandomDistribution {
 	@Override
 	public RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		return new BiasedNumericGenerator(genSize, min, max, center);
 	}
 
+	@Override
+	public LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return new BiasedLongGenerator(genSize, min, max, center);
+	}
+
 	@Override
 	public String toString() {
 		return "BiasedDistribution";
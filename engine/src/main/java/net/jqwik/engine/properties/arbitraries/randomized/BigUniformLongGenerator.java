@@ -0,0 +1,48 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Generates the same values as {@linkplain BigUniformNumericGenerator}.
+ * The range between min and max can use all 64 bits and is therefore handled as unsigned.
+ */
+class BigUniformLongGenerator implements LongNumericGenerator {
+
+	private final long min;
+	private final long range;
+	private final int bits;
+	private final int numBytes;
+
+	BigUniformLongGenerator(long min, long max) {
+		this.min = min;
+		this.range = max - min;
+		this.bits = Long.SIZE - Long.numberOfLeadingZeros(range);
+		this.numBytes = (bits + 7) / 8;
+	}
+
+	@Override
+	public long next(Random random) {
+		while (true) {
+			long rawValue = randomBits(random);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	// Consumes randomness exactly like new BigInteger(bits, random)
+	private long randomBits(Random random) {
+		if (numBytes == 0) {
+			return 0L;
+		}
+		byte[] randomBytes = new byte[numBytes];
+		random.nextBytes(randomBytes);
+		int excessBits = 8 * numBytes - bits;
+		randomBytes[0] &= (1 << (8 - excessBits)) - 1;
+		long rawValue = 0L;
+		for (byte randomByte : randomBytes) {
+			rawValue = (rawValue << 8) | (randomByte & 0xFF);
+		}
+		return rawValue;
+	}
+}
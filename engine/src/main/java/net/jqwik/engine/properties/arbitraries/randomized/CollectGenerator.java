@@ -4,10 +4,11 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
-import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class CollectGenerator<T> implements RandomGenerator<List<T>> {
+	private static final long MAX_ELEMENTS = 10000;
+
 	private final RandomGenerator<T> elementGenerator;
 	private final Predicate<List<T>> until;
 
@@ -20,20 +21,18 @@ public class CollectGenerator<T> implements RandomGenerator<List<T>> {
 	public Shrinkable<List<T>> next(Random random) {
 		List<T> base = new ArrayList<>();
 		List<Shrinkable<T>> shrinkables = new ArrayList<>();
-		MaxTriesLoop.loop(
-			() -> !until.test(base),
-			ignore -> {
-				Shrinkable<T> shrinkable = elementGenerator.next(random);
-				base.add(shrinkable.value());
-				shrinkables.add(shrinkable);
-				return Tuple.of(false, ignore);
-			},
-			maxMisses -> {
+		// Not using MaxTriesLoop since collecting elements does not miss any values
+		long count = 0;
+		while (!until.test(base)) {
+			Shrinkable<T> shrinkable = elementGenerator.next(random);
+			base.add(shrinkable.value());
+			shrinkables.add(shrinkable);
+			if (++count > MAX_ELEMENTS) {
 				String message =
-					String.format("Generated list not fulfilled condition after maximum of %s elements", maxMisses);
-				return new JqwikException(message);
+					String.format("Generated list not fulfilled condition after maximum of %s elements", MAX_ELEMENTS);
+				throw new JqwikException(message);
 			}
-		);
+		}
 		return new CollectShrinkable<>(shrinkables, until);
 	}
 }
@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -29,26 +27,21 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	@Override
 	public Shrinkable<C> next(Random random) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> list = new ArrayList<>();
-		List<T> elements = new ArrayList<>();
+		List<Shrinkable<T>> list = new ArrayList<>(listSize);
+		UniquenessIndex<T> uniquenessIndex = new UniquenessIndex<>(uniquenessExtractors);
 		while (list.size() < listSize) {
-			Shrinkable<T> next = nextUntilAccepted(random, elements, elementGenerator::next);
+			Shrinkable<T> next = nextUntilAccepted(random, uniquenessIndex, elementGenerator::next);
 			list.add(next);
 		}
 		return createShrinkable.apply(list);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, List<T> elements, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	private Shrinkable<T> nextUntilAccepted(Random random, UniquenessIndex<T> uniquenessIndex, Function<Random, Shrinkable<T>> fetchShrinkable) {
 		Shrinkable<T> accepted = MaxTriesLoop.loop(
 				() -> true,
 				next -> {
 					next = fetchShrinkable.apply(random);
-					T value = next.value();
-					if (checkUniqueness(elements, value)) {
-						elements.add(value);
-						return Tuple.of(true, next);
-					}
-					return Tuple.of(false, next);
+					return Tuple.of(uniquenessIndex.tryAdd(next.value()), next);
 				},
 				(maxMisses) -> {
 					String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxMisses);
@@ -58,8 +51,4 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return accepted;
 	}
 
-	private boolean checkUniqueness(List<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
@@ -0,0 +1,13 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain net.jqwik.api.RandomDistribution.RandomNumericGenerator}
+ * for ranges that fit into a long.
+ */
+@FunctionalInterface
+interface LongNumericGenerator {
+
+	long next(Random random);
+}
@@ -0,0 +1,12 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+/**
+ * Implemented by distributions that can generate primitive longs.
+ * Generated values must be the same as the ones of
+ * {@linkplain net.jqwik.api.RandomDistribution#createGenerator(int, java.math.BigInteger, java.math.BigInteger, java.math.BigInteger)}
+ * when called with the same random instance.
+ */
+interface PrimitiveRandomDistribution {
+
+	LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center);
+}
@@ -46,14 +46,21 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+		return longs(
+				min,
+				max,
+				RandomIntegralGenerators.defaultShrinkingTarget(min, max),
 				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		).map(Long::intValue);
+	}
+
+	public static RandomGenerator<Long> longs(
+			long min,
+			long max,
+			long shrinkingTarget,
+			RandomDistribution distribution
+	) {
+		return RandomIntegralGenerators.longs(1000, min, max, shrinkingTarget, distribution);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -108,6 +115,14 @@ public class RandomGenerators {
 		return strings(elementGenerator, minLength, maxLength, defaultCutoff);
 	}
 
+	public static <T, C> RandomGenerator<C> container(
+			RandomGenerator<T> elementGenerator,
+			Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable,
+			int minSize, int maxSize, int cutoffSize
+	) {
+		return container(elementGenerator, createShrinkable, minSize, maxSize, Collections.emptySet(), cutoffSize);
+	}
+
 	private static int defaultCutoffSize(int minSize, int maxSize) {
 		int range = maxSize - minSize;
 		int offset = (int) Math.max(Math.round(Math.sqrt(100)), 10);
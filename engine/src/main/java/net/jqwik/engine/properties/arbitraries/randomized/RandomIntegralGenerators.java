@@ -37,6 +37,64 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	/**
+	 * Generates the same values and shrinks the same way as {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)}
+	 * but avoids allocating BigIntegers as long as the distribution supports primitive generation.
+	 */
+	public static RandomGenerator<Long> longs(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		if (min > max) {
+			throw new IllegalArgumentException(String.format("Min value [%s] must not be greater that max value [%s].", min, max));
+		}
+		if (shrinkingTarget < min || shrinkingTarget > max) {
+			String message = String.format("Shrinking target <%s> is outside allowed range %s", shrinkingTarget, Range.of(min, max));
+			throw new JqwikException(message);
+		}
+
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		LongNumericGenerator numericGenerator = createLongGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		return random -> {
+			long value = numericGenerator.next(random);
+			return new ShrinkableLong(value, min, max, shrinkingTarget);
+		};
+	}
+
+	private static LongNumericGenerator createLongGenerator(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof PrimitiveRandomDistribution) {
+			return ((PrimitiveRandomDistribution) distribution).createLongGenerator(genSize, min, max, shrinkingTarget);
+		}
+		RandomNumericGenerator bigIntegerGenerator = distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(shrinkingTarget)
+		);
+		return random -> bigIntegerGenerator.next(random).longValueExact();
+	}
+
+	public static long defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return 0L;
+		}
+		if (max < 0) return max;
+		return min;
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
@@ -0,0 +1,23 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Generates the same values as {@linkplain SmallUniformNumericGenerator}.
+ */
+class SmallUniformLongGenerator implements LongNumericGenerator {
+
+	private final int min;
+	private final int max;
+
+	SmallUniformLongGenerator(long min, long max) {
+		this.min = Math.toIntExact(min);
+		this.max = Math.toIntExact(max);
+	}
+
+	@Override
+	public long next(Random random) {
+		int bound = Math.abs(max - min) + 1;
+		return random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
+	}
+}
@@ -4,7 +4,7 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class UniformRandomDistribution implements RandomDistribution {
+public class UniformRandomDistribution implements RandomDistribution, PrimitiveRandomDistribution {
 
 	@Override
 	public RandomNumericGenerator createGenerator(
@@ -22,6 +22,19 @@ public class UniformRandomDistribution implements RandomDistribution {
 
 	}
 
+	@Override
+	public LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return createLongUniformGenerator(min, max);
+	}
+
+	static LongNumericGenerator createLongUniformGenerator(long min, long max) {
+		if (min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE) {
+			return new SmallUniformLongGenerator(min, max);
+		} else {
+			return new BigUniformLongGenerator(min, max);
+		}
+	}
+
 	private static boolean isWithinIntegerRange(BigInteger min, BigInteger max) {
 		return min.compareTo(BigInteger.valueOf(Integer.MIN_VALUE)) >= 0
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
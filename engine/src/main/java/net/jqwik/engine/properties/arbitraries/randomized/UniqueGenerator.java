@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -8,9 +9,32 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
+/**
+ * Uniqueness is scoped to a generator instance, which the engine creates anew for every try.
+ *
+ * <p>
+ * Each generated value starts a lineage of shrinkables. Shrinking a shrinkable is a shrinking step
+ * whose candidates reserve their values. A value reserved by a step remains available to candidates of that same step.
+ * Thus shrinking the same shrinkable again yields the same candidates
+ * unless their values have been reserved elsewhere in the meantime.
+ * </p>
+ *
+ * <p>
+ * A shrinkable cannot know whether one of its candidates has been accepted,
+ * since candidates are also shrunk without being accepted, e.g. during pairwise shrinking or guided generation.
+ * Reservations are therefore only released when a lineage is shrunk along another path:
+ * Shrinking a shrinkable releases all values reserved by steps of its lineage that are neither the step itself
+ * nor a step of one of its ancestors. Those steps belong to dropped candidates.
+ * </p>
+ */
 public class UniqueGenerator<T> implements RandomGenerator<T> {
+
+	private static final Object GENERATED = new Object();
+	private static final Object NULL_VALUE = new Object();
+
 	private final RandomGenerator<T> toFilter;
-	private final Set<T> usedValues = Collections.synchronizedSet(new HashSet<>());
+	// Values are mapped to the step that reserved them. Null values are represented by NULL_VALUE.
+	private final Map<Object, Object> reservedValues = new ConcurrentHashMap<>();
 
 	public UniqueGenerator(RandomGenerator<T> toFilter) {
 		this.toFilter = toFilter;
@@ -18,10 +42,7 @@ public class UniqueGenerator<T> implements RandomGenerator<T> {
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		return nextUntilAccepted(random, r -> {
-			Shrinkable<T> next = toFilter.next(r);
-			return new UniqueShrinkable<>(next, this::shrink);
-		});
+		return nextUntilAccepted(random, r -> toFilter.next(r));
 	}
 
 	@Override
@@ -29,34 +50,92 @@ public class UniqueGenerator<T> implements RandomGenerator<T> {
 		return String.format("Unique [%s]", toFilter);
 	}
 
+	int countReservedValues() {
+		return reservedValues.size();
+	}
+
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
-		return MaxTriesLoop.loop(
+		Shrinkable<T> accepted = MaxTriesLoop.loop(
 			() -> true,
 			next -> {
 				next = fetchShrinkable.apply(random);
-				T value = next.value();
-				if (usedValues.contains(value)) {
-					return Tuple.of(false, next);
-				}
-				usedValues.add(value);
-				return Tuple.of(true, next);
+				return Tuple.of(reservedValues.putIfAbsent(key(next.value()), GENERATED) == null, next);
 			},
 			maxMisses -> {
 				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
 				return new TooManyFilterMissesException(message);
 			}
 		);
+		return uniqueShrinkable(accepted, new ShrinkingStep(new Lineage(), null));
+	}
+
+	private UniqueShrinkable<T> uniqueShrinkable(Shrinkable<T> shrinkable, ShrinkingStep step) {
+		return new UniqueShrinkable<>(shrinkable, current -> shrink(current, step));
+	}
+
+	private Stream<Shrinkable<T>> shrink(UniqueShrinkable<T> current, ShrinkingStep step) {
+		step.lineage.start(step);
+		return current.toFilter.shrink()
+							   .filter(s -> step.lineage.reserve(key(s.value()), step))
+							   .map(s -> uniqueShrinkable(s, new ShrinkingStep(step.lineage, step)));
 	}
 
-	private Stream<Shrinkable<T>> shrink(UniqueShrinkable<T> current) {
-		return current.toFilter.shrink().filter(s -> {
-			return !usedValues.contains(s.value());
-		}).map(s -> {
-			// TODO: In theory the set of used values should only contain those in the current try
-			// but currently it contains all values tried in this shrinking
-			usedValues.add(s.value());
-			return new UniqueShrinkable<>(s, this::shrink);
-		});
+	private static Object key(Object value) {
+		return value == null ? NULL_VALUE : value;
 	}
 
+	private class ShrinkingStep {
+		private final Lineage lineage;
+		private final ShrinkingStep parent;
+		private final Set<Object> reservedKeys = ConcurrentHashMap.newKeySet();
+
+		private ShrinkingStep(Lineage lineage, ShrinkingStep parent) {
+			this.lineage = lineage;
+			this.parent = parent;
+		}
+
+		private boolean isSameOrDescendantOf(ShrinkingStep other) {
+			ShrinkingStep current = this;
+			while (current != null) {
+				if (current == other) {
+					return true;
+				}
+				current = current.parent;
+			}
+			return false;
+		}
+	}
+
+	// All steps that shrink the same generated value synchronize on their lineage
+	private class Lineage {
+		private final Set<ShrinkingStep> stepsWithReservations = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private synchronized void start(ShrinkingStep step) {
+			Iterator<ShrinkingStep> iterator = stepsWithReservations.iterator();
+			while (iterator.hasNext()) {
+				ShrinkingStep other = iterator.next();
+				if (!step.isSameOrDescendantOf(other)) {
+					release(other);
+					iterator.remove();
+				}
+			}
+		}
+
+		private void release(ShrinkingStep step) {
+			for (Object key : step.reservedKeys) {
+				reservedValues.remove(key, step);
+			}
+			step.reservedKeys.clear();
+		}
+
+		private synchronized boolean reserve(Object key, ShrinkingStep step) {
+			Object existingOwner = reservedValues.putIfAbsent(key, step);
+			if (existingOwner == null) {
+				step.reservedKeys.add(key);
+				stepsWithReservations.add(step);
+				return true;
+			}
+			return existingOwner == step;
+		}
+	}
 }
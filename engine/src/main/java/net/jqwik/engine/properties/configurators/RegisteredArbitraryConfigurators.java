@@ -3,6 +3,7 @@ package net.jqwik.engine.properties.configurators;
 import java.util.*;
 
 import net.jqwik.api.configurators.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class RegisteredArbitraryConfigurators {
@@ -18,5 +19,6 @@ public class RegisteredArbitraryConfigurators {
 			return;
 		}
 		serviceCache.getServices().add(0, configurator);
+		ArbitraryResolutionCache.getInstance().invalidate();
 	}
 }
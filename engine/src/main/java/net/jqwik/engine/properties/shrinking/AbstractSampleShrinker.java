@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -15,10 +16,23 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	private final ConcurrentFalsifier concurrentFalsifier;
+	private final ShrinkingCancellation cancellation;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	/**
+	 * @param concurrentFalsifier If not null shrink candidates are evaluated in batches
+	 *                            of {@linkplain ConcurrentFalsifier#parallelism()} candidates
+	 * @param cancellation        Checked before each shrink candidate is evaluated
+	 */
+	public AbstractSampleShrinker(
+		FalsificationCache falsificationCache,
+		ConcurrentFalsifier concurrentFalsifier,
+		ShrinkingCancellation cancellation
+	) {
 		this.falsificationCache = falsificationCache;
+		this.concurrentFalsifier = concurrentFalsifier;
+		this.cancellation = cancellation;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -28,14 +42,20 @@ abstract class AbstractSampleShrinker {
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	);
 
+	/**
+	 * @param parameterIndices The parameters that are shrunk together, see {@linkplain ShrinkingPath#shrinkCandidates(int[], List)}
+	 */
 	protected FalsifiedSample shrink(
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer,
-		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> supplyShrinkCandidates
+		int... parameterIndices
 	) {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
+		// Indices of candidates that lead from the last falsified sample to the current shrink base
+		List<Integer> currentCandidateIndices = Collections.emptyList();
+		ShrinkingPath currentPath = shrinkingPath(sample);
 		Optional<FalsifiedSample> bestResult = Optional.empty();
 		FilteredResults filteredResults = new FilteredResults();
 
@@ -44,38 +64,37 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
-				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+			List<Integer> baseCandidateIndices = currentCandidateIndices;
+			AtomicInteger candidateIndex = new AtomicInteger(0);
+			Stream<Tuple2<List<Shrinkable<Object>>, List<Integer>>> candidates =
+				ShrinkingPath.shrinkCandidates(parameterIndices, currentShrinkBase)
+							 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+							 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
+							 .map(shrinkables -> Tuple.of(shrinkables, append(baseCandidateIndices, candidateIndex.getAndIncrement())));
+
+			Optional<ShrinkAttempt> newShrinkingResult =
+				concurrentFalsifier == null
+					? findFalsifiedCandidate(falsifier, candidates, currentDistance, filteredResults)
+					: findFalsifiedCandidateInBatches(falsifier, candidates, currentDistance, filteredResults);
 
 			if (newShrinkingResult.isPresent()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
+				ShrinkAttempt falsifiedTry = newShrinkingResult.get();
+				currentPath = currentPath.append(new ShrinkingPath.Step(parameterIndices, toArray(falsifiedTry.candidateIndices)));
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					falsifiedTry.get1(),
-					falsifiedTry.get2(),
-					falsifiedTry.get3().throwable()
+					falsifiedTry.params,
+					falsifiedTry.shrinkables,
+					falsifiedTry.result.throwable(),
+					currentPath
 				);
 				shrinkSampleConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
-				currentShrinkBase = falsifiedTry.get2();
+				currentShrinkBase = falsifiedTry.shrinkables;
+				currentCandidateIndices = Collections.emptyList();
 				filteredResults.clear();
 			} else if (!filteredResults.isEmpty()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
-				currentShrinkBase = aFilteredResult.get2();
+				ShrinkAttempt aFilteredResult = filteredResults.pop();
+				currentShrinkBase = aFilteredResult.shrinkables;
+				currentCandidateIndices = aFilteredResult.candidateIndices;
 			} else {
 				break;
 			}
@@ -84,8 +103,125 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
+	private static ShrinkingPath shrinkingPath(FalsifiedSample sample) {
+		if (sample instanceof FalsifiedSampleImpl) {
+			return ((FalsifiedSampleImpl) sample).shrinkingPath();
+		}
+		return ShrinkingPath.EMPTY;
+	}
+
+	private static List<Integer> append(List<Integer> indices, int index) {
+		List<Integer> newIndices = new ArrayList<>(indices);
+		newIndices.add(index);
+		return newIndices;
+	}
+
+	private static int[] toArray(List<Integer> indices) {
+		return indices.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private Optional<ShrinkAttempt> findFalsifiedCandidate(
+		Falsifier<List<Object>> falsifier,
+		Stream<Tuple2<List<Shrinkable<Object>>, List<Integer>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		return candidates
+				   .map(candidate -> {
+					   List<Object> params = createValues(candidate.get1()).collect(Collectors.toList());
+					   TryExecutionResult result = falsify(falsifier, params);
+					   return new ShrinkAttempt(params, candidate.get1(), candidate.get2(), result);
+				   })
+				   .peek(attempt -> rememberInvalidResult(attempt, currentDistance, filteredResults))
+				   .filter(attempt -> attempt.result.isFalsified())
+				   .findFirst();
+	}
+
+	/**
+	 * Candidates are taken from the stream in batches that are evaluated concurrently.
+	 * The first falsified candidate in stream order wins - as in sequential shrinking -
+	 * so that the result does not depend on the batch size. Remaining candidates are not evaluated.
+	 */
+	private Optional<ShrinkAttempt> findFalsifiedCandidateInBatches(
+		Falsifier<List<Object>> falsifier,
+		Stream<Tuple2<List<Shrinkable<Object>>, List<Integer>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		Iterator<Tuple2<List<Shrinkable<Object>>, List<Integer>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<Tuple2<List<Shrinkable<Object>>, List<Integer>>> batch = new ArrayList<>();
+			while (batch.size() < concurrentFalsifier.parallelism() && iterator.hasNext()) {
+				batch.add(iterator.next());
+			}
+			List<ShrinkAttempt> results = falsifyAll(falsifier, batch);
+			results.forEach(attempt -> rememberInvalidResult(attempt, currentDistance, filteredResults));
+			Optional<ShrinkAttempt> firstFalsified =
+				results.stream()
+					   .filter(attempt -> attempt.result.isFalsified())
+					   .findFirst();
+			if (firstFalsified.isPresent()) {
+				return firstFalsified;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private List<ShrinkAttempt> falsifyAll(
+		Falsifier<List<Object>> falsifier,
+		List<Tuple2<List<Shrinkable<Object>>, List<Integer>>> batch
+	) {
+		cancellation.checkNotCancelled();
+		List<List<Object>> paramsInBatch = new ArrayList<>();
+		for (Tuple2<List<Shrinkable<Object>>, List<Integer>> candidate : batch) {
+			paramsInBatch.add(createValues(candidate.get1()).collect(Collectors.toList()));
+		}
+
+		// Results are collected locally since the cache might evict them before they are used
+		Map<List<Object>, TryExecutionResult> batchResults = new HashMap<>();
+		Set<List<Object>> uncachedParams = new LinkedHashSet<>();
+		for (List<Object> params : paramsInBatch) {
+			if (batchResults.containsKey(params) || uncachedParams.contains(params)) {
+				continue;
+			}
+			Optional<TryExecutionResult> cachedResult = falsificationCache.get(params);
+			if (cachedResult.isPresent()) {
+				batchResults.put(params, cachedResult.get());
+			} else {
+				uncachedParams.add(params);
+			}
+		}
+
+		List<List<Object>> paramsToFalsify = new ArrayList<>(uncachedParams);
+		List<TryExecutionResult> falsifiedResults = concurrentFalsifier.executeAll(falsifier, paramsToFalsify);
+		for (int i = 0; i < paramsToFalsify.size(); i++) {
+			falsificationCache.put(paramsToFalsify.get(i), falsifiedResults.get(i));
+			batchResults.put(paramsToFalsify.get(i), falsifiedResults.get(i));
+		}
+
+		List<ShrinkAttempt> results = new ArrayList<>();
+		for (int i = 0; i < batch.size(); i++) {
+			List<Object> params = paramsInBatch.get(i);
+			Tuple2<List<Shrinkable<Object>>, List<Integer>> candidate = batch.get(i);
+			results.add(new ShrinkAttempt(params, candidate.get1(), candidate.get2(), batchResults.get(params)));
+		}
+		return results;
+	}
+
+	private void rememberInvalidResult(
+		ShrinkAttempt attempt,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		// Remember best 10 invalid results in case no  falsified shrink is found
+		if (attempt.result.isInvalid() && calculateDistance(attempt.shrinkables).compareTo(currentDistance) < 0) {
+			filteredResults.push(attempt);
+		}
+	}
+
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
-		// I wonder in which cases this is really an optimization
+		cancellation.checkNotCancelled();
+		// Whether the cache is really an optimization can be seen in its statistics
 		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
 	}
 
@@ -93,18 +229,54 @@ abstract class AbstractSampleShrinker {
 		return shrinkables.stream().map(Shrinkable::value);
 	}
 
+	private static class ShrinkAttempt {
+
+		private final List<Object> params;
+		private final List<Shrinkable<Object>> shrinkables;
+		private final List<Integer> candidateIndices;
+		private final TryExecutionResult result;
+
+		private ShrinkAttempt(
+			List<Object> params,
+			List<Shrinkable<Object>> shrinkables,
+			List<Integer> candidateIndices,
+			TryExecutionResult result
+		) {
+			this.params = params;
+			this.shrinkables = shrinkables;
+			this.candidateIndices = candidateIndices;
+			this.result = result;
+		}
+
+		// Candidate indices are not considered since they only tell how the attempt has been reached
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			ShrinkAttempt that = (ShrinkAttempt) o;
+			return params.equals(that.params) &&
+					   shrinkables.equals(that.shrinkables) &&
+					   result.equals(that.result);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(params, shrinkables);
+		}
+	}
+
 	private static class FilteredResults {
 
 		public static final int MAX_SIZE = 100;
 
-		Comparator<? super Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
-			Comparator.comparing(left -> calculateDistance(left.get2()));
+		Comparator<ShrinkAttempt> resultComparator =
+			Comparator.comparing(left -> calculateDistance(left.shrinkables));
 
-		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
+		PriorityQueue<ShrinkAttempt> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new HashSet<>();
+		Set<ShrinkAttempt> removedResults = new HashSet<>();
 
-		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
+		void push(ShrinkAttempt result) {
 			if (removedResults.contains(result)) {
 				return;
 			}
@@ -122,8 +294,8 @@ abstract class AbstractSampleShrinker {
 			return prioritizedResults.isEmpty();
 		}
 
-		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
-			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
+		ShrinkAttempt pop() {
+			ShrinkAttempt result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
 			removedResults.add(result);
 			return result;
@@ -11,11 +11,15 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 	private final List<Shrinkable<Object>> parts;
 	private final Function<List<Object>, T> combinator;
 
+	// Benign race: distance is deterministically computed from immutable parts
+	private volatile ShrinkingDistance distance;
+
 	public CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator) {
 		this.parts = parts;
 		this.combinator = combinator;
 	}
 
+	// Not memoized since the combinator might create mutable values
 	@Override
 	public T value() {
 		return createValue(parts);
@@ -51,7 +55,12 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.combine(parts);
+		ShrinkingDistance memoizedDistance = distance;
+		if (memoizedDistance == null) {
+			memoizedDistance = ShrinkingDistance.combine(parts);
+			distance = memoizedDistance;
+		}
+		return memoizedDistance;
 	}
 
 }
@@ -3,17 +3,19 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
+import net.jqwik.engine.support.*;
+
 public class ComprehensiveSizeOfListShrinker {
 
 	public <T> Stream<List<T>> shrink(List<T> toShrink, int minSize) {
 		if (toShrink.size() <= minSize) {
 			return Stream.empty();
 		}
+		PersistentList<T> elements = PersistentList.of(toShrink);
 		Set<List<T>> setOfSequences = new HashSet<>();
-		for (int i = 0; i < toShrink.size(); i++) {
-			ArrayList<T> newCandidate = new ArrayList<>(toShrink);
-			newCandidate.remove(i);
-			setOfSequences.add(newCandidate);
+		for (int i = 0; i < elements.size(); i++) {
+			// Candidates share their elements with the list to shrink
+			setOfSequences.add(elements.without(i));
 		}
 		return setOfSequences.stream();
 	}
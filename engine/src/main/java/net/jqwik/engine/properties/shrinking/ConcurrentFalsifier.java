@@ -0,0 +1,98 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Evaluates a batch of shrink candidates on a fixed number of worker threads.
+ * The current test descriptor and domain context of the creating thread
+ * are made available to the workers. Each evaluation runs in its own {@linkplain TryStoreScope}.
+ */
+class ConcurrentFalsifier implements AutoCloseable {
+
+	private static final AtomicInteger poolCounter = new AtomicInteger(0);
+
+	private final int parallelism;
+	private final ExecutorService executorService;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+
+	ConcurrentFalsifier(int parallelism) {
+		this.parallelism = parallelism;
+		this.executorService = Executors.newFixedThreadPool(parallelism, createThreadFactory());
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+	}
+
+	private static ThreadFactory createThreadFactory() {
+		String namePrefix = String.format("jqwik-shrinking-%s-", poolCounter.incrementAndGet());
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	int parallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return results in the same order as {@code paramsList}
+	 */
+	List<TryExecutionResult> executeAll(Falsifier<List<Object>> falsifier, List<List<Object>> paramsList) {
+		List<Future<TryExecutionResult>> futures = new ArrayList<>();
+		for (List<Object> params : paramsList) {
+			futures.add(executorService.submit(() -> execute(falsifier, params)));
+		}
+		List<TryExecutionResult> results = new ArrayList<>();
+		for (Future<TryExecutionResult> future : futures) {
+			results.add(await(future));
+		}
+		return results;
+	}
+
+	private TryExecutionResult execute(Falsifier<List<Object>> falsifier, List<Object> params) {
+		DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+		try {
+			Supplier<TryExecutionResult> execution = () -> new TryStoreScope().run(() -> falsifier.execute(params));
+			if (currentDescriptor == null) {
+				return execution.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, execution);
+		} finally {
+			DomainContextFacadeImpl.removeCurrentContext();
+		}
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Evaluations still running, e.g. after bounded shrinking has timed out, are interrupted.
+	 */
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+}
@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Remembers the results of recently falsified parameter lists during shrinking.
+ *
+ * <p>
+ * The number of entries is bounded and least recently used entries are evicted first,
+ * so that shrinking large samples cannot keep every tried sample alive.
+ * Access is synchronized since bounded shrinking might still be running
+ * after its timeout has been reached.
+ * </p>
+ */
+public class FalsificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final Map<List<Object>, TryExecutionResult> results;
+
+	private int hits = 0;
+	private int misses = 0;
+	private int evictions = 0;
+
+	public FalsificationCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public FalsificationCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be at least 1");
+		}
+		this.results = new LinkedHashMap<List<Object>, TryExecutionResult>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, TryExecutionResult> eldest) {
+				if (size() > maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	// Falsifying must not happen while holding the lock
+	public TryExecutionResult computeIfAbsent(List<Object> params, Function<List<Object>, TryExecutionResult> falsify) {
+		return get(params).orElseGet(() -> {
+			TryExecutionResult result = falsify.apply(params);
+			put(params, result);
+			return result;
+		});
+	}
+
+	public synchronized Optional<TryExecutionResult> get(List<Object> params) {
+		TryExecutionResult result = results.get(params);
+		if (result != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return Optional.ofNullable(result);
+	}
+
+	public synchronized void put(List<Object> params, TryExecutionResult result) {
+		results.put(params, result);
+	}
+
+	public synchronized int size() {
+		return results.size();
+	}
+
+	public synchronized FalsificationCacheStatistics statistics() {
+		return new FalsificationCacheStatistics(hits, misses, evictions);
+	}
+}
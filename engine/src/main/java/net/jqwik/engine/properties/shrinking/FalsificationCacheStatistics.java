@@ -0,0 +1,31 @@
+package net.jqwik.engine.properties.shrinking;
+
+public class FalsificationCacheStatistics {
+
+	private final int hits;
+	private final int misses;
+	private final int evictions;
+
+	public FalsificationCacheStatistics(int hits, int misses, int evictions) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	public int hits() {
+		return hits;
+	}
+
+	public int misses() {
+		return misses;
+	}
+
+	public int evictions() {
+		return evictions;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s/%s/%s", hits, misses, evictions);
+	}
+}
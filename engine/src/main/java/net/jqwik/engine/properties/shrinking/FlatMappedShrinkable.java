@@ -8,11 +8,20 @@ import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * The right side shrinkable is generated only once per instance since generation
+ * is deterministic through the random seed. Values are still created anew on every
+ * call to {@linkplain #value()} because they might be mutable.
+ */
 public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, Shrinkable<U>> mapper;
 
+	// Benign races: both fields are deterministically computed from immutable state
+	private volatile Shrinkable<U> generatedShrinkable;
+	private volatile ShrinkingDistance distance;
+
 	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Arbitrary<U>> toArbitraryMapper, int genSize, long randomSeed) {
 		this(toMap, t -> toArbitraryMapper.apply(t).generator(genSize), randomSeed);
 	}
@@ -71,12 +80,22 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 	}
 
 	protected Shrinkable<U> shrinkable() {
-		return generateShrinkable(toMap.value());
+		Shrinkable<U> shrinkable = generatedShrinkable;
+		if (shrinkable == null) {
+			shrinkable = generateShrinkable(toMap.value());
+			generatedShrinkable = shrinkable;
+		}
+		return shrinkable;
 	}
 
 	@Override
 	public ShrinkingDistance distance() {
-		return toMap.distance().append(shrinkable().distance());
+		ShrinkingDistance memoizedDistance = distance;
+		if (memoizedDistance == null) {
+			memoizedDistance = toMap.distance().append(shrinkable().distance());
+			distance = memoizedDistance;
+		}
+		return memoizedDistance;
 	}
 
 	@Override
@@ -94,7 +113,8 @@ public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	@Override
 	public String toString() {
-		return String.format("FlatMapped<%s>(%s:%s)|%s", value().getClass().getSimpleName(), value(), distance(), toMap);
+		U value = value();
+		return String.format("FlatMapped<%s>(%s:%s)|%s", value.getClass().getSimpleName(), value, distance(), toMap);
 	}
 
 }
@@ -0,0 +1,92 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Primitive counterpart of {@linkplain BigIntegerShrinker} that creates
+ * the same candidates for values within the range of long.
+ */
+public class LongShrinker {
+
+	private final long shrinkingTarget;
+
+	public LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	/**
+	 * @return all distinct candidates ordered by their real distance to the shrinking target,
+	 * which - unlike {@linkplain net.jqwik.api.ShrinkingDistance} - is not capped at {@code Long.MAX_VALUE}
+	 */
+	public long[] shrink(long value) {
+		LongStream.Builder candidates = LongStream.builder();
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		addFibbonaci(candidates, lower, higher);
+		subFibbonaci(candidates, higher, lower);
+		candidates.add(shrinkingTarget);
+
+		long[] sorted = candidates.build().filter(candidate -> candidate != value).sorted().toArray();
+		long[] distinct = removeDuplicatesFromSorted(sorted);
+
+		// All candidates lie between target and value so their order is also the order of distance
+		if (value < shrinkingTarget) {
+			reverse(distinct);
+		}
+		return distinct;
+	}
+
+	private static long[] removeDuplicatesFromSorted(long[] sorted) {
+		if (sorted.length == 0) {
+			return sorted;
+		}
+		int countDistinct = 1;
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i] != sorted[countDistinct - 1]) {
+				sorted[countDistinct++] = sorted[i];
+			}
+		}
+		return Arrays.copyOf(sorted, countDistinct);
+	}
+
+	private static void reverse(long[] values) {
+		for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+			long temp = values[i];
+			values[i] = values[j];
+			values[j] = temp;
+		}
+	}
+
+	private void subFibbonaci(LongStream.Builder candidates, long target, long border) {
+		// Compared as unsigned since the distance between border and target can exceed Long.MAX_VALUE
+		long maxStep = target - border;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (Long.compareUnsigned(step, last) < 0 || Long.compareUnsigned(step, maxStep) >= 0) {
+				break;
+			}
+			candidates.add(target - step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private void addFibbonaci(LongStream.Builder candidates, long target, long border) {
+		// Compared as unsigned since the distance between border and target can exceed Long.MAX_VALUE
+		long maxStep = border - target;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (Long.compareUnsigned(step, last) < 0 || Long.compareUnsigned(step, maxStep) >= 0) {
+				break;
+			}
+			candidates.add(target + step);
+			butLast = last;
+			last = step;
+		}
+	}
+}
@@ -2,15 +2,18 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(
+		FalsificationCache falsificationCache,
+		ConcurrentFalsifier concurrentFalsifier,
+		ShrinkingCancellation cancellation
+	) {
+		super(falsificationCache, concurrentFalsifier, cancellation);
 	}
 
 	@Override
@@ -34,25 +37,13 @@ class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 		Consumer<FalsifiedSample> shrinkAttemptConsumer,
 		int parameterIndex
 	) {
-		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> shrinker =
-			shrinkables -> {
-				Shrinkable<Object> shrinkable = shrinkables.get(parameterIndex);
-				return shrinkable.shrink().map(s -> replaceIn(s, parameterIndex, sample.shrinkables()));
-			};
-
 		return shrink(
 			falsifier,
 			sample,
 			shrinkSampleConsumer,
 			shrinkAttemptConsumer,
-			shrinker
+			parameterIndex
 		);
 	}
 
-	private <T> List<T> replaceIn(T object, int index, List<T> old) {
-		List<T> newList = new ArrayList<>(old);
-		newList.set(index, object);
-		return newList;
-	}
-
 }
@@ -10,8 +10,12 @@ import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
-	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public PairwiseParameterShrinker(
+		FalsificationCache falsificationCache,
+		ConcurrentFalsifier concurrentFalsifier,
+		ShrinkingCancellation cancellation
+	) {
+		super(falsificationCache, concurrentFalsifier, cancellation);
 	}
 
 	@Override
@@ -38,25 +42,12 @@ class PairwiseParameterShrinker extends AbstractSampleShrinker {
 		int index1,
 		int index2
 	) {
-		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> shrinker =
-			shrinkables -> {
-				Stream<Shrinkable<Object>> shrink1 = shrinkables.get(index1).shrink();
-				Stream<Shrinkable<Object>> shrink2 = shrinkables.get(index2).shrink();
-
-				return JqwikStreamSupport.zip(shrink1, shrink2, (shrinkable1, shrinkable2) -> {
-					ArrayList<Shrinkable<Object>> newShrinkables = new ArrayList<>(sample.shrinkables());
-					newShrinkables.set(index1, shrinkable1);
-					newShrinkables.set(index2, shrinkable2);
-					return newShrinkables;
-				});
-			};
-
 		return shrink(
 			falsifier,
 			sample,
 			shrinkSampleConsumer,
 			shrinkAttemptConsumer,
-			shrinker
+			index1, index2
 		);
 	}
 
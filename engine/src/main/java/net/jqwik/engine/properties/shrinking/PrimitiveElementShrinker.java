@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks and grows single elements of a {@linkplain ShrinkablePrimitiveArray}
+ * the same way {@linkplain ShrinkableLong} does - but without creating a shrinkable per element.
+ *
+ * <p>
+ * Elements can be restricted to allowed values within {@code [min, max]}.
+ * Candidates that are not allowed are skipped.
+ * </p>
+ */
+public class PrimitiveElementShrinker {
+
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+	private final LongPredicate allowed;
+	private final LongShrinker longShrinker;
+
+	public PrimitiveElementShrinker(long min, long max, long shrinkingTarget) {
+		this(min, max, shrinkingTarget, ignore -> true);
+	}
+
+	public PrimitiveElementShrinker(long min, long max, long shrinkingTarget, LongPredicate allowed) {
+		// Element distances must fit into an int to allow sorting without boxing
+		if (max - min > Integer.MAX_VALUE || max < min) {
+			String message = String.format("Range [%s, %s] is not suitable for primitive array elements", min, max);
+			throw new JqwikException(message);
+		}
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.allowed = allowed;
+		this.longShrinker = new LongShrinker(shrinkingTarget);
+	}
+
+	/**
+	 * @return the same candidates as {@linkplain ShrinkableLong#shrink()} in the same order
+	 */
+	long[] shrink(long value) {
+		LongStream candidates = Arrays.stream(longShrinker.shrink(value));
+		// Long.MIN_VALUE cannot be negated
+		if (value < 0 && value != Long.MIN_VALUE && includes(-value)) {
+			candidates = LongStream.concat(candidates, LongStream.of(-value));
+		}
+		return candidates.filter(allowed).toArray();
+	}
+
+	/**
+	 * @return the same candidates as {@linkplain ShrinkableLong#grow()} in the same order
+	 */
+	long[] grow(long value) {
+		LongStream candidates = value < shrinkingTarget
+									? LongStream.of(value - 1, value - 10, min / 2, min)
+									: LongStream.of(value + 1, value + 10, max / 2, max);
+		return candidates.filter(this::includes).toArray();
+	}
+
+	long distance(long value) {
+		return ShrinkableLong.unsignedDistance(value, shrinkingTarget);
+	}
+
+	boolean includes(long value) {
+		return value >= min && value <= max && allowed.test(value);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PrimitiveElementShrinker[%s..%s -> %s]", min, max, shrinkingTarget);
+	}
+}
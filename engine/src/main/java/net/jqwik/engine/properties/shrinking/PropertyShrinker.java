@@ -6,8 +6,10 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
@@ -19,26 +21,67 @@ public class PropertyShrinker {
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
 	private final int boundedShrinkingSeconds;
+	private final int shrinkingParallelism;
+	private final int shrinkingThreads;
+	private final FalsificationCache falsificationCache;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final ShrinkingPath shrinkingPathToReplay;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
+	private final ShrinkingCancellation cancellation = new ShrinkingCancellation();
 
-	private Optional<FalsifiedSample> currentBest = Optional.empty();
+	// Written by the bounded shrinking thread
+	private volatile Optional<FalsifiedSample> currentBest = Optional.empty();
 
 	public PropertyShrinker(
 		FalsifiedSample originalSample,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
+		int shrinkingParallelism,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(
+			originalSample,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			shrinkingParallelism,
+			FalsificationCache.DEFAULT_MAX_SIZE,
+			ShrinkingExecutor.DEFAULT_THREADS,
+			falsifiedSampleReporter,
+			targetMethod,
+			ShrinkingPath.EMPTY
+		);
+	}
+
+	/**
+	 * @param shrinkingCacheSize    The maximum number of falsification results that are remembered during shrinking
+	 * @param shrinkingThreads      The maximum number of threads that bounded shrinking shares with other properties
+	 * @param shrinkingPathToReplay The path that has shrunk the same original sample in a previous run.
+	 *                              If all of its samples still falsify the property no search takes place.
+	 *                              Otherwise shrinking goes on from the last sample that does.
+	 */
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism,
+		int shrinkingCacheSize,
+		int shrinkingThreads,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod,
+		ShrinkingPath shrinkingPathToReplay
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.shrinkingParallelism = shrinkingParallelism;
+		this.shrinkingThreads = shrinkingThreads;
+		this.falsificationCache = new FalsificationCache(shrinkingCacheSize);
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.shrinkingPathToReplay = shrinkingPathToReplay;
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -74,38 +117,108 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
 		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
-		if (shrinkingMode == ShrinkingMode.FULL) {
-			fullyShrunkSample = shrinkUntilDone.get();
-		} else {
-			fullyShrunkSample = withTimeout(shrinkUntilDone);
+		try (ConcurrentFalsifier concurrentFalsifier = createConcurrentFalsifier()) {
+			Supplier<FalsifiedSample> shrinkUntilDone = () -> {
+				Tuple2<FalsifiedSample, Boolean> replayed = replayShrinkingPath(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
+				if (replayed.get2()) {
+					return replayed.get1();
+				}
+				return shrinkAsLongAsSampleImproves(falsifier, replayed.get1(), shrinkSampleConsumer, shrinkAttemptConsumer, concurrentFalsifier);
+			};
+			if (shrinkingMode == ShrinkingMode.FULL) {
+				fullyShrunkSample = shrinkUntilDone.get();
+			} else {
+				fullyShrunkSample = withTimeout(shrinkUntilDone);
+			}
 		}
-		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get(), falsificationCache.statistics());
 	}
 
+	private ConcurrentFalsifier createConcurrentFalsifier() {
+		if (shrinkingParallelism <= 1) {
+			return null;
+		}
+		return new ConcurrentFalsifier(shrinkingParallelism);
+	}
+
+	/**
+	 * The bound starts when shrinking starts running, not when it is waiting for a thread of the pool.
+	 * Shrinking that exceeds the bound is cancelled - cooperatively between two shrink candidates
+	 * and by interrupting the shrinking thread - so that it does not slow down subsequent properties.
+	 */
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
+		ShrinkingExecutor shrinkingExecutor = ShrinkingExecutor.withThreads(shrinkingThreads);
+		Future<FalsifiedSample> falsifiedSampleFuture = shrinkingExecutor.submit(shrinkUntilDone);
 		try {
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkUntilDone);
 			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
-		} catch (InterruptedException | ExecutionException e) {
+		} catch (ExecutionException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e.getCause());
+		} catch (InterruptedException e) {
+			cancel(falsifiedSampleFuture);
+			Thread.currentThread().interrupt();
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
 		} catch (TimeoutException e) {
+			cancel(falsifiedSampleFuture);
+			shrinkingExecutor.recordCancelled();
 			logShrinkingBoundReached();
 			return currentBest.orElse(originalSample);
 		}
 	}
 
-	public FalsifiedSample shrinkAsLongAsSampleImproves(
+	private void cancel(Future<FalsifiedSample> shrinking) {
+		cancellation.cancel();
+		shrinking.cancel(true);
+	}
+
+	/**
+	 * Each step of the path is verified with a single falsifier call instead of searching for it.
+	 *
+	 * @return the last sample on the path that still falsifies the property
+	 * and whether the path could be followed to its end
+	 */
+	private Tuple2<FalsifiedSample, Boolean> replayShrinkingPath(
+		Falsifier<List<Object>> falsifier,
+		Consumer<FalsifiedSample> shrinkSampleConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		FalsifiedSample current = originalSample;
+		if (shrinkingPathToReplay.isEmpty()) {
+			return Tuple.of(current, false);
+		}
+		ShrinkingPath currentPath = ShrinkingPath.EMPTY;
+		for (ShrinkingPath.Step step : shrinkingPathToReplay.steps()) {
+			cancellation.checkNotCancelled();
+			Optional<List<Shrinkable<Object>>> shrunk = step.apply(current.shrinkables());
+			if (!shrunk.isPresent()) {
+				return Tuple.of(current, false);
+			}
+			List<Shrinkable<Object>> shrinkables = shrunk.get();
+			List<Object> params = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+			TryExecutionResult result = falsificationCache.computeIfAbsent(params, falsifier::execute);
+			if (!result.isFalsified()) {
+				return Tuple.of(current, false);
+			}
+			currentPath = currentPath.append(step);
+			current = new FalsifiedSampleImpl(params, shrinkables, result.throwable(), currentPath);
+			shrinkSampleConsumer.accept(current);
+			shrinkAttemptConsumer.accept(current);
+		}
+		return Tuple.of(current, true);
+	}
+
+	private FalsifiedSample shrinkAsLongAsSampleImproves(
 		final Falsifier<List<Object>> falsifier,
+		final FalsifiedSample sample,
 		final Consumer<FalsifiedSample> shrinkSampleConsumer,
-		final Consumer<FalsifiedSample> shrinkAttemptConsumer
+		final Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		final ConcurrentFalsifier concurrentFalsifier
 	) {
-		FalsifiedSample after = originalSample;
+		FalsifiedSample after = sample;
 		FalsifiedSample before;
 		do {
 			before = after;
-			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer);
-			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer);
+			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer, concurrentFalsifier);
+			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer, concurrentFalsifier);
 		} while (!after.equals(before));
 		return after;
 	}
@@ -114,9 +227,10 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ConcurrentFalsifier concurrentFalsifier
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, concurrentFalsifier, cancellation)
 				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
@@ -124,9 +238,11 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ConcurrentFalsifier concurrentFalsifier
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, concurrentFalsifier, cancellation)
+				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
@@ -0,0 +1,62 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Backs byte arrays by a single {@code byte[]}.
+ */
+public class ShrinkableByteArray extends ShrinkablePrimitiveArray<byte[], byte[]> {
+
+	public ShrinkableByteArray(
+		List<Shrinkable<Byte>> elements,
+		int minSize,
+		int maxSize,
+		PrimitiveElementShrinker elementShrinker
+	) {
+		this(toBytes(elements), minSize, maxSize, elementShrinker);
+	}
+
+	private static byte[] toBytes(List<Shrinkable<Byte>> elements) {
+		byte[] bytes = new byte[elements.size()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = elements.get(i).value();
+		}
+		return bytes;
+	}
+
+	private ShrinkableByteArray(byte[] elements, int minSize, int maxSize, PrimitiveElementShrinker elementShrinker) {
+		super(elements, minSize, maxSize, elementShrinker, true);
+	}
+
+	@Override
+	int length(byte[] array) {
+		return array.length;
+	}
+
+	@Override
+	long get(byte[] array, int index) {
+		return array[index];
+	}
+
+	@Override
+	void set(byte[] array, int index, long value) {
+		array[index] = (byte) value;
+	}
+
+	@Override
+	byte[] newArray(int length) {
+		return new byte[length];
+	}
+
+	@Override
+	ShrinkableByteArray createShrinkable(byte[] shrunkElements) {
+		return new ShrinkableByteArray(shrunkElements, minSize, maxSize, elementShrinker);
+	}
+
+	@Override
+	byte[] createValue(byte[] elements) {
+		return elements.clone();
+	}
+}
@@ -0,0 +1,82 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Backs strings and char arrays by a single {@code char[]}.
+ */
+public class ShrinkableCharArray<C> extends ShrinkablePrimitiveArray<char[], C> {
+
+	private final Function<char[], C> valueCreator;
+
+	public static ShrinkableCharArray<String> forString(
+		List<Shrinkable<Character>> elements,
+		int minSize,
+		int maxSize,
+		PrimitiveElementShrinker elementShrinker
+	) {
+		return new ShrinkableCharArray<>(toChars(elements), minSize, maxSize, elementShrinker, false, String::new);
+	}
+
+	public static ShrinkableCharArray<char[]> forCharArray(
+		List<Shrinkable<Character>> elements,
+		int minSize,
+		int maxSize,
+		PrimitiveElementShrinker elementShrinker
+	) {
+		return new ShrinkableCharArray<>(toChars(elements), minSize, maxSize, elementShrinker, true, char[]::clone);
+	}
+
+	private static char[] toChars(List<Shrinkable<Character>> elements) {
+		char[] chars = new char[elements.size()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = elements.get(i).value();
+		}
+		return chars;
+	}
+
+	private ShrinkableCharArray(
+		char[] elements,
+		int minSize,
+		int maxSize,
+		PrimitiveElementShrinker elementShrinker,
+		boolean moveValuesTowardsEnd,
+		Function<char[], C> valueCreator
+	) {
+		super(elements, minSize, maxSize, elementShrinker, moveValuesTowardsEnd);
+		this.valueCreator = valueCreator;
+	}
+
+	@Override
+	int length(char[] array) {
+		return array.length;
+	}
+
+	@Override
+	long get(char[] array, int index) {
+		return array[index];
+	}
+
+	@Override
+	void set(char[] array, int index, long value) {
+		array[index] = (char) value;
+	}
+
+	@Override
+	char[] newArray(int length) {
+		return new char[length];
+	}
+
+	@Override
+	ShrinkableCharArray<C> createShrinkable(char[] shrunkElements) {
+		return new ShrinkableCharArray<>(shrunkElements, minSize, maxSize, elementShrinker, moveValuesTowardsEnd, valueCreator);
+	}
+
+	@Override
+	C createValue(char[] elements) {
+		return valueCreator.apply(elements);
+	}
+}
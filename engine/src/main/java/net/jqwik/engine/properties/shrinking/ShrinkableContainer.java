@@ -10,13 +10,16 @@ import net.jqwik.engine.support.*;
 import static net.jqwik.engine.properties.UniquenessChecker.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
-	protected final List<Shrinkable<E>> elements;
+	protected final PersistentList<Shrinkable<E>> elements;
 	protected final int minSize;
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	// Benign race: distance is deterministically computed from immutable elements
+	private volatile ShrinkingDistance distance;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
-		this.elements = elements;
+		this.elements = PersistentList.of(elements);
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.uniquenessExtractors = uniquenessExtractors;
@@ -29,6 +32,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 					   .collect(containerCollector());
 	}
 
+	// Not memoized since containers are mutable
 	@Override
 	public C value() {
 		return createValue(elements);
@@ -63,11 +67,9 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		for (int i = 0; i < elements.size(); i++) {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
-			Stream<Shrinkable<C>> shrinkElement = element.grow().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
-			});
+			Stream<Shrinkable<C>> shrinkElement = element.grow().map(
+				grownElement -> createShrinkable(elements.with(index, grownElement))
+			);
 			growPerElementStreams.add(shrinkElement);
 		}
 		return JqwikStreamSupport.concat(growPerElementStreams);
@@ -110,13 +112,10 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elements.without(index))) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkable(elements.with(index, shrunkElement)));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
 		}
@@ -130,9 +129,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 							   elements.get(pair.get1()).shrink(),
 							   elements.get(pair.get2()).shrink(),
 							   (Shrinkable<E> s1, Shrinkable<E> s2) -> {
-								   List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-								   newElements.set(pair.get1(), s1);
-								   newElements.set(pair.get2(), s2);
+								   List<Shrinkable<E>> newElements = elements.with(pair.get1(), s1, pair.get2(), s2);
 								   if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
 									   return createShrinkable(newElements);
 								   } else {
@@ -149,7 +146,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		ShrinkingDistance memoizedDistance = distance;
+		if (memoizedDistance == null) {
+			memoizedDistance = ShrinkingDistance.forCollection(elements);
+			distance = memoizedDistance;
+		}
+		return memoizedDistance;
 	}
 
 	@Override
@@ -157,7 +159,23 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		ShrinkableContainer<?, ?> that = (ShrinkableContainer<?, ?>) o;
-		return value().equals(that.value());
+		return hasEqualValue(that);
+	}
+
+	/**
+	 * Compares element values one by one instead of building both containers.
+	 * Override if the container's value does not depend on the order of elements.
+	 */
+	protected boolean hasEqualValue(ShrinkableContainer<?, ?> other) {
+		if (elements.size() != other.elements.size()) {
+			return false;
+		}
+		for (int i = 0; i < elements.size(); i++) {
+			if (!Objects.equals(elements.get(i).value(), other.elements.get(i).value())) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
@@ -167,11 +185,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public String toString() {
+		C value = value();
 		return String.format(
 				"%s<%s>(%s:%s)",
 				getClass().getSimpleName(),
-				value().getClass().getSimpleName(),
-				value(), distance()
+				value.getClass().getSimpleName(),
+				value, distance()
 		);
 	}
 
@@ -64,9 +64,7 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
 									   .map(tuple -> {
-										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
-										   pairMove.set(firstIndex, tuple.get1());
-										   pairMove.set(secondIndex, tuple.get2().get());
+										   List<Shrinkable<E>> pairMove = elements.with(firstIndex, tuple.get1(), secondIndex, tuple.get2().get());
 										   return pairMove;
 									   })
 									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
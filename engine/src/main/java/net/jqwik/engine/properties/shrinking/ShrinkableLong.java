@@ -0,0 +1,115 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks like {@linkplain ShrinkableBigInteger} but without
+ * allocating BigIntegers for values within the range of long.
+ *
+ * <p>
+ * Both create the same candidates in the same order as long as the distance to the shrinking target
+ * is smaller than {@code Long.MAX_VALUE}. Beyond that, shrinking distances are capped and candidates
+ * of big integers have no defined order, whereas candidates of longs are still ordered by their real distance.
+ * </p>
+ */
+public class ShrinkableLong extends AbstractValueShrinkable<Long> {
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	public ShrinkableLong(long value, long min, long max, long shrinkingTarget) {
+		super(value);
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	// Growing is rare enough to not need a primitive implementation
+	@Override
+	public Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new BigIntegerGrower().grow(bigValue(), bigRange(), BigInteger.valueOf(shrinkingTarget), before, after)
+									 .map(this::fromBigInteger);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> grow() {
+		return new BigIntegerGrower().grow(bigValue(), bigRange(), BigInteger.valueOf(shrinkingTarget))
+									 .map(this::fromBigInteger);
+	}
+
+	private BigInteger bigValue() {
+		return BigInteger.valueOf(value());
+	}
+
+	private Range<BigInteger> bigRange() {
+		return Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+	}
+
+	private Shrinkable<Long> fromBigInteger(Shrinkable<BigInteger> shrinkable) {
+		return createShrinkable(shrinkable.value().longValueExact());
+	}
+
+	private Stream<Shrinkable<Long>> shrinkNegativeToPositive() {
+		long value = value();
+		// Long.MIN_VALUE cannot be negated
+		if (value >= 0 || value == Long.MIN_VALUE) {
+			return Stream.empty();
+		}
+		long negated = -value;
+		if (!includes(negated)) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(negated));
+	}
+
+	private Stream<Shrinkable<Long>> shrinkTowardsTarget() {
+		return Arrays.stream(new LongShrinker(shrinkingTarget).shrink(value()))
+					 .mapToObj(this::createShrinkable);
+	}
+
+	private Shrinkable<Long> createShrinkable(long aLong) {
+		return new ShrinkableLong(aLong, min, max, shrinkingTarget);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return distanceFor(value(), shrinkingTarget);
+	}
+
+	static ShrinkingDistance distanceFor(long value, long target) {
+		long distance = unsignedDistance(value, target);
+		if (Long.compareUnsigned(distance, Long.MAX_VALUE) >= 0) return ShrinkingDistance.of(Long.MAX_VALUE);
+		return ShrinkingDistance.of(distance);
+	}
+
+	static long unsignedDistance(long value, long target) {
+		return value >= target ? value - target : target - value;
+	}
+
+	private boolean includes(long value) {
+		return value >= min && value <= max;
+	}
+
+	private void checkValueInRange(long value) {
+		if (!includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, bigRange());
+			throw new JqwikException(message);
+		}
+	}
+
+}
@@ -0,0 +1,306 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Container shrinkable that keeps its elements in a primitive array instead of
+ * a list of element shrinkables. It shrinks like {@linkplain ShrinkableString}
+ * or a {@linkplain ShrinkableList} of {@linkplain ShrinkableLong} elements
+ * but all candidates are created by copying arrays without boxing single elements.
+ *
+ * @param <A> the primitive array type, e.g. {@code char[]}
+ * @param <C> the type of the container value
+ */
+public abstract class ShrinkablePrimitiveArray<A, C> implements Shrinkable<C> {
+
+	protected final A elements;
+	protected final int minSize;
+	protected final int maxSize;
+	protected final PrimitiveElementShrinker elementShrinker;
+	protected final boolean moveValuesTowardsEnd;
+
+	// Benign race: distance is deterministically computed from immutable elements
+	private volatile ShrinkingDistance distance;
+
+	protected ShrinkablePrimitiveArray(
+		A elements,
+		int minSize,
+		int maxSize,
+		PrimitiveElementShrinker elementShrinker,
+		boolean moveValuesTowardsEnd
+	) {
+		this.elements = elements;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.elementShrinker = elementShrinker;
+		this.moveValuesTowardsEnd = moveValuesTowardsEnd;
+	}
+
+	abstract int length(A array);
+
+	abstract long get(A array, int index);
+
+	abstract void set(A array, int index, long value);
+
+	abstract A newArray(int length);
+
+	abstract ShrinkablePrimitiveArray<A, C> createShrinkable(A shrunkElements);
+
+	/**
+	 * Must create a new value on each invocation since arrays are mutable.
+	 */
+	abstract C createValue(A elements);
+
+	@Override
+	public C value() {
+		return createValue(elements);
+	}
+
+	private int length() {
+		return length(elements);
+	}
+
+	private long elementAt(int index) {
+		return get(elements, index);
+	}
+
+	@Override
+	public Stream<Shrinkable<C>> shrink() {
+		Stream<Shrinkable<C>> shrinkStream = JqwikStreamSupport.concat(
+			shrinkSizeOfArray(),
+			shrinkElementsOneAfterTheOther(),
+			shrinkPairsOfElements(),
+			sortElements()
+		);
+		if (moveValuesTowardsEnd) {
+			return Stream.concat(shrinkStream, moveIndividualValuesTowardsEnd());
+		}
+		return shrinkStream;
+	}
+
+	private Stream<Shrinkable<C>> shrinkSizeOfArray() {
+		int length = length();
+		if (length <= minSize) {
+			return Stream.empty();
+		}
+		int elementsToCut = new SizeOfListShrinker<>(minSize).calculateElementsToCut(length);
+		List<int[]> cuts = new ArrayList<>();
+		cuts.add(new int[]{0, 0});
+		cuts.add(new int[]{0, length - elementsToCut});
+		cuts.add(new int[]{0, length - 1});
+		cuts.add(new int[]{elementsToCut, length});
+		cuts.add(new int[]{1, length});
+		return cuts.stream()
+				   .filter(cut -> cut[1] - cut[0] >= minSize)
+				   .map(cut -> slice(cut[0], cut[1]))
+				   .distinct()
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Shrinkable<C> slice(int from, int to) {
+		A slice = newArray(to - from);
+		System.arraycopy(elements, from, slice, 0, to - from);
+		return createShrinkable(slice);
+	}
+
+	private Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther() {
+		return IntStream.range(0, length()).boxed().flatMap(
+			index -> Arrays.stream(elementShrinker.shrink(elementAt(index)))
+						   .mapToObj(candidate -> replace(index, candidate))
+		);
+	}
+
+	private Stream<Shrinkable<C>> shrinkPairsOfElements() {
+		return Combinatorics
+				   .distinctPairs(length())
+				   .flatMap(pair -> {
+					   int first = pair.get1();
+					   int second = pair.get2();
+					   long[] firstCandidates = elementShrinker.shrink(elementAt(first));
+					   long[] secondCandidates = elementShrinker.shrink(elementAt(second));
+					   int zipped = Math.min(firstCandidates.length, secondCandidates.length);
+					   return IntStream.range(0, zipped).mapToObj(
+						   i -> replace(first, firstCandidates[i], second, secondCandidates[i])
+					   );
+				   });
+	}
+
+	private Stream<Shrinkable<C>> sortElements() {
+		int length = length();
+		// Sort by distance and keep original order of elements with equal distance
+		long[] distancesAndIndices = new long[length];
+		for (int i = 0; i < length; i++) {
+			distancesAndIndices[i] = (elementShrinker.distance(elementAt(i)) << 32) | i;
+		}
+		Arrays.sort(distancesAndIndices);
+		A sorted = newArray(length);
+		boolean alreadySorted = true;
+		for (int i = 0; i < length; i++) {
+			int index = (int) distancesAndIndices[i];
+			alreadySorted &= index == i;
+			set(sorted, i, elementAt(index));
+		}
+		if (alreadySorted) {
+			return Stream.empty();
+		}
+		return Stream.concat(
+			Stream.of(createShrinkable(sorted)),
+			Combinatorics.distinctPairs(length)
+						 .filter(pair -> compareElements(pair.get1(), pair.get2()) > 0)
+						 .map(pair -> replace(
+							 pair.get1(), elementAt(pair.get2()),
+							 pair.get2(), elementAt(pair.get1())
+						 ))
+		);
+	}
+
+	private Stream<Shrinkable<C>> moveIndividualValuesTowardsEnd() {
+		ShrinkingDistance distance = distance();
+		return Combinatorics
+				   .distinctPairs(length())
+				   .filter(pair -> compareElements(pair.get1(), pair.get2()) <= 0)
+				   .flatMap(pair -> {
+					   int first = pair.get1();
+					   int second = pair.get2();
+					   long firstValue = elementAt(first);
+					   long secondValue = elementAt(second);
+					   return Arrays.stream(elementShrinker.shrink(firstValue))
+									.filter(candidate -> candidate != firstValue)
+									.filter(candidate -> elementShrinker.includes(secondValue + firstValue - candidate))
+									.mapToObj(candidate -> replace(first, candidate, second, secondValue + firstValue - candidate));
+				   })
+				   .filter(s -> s.distance().compareTo(distance) <= 0);
+	}
+
+	/**
+	 * Same order as {@linkplain Shrinkable#compareTo(Shrinkable)} of the corresponding element shrinkables
+	 */
+	private int compareElements(int firstIndex, int secondIndex) {
+		long first = elementAt(firstIndex);
+		long second = elementAt(secondIndex);
+		int comparison = Long.compare(elementShrinker.distance(first), elementShrinker.distance(second));
+		if (comparison == 0) {
+			return Long.compare(first, second);
+		}
+		return comparison;
+	}
+
+	private Shrinkable<C> replace(int index, long value) {
+		A copy = copyOfElements();
+		set(copy, index, value);
+		return createShrinkable(copy);
+	}
+
+	private Shrinkable<C> replace(int firstIndex, long firstValue, int secondIndex, long secondValue) {
+		A copy = copyOfElements();
+		set(copy, firstIndex, firstValue);
+		set(copy, secondIndex, secondValue);
+		return createShrinkable(copy);
+	}
+
+	private A copyOfElements() {
+		A copy = newArray(length());
+		System.arraycopy(elements, 0, copy, 0, length());
+		return copy;
+	}
+
+	@Override
+	public Optional<Shrinkable<C>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof ShrinkablePrimitiveArray && after instanceof ShrinkablePrimitiveArray) {
+			ShrinkablePrimitiveArray<?, ?> beforeArray = (ShrinkablePrimitiveArray<?, ?>) before;
+			ShrinkablePrimitiveArray<?, ?> afterArray = (ShrinkablePrimitiveArray<?, ?>) after;
+			if (beforeArray.elements.getClass() != elements.getClass() || afterArray.elements.getClass() != elements.getClass()) {
+				return Optional.empty();
+			}
+			@SuppressWarnings("unchecked")
+			A beforeElements = (A) beforeArray.elements;
+			@SuppressWarnings("unchecked")
+			A afterElements = (A) afterArray.elements;
+			return growBy(removedElements(beforeElements, afterElements));
+		}
+		return Optional.empty();
+	}
+
+	// Growing is rare enough to not need a primitive implementation
+	private long[] removedElements(A beforeElements, A afterElements) {
+		Set<Long> remaining = new HashSet<>();
+		for (int i = 0; i < length(afterElements); i++) {
+			remaining.add(get(afterElements, i));
+		}
+		LongStream.Builder removed = LongStream.builder();
+		for (int i = 0; i < length(beforeElements); i++) {
+			long element = get(beforeElements, i);
+			if (!remaining.contains(element)) {
+				removed.add(element);
+			}
+		}
+		return removed.build().toArray();
+	}
+
+	private Optional<Shrinkable<C>> growBy(long[] removed) {
+		int length = length();
+		if (length + removed.length > maxSize) {
+			return Optional.empty();
+		}
+		A grown = newArray(length + removed.length);
+		// Removed elements are prepended in reverse order like in ShrinkableContainer
+		for (int i = 0; i < removed.length; i++) {
+			if (!elementShrinker.includes(removed[i])) {
+				return Optional.empty();
+			}
+			set(grown, removed.length - 1 - i, removed[i]);
+		}
+		System.arraycopy(elements, 0, grown, removed.length, length);
+		return Optional.of(createShrinkable(grown));
+	}
+
+	@Override
+	public Stream<Shrinkable<C>> grow() {
+		return IntStream.range(0, length()).boxed().flatMap(
+			index -> Arrays.stream(elementShrinker.grow(elementAt(index)))
+						   .mapToObj(candidate -> replace(index, candidate))
+		);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		ShrinkingDistance memoizedDistance = distance;
+		if (memoizedDistance == null) {
+			long sumOfDistances = 0;
+			for (int i = 0; i < length(); i++) {
+				sumOfDistances += elementShrinker.distance(elementAt(i));
+			}
+			memoizedDistance = ShrinkingDistance.of(length(), sumOfDistances);
+			distance = memoizedDistance;
+		}
+		return memoizedDistance;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkablePrimitiveArray<?, ?> that = (ShrinkablePrimitiveArray<?, ?>) o;
+		return Objects.deepEquals(elements, that.elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.deepHashCode(new Object[]{elements});
+	}
+
+	@Override
+	public String toString() {
+		C value = value();
+		return String.format(
+			"%s<%s>(%s:%s)",
+			getClass().getSimpleName(),
+			value.getClass().getSimpleName(),
+			JqwikStringSupport.displayString(value), distance()
+		);
+	}
+}
@@ -26,6 +26,11 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 		return grownShrinkable.value().size() > elements.size();
 	}
 
+	@Override
+	protected boolean hasEqualValue(ShrinkableContainer<?, ?> other) {
+		return value().equals(other.value());
+	}
+
 	@Override
 	Collector<E, ?, Set<E>> containerCollector() {
 		return Collectors.toSet();
@@ -0,0 +1,26 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.concurrent.*;
+
+/**
+ * Lets shrinking stop between two shrink candidates once bounded shrinking has timed out.
+ * Interruption alone is not reliable since the property method might swallow it.
+ */
+class ShrinkingCancellation {
+
+	private volatile boolean cancelled = false;
+
+	void cancel() {
+		cancelled = true;
+	}
+
+	boolean isCancelled() {
+		return cancelled;
+	}
+
+	void checkNotCancelled() {
+		if (cancelled) {
+			throw new CancellationException("Shrinking has been cancelled");
+		}
+	}
+}
@@ -37,7 +37,8 @@ class ShrinkingCommons {
 		return Stream.of(createContainer.apply(sortedElements));
 	}
 
-	private static <C, E> Stream<Shrinkable<C>> pairwiseSort(List<Shrinkable<E>> elements, ContainerCreator<C, E> createContainer) {
+	private static <C, E> Stream<Shrinkable<C>> pairwiseSort(List<Shrinkable<E>> unsortedElements, ContainerCreator<C, E> createContainer) {
+		PersistentList<Shrinkable<E>> elements = PersistentList.of(unsortedElements);
 		return Combinatorics.distinctPairs(elements.size())
 							.map(pair -> {
 								int firstIndex = Math.min(pair.get1(), pair.get2());
@@ -48,9 +49,10 @@ class ShrinkingCommons {
 							})
 							.filter(quadruple -> quadruple.get2().compareTo(quadruple.get4()) > 0)
 							.map(quadruple -> {
-								List<Shrinkable<E>> pairSwap = new ArrayList<>(elements);
-								pairSwap.set(quadruple.get1(), quadruple.get4());
-								pairSwap.set(quadruple.get3(), quadruple.get2());
+								List<Shrinkable<E>> pairSwap = elements.with(
+									quadruple.get1(), quadruple.get4(),
+									quadruple.get3(), quadruple.get2()
+								);
 								return createContainer.apply(pairSwap);
 							});
 	}
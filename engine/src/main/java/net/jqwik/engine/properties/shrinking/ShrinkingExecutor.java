@@ -0,0 +1,306 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.metrics.*;
+import net.jqwik.engine.facades.*;
+
+/**
+ * Pool of threads on which bounded shrinking takes place.
+ *
+ * <p>
+ * The pool has a fixed maximum number of daemon threads.
+ * All properties configured with the same number of shrinking threads share one pool. Thereby shrinking neither competes
+ * with parallel streams of the code under test on the common fork join pool
+ * nor piles up threads when bounded shrinking of many properties times out.
+ * Idle threads are ended after a while.
+ * </p>
+ *
+ * <p>
+ * Shrinking that ignores cancellation, e.g. because the property method does not react to interruption,
+ * keeps holding its thread. For as long as it does the pool is allowed one more thread
+ * so that other properties can still shrink.
+ * </p>
+ */
+public class ShrinkingExecutor {
+
+	public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+
+	private static final Map<Integer, ShrinkingExecutor> executorsByThreads = new ConcurrentHashMap<>();
+	private static final AtomicInteger poolCounter = new AtomicInteger(0);
+
+	/**
+	 * @param threads a number greater than 0
+	 */
+	public static ShrinkingExecutor withThreads(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of shrinking threads must be greater than 0");
+		}
+		return executorsByThreads.computeIfAbsent(threads, ShrinkingExecutor::new);
+	}
+
+	private final AtomicLong submittedTasks = new AtomicLong();
+	private final AtomicLong cancelledTasks = new AtomicLong();
+	private final AtomicLong busyNanos = new AtomicLong();
+	private final AtomicLong waitingNanos = new AtomicLong();
+	private final AtomicInteger abandonedTasks = new AtomicInteger();
+
+	private final int threads;
+	private final long statisticsStart = System.nanoTime();
+	private ThreadPoolExecutor pool = null;
+
+	ShrinkingExecutor(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * The current test descriptor, domain context and metrics recorder
+	 * of the calling thread are made available to the shrinking thread.
+	 */
+	<T> ShrinkingTask<T> submit(Supplier<T> shrinking) {
+		long submittedAt = System.nanoTime();
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		DomainContext currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+		PropertyMetricsRecorder metrics = PropertyMetricsRecorder.current();
+		submittedTasks.incrementAndGet();
+		ThreadPoolExecutor pool = pool();
+		ShrinkingTask<T> task = new ShrinkingTask<>(pool, () -> {
+			long start = System.nanoTime();
+			waitingNanos.addAndGet(start - submittedAt);
+			DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+			try {
+				Supplier<T> recordedShrinking = () -> PropertyMetricsRecorder.runWithRecorder(metrics, shrinking);
+				if (currentDescriptor == null) {
+					return recordedShrinking.get();
+				}
+				return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, recordedShrinking);
+			} finally {
+				DomainContextFacadeImpl.removeCurrentContext();
+				busyNanos.addAndGet(System.nanoTime() - start);
+			}
+		});
+		pool.execute(task);
+		return task;
+	}
+
+	void recordCancelled() {
+		cancelledTasks.incrementAndGet();
+	}
+
+	// Maximum size must be raised before and lowered after core size
+	private synchronized void addThreadForAbandonedTask(ThreadPoolExecutor pool) {
+		abandonedTasks.incrementAndGet();
+		if (!pool.isShutdown()) {
+			pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+			pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+		}
+	}
+
+	private synchronized void removeThreadForAbandonedTask(ThreadPoolExecutor pool) {
+		abandonedTasks.decrementAndGet();
+		if (!pool.isShutdown()) {
+			pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+			pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+		}
+	}
+
+	private synchronized ThreadPoolExecutor pool() {
+		if (pool == null) {
+			pool = new ThreadPoolExecutor(
+				threads, threads,
+				30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				createThreadFactory()
+			);
+			pool.allowCoreThreadTimeOut(true);
+		}
+		return pool;
+	}
+
+	private static ThreadFactory createThreadFactory() {
+		String namePrefix = String.format("jqwik-bounded-shrinking-%s-", poolCounter.incrementAndGet());
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	public synchronized Statistics statistics() {
+		int activeThreads = pool == null ? 0 : pool.getActiveCount();
+		int queuedTasks = pool == null ? 0 : pool.getQueue().size();
+		return new Statistics(
+			threads,
+			activeThreads,
+			queuedTasks,
+			submittedTasks.get(),
+			cancelledTasks.get(),
+			abandonedTasks.get(),
+			busyNanos.get(),
+			waitingNanos.get(),
+			System.nanoTime() - statisticsStart
+		);
+	}
+
+	/**
+	 * A shrinking task whose timed {@linkplain #get(long, TimeUnit)} only starts counting
+	 * once the task is running, so that waiting for a free thread does not use up its time bound.
+	 */
+	class ShrinkingTask<T> extends FutureTask<T> {
+
+		private final ThreadPoolExecutor pool;
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private boolean running = false;
+		private boolean abandoned = false;
+
+		private ShrinkingTask(ThreadPoolExecutor pool, Callable<T> shrinking) {
+			super(shrinking);
+			this.pool = pool;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				running = true;
+			}
+			started.countDown();
+			try {
+				super.run();
+			} finally {
+				synchronized (this) {
+					running = false;
+					if (abandoned) {
+						removeThreadForAbandonedTask(pool);
+					}
+				}
+			}
+		}
+
+		@Override
+		public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			started.await();
+			return super.get(timeout, unit);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			synchronized (this) {
+				if (cancelled && running && !abandoned) {
+					abandoned = true;
+					addThreadForAbandonedTask(pool);
+				}
+			}
+			started.countDown();
+			return cancelled;
+		}
+	}
+
+	public static class Statistics {
+		private final int threads;
+		private final int activeThreads;
+		private final int queuedTasks;
+		private final long submittedTasks;
+		private final long cancelledTasks;
+		private final int abandonedTasks;
+		private final long busyNanos;
+		private final long waitingNanos;
+		private final long elapsedNanos;
+
+		private Statistics(
+			int threads,
+			int activeThreads,
+			int queuedTasks,
+			long submittedTasks,
+			long cancelledTasks,
+			int abandonedTasks,
+			long busyNanos,
+			long waitingNanos,
+			long elapsedNanos
+		) {
+			this.threads = threads;
+			this.activeThreads = activeThreads;
+			this.queuedTasks = queuedTasks;
+			this.submittedTasks = submittedTasks;
+			this.cancelledTasks = cancelledTasks;
+			this.abandonedTasks = abandonedTasks;
+			this.busyNanos = busyNanos;
+			this.waitingNanos = waitingNanos;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public int threads() {
+			return threads;
+		}
+
+		public int activeThreads() {
+			return activeThreads;
+		}
+
+		public int queuedTasks() {
+			return queuedTasks;
+		}
+
+		public long submittedTasks() {
+			return submittedTasks;
+		}
+
+		/**
+		 * @return number of shrinking tasks that have been stopped because their time bound was reached
+		 */
+		public long cancelledTasks() {
+			return cancelledTasks;
+		}
+
+		/**
+		 * @return number of cancelled shrinking tasks that ignore cancellation and still hold a thread
+		 */
+		public int abandonedTasks() {
+			return abandonedTasks;
+		}
+
+		/**
+		 * @return accumulated time threads of the pool have spent shrinking
+		 */
+		public long busyNanos() {
+			return busyNanos;
+		}
+
+		/**
+		 * @return accumulated time shrinking tasks have waited for a free thread
+		 */
+		public long waitingNanos() {
+			return waitingNanos;
+		}
+
+		/**
+		 * @return ratio of busy time to available thread time since the executor was created
+		 */
+		public double utilisation() {
+			if (elapsedNanos <= 0) {
+				return 0.0;
+			}
+			return (double) busyNanos / ((double) elapsedNanos * threads);
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"ShrinkingExecutor.Statistics(threads=%s, active=%s, queued=%s, submitted=%s, cancelled=%s, abandoned=%s, busy=%sms, waiting=%sms, utilisation=%.2f%%)",
+				threads, activeThreads, queuedTasks, submittedTasks, cancelledTasks, abandonedTasks,
+				TimeUnit.NANOSECONDS.toMillis(busyNanos),
+				TimeUnit.NANOSECONDS.toMillis(waitingNanos),
+				utilisation() * 100
+			);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * The sequence of shrinking steps that lead from a generated sample to a shrunk sample.
+ *
+ * <p>
+ * Shrink candidates are derived deterministically from a sample's shrinkables.
+ * A path can therefore be replayed without executing the property.
+ * </p>
+ */
+public class ShrinkingPath {
+
+	public static final ShrinkingPath EMPTY = new ShrinkingPath(Collections.emptyList());
+
+	/**
+	 * All candidates of shrinking the parameters at {@code parameterIndices} together.
+	 * One index shrinks a single parameter, two indices shrink a pair of parameters in parallel.
+	 */
+	static Stream<List<Shrinkable<Object>>> shrinkCandidates(int[] parameterIndices, List<Shrinkable<Object>> shrinkables) {
+		if (parameterIndices.length == 1) {
+			int index = parameterIndices[0];
+			return shrinkables.get(index).shrink().map(shrinkable -> {
+				List<Shrinkable<Object>> newShrinkables = new ArrayList<>(shrinkables);
+				newShrinkables.set(index, shrinkable);
+				return newShrinkables;
+			});
+		}
+		if (parameterIndices.length == 2) {
+			int index1 = parameterIndices[0];
+			int index2 = parameterIndices[1];
+			Stream<Shrinkable<Object>> shrink1 = shrinkables.get(index1).shrink();
+			Stream<Shrinkable<Object>> shrink2 = shrinkables.get(index2).shrink();
+			return JqwikStreamSupport.zip(shrink1, shrink2, (shrinkable1, shrinkable2) -> {
+				List<Shrinkable<Object>> newShrinkables = new ArrayList<>(shrinkables);
+				newShrinkables.set(index1, shrinkable1);
+				newShrinkables.set(index2, shrinkable2);
+				return newShrinkables;
+			});
+		}
+		throw new IllegalArgumentException("Only one or two parameters can be shrunk together");
+	}
+
+	private final List<Step> steps;
+
+	public ShrinkingPath(List<Step> steps) {
+		this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+	}
+
+	public List<Step> steps() {
+		return steps;
+	}
+
+	public boolean isEmpty() {
+		return steps.isEmpty();
+	}
+
+	public int size() {
+		return steps.size();
+	}
+
+	public ShrinkingPath append(Step step) {
+		List<Step> newSteps = new ArrayList<>(steps);
+		newSteps.add(step);
+		return new ShrinkingPath(newSteps);
+	}
+
+	public ShrinkingPath append(ShrinkingPath path) {
+		List<Step> newSteps = new ArrayList<>(steps);
+		newSteps.addAll(path.steps);
+		return new ShrinkingPath(newSteps);
+	}
+
+	/**
+	 * @param newParameterIndices maps an index to its new index or to -1 if the parameter is gone
+	 * @return the path with changed parameter indices or empty if a step refers to a removed parameter
+	 */
+	public Optional<ShrinkingPath> remapParameters(int[] newParameterIndices) {
+		List<Step> newSteps = new ArrayList<>();
+		for (Step step : steps) {
+			int[] parameterIndices = new int[step.parameterIndices.length];
+			for (int i = 0; i < parameterIndices.length; i++) {
+				int oldIndex = step.parameterIndices[i];
+				if (oldIndex >= newParameterIndices.length || newParameterIndices[oldIndex] < 0) {
+					return Optional.empty();
+				}
+				parameterIndices[i] = newParameterIndices[oldIndex];
+			}
+			newSteps.add(new Step(parameterIndices, step.candidateIndices));
+		}
+		return Optional.of(new ShrinkingPath(newSteps));
+	}
+
+	public ShrinkingPath firstSteps(int count) {
+		return new ShrinkingPath(steps.subList(0, Math.min(count, steps.size())));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkingPath that = (ShrinkingPath) o;
+		return steps.equals(that.steps);
+	}
+
+	@Override
+	public int hashCode() {
+		return steps.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkingPath%s", steps);
+	}
+
+	/**
+	 * A single step from one falsified sample to the next smaller falsified one.
+	 *
+	 * <p>
+	 * The candidate indices point into the stream of shrink candidates that are not
+	 * larger than their shrink base. More than one index is necessary if a candidate
+	 * was invalid and shrinking went on from there.
+	 * </p>
+	 */
+	public static class Step {
+
+		private final int[] parameterIndices;
+		private final int[] candidateIndices;
+
+		public Step(int[] parameterIndices, int[] candidateIndices) {
+			this.parameterIndices = parameterIndices.clone();
+			this.candidateIndices = candidateIndices.clone();
+		}
+
+		public int[] parameterIndices() {
+			return parameterIndices.clone();
+		}
+
+		public int[] candidateIndices() {
+			return candidateIndices.clone();
+		}
+
+		/**
+		 * @return the shrinkables after this step or empty if the shrinkables do not produce
+		 * the recorded candidates, e.g. because an arbitrary has been changed
+		 */
+		public Optional<List<Shrinkable<Object>>> apply(List<Shrinkable<Object>> shrinkables) {
+			if (Arrays.stream(parameterIndices).anyMatch(index -> index >= shrinkables.size())) {
+				return Optional.empty();
+			}
+			List<Shrinkable<Object>> current = shrinkables;
+			for (int candidateIndex : candidateIndices) {
+				ShrinkingDistance currentDistance = ShrinkingDistance.forCollection(current);
+				// Same filter as in AbstractSampleShrinker
+				Optional<List<Shrinkable<Object>>> candidate =
+					shrinkCandidates(parameterIndices, current)
+						.filter(candidateShrinkables -> ShrinkingDistance.forCollection(candidateShrinkables).compareTo(currentDistance) <= 0)
+						.skip(candidateIndex)
+						.findFirst();
+				if (!candidate.isPresent()) {
+					return Optional.empty();
+				}
+				current = candidate.get();
+			}
+			return Optional.of(current);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Step step = (Step) o;
+			return Arrays.equals(parameterIndices, step.parameterIndices) &&
+					   Arrays.equals(candidateIndices, step.candidateIndices);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(parameterIndices) + Arrays.hashCode(candidateIndices);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s->%s", Arrays.toString(parameterIndices), Arrays.toString(candidateIndices));
+		}
+	}
+}
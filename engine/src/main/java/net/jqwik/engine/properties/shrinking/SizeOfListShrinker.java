@@ -23,31 +23,34 @@ public class SizeOfListShrinker<T> {
 	}
 
 	private Stream<List<T>> emptyList() {
-		return Stream.of(new ArrayList<>());
+		return Stream.of(PersistentList.empty());
 	}
 
+	/**
+	 * Cuts are views that share their elements with {@code toShrink}.
+	 * They are only created when the returned stream is consumed.
+	 */
 	public Stream<List<T>> cuts(List<T> toShrink) {
+		return Stream.of(toShrink).flatMap(list -> distinctCuts(PersistentList.of(list)).stream());
+	}
+
+	private Set<List<T>> distinctCuts(PersistentList<T> toShrink) {
+		// A hash set keeps the order of cuts the same as it has always been
 		Set<List<T>> lists = new HashSet<>();
 		appendRightCuts(toShrink, lists);
 		appendLeftCuts(toShrink, lists);
-		return lists.stream();
+		return lists;
 	}
 
-	private void appendLeftCuts(List<T> toShrink, Set<List<T>> lists) {
+	private void appendLeftCuts(PersistentList<T> toShrink, Set<List<T>> lists) {
 		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendLeftCut(toShrink, lists, elementsToCut);
+		lists.add(toShrink.subList(elementsToCut, toShrink.size()));
 		if (elementsToCut != 1) {
-			appendLeftCut(toShrink, lists, 1);
+			lists.add(toShrink.subList(1, toShrink.size()));
 		}
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		List<T> leftCut = new ArrayList<>(toShrink);
-		cutFromLeft(leftCut, elementsToCut);
-		lists.add(leftCut);
-	}
-
-	private int calculateElementsToCut(int listSize) {
+	int calculateElementsToCut(int listSize) {
 		int toCut = rawElementsToCut(listSize);
 		return Math.min(toCut, listSize - minSize);
 	}
@@ -62,31 +65,11 @@ public class SizeOfListShrinker<T> {
 		return listSize / 2;
 	}
 
-	private void cutFromLeft(List<T> leftCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		leftCut.remove(0);
-		cutFromLeft(leftCut, --elementsToCut);
-	}
-
-	private void appendRightCuts(List<T> toShrink, Set<List<T>> lists) {
+	private void appendRightCuts(PersistentList<T> toShrink, Set<List<T>> lists) {
 		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendRightCut(toShrink, lists, elementsToCut);
+		lists.add(toShrink.subList(0, toShrink.size() - elementsToCut));
 		if (elementsToCut != 1) {
-			appendRightCut(toShrink, lists, 1);
+			lists.add(toShrink.subList(0, toShrink.size() - 1));
 		}
 	}
-
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		List<T> rightCut = new ArrayList<>(toShrink);
-		cutFromRight(rightCut, elementsToCut);
-		lists.add(rightCut);
-	}
-
-	private void cutFromRight(List<T> rightCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		rightCut.remove(rightCut.size() - 1);
-		cutFromRight(rightCut, --elementsToCut);
-	}
 }
@@ -51,16 +51,14 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private Stream<Shrinkable<ActionSequence<T>>> shrinkActionsOneAfterTheOther() {
-		List<Shrinkable<Action<T>>> shrinkableActions = actionGenerator.generated();
+		PersistentList<Shrinkable<Action<T>>> shrinkableActions = PersistentList.of(actionGenerator.generated());
 		List<Stream<Shrinkable<ActionSequence<T>>>> shrinkPerElementStreams = new ArrayList<>();
 		for (int i = 0; i < shrinkableActions.size(); i++) {
 			int index = i;
 			Shrinkable<Action<T>> element = shrinkableActions.get(i);
-			Stream<Shrinkable<ActionSequence<T>>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<Action<T>>> actionsCopy = new ArrayList<>(shrinkableActions);
-				actionsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkableActionSequence(actionsCopy));
-			});
+			Stream<Shrinkable<ActionSequence<T>>> shrinkElement = element.shrink().map(
+				shrunkElement -> createShrinkableActionSequence(shrinkableActions.with(index, shrunkElement))
+			);
 			shrinkPerElementStreams.add(shrinkElement);
 		}
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
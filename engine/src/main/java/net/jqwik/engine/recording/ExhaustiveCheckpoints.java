@@ -0,0 +1,62 @@
+package net.jqwik.engine.recording;
+
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Records the progress of exhaustive generation so that an aborted run can be resumed.
+ *
+ * <p>
+ * A checkpoint is recorded as an aborted test run whose {@linkplain GenerationCoordinate#checkpoint(int) checkpoint coordinate}
+ * points to the first try that has not been finished. Only such records are used for resuming.
+ * Since the latest record for a property wins,
+ * a run that is killed leaves its last checkpoint in the database whereas a finished run replaces it.
+ * </p>
+ */
+public class ExhaustiveCheckpoints {
+
+	public static final ExhaustiveCheckpoints DISABLED = new ExhaustiveCheckpoints(TestRunRecorder.NULL, 0);
+
+	private final TestRunRecorder recorder;
+	private final long intervalNanos;
+
+	/**
+	 * @param intervalSeconds The minimum number of seconds between two checkpoints of the same property.
+	 *                        0 disables checkpoints and resuming.
+	 */
+	public ExhaustiveCheckpoints(TestRunRecorder recorder, int intervalSeconds) {
+		if (intervalSeconds < 0) {
+			throw new IllegalArgumentException("Interval of exhaustive checkpoints must not be negative");
+		}
+		this.recorder = recorder;
+		this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+	}
+
+	public boolean isEnabled() {
+		return intervalNanos > 0;
+	}
+
+	/**
+	 * @return Accepts the index of the first try that has not been finished
+	 */
+	public LongConsumer recorderFor(UniqueId uniqueId) {
+		return new LongConsumer() {
+			private long lastCheckpoint = System.nanoTime();
+
+			@Override
+			public void accept(long firstUnfinishedTry) {
+				long now = System.nanoTime();
+				if (now - lastCheckpoint < intervalNanos) {
+					return;
+				}
+				lastCheckpoint = now;
+				GenerationCoordinate checkpoint = GenerationCoordinate.checkpoint(Math.toIntExact(firstUnfinishedTry));
+				recorder.record(new TestRun(uniqueId, Status.ABORTED, null, null, checkpoint));
+			}
+		};
+	}
+}
@@ -0,0 +1,82 @@
+package net.jqwik.engine.recording;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Describes how a falsified sample can be generated again instead of storing its value:
+ * Together with the random seed of the run the index of the falsified try
+ * leads to the original sample. The shrinking path then leads to the shrunk sample.
+ *
+ * <p>
+ * A {@linkplain #checkpoint(int) checkpoint} instead points to the first unfinished try of exhaustive generation.
+ * Checkpoints are only used to resume exhaustive generation and never to replay a falsified sample.
+ * </p>
+ */
+public class GenerationCoordinate {
+
+	private final int tryIndex;
+	private final ShrinkingPath shrinkingPath;
+	private final boolean checkpoint;
+
+	public static GenerationCoordinate checkpoint(int firstUnfinishedTry) {
+		return new GenerationCoordinate(firstUnfinishedTry, ShrinkingPath.EMPTY, true);
+	}
+
+	public GenerationCoordinate(int tryIndex, ShrinkingPath shrinkingPath) {
+		this(tryIndex, shrinkingPath, false);
+	}
+
+	GenerationCoordinate(int tryIndex, ShrinkingPath shrinkingPath, boolean checkpoint) {
+		if (tryIndex < 0) {
+			throw new IllegalArgumentException("Try index must not be negative");
+		}
+		this.tryIndex = tryIndex;
+		this.shrinkingPath = shrinkingPath;
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * @return the zero-based index of the falsified try in the sequence of randomly generated tries
+	 */
+	public int tryIndex() {
+		return tryIndex;
+	}
+
+	public ShrinkingPath shrinkingPath() {
+		return shrinkingPath;
+	}
+
+	/**
+	 * @return true if this coordinate has been recorded by {@linkplain ExhaustiveCheckpoints}
+	 */
+	public boolean isCheckpoint() {
+		return checkpoint;
+	}
+
+	public GenerationCoordinate continueWith(ShrinkingPath furtherShrinking) {
+		return new GenerationCoordinate(tryIndex, shrinkingPath.append(furtherShrinking));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		GenerationCoordinate that = (GenerationCoordinate) o;
+		return tryIndex == that.tryIndex && checkpoint == that.checkpoint && shrinkingPath.equals(that.shrinkingPath);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(tryIndex, shrinkingPath, checkpoint);
+	}
+
+	@Override
+	public String toString() {
+		if (checkpoint) {
+			return String.format("GenerationCoordinate[checkpoint at try %s]", tryIndex);
+		}
+		return String.format("GenerationCoordinate[try %s, %s]", tryIndex, shrinkingPath);
+	}
+}
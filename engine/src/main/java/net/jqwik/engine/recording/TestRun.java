@@ -1,30 +1,62 @@
 package net.jqwik.engine.recording;
 
-import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 
-public class TestRun implements Serializable {
+public class TestRun {
 	private final String uniqueIdString;
-	private final int statusOrdinal;
+	private final Status status;
 	private final String randomSeed;
-	private final List<Object> falsifiedSample;
+	private final Supplier<List<Object>> falsifiedSampleSupplier;
+	private final GenerationCoordinate generationCoordinate;
+
+	private List<Object> falsifiedSample;
+	private boolean falsifiedSampleLoaded;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
-		this.statusOrdinal = status.ordinal();
+		this(uniqueId, status, randomSeed, falsifiedSample, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		GenerationCoordinate generationCoordinate
+	) {
+		this(uniqueId.toString(), status, randomSeed, () -> falsifiedSample, generationCoordinate);
+	}
+
+	/**
+	 * @param falsifiedSampleSupplier Is only called when the sample is actually needed
+	 */
+	TestRun(
+		String uniqueIdString,
+		Status status,
+		String randomSeed,
+		Supplier<List<Object>> falsifiedSampleSupplier,
+		GenerationCoordinate generationCoordinate
+	) {
+		this.uniqueIdString = uniqueIdString;
+		this.status = status;
 		this.randomSeed = randomSeed;
-		this.falsifiedSample = falsifiedSample;
+		this.falsifiedSampleSupplier = falsifiedSampleSupplier;
+		this.generationCoordinate = generationCoordinate;
 	}
 
 	boolean hasUniqueId(UniqueId uniqueId) {
 		return getUniqueId().equals(uniqueId);
 	}
 
+	String uniqueIdString() {
+		return uniqueIdString;
+	}
+
 	public boolean isNotSuccessful() {
 		return getStatus() != Status.SUCCESSFUL;
 	}
@@ -34,24 +66,38 @@ public class TestRun implements Serializable {
 	}
 
 	public Status getStatus() {
-		return Status.values()[statusOrdinal];
+		return status;
 	}
 
 	public Optional<String> randomSeed() {
 		return Optional.ofNullable(randomSeed);
 	}
 
-	public Optional<List<Object>> falsifiedSample() {
+	public synchronized Optional<List<Object>> falsifiedSample() {
+		if (!falsifiedSampleLoaded) {
+			falsifiedSample = falsifiedSampleSupplier.get();
+			falsifiedSampleLoaded = true;
+		}
 		return Optional.ofNullable(falsifiedSample);
 	}
 
+	/**
+	 * Allows to generate the falsified sample again when the sample itself could not be stored.
+	 */
+	public Optional<GenerationCoordinate> generationCoordinate() {
+		return Optional.ofNullable(generationCoordinate);
+	}
+
+	/**
+	 * Only aborted runs can leave a checkpoint of exhaustive generation behind.
+	 */
+	public boolean hasCheckpoint() {
+		return getStatus() == Status.ABORTED && generationCoordinate().map(GenerationCoordinate::isCheckpoint).orElse(false);
+	}
+
 	@Override
 	public String toString() {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
 		return String.format("TestRun[%s:%s%s]", uniqueIdString, getStatus(), randomSeedString);
 	}
-
-	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
-	}
 }
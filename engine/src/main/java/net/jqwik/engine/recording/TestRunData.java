@@ -1,43 +1,73 @@
 package net.jqwik.engine.recording;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
-import net.jqwik.engine.support.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	// Indexed by the string representation of a UniqueId, which is what is stored in the database
+	private final Map<String, Entry> data;
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		this();
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
+		this.data = new LinkedHashMap<>();
 	}
 
+	/**
+	 * A later test run with the same unique id replaces an earlier one.
+	 */
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		add(testRun.uniqueIdString(), testRun.getStatus(), () -> testRun);
+	}
+
+	/**
+	 * @param decoder Is only called when the test run is looked up. It returns {@code null} if the run cannot be decoded.
+	 */
+	void add(String uniqueIdString, Status status, Supplier<TestRun> decoder) {
+		data.remove(uniqueIdString);
+		data.put(uniqueIdString, new Entry(status, decoder));
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			JqwikExceptionSupport.rethrowIfBlacklisted(t);
-			return Optional.empty();
-		}
+		return Optional.ofNullable(data.get(uniqueId.toString())).map(Entry::testRun);
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream()
+				   .filter(entry -> entry.status != Status.SUCCESSFUL)
+				   .map(Entry::testRun)
+				   .filter(Objects::nonNull);
+	}
+
+	int size() {
+		return data.size();
+	}
+
+	private static class Entry {
+		private final Status status;
+		private Supplier<TestRun> decoder;
+		private TestRun testRun;
+
+		private Entry(Status status, Supplier<TestRun> decoder) {
+			this.status = status;
+			this.decoder = decoder;
+		}
+
+		private synchronized TestRun testRun() {
+			if (decoder != null) {
+				testRun = decoder.get();
+				decoder = null;
+			}
+			return testRun;
+		}
 	}
 }
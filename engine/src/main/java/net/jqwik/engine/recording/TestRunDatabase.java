@@ -1,17 +1,44 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
 
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Append-only database of test runs. See {@linkplain TestRunRecordFormat} for the file format.
+ *
+ * <p>
+ * Records of a new run are appended to the records of former runs; the latest record for
+ * a unique id wins. When the number of superseded records gets too large or when damaged records
+ * have been skipped the file is compacted after recording has finished.
+ * </p>
+ *
+ * <p>
+ * Loading only indexes the records by unique id and status.
+ * A record is decoded from the loaded file contents when its test run is looked up.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	static final int MIN_RECORDS_FOR_COMPACTION = 100;
+	static final int COMPACTION_FACTOR = 2;
+
 	private final Path databasePath;
 	private final TestRunData previousRunData;
-	private boolean stopRecording = false;
+	private final Set<String> knownIds = new HashSet<>();
+
+	private boolean hasValidHeader = false;
+	private boolean hasDamagedRecords = false;
+	private long validLength = 0;
+	private int countRecords = 0;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
@@ -19,108 +46,202 @@ public class TestRunDatabase {
 	}
 
 	private TestRunData loadExistingRunData() {
+		TestRunData data = new TestRunData();
 		if (!Files.exists(databasePath)) {
-			return new TestRunData();
+			return data;
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
-		} catch (Exception e) {
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(databasePath);
+		} catch (IOException e) {
 			logReadException(e);
-			deleteDatabase();
-			return new TestRunData();
+			return data;
+		}
+		if (!TestRunRecordFormat.hasValidHeader(bytes)) {
+			LOG.info(() -> String.format("Database [%s] has unknown format and will be replaced", databasePath.toAbsolutePath()));
+			return data;
+		}
+		hasValidHeader = true;
+		validLength = scanIntactRecords(bytes, (offset, length) -> {
+			Tuple2<String, Status> idAndStatus = decodeUniqueIdAndStatus(bytes, offset, length);
+			if (idAndStatus == null) {
+				return;
+			}
+			data.add(idAndStatus.get1(), idAndStatus.get2(), () -> decodeRecord(bytes, offset, length));
+			countRecords++;
+			knownIds.add(idAndStatus.get1());
+		});
+		return data;
+	}
+
+	/**
+	 * Damaged records are skipped by resuming at the next intact record.
+	 * Only damage that is not followed by any intact record is considered a damaged tail.
+	 *
+	 * @return the length of the file without a damaged tail
+	 */
+	private int scanIntactRecords(byte[] bytes, BiConsumer<Integer, Integer> intactRecordConsumer) {
+		int offset = TestRunRecordFormat.HEADER_LENGTH;
+		while (offset < bytes.length) {
+			int length = TestRunRecordFormat.intactRecordLength(bytes, offset);
+			if (length < 0) {
+				int nextOffset = TestRunRecordFormat.nextIntactRecord(bytes, offset + 1);
+				if (nextOffset < 0) {
+					break;
+				}
+				LOG.warning(() -> String.format("Skipping corrupted record in database [%s]", databasePath.toAbsolutePath()));
+				hasDamagedRecords = true;
+				offset = nextOffset;
+				continue;
+			}
+			intactRecordConsumer.accept(offset, length);
+			offset += length;
 		}
+		return offset;
 	}
 
-	private void deleteDatabase() {
+	private Tuple2<String, Status> decodeUniqueIdAndStatus(byte[] bytes, int offset, int length) {
 		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
+			return TestRunRecordFormat.decodeUniqueIdAndStatus(bytes, offset, length);
+		} catch (IOException | RuntimeException e) {
+			logReadException(e);
+			return null;
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
-				break;
-			}
+	private TestRun decodeRecord(byte[] bytes, int offset, int length) {
+		try {
+			return TestRunRecordFormat.decodeRecord(bytes, offset, length);
+		} catch (IOException | RuntimeException e) {
+			logReadException(e);
+			return null;
 		}
-		return testRuns;
 	}
 
-	private void logReadException(Exception eof) {
-		LOG.log(Level.WARNING, eof, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
+	private void logReadException(Exception e) {
+		LOG.log(Level.WARNING, e, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
 	}
 
 	private void logWriteException(Exception e) {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private DataOutputStream createOutputStream() throws IOException {
+		if (!hasValidHeader) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+				databasePath,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE
+			)));
+			TestRunRecordFormat.writeHeader(out);
+			out.flush();
+			validLength = TestRunRecordFormat.HEADER_LENGTH;
+			return out;
+		}
+		FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.WRITE);
+		// Cut off a truncated or garbage tail left by an interrupted run. Damaged records before are removed by compaction.
+		channel.truncate(validLength);
+		channel.position(validLength);
+		return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+	}
+
+	private boolean needsCompaction() {
+		if (hasDamagedRecords) {
+			return true;
+		}
+		return countRecords > MIN_RECORDS_FOR_COMPACTION && countRecords > COMPACTION_FACTOR * knownIds.size();
+	}
+
+	/**
+	 * Keep only the latest intact record per unique id. The compacted database
+	 * is written to a temporary file which then replaces the original one.
+	 */
+	private void compact() {
+		byte[] bytes;
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			bytes = Files.readAllBytes(databasePath);
+		} catch (IOException e) {
+			logReadException(e);
+			return;
+		}
+		if (!TestRunRecordFormat.hasValidHeader(bytes)) {
+			return;
+		}
+		// Offset and length of latest record per unique id
+		Map<String, int[]> latestRecords = new LinkedHashMap<>();
+		scanIntactRecords(bytes, (offset, length) -> {
+			Tuple2<String, Status> idAndStatus = decodeUniqueIdAndStatus(bytes, offset, length);
+			if (idAndStatus == null) {
+				return;
+			}
+			latestRecords.remove(idAndStatus.get1());
+			latestRecords.put(idAndStatus.get1(), new int[]{offset, length});
+		});
+
+		Path compactedPath = databasePath.resolveSibling(databasePath.getFileName() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compactedPath)))) {
+				TestRunRecordFormat.writeHeader(out);
+				for (int[] offsetAndLength : latestRecords.values()) {
+					out.write(bytes, offsetAndLength[0], offsetAndLength[1]);
+				}
+			}
+			replaceDatabase(compactedPath);
+			countRecords = latestRecords.size();
+			hasDamagedRecords = false;
+			validLength = Files.size(databasePath);
 		} catch (IOException e) {
-			stopRecording = true;
 			logWriteException(e);
-			return null;
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private void replaceDatabase(Path compactedPath) throws IOException {
+		try {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+		}
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
+		private final DataOutputStream outputStream;
+		private boolean stopRecording = false;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Recorder(DataOutputStream outputStream) {
+			this.outputStream = outputStream;
 		}
 
 		@Override
-		public void record(TestRun testRun) {
-			record(testRun, false);
-		}
-
-		private void record(TestRun testRun, boolean secondTry) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording)
 				return;
 			try {
-				checkSerializability(testRun);
-				objectOutputStream.writeObject(testRun);
-			} catch (NotSerializableException e) {
-				if (!secondTry) {
-					record(testRun.withoutFalsifiedSample(), true);
-				} else {
-					logWriteException(e);
-				}
+				byte[] rawRecord = TestRunRecordFormat.encodeRecord(testRun);
+				outputStream.write(rawRecord);
+				// Flush each record so that an aborted run leaves at most one partial record
+				outputStream.flush();
+				validLength += rawRecord.length;
+				countRecords++;
+				knownIds.add(testRun.uniqueIdString());
 			} catch (IOException e) {
 				stopRecording = true;
 				logWriteException(e);
 			}
 		}
 
-		private void checkSerializability(TestRun testRun) throws IOException {
-			ObjectOutputStream testStream = new ObjectOutputStream(new ByteArrayOutputStream());
-			testStream.writeObject(testRun);
-		}
-
 		@Override
-		public void close() {
+		public synchronized void close() {
 			try {
-				objectOutputStream.close();
+				outputStream.close();
 			} catch (IOException e) {
 				logWriteException(e);
+				return;
+			}
+			if (needsCompaction()) {
+				compact();
 			}
 		}
 
@@ -131,6 +252,13 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		try {
+			DataOutputStream outputStream = createOutputStream();
+			hasValidHeader = true;
+			return new Recorder(outputStream);
+		} catch (IOException e) {
+			logWriteException(e);
+			return TestRunRecorder.NULL;
+		}
 	}
 }
@@ -0,0 +1,259 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Binary format of the test run database:
+ *
+ * <pre>
+ * file    := MAGIC:int VERSION:int record*
+ * record  := payloadLength:int crc32(payload):int payload
+ * payload := uniqueId:string status:byte seed:string? sample:bytes? coordinate:bytes?
+ *
+ * coordinate := tryIndex:int countSteps:int step* checkpoint:boolean?
+ * step       := countParameters:int parameterIndex:int* countCandidates:int candidateIndex:int*
+ * </pre>
+ *
+ * <p>
+ * Strings and byte arrays are stored with a length prefix; a length of -1 stands for {@code null}.
+ * The sample is stored in Java's serialization format and will only be deserialized on demand.
+ * The {@linkplain GenerationCoordinate generation coordinate} is stored in addition to the sample
+ * since most samples are not serializable. Records without a coordinate field
+ * - written by former versions - are still valid, so are coordinates without a checkpoint flag.
+ * Records are only ever appended. A truncated or corrupted record is detected through its length and
+ * checksum. Reading resumes at the next intact record so that a damaged record in the middle
+ * does not cost any of the records after it.
+ * </p>
+ */
+class TestRunRecordFormat {
+
+	static final int MAGIC = 0x4A514442; // "JQDB"
+	static final int VERSION = 1;
+	static final int HEADER_LENGTH = 8;
+
+	// Guard against reading garbage as length of a huge record
+	private static final int MAX_PAYLOAD_LENGTH = 64 * 1024 * 1024;
+
+	static void writeHeader(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+	}
+
+	static boolean hasValidHeader(byte[] bytes) {
+		if (bytes.length < HEADER_LENGTH) {
+			return false;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION;
+	}
+
+	/**
+	 * Serializes the sample exactly once. If the sample turns out not to be serializable
+	 * the record is stored without it.
+	 */
+	static byte[] encodeRecord(TestRun testRun) throws IOException {
+		byte[] sampleBytes = testRun.falsifiedSample().map(TestRunRecordFormat::serializeSample).orElse(null);
+
+		ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(payloadBytes);
+		writeBytes(payload, testRun.uniqueIdString().getBytes(StandardCharsets.UTF_8));
+		payload.writeByte(testRun.getStatus().ordinal());
+		writeBytes(payload, testRun.randomSeed().map(seed -> seed.getBytes(StandardCharsets.UTF_8)).orElse(null));
+		writeBytes(payload, sampleBytes);
+		writeBytes(payload, testRun.generationCoordinate().map(TestRunRecordFormat::encodeCoordinate).orElse(null));
+		payload.flush();
+		byte[] payloadArray = payloadBytes.toByteArray();
+
+		byte[] rawRecord = new byte[payloadArray.length + 8];
+		ByteBuffer.wrap(rawRecord)
+				  .putInt(payloadArray.length)
+				  .putInt(crc(payloadArray, 0, payloadArray.length))
+				  .put(payloadArray);
+		return rawRecord;
+	}
+
+	private static byte[] serializeSample(List<Object> sample) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(sample);
+			}
+			return bytes.toByteArray();
+		} catch (IOException notSerializable) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the length of the complete and intact record - including length and checksum - that starts at {@code offset}
+	 * or -1 if there is none
+	 */
+	static int intactRecordLength(byte[] bytes, int offset) {
+		if (bytes.length - offset < 8) {
+			return -1;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		int payloadLength = buffer.getInt(offset);
+		if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_LENGTH || payloadLength > bytes.length - offset - 8) {
+			return -1;
+		}
+		int storedCrc = buffer.getInt(offset + 4);
+		return storedCrc == crc(bytes, offset + 8, payloadLength) ? payloadLength + 8 : -1;
+	}
+
+	/**
+	 * @return the offset of the next intact record at or after {@code offset} or -1 if there is none
+	 */
+	static int nextIntactRecord(byte[] bytes, int offset) {
+		for (int candidate = offset; candidate <= bytes.length - 8; candidate++) {
+			if (intactRecordLength(bytes, candidate) > 0) {
+				return candidate;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Decodes only what is needed to index a record without decoding it completely.
+	 */
+	static Tuple2<String, Status> decodeUniqueIdAndStatus(byte[] bytes, int offset, int length) throws IOException {
+		DataInputStream payload = payloadStream(bytes, offset, length);
+		String uniqueId = new String(readBytes(payload), StandardCharsets.UTF_8);
+		Status status = decodeStatus(payload);
+		return Tuple.of(uniqueId, status);
+	}
+
+	/**
+	 * Decodes all fields but the sample, which will be deserialized on first access.
+	 */
+	static TestRun decodeRecord(byte[] bytes, int offset, int length) throws IOException {
+		DataInputStream payload = payloadStream(bytes, offset, length);
+		String uniqueId = new String(readBytes(payload), StandardCharsets.UTF_8);
+		Status status = decodeStatus(payload);
+		byte[] seedBytes = readBytes(payload);
+		String seed = seedBytes == null ? null : new String(seedBytes, StandardCharsets.UTF_8);
+		byte[] sampleBytes = readBytes(payload);
+		GenerationCoordinate coordinate = payload.available() > 0 ? decodeCoordinate(readBytes(payload)) : null;
+		return new TestRun(uniqueId, status, seed, () -> deserializeSample(sampleBytes), coordinate);
+	}
+
+	private static DataInputStream payloadStream(byte[] bytes, int offset, int length) {
+		return new DataInputStream(new ByteArrayInputStream(bytes, offset + 8, length - 8));
+	}
+
+	private static Status decodeStatus(DataInputStream payload) throws IOException {
+		int ordinal = payload.readByte();
+		if (ordinal < 0 || ordinal >= Status.values().length) {
+			throw new IOException("Invalid status: " + ordinal);
+		}
+		return Status.values()[ordinal];
+	}
+
+	private static byte[] encodeCoordinate(GenerationCoordinate coordinate) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(coordinate.tryIndex());
+			List<ShrinkingPath.Step> steps = coordinate.shrinkingPath().steps();
+			out.writeInt(steps.size());
+			for (ShrinkingPath.Step step : steps) {
+				writeInts(out, step.parameterIndices());
+				writeInts(out, step.candidateIndices());
+			}
+			out.writeBoolean(coordinate.isCheckpoint());
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException cannotHappen) {
+			return null;
+		}
+	}
+
+	private static GenerationCoordinate decodeCoordinate(byte[] coordinateBytes) throws IOException {
+		if (coordinateBytes == null) {
+			return null;
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(coordinateBytes));
+		int tryIndex = in.readInt();
+		int countSteps = in.readInt();
+		if (countSteps < 0 || countSteps > in.available() / 8) {
+			throw new IOException("Invalid number of shrinking steps: " + countSteps);
+		}
+		List<ShrinkingPath.Step> steps = new ArrayList<>();
+		for (int i = 0; i < countSteps; i++) {
+			int[] parameterIndices = readInts(in);
+			int[] candidateIndices = readInts(in);
+			steps.add(new ShrinkingPath.Step(parameterIndices, candidateIndices));
+		}
+		boolean checkpoint = in.available() > 0 && in.readBoolean();
+		return new GenerationCoordinate(tryIndex, new ShrinkingPath(steps), checkpoint);
+	}
+
+	private static void writeInts(DataOutputStream out, int[] ints) throws IOException {
+		out.writeInt(ints.length);
+		for (int anInt : ints) {
+			out.writeInt(anInt);
+		}
+	}
+
+	private static int[] readInts(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available() / 4) {
+			throw new IOException("Invalid number of ints: " + length);
+		}
+		int[] ints = new int[length];
+		for (int i = 0; i < length; i++) {
+			ints[i] = in.readInt();
+		}
+		return ints;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> deserializeSample(byte[] sampleBytes) {
+		if (sampleBytes == null) {
+			return null;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(sampleBytes))) {
+			return (List<Object>) in.readObject();
+		} catch (Exception e) {
+			// Classes of a sample may have changed since it was recorded
+			return null;
+		}
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > in.available()) {
+			throw new IOException("Invalid number of bytes: " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private static int crc(byte[] bytes, int offset, int length) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(bytes, offset, length);
+		return (int) crc32.getValue();
+	}
+}
@@ -19,6 +19,24 @@ public class Combinatorics {
 		return new CombinedIterator<>(listOfIterables);
 	}
 
+	/**
+	 * Random access to the combinations of {@linkplain #combine(List)}:
+	 * Splits {@code index} into positions within each of the combined sequences -
+	 * the last sequence changes fastest.
+	 *
+	 * @param index  zero-based index of a combination
+	 * @param counts the number of values of each combined sequence
+	 * @return the position within each sequence
+	 */
+	public static long[] combinationAt(long index, long[] counts) {
+		long[] positions = new long[counts.length];
+		for (int i = counts.length - 1; i >= 0; i--) {
+			positions[i] = index % counts[i];
+			index /= counts[i];
+		}
+		return positions;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Iterator<List<T>> emptyListSingleton() {
 		return asList((List<T>) new ArrayList<>()).iterator();
@@ -0,0 +1,151 @@
+package net.jqwik.engine.support;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
+
+/**
+ * Invokes a method on a fixed target many times.
+ *
+ * <p>
+ * A method handle is bound to the target once so that invocations neither go through
+ * reflective access checks nor need an argument array for up to four parameters.
+ * Exceptions thrown by the method are rethrown unchanged as with
+ * {@linkplain ReflectionSupport#invokeMethod(Method, Object, Object...)}.
+ * If a method handle cannot be created the invoker falls back to reflection.
+ * </p>
+ */
+public abstract class MethodInvoker {
+
+	private static final int MAX_SPECIALIZED_ARITY = 4;
+
+	private static final Map<Class<?>, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+	// Primitive widening conversions that reflection applies to arguments
+	private static final Map<Class<?>, List<Class<?>>> WIDENINGS = new HashMap<>();
+
+	static {
+		PRIMITIVE_TYPES.put(Boolean.class, boolean.class);
+		PRIMITIVE_TYPES.put(Byte.class, byte.class);
+		PRIMITIVE_TYPES.put(Short.class, short.class);
+		PRIMITIVE_TYPES.put(Character.class, char.class);
+		PRIMITIVE_TYPES.put(Integer.class, int.class);
+		PRIMITIVE_TYPES.put(Long.class, long.class);
+		PRIMITIVE_TYPES.put(Float.class, float.class);
+		PRIMITIVE_TYPES.put(Double.class, double.class);
+
+		WIDENINGS.put(byte.class, Arrays.asList(short.class, int.class, long.class, float.class, double.class));
+		WIDENINGS.put(short.class, Arrays.asList(int.class, long.class, float.class, double.class));
+		WIDENINGS.put(char.class, Arrays.asList(int.class, long.class, float.class, double.class));
+		WIDENINGS.put(int.class, Arrays.asList(long.class, float.class, double.class));
+		WIDENINGS.put(long.class, Arrays.asList(float.class, double.class));
+		WIDENINGS.put(float.class, Collections.singletonList(double.class));
+	}
+
+	public static MethodInvoker bind(Method method, Object target) {
+		if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target)) {
+			return new ReflectiveInvoker(method, target);
+		}
+		try {
+			method.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			if (!Modifier.isStatic(method.getModifiers())) {
+				handle = handle.bindTo(target);
+			}
+			return new MethodHandleInvoker(method, handle);
+		} catch (IllegalAccessException | RuntimeException cannotCreateHandle) {
+			return new ReflectiveInvoker(method, target);
+		}
+	}
+
+	protected final Method method;
+
+	private MethodInvoker(Method method) {
+		this.method = method;
+	}
+
+	public abstract Object invoke(List<?> args);
+
+	private static class ReflectiveInvoker extends MethodInvoker {
+
+		private final Object target;
+
+		private ReflectiveInvoker(Method method, Object target) {
+			super(method);
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(List<?> args) {
+			return ReflectionSupport.invokeMethod(method, target, args.toArray());
+		}
+	}
+
+	private static class MethodHandleInvoker extends MethodInvoker {
+
+		private final int arity;
+		// Generic type (Object, ..., Object)Object so that invokeExact() can be used with any arguments
+		private final MethodHandle handle;
+
+		private MethodHandleInvoker(Method method, MethodHandle boundHandle) {
+			super(method);
+			this.arity = method.getParameterCount();
+			MethodHandle genericHandle = boundHandle.asType(MethodType.genericMethodType(arity));
+			if (arity > MAX_SPECIALIZED_ARITY) {
+				genericHandle = genericHandle.asSpreader(Object[].class, arity);
+			}
+			this.handle = genericHandle;
+		}
+
+		@Override
+		public Object invoke(List<?> args) {
+			if (args.size() != arity) {
+				throw new IllegalArgumentException("wrong number of arguments");
+			}
+			try {
+				switch (arity) {
+					case 0:
+						return (Object) handle.invokeExact();
+					case 1:
+						return (Object) handle.invokeExact(args.get(0));
+					case 2:
+						return (Object) handle.invokeExact(args.get(0), args.get(1));
+					case 3:
+						return (Object) handle.invokeExact(args.get(0), args.get(1), args.get(2));
+					case 4:
+						return (Object) handle.invokeExact(args.get(0), args.get(1), args.get(2), args.get(3));
+					default:
+						return (Object) handle.invokeExact(args.toArray());
+				}
+			} catch (ClassCastException | NullPointerException exception) {
+				throw argumentMismatchOr(exception, args);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+
+		// Reflection reports arguments that do not fit the parameter types as IllegalArgumentException
+		private RuntimeException argumentMismatchOr(RuntimeException exception, List<?> args) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			for (int i = 0; i < arity; i++) {
+				if (!fits(args.get(i), parameterTypes[i])) {
+					return new IllegalArgumentException("argument type mismatch");
+				}
+			}
+			return exception;
+		}
+
+		private boolean fits(Object arg, Class<?> parameterType) {
+			if (!parameterType.isPrimitive()) {
+				return arg == null || parameterType.isInstance(arg);
+			}
+			if (arg == null) {
+				return false;
+			}
+			Class<?> primitiveType = PRIMITIVE_TYPES.get(arg.getClass());
+			return primitiveType == parameterType
+					   || WIDENINGS.getOrDefault(primitiveType, Collections.emptyList()).contains(parameterType);
+		}
+	}
+}
@@ -0,0 +1,225 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+/**
+ * Immutable random access list whose modified versions share the underlying
+ * element array with the original list. Replacing elements, removing a single
+ * element and taking a sub list are O(1) as long as only a few modifications
+ * pile up; otherwise the modified list is copied once into a new array.
+ *
+ * <p>
+ * Used to create shrinking candidates of containers without copying all elements
+ * for every single candidate.
+ * </p>
+ */
+public class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+	private static final int MAX_REPLACEMENTS = 16;
+	private static final int NO_REMOVAL = -1;
+	private static final int[] NO_INDICES = new int[0];
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private static final PersistentList<?> EMPTY = new PersistentList<>(NO_ELEMENTS, 0, 0, NO_REMOVAL, NO_INDICES, NO_ELEMENTS);
+
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentList<E> empty() {
+		return (PersistentList<E>) EMPTY;
+	}
+
+	public static <E> PersistentList<E> of(List<E> elements) {
+		if (elements instanceof PersistentList) {
+			return (PersistentList<E>) elements;
+		}
+		Object[] array = elements.toArray();
+		return new PersistentList<>(array, 0, array.length, NO_REMOVAL, NO_INDICES, NO_ELEMENTS);
+	}
+
+	// Never modified after construction and shared between all derived lists
+	private final Object[] base;
+
+	// Window of base array; positions within the window are used as keys of replacements
+	private final int offset;
+	private final int windowSize;
+
+	// Position within window that is left out or NO_REMOVAL
+	private final int removed;
+
+	private final int[] replacedPositions;
+	private final Object[] replacements;
+
+	private PersistentList(
+		Object[] base,
+		int offset,
+		int windowSize,
+		int removed,
+		int[] replacedPositions,
+		Object[] replacements
+	) {
+		this.base = base;
+		this.offset = offset;
+		this.windowSize = windowSize;
+		this.removed = removed;
+		this.replacedPositions = replacedPositions;
+		this.replacements = replacements;
+	}
+
+	@Override
+	public int size() {
+		return removed == NO_REMOVAL ? windowSize : windowSize - 1;
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		return elementAt(position(index));
+	}
+
+	private int position(int index) {
+		if (removed != NO_REMOVAL && index >= removed) {
+			return index + 1;
+		}
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E elementAt(int position) {
+		for (int i = 0; i < replacedPositions.length; i++) {
+			if (replacedPositions[i] == position) {
+				return (E) replacements[i];
+			}
+		}
+		return (E) base[offset + position];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size()));
+		}
+	}
+
+	/**
+	 * @return a list in which the element at {@code index} is replaced by {@code element}
+	 */
+	public PersistentList<E> with(int index, E element) {
+		checkIndex(index);
+		if (replacedPositions.length >= MAX_REPLACEMENTS) {
+			return compacted().with(index, element);
+		}
+		return withReplacements(new int[]{position(index)}, new Object[]{element});
+	}
+
+	/**
+	 * @return a list in which the elements at {@code firstIndex} and {@code secondIndex} are replaced
+	 */
+	public PersistentList<E> with(int firstIndex, E firstElement, int secondIndex, E secondElement) {
+		checkIndex(firstIndex);
+		checkIndex(secondIndex);
+		if (firstIndex == secondIndex) {
+			return with(secondIndex, secondElement);
+		}
+		if (replacedPositions.length + 1 >= MAX_REPLACEMENTS) {
+			return compacted().with(firstIndex, firstElement, secondIndex, secondElement);
+		}
+		return withReplacements(
+			new int[]{position(firstIndex), position(secondIndex)},
+			new Object[]{firstElement, secondElement}
+		);
+	}
+
+	private PersistentList<E> withReplacements(int[] positions, Object[] elements) {
+		int[] newPositions = Arrays.copyOf(replacedPositions, replacedPositions.length + positions.length);
+		Object[] newReplacements = Arrays.copyOf(replacements, replacements.length + elements.length);
+		int count = replacedPositions.length;
+		for (int i = 0; i < positions.length; i++) {
+			int existing = indexOfReplacement(newPositions, count, positions[i]);
+			if (existing >= 0) {
+				newReplacements[existing] = elements[i];
+			} else {
+				newPositions[count] = positions[i];
+				newReplacements[count] = elements[i];
+				count++;
+			}
+		}
+		return new PersistentList<>(
+			base, offset, windowSize, removed,
+			Arrays.copyOf(newPositions, count),
+			Arrays.copyOf(newReplacements, count)
+		);
+	}
+
+	private static int indexOfReplacement(int[] positions, int count, int position) {
+		for (int i = 0; i < count; i++) {
+			if (positions[i] == position) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return a list without the element at {@code index}
+	 */
+	public PersistentList<E> without(int index) {
+		checkIndex(index);
+		if (removed != NO_REMOVAL) {
+			return compacted().without(index);
+		}
+		return new PersistentList<>(base, offset, windowSize, index, replacedPositions, replacements);
+	}
+
+	@Override
+	public PersistentList<E> subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(String.format("From: %s, To: %s, Size: %s", fromIndex, toIndex, size()));
+		}
+		if (fromIndex == toIndex) {
+			return empty();
+		}
+		if (removed != NO_REMOVAL) {
+			return compacted().subList(fromIndex, toIndex);
+		}
+		int count = 0;
+		int[] newPositions = new int[replacedPositions.length];
+		Object[] newReplacements = new Object[replacements.length];
+		for (int i = 0; i < replacedPositions.length; i++) {
+			int position = replacedPositions[i];
+			if (position >= fromIndex && position < toIndex) {
+				newPositions[count] = position - fromIndex;
+				newReplacements[count] = replacements[i];
+				count++;
+			}
+		}
+		return new PersistentList<>(
+			base, offset + fromIndex, toIndex - fromIndex, NO_REMOVAL,
+			Arrays.copyOf(newPositions, count),
+			Arrays.copyOf(newReplacements, count)
+		);
+	}
+
+	private PersistentList<E> compacted() {
+		Object[] array = toArray();
+		return new PersistentList<>(array, 0, array.length, NO_REMOVAL, NO_INDICES, NO_ELEMENTS);
+	}
+
+	@Override
+	public Object[] toArray() {
+		int size = size();
+		Object[] array = new Object[size];
+		if (removed == NO_REMOVAL) {
+			System.arraycopy(base, offset, array, 0, size);
+		} else {
+			System.arraycopy(base, offset, array, 0, removed);
+			System.arraycopy(base, offset + removed + 1, array, removed, size - removed);
+		}
+		for (int i = 0; i < replacedPositions.length; i++) {
+			int position = replacedPositions[i];
+			if (position == removed) {
+				continue;
+			}
+			int index = removed != NO_REMOVAL && position > removed ? position - 1 : position;
+			array[index] = replacements[i];
+		}
+		return array;
+	}
+}
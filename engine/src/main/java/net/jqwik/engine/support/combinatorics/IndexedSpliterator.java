@@ -0,0 +1,63 @@
+package net.jqwik.engine.support.combinatorics;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Traverses the values at a range of indices. Splitting divides the range in halves.
+ */
+public class IndexedSpliterator<T> implements Spliterator<T> {
+
+	private final LongFunction<T> valueAt;
+	private final long end;
+	private long current;
+
+	/**
+	 * @param valueAt Must be safe to call concurrently for different indices
+	 * @param start   First index (inclusive)
+	 * @param end     Last index (exclusive)
+	 */
+	public IndexedSpliterator(LongFunction<T> valueAt, long start, long end) {
+		this.valueAt = valueAt;
+		this.current = start;
+		this.end = end;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (current >= end) {
+			return false;
+		}
+		action.accept(valueAt.apply(current++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		while (current < end) {
+			action.accept(valueAt.apply(current++));
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		long remaining = end - current;
+		if (remaining < 2) {
+			return null;
+		}
+		long middle = current + remaining / 2;
+		IndexedSpliterator<T> firstHalf = new IndexedSpliterator<>(valueAt, current, middle);
+		current = middle;
+		return firstHalf;
+	}
+
+	@Override
+	public long estimateSize() {
+		return end - current;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+	}
+}
@@ -0,0 +1,20 @@
+package examples.packageWithProperties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+public class ContainerWithExhaustiveProperty {
+
+	public static final List<Integer> tried = new CopyOnWriteArrayList<>();
+
+	public static volatile long millisPerTry = 0;
+
+	@Property(generation = GenerationMode.EXHAUSTIVE)
+	void exhaustive(@ForAll @IntRange(min = 0, max = 9) int anInt) throws InterruptedException {
+		tried.add(anInt);
+		Thread.sleep(millisPerTry);
+	}
+}
@@ -4,6 +4,7 @@ import java.math.*;
 import java.util.ArrayList;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import static java.math.RoundingMode.*;
 import static java.util.Arrays.*;
@@ -859,6 +860,69 @@ class ExhaustiveGenerationTests {
 
 	}
 
+	@Group
+	@Label("ExhaustiveGenerator.get(index)")
+	class IndexedAccess {
+
+		@Example
+		void getValueAtIndex() {
+			ExhaustiveGenerator<Integer> generator = Arbitraries.integers().between(-5, 5).exhaustive().get();
+
+			assertThat(generator.isIndexed()).isTrue();
+			assertThat(generator.get(0)).isEqualTo(-5);
+			assertThat(generator.get(10)).isEqualTo(5);
+			assertThatThrownBy(() -> generator.get(11)).isInstanceOf(NoSuchElementException.class);
+		}
+
+		@Example
+		void indexedAccessHasSameOrderAsIteration() {
+			Arbitrary<List<String>> lists = Arbitraries.of("a", "b", "c").injectNull(0.1).list().ofMaxSize(3);
+			Arbitrary<String> combined = Combinators.combine(lists, Arbitraries.chars().range('x', 'z'))
+													.as((list, c) -> list.toString() + c);
+			ExhaustiveGenerator<String> generator = combined.exhaustive().get();
+			assertThat(generator.isIndexed()).isTrue();
+
+			List<String> values = new ArrayList<>();
+			for (long index = 0; index < generator.maxCount(); index++) {
+				values.add(generator.get(index));
+			}
+			assertThat(values).containsExactlyElementsOf(generator);
+		}
+
+		@Example
+		void flatMappedGeneratorIsIndexed() {
+			ExhaustiveGenerator<String> generator =
+				Arbitraries.integers().between(1, 3)
+						   .flatMap(i -> Arbitraries.strings().withChars('a').ofLength(i))
+						   .exhaustive().get();
+
+			assertThat(generator.isIndexed()).isTrue();
+			assertThat(generator.get(2)).isEqualTo("aaa");
+		}
+
+		@Example
+		void filteredGeneratorIsNotIndexedButCanBeAccessedByIndex() {
+			ExhaustiveGenerator<Integer> generator =
+				Arbitraries.integers().between(1, 10).filter(i -> i % 2 == 0).exhaustive().get();
+
+			assertThat(generator.isIndexed()).isFalse();
+			assertThat(generator.get(1)).isEqualTo(4);
+			assertThatThrownBy(() -> generator.get(5)).isInstanceOf(NoSuchElementException.class);
+		}
+
+		@Example
+		void parallelStreamOfValuesSplitsIndices() {
+			ExhaustiveGenerator<Integer> generator = Arbitraries.integers().between(1, 1000).exhaustive().get();
+
+			Spliterator<Integer> spliterator = generator.spliterator();
+			assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+			assertThat(spliterator.trySplit()).isNotNull();
+
+			List<Integer> values = StreamSupport.stream(generator.spliterator(), true).collect(Collectors.toList());
+			assertThat(values).containsExactlyElementsOf(generator);
+		}
+	}
+
 	static class AdditionBuilder {
 
 		private final List<Integer> numbers = new ArrayList<>();
@@ -1,21 +1,31 @@
 package net.jqwik.engine;
 
+import java.io.*;
+import java.lang.reflect.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 
 import examples.packageWithDisabledTests.*;
 import examples.packageWithErrors.*;
 import examples.packageWithFailings.*;
+import examples.packageWithProperties.*;
 import examples.packageWithSeveralContainers.*;
 import examples.packageWithSingleContainer.*;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.*;
+import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.discovery.*;
 import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
@@ -29,6 +39,15 @@ import static org.junit.platform.testkit.engine.EventType.*;
 class JqwikIntegrationTests {
 
 	private JqwikConfiguration configuration(final boolean useJunitPlatformReporter) {
+		return configuration(useJunitPlatformReporter, new TestRunData(), TestRunRecorder.NULL, 0);
+	}
+
+	private JqwikConfiguration configuration(
+		final boolean useJunitPlatformReporter,
+		final TestRunData previousRun,
+		final TestRunRecorder recorder,
+		final int exhaustiveCheckpointSeconds
+	) {
 		return new JqwikConfiguration() {
 			@Override
 			public PropertyAttributesDefaults propertyDefaultValues() {
@@ -40,13 +59,12 @@ class JqwikIntegrationTests {
 				return new TestEngineConfiguration() {
 					@Override
 					public TestRunRecorder recorder() {
-						return testRun -> {
-						};
+						return recorder;
 					}
 
 					@Override
 					public TestRunData previousRun() {
-						return new TestRunData();
+						return previousRun;
 					}
 
 					@Override
@@ -66,6 +84,26 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public boolean reportEngineStatistics() {
+				return false;
+			}
+
+			@Override
+			public ReportingLimits reportingLimits() {
+				return ReportingLimits.DEFAULT;
+			}
+
+			@Override
+			public int exhaustiveCheckpointSeconds() {
+				return exhaustiveCheckpointSeconds;
+			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
 		};
 	}
 
@@ -77,6 +115,10 @@ class JqwikIntegrationTests {
 		return createTestEngine(false);
 	}
 
+	private JqwikTestEngine createTestEngine(TestRunData previousRun, TestRunRecorder recorder, int exhaustiveCheckpointSeconds) {
+		return new JqwikTestEngine(unusedConfigurationProperties -> configuration(false, previousRun, recorder, exhaustiveCheckpointSeconds));
+	}
+
 	@Example
 	@SuppressLogging
 	void runTestsFromRootDir() {
@@ -272,6 +314,105 @@ class JqwikIntegrationTests {
 		).isInstanceOf(OutOfMemoryError.class);
 	}
 
+	@Example
+	void exhaustiveCheckpointsAreThrottledAndCanBeReadBack() throws IOException {
+		Path databasePath = createDatabasePath();
+		ContainerWithExhaustiveProperty.millisPerTry = 150;
+		try {
+			List<TestRun> recorded = new CopyOnWriteArrayList<>();
+			TestRunDatabase database = new TestRunDatabase(databasePath);
+			try (TestRunRecorder databaseRecorder = database.recorder()) {
+				// Only checkpoints reach the database as if the run had been killed before finishing
+				TestRunRecorder recorder = testRun -> {
+					recorded.add(testRun);
+					if (testRun.hasCheckpoint()) {
+						databaseRecorder.record(testRun);
+					}
+				};
+				executeExhaustiveProperty(createTestEngine(database.previousRun(), recorder, 1));
+			}
+			Assertions.assertThat(ContainerWithExhaustiveProperty.tried).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+			List<TestRun> propertyRecords = recorded.stream()
+													.filter(testRun -> testRun.getUniqueId().equals(exhaustivePropertyId()))
+													.collect(Collectors.toList());
+			TestRun lastRecord = propertyRecords.get(propertyRecords.size() - 1);
+			Assertions.assertThat(lastRecord.getStatus()).isEqualTo(PropertyExecutionResult.Status.SUCCESSFUL);
+
+			// 10 tries of 150 ms with at most one checkpoint per second
+			List<TestRun> checkpoints = propertyRecords.stream().filter(TestRun::hasCheckpoint).collect(Collectors.toList());
+			Assertions.assertThat(checkpoints.size()).isBetween(1, 2);
+
+			TestRun lastCheckpoint = checkpoints.get(checkpoints.size() - 1);
+			TestRun readBack = new TestRunDatabase(databasePath).previousRun().byUniqueId(exhaustivePropertyId()).get();
+			Assertions.assertThat(readBack.hasCheckpoint()).isTrue();
+			Assertions.assertThat(readBack.generationCoordinate()).isEqualTo(lastCheckpoint.generationCoordinate());
+		} finally {
+			ContainerWithExhaustiveProperty.millisPerTry = 0;
+			Files.deleteIfExists(databasePath);
+		}
+	}
+
+	@Example
+	void exhaustiveGenerationIsResumedAtCheckpointFromDatabase() throws IOException {
+		GenerationCoordinate checkpoint = GenerationCoordinate.checkpoint(6);
+		executeExhaustivePropertyAfter(
+			new TestRun(exhaustivePropertyId(), PropertyExecutionResult.Status.ABORTED, null, null, checkpoint)
+		);
+
+		Assertions.assertThat(ContainerWithExhaustiveProperty.tried).containsExactly(6, 7, 8, 9);
+	}
+
+	@Example
+	void coordinateOfFalsifiedSampleIsNotUsedForResuming() throws IOException {
+		GenerationCoordinate coordinate = new GenerationCoordinate(6, ShrinkingPath.EMPTY);
+		executeExhaustivePropertyAfter(
+			new TestRun(exhaustivePropertyId(), PropertyExecutionResult.Status.FAILED, "42", null, coordinate)
+		);
+
+		Assertions.assertThat(ContainerWithExhaustiveProperty.tried).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+	}
+
+	private void executeExhaustivePropertyAfter(TestRun previousRun) throws IOException {
+		Path databasePath = createDatabasePath();
+		try {
+			try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+				recorder.record(previousRun);
+			}
+			TestRunDatabase database = new TestRunDatabase(databasePath);
+			try (TestRunRecorder recorder = database.recorder()) {
+				executeExhaustiveProperty(createTestEngine(database.previousRun(), recorder, 1));
+			}
+		} finally {
+			Files.deleteIfExists(databasePath);
+		}
+	}
+
+	private void executeExhaustiveProperty(JqwikTestEngine engine) {
+		ContainerWithExhaustiveProperty.tried.clear();
+		EngineTestKit
+			.engine(engine)
+			.selectors(selectClass(ContainerWithExhaustiveProperty.class))
+			.execute()
+			.testEvents()
+			.assertStatistics(stats -> stats.succeeded(1));
+	}
+
+	private Path createDatabasePath() throws IOException {
+		Path databasePath = Files.createTempFile("jqwik-database", ".tmp");
+		Files.delete(databasePath);
+		return databasePath;
+	}
+
+	private UniqueId exhaustivePropertyId() {
+		UniqueId containerId = JqwikUniqueIDs.appendContainer(
+			UniqueId.forEngine(JqwikTestEngine.ENGINE_ID),
+			ContainerWithExhaustiveProperty.class
+		);
+		Method method = ReflectionSupport.findMethod(ContainerWithExhaustiveProperty.class, "exhaustive", int.class).get();
+		return JqwikUniqueIDs.appendProperty(containerId, method);
+	}
+
 	private Condition<Event> reported(String key) {
 		Condition<ReportEntry> condition = new Condition<ReportEntry>() {
 			@Override
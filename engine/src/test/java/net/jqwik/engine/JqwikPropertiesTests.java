@@ -50,5 +50,14 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultShrinking()).isEqualTo(ShrinkingMode.BOUNDED);
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
+
+		assertThat(properties.defaultTriesParallelism()).isEqualTo(1);
+		assertThat(properties.defaultShrinkingParallelism()).isEqualTo(1);
+		assertThat(properties.shrinkingThreads()).isEqualTo(0);
+		assertThat(properties.shrinkingCacheSize()).isEqualTo(1000);
+		assertThat(properties.defaultTryTimeout()).isEqualTo(0);
+		assertThat(properties.defaultTimeout()).isEqualTo(0);
+		assertThat(properties.parallelExecution()).isFalse();
+		assertThat(properties.executionParallelism()).isEqualTo(0);
 	}
 }
@@ -108,6 +108,7 @@ public class TestDescriptorBuilder {
 						attributes,
 						TestHelper.propertyAttributesDefaults(),
 						null,
+						null,
 						null
 					);
 
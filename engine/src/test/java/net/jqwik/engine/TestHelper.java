@@ -22,11 +22,17 @@ public class TestHelper {
 
 	public static final int DEFAULT_TRIES = 1000;
 	public static final int BOUNDED_SHRINKING_SECONDS = 10;
+	public static final int SHRINKING_CACHE_SIZE = 1000;
+	public static final int SHRINKING_THREADS = 2;
 	public static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	public static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	public static final GenerationMode DEFAULT_GENERATION = GenerationMode.AUTO;
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
+	public static final int DEFAULT_PARALLELISM = 1;
+	public static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	public static final int DEFAULT_TRY_TIMEOUT = 0;
+	public static final int DEFAULT_TIMEOUT = 0;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
 		return PropertyAttributesDefaults.with(
@@ -36,7 +42,13 @@ public class TestHelper {
 			DEFAULT_GENERATION,
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
-			BOUNDED_SHRINKING_SECONDS
+			BOUNDED_SHRINKING_SECONDS,
+			SHRINKING_CACHE_SIZE,
+			SHRINKING_THREADS,
+			DEFAULT_PARALLELISM,
+			DEFAULT_SHRINKING_PARALLELISM,
+			DEFAULT_TRY_TIMEOUT,
+			DEFAULT_TIMEOUT
 		);
 	}
 
@@ -51,7 +63,7 @@ public class TestHelper {
 		return new DefaultPropertyLifecycleContext(
 			methodDescriptor,
 			instance,
-			new DefaultReporter((key, value) -> {}, methodDescriptor),
+			new DefaultReporter((key, value) -> {}, methodDescriptor, ReportingLimits.DEFAULT),
 			ResolveParameterHook.DO_NOT_RESOLVE
 		);
 	}
@@ -81,13 +93,17 @@ public class TestHelper {
 			null,
 			null,
 			null,
-			seed
+			seed,
+			null,
+			null,
+			null,
+			null
 		);
 
 		PropertyConfiguration propertyConfig = new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults(),
-			null, null, seed,
+			null, null, null, seed,
 			tries,
 			GenerationMode.AUTO
 		);
@@ -129,6 +145,11 @@ public class TestHelper {
 			public SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor) {
 				return descriptor -> SkipExecutionHook.SkipResult.doNotSkip();
 			}
+
+			@Override
+			public PropertyMetricsHook propertyMetricsHook(PropertyMethodDescriptor propertyMethodDescriptor) {
+				return PropertyMetricsHook.DO_NOTHING;
+			}
 		};
 	}
 
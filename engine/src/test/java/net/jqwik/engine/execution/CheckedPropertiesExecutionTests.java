@@ -10,6 +10,8 @@ import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.recording.*;
 
 import static org.mockito.Mockito.*;
 
@@ -95,7 +97,7 @@ class CheckedPropertiesExecutionTests {
 
 	private void executeTests(PropertyMethodDescriptor propertyMethodDescriptor) {
 		MockPipeline pipeline = new MockPipeline();
-		ExecutionTask task = executor.createTask(propertyMethodDescriptor, TestHelper.emptyLifecycleSupplier(), false);
+		ExecutionTask task = executor.createTask(propertyMethodDescriptor, TestHelper.emptyLifecycleSupplier(), false, ReportingLimits.DEFAULT, ExhaustiveCheckpoints.DISABLED);
 		pipeline.submit(task);
 		pipeline.runWith(eventRecorder);
 	}
@@ -8,6 +8,7 @@ import org.mockito.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -124,7 +125,7 @@ class ContainerExecutionTests {
 	}
 
 	private void executeTests(TestDescriptor engineDescriptor) {
-		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false).execute(engineDescriptor, eventRecorder);
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, ReportingLimits.DEFAULT, 0, 1).execute(engineDescriptor, eventRecorder);
 	}
 
 	private static class ContainerClass {
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
@@ -9,15 +10,18 @@ import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.testing.*;
 
+import static org.assertj.core.api.Assertions.*;
+
 import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
 
 @SuppressLogging
 public class JqwikExecutorTests {
 
 	private Set<UniqueId> previouslyFailedTests = new HashSet<>();
-	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false);
+	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, ReportingLimits.DEFAULT, 0, 1);
 
 	@Example
 	void previouslyFailedTestsAreRunFirst() {
@@ -35,6 +39,55 @@ public class JqwikExecutorTests {
 		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
 	}
 
+	@Example
+	void propertiesOfSequentialContainerAreNotExecutedConcurrently() {
+		TestDescriptor descriptor =
+			TestDescriptorBuilder.forEngine(new JqwikTestEngine())
+								 .with(TestDescriptorBuilder.forClass(SequentialContainer.class, "test1", "test2", "test3", "test4"))
+								 .build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+		JqwikExecutor parallelExecutor =
+			new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, ReportingLimits.DEFAULT, 0, 4);
+
+		parallelExecutor.execute(descriptor, listener);
+
+		assertThat(SequentialContainer.countExecuted.get()).isEqualTo(4);
+		assertThat(SequentialContainer.maxRunning.get()).isEqualTo(1);
+	}
+
+	@Example
+	void childrenOfNestedContainersFinishBeforeTheirParents() {
+		TestDescriptor descriptor =
+			TestDescriptorBuilder.forEngine(new JqwikTestEngine())
+								 .with(
+									 TestDescriptorBuilder.forClass(TestContainer.class, "test1")
+														  .with(TestDescriptorBuilder.forClass(NestedSlowContainer.class, "slow1", "slow2"))
+														  .with(TestDescriptorBuilder.forClass(OtherNestedSlowContainer.class, "slow3")),
+									 TestDescriptorBuilder.forClass(SlowContainer.class, "slow1", "slow2", "slow3")
+								 )
+								 .build();
+		List<TestDescriptor> finished = Collections.synchronizedList(new ArrayList<>());
+		EngineExecutionListener listener = new EngineExecutionListener() {
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+				finished.add(testDescriptor);
+			}
+		};
+		JqwikExecutor parallelExecutor =
+			new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, ReportingLimits.DEFAULT, 0, 4);
+
+		parallelExecutor.execute(descriptor, listener);
+
+		assertThat(finished).hasSize(12);
+		for (TestDescriptor child : finished) {
+			child.getParent().filter(finished::contains).ifPresent(parent -> {
+				assertThat(finished.indexOf(child))
+					.describedAs("%s must finish before %s", child.getUniqueId(), parent.getUniqueId())
+					.isLessThan(finished.indexOf(parent));
+			});
+		}
+	}
+
 	private UniqueId testId(TestDescriptor descriptor, String value) {
 		return descriptor.getUniqueId().append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, value);
 	}
@@ -49,4 +102,54 @@ public class JqwikExecutorTests {
 		@Property void test3() {
 		}
 	}
+
+	private static class SlowContainer {
+		@Example void slow1() throws InterruptedException {
+			Thread.sleep(20);
+		}
+
+		@Example void slow2() throws InterruptedException {
+			Thread.sleep(20);
+		}
+
+		@Example void slow3() throws InterruptedException {
+			Thread.sleep(20);
+		}
+	}
+
+	private static class NestedSlowContainer extends SlowContainer {
+	}
+
+	private static class OtherNestedSlowContainer extends SlowContainer {
+	}
+
+	@ExecuteSequentially
+	private static class SequentialContainer {
+		static final AtomicInteger running = new AtomicInteger(0);
+		static final AtomicInteger maxRunning = new AtomicInteger(0);
+		static final AtomicInteger countExecuted = new AtomicInteger(0);
+
+		@Example void test1() throws InterruptedException {
+			run();
+		}
+
+		@Example void test2() throws InterruptedException {
+			run();
+		}
+
+		@Example void test3() throws InterruptedException {
+			run();
+		}
+
+		@Example void test4() throws InterruptedException {
+			run();
+		}
+
+		private void run() throws InterruptedException {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			running.decrementAndGet();
+			countExecuted.incrementAndGet();
+		}
+	}
 }
@@ -0,0 +1,191 @@
+package net.jqwik.engine.execution;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.platform.engine.*;
+import org.mockito.*;
+
+import net.jqwik.*;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ParallelExecutionPipelineTests {
+
+	private final PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+	private final ParallelExecutionPipeline pipeline = new ParallelExecutionPipeline(listener, 4);
+
+	@Example
+	void withNoTasksPipelineTerminatesAtOnce() {
+		pipeline.runToTermination();
+	}
+
+	@Property(tries = 10)
+	void allTasksAreExecuted(@ForAll("taskList") @Size(max = 50) List<ExecutionTask> tasks) {
+		tasks.forEach(t -> pipeline.submit(t));
+		pipeline.runToTermination();
+		tasks.forEach(t -> verify(listener).executionStarted((MockExecutionTask) t));
+	}
+
+	@Provide
+	Arbitrary<List<ExecutionTask>> taskList() {
+		return OrderedArbitraryForTesting.between(1, 100)
+										 .map(i -> (ExecutionTask) new MockExecutionTask(Integer.toString(i)))
+										 .list()
+										 .uniqueElements();
+	}
+
+	@Example
+	void independentTasksAreExecutedConcurrently() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		ExecutionTask task1 = waitingTask("1", bothStarted);
+		ExecutionTask task2 = waitingTask("2", bothStarted);
+		pipeline.submit(task1);
+		pipeline.submit(task2);
+
+		pipeline.runToTermination();
+
+		assertThat(bothStarted.getCount()).isEqualTo(0);
+	}
+
+	private ExecutionTask waitingTask(String name, CountDownLatch bothStarted) {
+		return new MockExecutionTask(name) {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				bothStarted.countDown();
+				try {
+					if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+						return TaskExecutionResult.failure(new AssertionError("Tasks did not run concurrently"));
+					}
+				} catch (InterruptedException e) {
+					return TaskExecutionResult.failure(e);
+				}
+				return TaskExecutionResult.success();
+			}
+		};
+	}
+
+	@Example
+	void tasksAreNotStartedBeforeTheirPredecessorsHaveFinished() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		pipeline.submit(task3, task2);
+		pipeline.submit(task2, task1);
+		pipeline.submit(task1);
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task3);
+	}
+
+	@Example
+	void failedPredecessorResultIsHandedToSuccessor() {
+		RuntimeException failure = new RuntimeException("failed");
+		MockExecutionTask failingTask = new MockExecutionTask("failing") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				return TaskExecutionResult.failure(failure);
+			}
+		};
+		List<TaskExecutionResult> handedResults = new CopyOnWriteArrayList<>();
+		MockExecutionTask successor = new MockExecutionTask("successor") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				handedResults.add(predecessorResult);
+				return TaskExecutionResult.success();
+			}
+		};
+		pipeline.submit(new MockExecutionTask("other"));
+		pipeline.submit(failingTask);
+		pipeline.submit(successor, failingTask);
+		pipeline.runToTermination();
+
+		assertThat(handedResults).hasSize(1);
+		assertThat(handedResults.get(0).successful()).isFalse();
+		assertThat(handedResults.get(0).throwable()).hasValue(failure);
+	}
+
+	@Example
+	void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+	}
+
+	@Example
+	void executeFirstAlsoMovesUnfinishedPredecessorsToFront() {
+		ParallelExecutionPipeline sequentialPipeline = new ParallelExecutionPipeline(listener, 1);
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		sequentialPipeline.submit(task1);
+		sequentialPipeline.submit(task2);
+		sequentialPipeline.submit(task3, task2);
+		sequentialPipeline.executeFirst(task3);
+		sequentialPipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task2);
+		events.verify(listener).executionStarted(task1);
+	}
+
+	@Example
+	void unexpectedExceptionInTaskIsRethrown() {
+		MockExecutionTask throwingTask = new MockExecutionTask("throwing") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				throw new IllegalStateException("unexpected");
+			}
+		};
+		pipeline.submit(throwingTask);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Example
+	void unexpectedExceptionIsRethrownAfterRunningTasksHaveFinished() {
+		CountDownLatch slowTaskStarted = new CountDownLatch(1);
+		AtomicBoolean slowTaskFinished = new AtomicBoolean(false);
+		MockExecutionTask slowTask = new MockExecutionTask("slow") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				slowTaskStarted.countDown();
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					return TaskExecutionResult.failure(e);
+				}
+				slowTaskFinished.set(true);
+				return TaskExecutionResult.success();
+			}
+		};
+		MockExecutionTask throwingTask = new MockExecutionTask("throwing") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				try {
+					slowTaskStarted.await();
+				} catch (InterruptedException ignore) {
+				}
+				throw new IllegalStateException("unexpected");
+			}
+		};
+		MockExecutionTask notStarted = new MockExecutionTask("not started");
+		pipeline.submit(slowTask);
+		pipeline.submit(throwingTask);
+		pipeline.submit(notStarted, throwingTask);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(IllegalStateException.class);
+		assertThat(slowTaskFinished.get()).isTrue();
+		verify(listener, never()).executionStarted(notStarted);
+	}
+}
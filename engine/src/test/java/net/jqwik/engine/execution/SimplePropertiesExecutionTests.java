@@ -9,6 +9,8 @@ import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.hooks.lifecycle.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -116,7 +118,7 @@ class SimplePropertiesExecutionTests {
 	private void executeTests(PropertyMethodDescriptor propertyMethodDescriptor) {
 		MockPipeline pipeline = new MockPipeline();
 		LifecycleHooksSupplier lifecycleSupplier = TestHelper.lifecycleSupplier(Arrays.asList(new AutoCloseableHook()));
-		ExecutionTask task = executor.createTask(propertyMethodDescriptor, lifecycleSupplier, false);
+		ExecutionTask task = executor.createTask(propertyMethodDescriptor, lifecycleSupplier, false, ReportingLimits.DEFAULT, ExhaustiveCheckpoints.DISABLED);
 		pipeline.submit(task);
 		pipeline.runWith(eventRecorder);
 	}
@@ -60,6 +60,40 @@ class LifecycleRegistryTests {
 		assertThat(RememberCurrentDescriptorHook.currentDescriptor).isSameAs(container1);
 	}
 
+	@Example
+	void hookRegisteredAfterLookupIsFound() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		assertThat(registry.hasHook(container1, GlobalHook.class)).isFalse();
+
+		registry.registerLifecycleHook(container1, GlobalHook.class, NO_DESCENDANTS);
+
+		assertThat(registry.hasHook(container1, GlobalHook.class)).isTrue();
+	}
+
+	@Example
+	void noOpHooksAreLeftOutOfHookChains() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		registry.registerLifecycleHook(container1, NoOpForMethod1_1Hook.class, ALL_DESCENDANTS);
+
+		for (TestDescriptor method : container1.getChildren()) {
+			boolean isNoOp = NoOpForMethod1_1Hook.isMethod1_1(method);
+			assertThat(registry.hasHook(method, NoOpForMethod1_1Hook.class)).isEqualTo(!isNoOp);
+		}
+	}
+
+	@Example
+	void dumpHookChains() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1").build();
+		registry.registerLifecycleHook(container1, ChangeFirstParamTo42.class, ALL_DESCENDANTS);
+
+		TestDescriptor method1_1 = container1.getChildren().iterator().next();
+		String dump = registry.dumpHookChains(container1);
+
+		assertThat(dump).contains(container1.getUniqueId().toString());
+		assertThat(dump).contains(method1_1.getUniqueId().toString());
+		assertThat(dump).contains("AroundTryHook: " + ChangeFirstParamTo42.class.getName());
+	}
+
 	@Group
 	class UsingRegistrar {
 		@Example
@@ -149,6 +183,18 @@ class LifecycleRegistryTests {
 		}
 	}
 
+	static class NoOpForMethod1_1Hook implements ConditionalLifecycleHook {
+		static boolean isMethod1_1(TestDescriptor descriptor) {
+			return descriptor instanceof PropertyMethodDescriptor
+					   && ((PropertyMethodDescriptor) descriptor).getTargetMethod().getName().equals("method1_1");
+		}
+
+		@Override
+		public boolean isNoOpFor(TestDescriptor descriptor) {
+			return isMethod1_1(descriptor);
+		}
+	}
+
 	static class RememberCurrentDescriptorHook implements LifecycleHook {
 		static TestDescriptor currentDescriptor;
 
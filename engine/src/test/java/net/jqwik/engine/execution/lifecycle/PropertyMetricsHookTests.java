@@ -0,0 +1,76 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Group
+@AddLifecycleHook(CheckRecordedMetrics.class)
+class PropertyMetricsHookTests {
+	static final Map<String, PropertyExecutionMetrics> recordedMetrics = new ConcurrentHashMap<>();
+
+	@Group
+	@AddLifecycleHook(RecordMetrics.class)
+	class NestedTests {
+
+		@Property(tries = 10)
+		void tenTries(@ForAll int anInt) {
+		}
+
+		@Property(tries = 10)
+		void filtering(@ForAll("roundNumbers") int anInt) {
+		}
+
+		@Provide
+		Arbitrary<Integer> roundNumbers() {
+			return Arbitraries.integers().between(0, 1000).filter(i -> i % 10 == 0);
+		}
+
+		@Example
+		void anExample() {
+		}
+	}
+}
+
+class RecordMetrics implements PropertyMetricsHook {
+
+	@Override
+	public void metricsAvailable(
+		PropertyLifecycleContext context,
+		PropertyExecutionResult result,
+		PropertyExecutionMetrics metrics
+	) {
+		assertThat(result.metrics()).contains(metrics);
+		PropertyMetricsHookTests.recordedMetrics.put(context.targetMethod().getName(), metrics);
+	}
+
+	@Override
+	public PropagationMode propagateTo() {
+		return PropagationMode.ALL_DESCENDANTS;
+	}
+}
+
+class CheckRecordedMetrics implements AfterContainerHook {
+
+	@Override
+	public void afterContainer(ContainerLifecycleContext context) {
+		Map<String, PropertyExecutionMetrics> recorded = PropertyMetricsHookTests.recordedMetrics;
+		assertThat(recorded).containsOnlyKeys("tenTries", "filtering", "anExample");
+
+		PropertyExecutionMetrics tenTries = recorded.get("tenTries");
+		assertThat(tenTries.generation().count()).isEqualTo(10);
+		assertThat(tenTries.tryExecution().count()).isEqualTo(10);
+		assertThat(tenTries.propertyMethod().count()).isEqualTo(10);
+		assertThat(tenTries.lifecycleHooks().count()).isEqualTo(10);
+		assertThat(tenTries.tryExecution().totalNanos()).isGreaterThanOrEqualTo(tenTries.propertyMethod().totalNanos());
+		assertThat(tenTries.shrinking().count()).isEqualTo(0);
+
+		assertThat(recorded.get("filtering").filterMisses()).isGreaterThan(0);
+
+		assertThat(recorded.get("anExample").tryExecution().count()).isEqualTo(1);
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -92,6 +93,44 @@ class StoreRepositoryTests {
 				repository.create(container, "aStore", Lifespan.PROPERTY, () -> 42);
 			}).isInstanceOf(JqwikException.class);
 		}
+
+		@Example
+		void concurrentCreationOfSameStoreSucceedsOnlyOnce() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<Boolean>> futures = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					futures.add(executor.submit(() -> {
+						try {
+							repository.create(container, "aStore", Lifespan.PROPERTY, () -> "initial");
+							return true;
+						} catch (JqwikException conflict) {
+							return false;
+						}
+					}));
+				}
+				int countCreated = 0;
+				for (Future<Boolean> future : futures) {
+					countCreated += future.get() ? 1 : 0;
+				}
+				assertThat(countCreated).isEqualTo(1);
+			} finally {
+				executor.shutdown();
+			}
+		}
+
+		@Example
+		void canCreateStoreAgainAfterItsScopeHasFinished() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			repository.create(container, "aStore", Lifespan.PROPERTY, () -> "initial");
+
+			repository.finishScope(container);
+
+			ScopedStore<Integer> store = repository.create(container, "aStore", Lifespan.PROPERTY, () -> 42);
+			assertThat(repository.get(container, "aStore")).contains(store);
+		}
 	}
 
 	@Group
@@ -179,6 +218,33 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishTry_inTryScope_onlyResetsValuesOfThatScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeTry = repository.create(method, "storeTry", Lifespan.TRY, () -> "initial");
+			ScopedStore<String> storeProperty = repository.create(method, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+
+			TryStoreScope try1 = new TryStoreScope();
+			TryStoreScope try2 = new TryStoreScope();
+			try1.run(() -> {
+				storeTry.update(s -> "try1");
+				storeProperty.update(s -> "try1");
+			});
+			try2.run(() -> storeTry.update(s -> "try2"));
+
+			assertThat(try1.run(storeTry::get)).isEqualTo("try1");
+			assertThat(try2.run(storeTry::get)).isEqualTo("try2");
+			assertThat(storeTry.get()).isEqualTo("initial");
+			assertThat(try2.run(storeProperty::get)).isEqualTo("try1");
+
+			try1.run(() -> repository.finishTry(method));
+
+			assertThat(try1.run(storeTry::get)).isEqualTo("initial");
+			assertThat(try2.run(storeTry::get)).isEqualTo("try2");
+			assertThat(storeProperty.get()).isEqualTo("try1");
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -210,6 +276,38 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishProperty_onlyResetsValuesOwnedByThatProperty() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+			ScopedStore<String> storeProperty = repository.create(container, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+			ScopedStore<String> storeTry = repository.create(container, "storeTry", Lifespan.TRY, () -> "initial");
+
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> {
+				storeProperty.update(s -> "method1");
+				storeTry.update(s -> "method1");
+			});
+			CurrentTestDescriptor.runWithDescriptor(method2, () -> {
+				storeProperty.update(s -> "method2");
+				storeTry.update(s -> "method2");
+			});
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, storeProperty::get)).isEqualTo("method1");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, storeProperty::get)).isEqualTo("method2");
+
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> {
+				repository.finishProperty(method1);
+				repository.finishTry(method1);
+			});
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, storeProperty::get)).isEqualTo("initial");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, storeTry::get)).isEqualTo("initial");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, storeProperty::get)).isEqualTo("method2");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, storeTry::get)).isEqualTo("method2");
+		}
+
 		@Example
 		void finishScope_removesAllStoresForScopeAndItsChildren() {
 			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -179,4 +179,18 @@ class StoreTests {
 			assertThat(lifespanTry.get()).isEqualTo(0);
 		}
 	}
+
+	@Group
+	@Label("Lifespan.TRY with concurrent tries")
+	class LifespanTryConcurrently {
+		Store<Integer> lifespanTry = Store.getOrCreate("concurrent", Lifespan.TRY, () -> 0);
+
+		@Property(tries = 200, parallelism = 4)
+		void eachTryHasItsOwnValue(@ForAll int anInt) throws InterruptedException {
+			assertThat(lifespanTry.get()).isEqualTo(0);
+			lifespanTry.update(i -> anInt);
+			Thread.sleep(1);
+			assertThat(lifespanTry.get()).isEqualTo(anInt);
+		}
+	}
 }
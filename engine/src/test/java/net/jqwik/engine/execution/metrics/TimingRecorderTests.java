@@ -0,0 +1,104 @@
+package net.jqwik.engine.execution.metrics;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimingRecorderTests {
+
+	@Example
+	void emptyRecorder() {
+		TimingRecorder recorder = new TimingRecorder();
+
+		assertThat(recorder.count()).isEqualTo(0);
+		assertThat(recorder.totalNanos()).isEqualTo(0);
+		assertThat(recorder.maxNanos()).isEqualTo(0);
+		assertThat(recorder.meanNanos()).isEqualTo(0);
+		assertThat(recorder.percentileNanos(50.0)).isEqualTo(0);
+		assertThat(recorder.histogram()).hasSize(64).containsOnly(0L);
+	}
+
+	@Example
+	void recordDurations() {
+		TimingRecorder recorder = new TimingRecorder();
+		recorder.record(0);
+		recorder.record(1);
+		recorder.record(3);
+		recorder.record(1000);
+
+		assertThat(recorder.count()).isEqualTo(4);
+		assertThat(recorder.totalNanos()).isEqualTo(1004);
+		assertThat(recorder.maxNanos()).isEqualTo(1000);
+		assertThat(recorder.meanNanos()).isEqualTo(251);
+
+		long[] histogram = recorder.histogram();
+		assertThat(histogram[0]).isEqualTo(2);
+		assertThat(histogram[1]).isEqualTo(1);
+		assertThat(histogram[9]).isEqualTo(1);
+	}
+
+	@Example
+	void negativeDurationsAreRecordedAsZero() {
+		TimingRecorder recorder = new TimingRecorder();
+		recorder.record(-5);
+
+		assertThat(recorder.count()).isEqualTo(1);
+		assertThat(recorder.totalNanos()).isEqualTo(0);
+		assertThat(recorder.histogram()[0]).isEqualTo(1);
+	}
+
+	@Property
+	void durationFallsIntoPowerOfTwoBucket(@ForAll @Positive long nanos) {
+		int bucket = TimingRecorder.bucketFor(nanos);
+		assertThat(nanos).isGreaterThanOrEqualTo(1L << bucket);
+		if (bucket < 62) {
+			assertThat(nanos).isLessThan(1L << (bucket + 1));
+		}
+	}
+
+	@Example
+	void percentilesAreApproximatedByUpperBucketBound() {
+		TimingRecorder recorder = new TimingRecorder();
+		for (int i = 0; i < 90; i++) {
+			recorder.record(100);
+		}
+		for (int i = 0; i < 10; i++) {
+			recorder.record(5000);
+		}
+
+		assertThat(recorder.percentileNanos(50.0)).isEqualTo(127);
+		assertThat(recorder.percentileNanos(90.0)).isEqualTo(127);
+		assertThat(recorder.percentileNanos(99.0)).isEqualTo(5000);
+		assertThat(recorder.percentileNanos(100.0)).isEqualTo(5000);
+	}
+
+	@Example
+	void concurrentRecording() throws Exception {
+		TimingRecorder recorder = new TimingRecorder();
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				futures.add(executorService.submit(() -> {
+					for (int i = 1; i <= 1000; i++) {
+						recorder.record(i);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertThat(recorder.count()).isEqualTo(4000);
+		assertThat(recorder.totalNanos()).isEqualTo(4 * 500500);
+		assertThat(recorder.maxNanos()).isEqualTo(1000);
+		assertThat(Arrays.stream(recorder.histogram()).sum()).isEqualTo(4000);
+	}
+}
@@ -35,6 +35,17 @@ class SampleReportingTests {
 			);
 		}
 
+		@Example
+		void sampleReporterAppliesGivenLimits() {
+			Map<String, Object> reports = new LinkedHashMap<>();
+			reports.put("aList", asList(1, 2, 3, 4));
+			SampleReporter sampleReporter = new SampleReporter("Headline", reports, new ReportingLimits(2, 0, 0));
+
+			sampleReporter.reportTo(lineReporter);
+
+			assertThat(lineReporter.lines).contains("  aList: [1, 2, ... 2 more]");
+		}
+
 		@Example
 		void headlineCanBeSkipped() {
 			Map<String, Object> reports = new LinkedHashMap<>();
@@ -596,6 +607,81 @@ class SampleReportingTests {
 
 		}
 
+		@Group
+		class Limits {
+
+			@Example
+			void elementsBeyondLimitAreOmitted() {
+				List<Integer> list = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list, formatFinder(), new ReportingLimits(3, 0, 0));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[0, 1, 2, ... 7 more]");
+			}
+
+			@Example
+			void entriesBeyondLimitAreOmitted() {
+				Map<String, Integer> map = new LinkedHashMap<>();
+				map.put("one", 1);
+				map.put("two", 2);
+				map.put("three", 3);
+				ValueReport report = ValueReport.of(map, formatFinder(), new ReportingLimits(1, 0, 0));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("{\"one\"=1, ... 2 more}");
+
+				report.report(lineReporter, 0, "");
+				assertThat(lineReporter.lines).containsSequence(
+						"{",
+						"  \"one\"=1, ",
+						"  ... 2 more",
+						"}"
+				);
+			}
+
+			@Example
+			void containersBeyondDepthAreCollapsed() {
+				List<Object> list = asList(1, asList(2, asList(3, asList(4))));
+				ValueReport report = ValueReport.of(list, formatFinder(), new ReportingLimits(0, 2, 0));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[1, [2, [...]]]");
+			}
+
+			@Example
+			void charactersBeyondLimitAreOmitted() {
+				ValueReport report = ValueReport.of("a long string", formatFinder(), new ReportingLimits(0, 0, 5));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("\"a lo... 10 more characters");
+			}
+
+			@Example
+			void stringsUpToLimitIncludingQuotesAreNotCut() {
+				ValueReport report = ValueReport.of("abc", formatFinder(), new ReportingLimits(0, 0, 5));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("\"abc\"");
+			}
+
+			@Example
+			void charactersOfOtherValuesBeyondLimitAreOmitted() {
+				ValueReport report = ValueReport.of(1234567890L, formatFinder(), new ReportingLimits(0, 0, 4));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("1234... 6 more characters");
+			}
+
+			@SuppressWarnings("CollectionAddedToSelf")
+			@Example
+			void circularDependenciesAreDetectedBelowLimits() {
+				List<Object> aList = new ArrayList<>();
+				aList.add(aList);
+				aList.add(42);
+				aList.add(43);
+
+				ValueReport report = ValueReport.of(aList, formatFinder(), new ReportingLimits(2, 0, 0));
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("[circular-dependency<java.util.ArrayList@")
+						  .endsWith(", 42, ... 1 more]");
+			}
+
+		}
+
 		private ValueReport.ReportingFormatFinder formatFinder(SampleReportingFormat... formats) {
 			return value -> Arrays.stream(formats)
 								  .filter(format -> format.appliesTo(value))
@@ -0,0 +1,226 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.providers.*;
+import net.jqwik.engine.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Group
+class ArbitraryResolutionCacheTests {
+
+	private final AtomicInteger countProvideFor = new AtomicInteger(0);
+	private final ArbitraryResolutionCache cache = new ArbitraryResolutionCache();
+
+	@Group
+	class Resolution {
+
+		@Example
+		void sameTypeInDifferentPropertiesIsOnlyResolvedOnce() {
+			Arbitrary<?> first = resolve("aList", "global").iterator().next();
+			Arbitrary<?> second = resolve("sameList", "global").iterator().next();
+
+			assertThat(second).isSameAs(first);
+			assertThat(countProvideFor.get()).isEqualTo(1);
+			assertThat(cache.statistics().hits()).isEqualTo(1);
+			assertThat(cache.statistics().misses()).isEqualTo(1);
+		}
+
+		@Example
+		void differentAnnotationsAreResolvedSeparately() {
+			resolve("aList", "global");
+			resolve("aSizedList", "global");
+
+			assertThat(countProvideFor.get()).isEqualTo(2);
+			assertThat(cache.statistics().size()).isEqualTo(2);
+		}
+
+		@Example
+		void differentDomainsAreResolvedSeparately() {
+			resolve("aList", "global");
+			resolve("aList", "otherDomain");
+
+			assertThat(countProvideFor.get()).isEqualTo(2);
+		}
+
+		@Example
+		void noCachingWithoutDomainKey() {
+			resolve("aList", null);
+			resolve("aList", null);
+
+			assertThat(countProvideFor.get()).isEqualTo(2);
+			assertThat(cache.statistics().size()).isEqualTo(0);
+		}
+
+		@Example
+		void typesReferringToProviderMethodsAreNotCacheable() {
+			assertThat(isCacheable("aList")).isTrue();
+			assertThat(isCacheable("aSizedList")).isTrue();
+			assertThat(isCacheable("namedList")).isFalse();
+			assertThat(isCacheable("listOfNamedElements")).isFalse();
+		}
+	}
+
+	@Group
+	class Invalidation {
+
+		@Example
+		void registeringAndUnregisteringProvidersInvalidatesEngineWideCache() {
+			Object defaultDomainKey = ArbitraryResolutionCache.keyForDomains(Collections.emptySet()).get();
+			ArbitraryProvider provider = new ArbitraryProvider() {
+				@Override
+				public boolean canProvideFor(TypeUsage targetType) {
+					return targetType.isOfType(Registered.class);
+				}
+
+				@Override
+				public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+					return Collections.singleton(Arbitraries.just(new Registered()));
+				}
+			};
+
+			assertThat(resolveInEngineWideCache("registered", defaultDomainKey)).isEmpty();
+
+			RegisteredArbitraryProviders.register(provider);
+			try {
+				assertThat(resolveInEngineWideCache("registered", defaultDomainKey)).hasSize(1);
+			} finally {
+				RegisteredArbitraryProviders.unregister(provider);
+			}
+
+			assertThat(resolveInEngineWideCache("registered", defaultDomainKey)).isEmpty();
+		}
+
+		private Set<Arbitrary<?>> resolveInEngineWideCache(String methodName, Object domainKey) {
+			PropertyMethodArbitraryResolver resolver = new PropertyMethodArbitraryResolver(
+				Params.class, new Params(),
+				DomainContext.global(),
+				domainKey
+			);
+			return resolver.forParameter(getParameter(methodName));
+		}
+	}
+
+	@Group
+	class DomainKeys {
+
+		@Example
+		void sameDomainsHaveEqualKeys() {
+			Set<Domain> domains = domainsOf("withStaticDomain");
+			assertThat(ArbitraryResolutionCache.keyForDomains(domains))
+				.isEqualTo(ArbitraryResolutionCache.keyForDomains(domainsOf("withStaticDomain")));
+			assertThat(ArbitraryResolutionCache.keyForDomains(domains))
+				.isNotEqualTo(ArbitraryResolutionCache.keyForDomains(Collections.emptySet()));
+		}
+
+		@Example
+		void innerDomainClassesCannotBeCached() {
+			assertThat(ArbitraryResolutionCache.keyForDomains(domainsOf("withInnerDomain"))).isEmpty();
+		}
+
+		private Set<Domain> domainsOf(String methodName) {
+			Domain domain = TestHelper.getMethod(Params.class, methodName).getAnnotation(Domain.class);
+			return Collections.singleton(domain);
+		}
+	}
+
+	private Set<Arbitrary<?>> resolve(String methodName, Object domainKey) {
+		PropertyMethodArbitraryResolver resolver = new PropertyMethodArbitraryResolver(
+			Params.class, new Params(),
+			new RegisteredArbitraryResolver(Collections.singletonList(countingListProvider())),
+			new RegisteredArbitraryConfigurer(Collections.emptyList()),
+			cache,
+			domainKey
+		);
+		return resolver.forParameter(getParameter(methodName));
+	}
+
+	private boolean isCacheable(String methodName) {
+		return ArbitraryResolutionCache.isCacheable(TypeUsageImpl.forParameter(getParameter(methodName)));
+	}
+
+	private ArbitraryProvider countingListProvider() {
+		return new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				return targetType.isOfType(List.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				countProvideFor.incrementAndGet();
+				return Collections.singleton(Arbitraries.just(new ArrayList<>()));
+			}
+
+			@Override
+			public int priority() {
+				return 100;
+			}
+		};
+	}
+
+	private static MethodParameter getParameter(String methodName) {
+		return TestHelper.getParametersFor(Params.class, methodName).get(0);
+	}
+
+	private static class StaticDomain extends AbstractDomainContextBase {
+	}
+
+	private class InnerDomain extends AbstractDomainContextBase {
+	}
+
+	private static class Registered {
+	}
+
+	private static class Params {
+		@Property
+		boolean aList(@ForAll List<String> aList) {
+			return true;
+		}
+
+		@Property
+		boolean sameList(@ForAll List<String> aList) {
+			return true;
+		}
+
+		@Property
+		boolean aSizedList(@ForAll @Size(max = 5) List<String> aList) {
+			return true;
+		}
+
+		@Property
+		boolean namedList(@ForAll("names") List<String> aList) {
+			return true;
+		}
+
+		@Property
+		boolean listOfNamedElements(@ForAll List<@From("names") String> aList) {
+			return true;
+		}
+
+		@Property
+		boolean registered(@ForAll Registered aValue) {
+			return true;
+		}
+
+		@Property
+		@Domain(StaticDomain.class)
+		boolean withStaticDomain(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		@Domain(InnerDomain.class)
+		boolean withInnerDomain(@ForAll int anInt) {
+			return true;
+		}
+	}
+}
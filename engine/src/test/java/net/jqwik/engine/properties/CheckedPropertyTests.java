@@ -12,6 +12,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
 
@@ -436,6 +437,41 @@ class CheckedPropertyTests {
 
 		}
 
+		@Group
+		class GuidedProperty {
+
+			@Example
+			@Label("works with GenerationMode.GUIDED")
+			void runWithGenerationModeGuided() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", params -> true, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 3)),
+					Optional.empty(),
+					aConfig().withTries(20).withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.generation()).isEqualTo(GenerationMode.GUIDED);
+				assertThat(check.countTries()).isEqualTo(20);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			}
+
+			@Example
+			@Label("fails if it has a @FromData annotation")
+			void failIfItHasData() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"dataDrivenProperty", params -> true, getParametersForMethod("dataDrivenProperty"),
+					p -> Collections.emptySet(),
+					Optional.of(Table.of(Tuple.of(1, "1"))),
+					aConfig().withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("dataDrivenProperty", int.class, String.class)
+				);
+
+				assertThatThrownBy(() -> checkedProperty.check(new Reporting[0])).isInstanceOf(JqwikException.class);
+			}
+		}
+
 		@Group
 		class WithSample {
 
@@ -476,6 +512,46 @@ class CheckedPropertyTests {
 				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
 				assertThat(check.falsifiedParameters()).isEmpty();
 			}
+
+			@Example
+			@Label("replay shrunk sample from generation coordinate of previous run")
+			void replayShrunkSampleFromGenerationCoordinate() {
+				CheckedFunction bothSmall = params -> (int) params.get(0) < 30 || (int) params.get(1) < 20;
+				CheckedProperty failingProperty = createCheckedProperty(
+					"sampleProperty", bothSmall, getParametersForMethod("sampleProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(1000).withGeneration(RANDOMIZED).withSeed("4242").build(),
+					lifecycleContextForMethod("sampleProperty", int.class, int.class)
+				);
+				PropertyCheckResult failed = failingProperty.check(new Reporting[0]);
+				assertThat(failed.checkStatus()).isEqualTo(FAILED);
+				assertThat(failed.generationCoordinate()).isPresent();
+				assertThat(failed.generationCoordinate().get().tryIndex()).isEqualTo(failed.countTries() - 1);
+
+				List<List<Object>> triedSamples = new ArrayList<>();
+				CheckedFunction recordingBothSmall = params -> {
+					triedSamples.add(new ArrayList<>(params));
+					return bothSmall.test(params);
+				};
+				CheckedProperty replayingProperty = createCheckedProperty(
+					"sampleProperty", recordingBothSmall, getParametersForMethod("sampleProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(1000).withGeneration(RANDOMIZED)
+							 .withPreviousSeed(failed.randomSeed())
+							 .withPreviousGenerationCoordinate(failed.generationCoordinate().get())
+							 .withAfterFailure(AfterFailureMode.SAMPLE_ONLY)
+							 .build(),
+					lifecycleContextForMethod("sampleProperty", int.class, int.class)
+				);
+				PropertyCheckResult replayed = replayingProperty.check(new Reporting[0]);
+
+				assertThat(replayed.countTries()).isEqualTo(1);
+				assertThat(triedSamples.get(0)).isEqualTo(Arrays.asList(30, 20));
+				assertThat(replayed.falsifiedParameters()).hasValue(failed.falsifiedParameters().get());
+				assertThat(replayed.generationCoordinate()).isEqualTo(failed.generationCoordinate());
+			}
 		}
 	}
 
@@ -496,7 +572,8 @@ class CheckedPropertyTests {
 			ResolveParameterHook.DO_NOT_RESOLVE,
 			propertyLifecycleContext,
 			optionalData,
-			configuration
+			configuration,
+			ExhaustiveCheckpoints.DISABLED
 		);
 	}
 
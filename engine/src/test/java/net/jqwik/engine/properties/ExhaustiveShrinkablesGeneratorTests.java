@@ -61,6 +61,45 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void startAtIndex_withoutIndexedGenerators() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("iterables");
+		assertThat(shrinkablesGenerator.isIndexed()).isFalse();
+		shrinkablesGenerator.startAt(3);
+
+		assertThat(shrinkablesGenerator.nextIndex()).isEqualTo(3);
+		shrinkablesGenerator.next();
+		shrinkablesGenerator.next();
+		assertThat(shrinkablesGenerator.hasNext()).isFalse();
+	}
+
+	@Example
+	void startAtIndex() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+		assertThat(shrinkablesGenerator.isIndexed()).isTrue();
+		shrinkablesGenerator.startAt(4);
+
+		assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4));
+		assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(5));
+		assertThat(shrinkablesGenerator.hasNext()).isFalse();
+	}
+
+	@Example
+	void progressIsReportedForFinishedTries() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom0to5");
+		shrinkablesGenerator.startAt(2);
+		List<Long> firstUnfinishedTries = new ArrayList<>();
+		shrinkablesGenerator.onProgress(firstUnfinishedTries::add);
+
+		shrinkablesGenerator.next();
+		shrinkablesGenerator.tryFinished();
+		shrinkablesGenerator.next();
+		shrinkablesGenerator.next();
+		shrinkablesGenerator.tryFinished();
+
+		assertThat(firstUnfinishedTries).containsExactly(3L, 4L);
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
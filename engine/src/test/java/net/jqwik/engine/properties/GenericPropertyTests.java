@@ -1,10 +1,12 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.mockito.*;
 import org.opentest4j.*;
 
 import net.jqwik.*;
@@ -13,6 +15,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -501,6 +504,248 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Example
+		void allTriesAreExecuted() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(100);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+		}
+
+		@Example
+		void sameSeedGeneratesSameSamplesAsSequentialExecution() {
+			List<Object> sequentialSamples = collectSamples(1);
+			List<Object> parallelSamples = collectSamples(4);
+
+			assertThat(parallelSamples).containsExactlyInAnyOrderElementsOf(sequentialSamples);
+		}
+
+		private List<Object> collectSamples(int parallelism) {
+			List<Object> samples = Collections.synchronizedList(new ArrayList<>());
+			CheckedFunction forAllFunction = args -> {
+				samples.add(args.get(0));
+				return true;
+			};
+
+			SourceOfRandomness.create("42");
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withParallelism(parallelism).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+			return samples;
+		}
+
+		@Example
+		void firstFailingTryIsReported() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) % 7 != 0;
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 30).toArray());
+
+			PropertyConfiguration configuration = aConfig().withTries(30).withParallelism(8).withShrinking(OFF).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(7);
+			assertThat(result.countChecks()).isEqualTo(7);
+			assertThat(result.falsifiedParameters().get()).containsExactly(7);
+		}
+
+		@Example
+		void failingTriesAreShrunk() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 10;
+
+			Arbitrary<Object> arbitrary = OrderedArbitraryForTesting.between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.shrunkSample()).isPresent();
+			assertThat(result.falsifiedParameters().get()).containsExactly(10);
+		}
+	}
+
+	@Group
+	class Metrics {
+
+		@Example
+		void generationAndFilterMissesAreRecorded() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(0, 1000).filter(i -> i % 10 == 0).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(20).build();
+			GenericProperty property =
+				new GenericProperty("filtering property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.metrics()).isPresent();
+			PropertyExecutionMetrics metrics = result.metrics().get();
+			assertThat(metrics.generation().count()).isEqualTo(20);
+			assertThat(metrics.generation().totalNanos()).isGreaterThan(0);
+			assertThat(metrics.filterMisses()).isGreaterThan(0);
+			assertThat(metrics.shrinking().count()).isEqualTo(0);
+			assertThat(metrics.shrinkingCandidates()).isEqualTo(0);
+		}
+
+		@Example
+		void shrinkingIsRecorded() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 10;
+
+			Arbitrary<Object> arbitrary = OrderedArbitraryForTesting.between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).build();
+			GenericProperty property =
+				new GenericProperty("shrinking property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			PropertyExecutionMetrics metrics = result.metrics().get();
+			assertThat(metrics.generation().count()).isEqualTo(result.countTries());
+			assertThat(metrics.shrinking().count()).isEqualTo(1);
+			assertThat(metrics.shrinkingSteps()).isEqualTo(result.shrunkSample().get().countShrinkingSteps());
+			assertThat(metrics.shrinkingCandidates()).isGreaterThanOrEqualTo(metrics.shrinkingSteps());
+		}
+
+		@Example
+		void metricsSurviveMappingOfResult() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			GenericProperty property =
+				new GenericProperty("property", aConfig().withTries(5).build(), shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			PropertyExecutionResult failed = result.mapToFailed("failed");
+			assertThat(failed.metrics()).isEqualTo(result.metrics());
+		}
+	}
+
+	@Group
+	class Timeouts {
+
+		@Example
+		void tryExceedingTryTimeoutIsFalsifiedAndShrunk() {
+			CheckedFunction forAllFunction = args -> {
+				if ((int) args.get(0) >= 10) {
+					sleep(10_000);
+				}
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = OrderedArbitraryForTesting.between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withTryTimeout(50).build();
+			GenericProperty property =
+				new GenericProperty("hanging property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.throwable()).containsInstanceOf(TimeoutError.class);
+			assertThat(result.throwable().get()).hasMessage("Try did not finish within 50 ms");
+			assertThat(result.falsifiedParameters().get()).containsExactly(10);
+		}
+
+		@Example
+		void threadDumpIsReported() {
+			CheckedFunction forAllFunction = args -> {
+				sleep(10_000);
+				return true;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1);
+
+			PropertyConfiguration configuration = aConfig().withTries(1).withTryTimeout(50).build();
+			GenericProperty property =
+				new GenericProperty("hanging property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			Reporter reporter = Mockito.mock(Reporter.class);
+			property.check(reporter, new Reporting[0]);
+
+			Mockito.verify(reporter).publishValue(Mockito.eq("thread dump"), Mockito.contains("Thread.sleep"));
+		}
+
+		@Example
+		@SuppressLogging("warning about abandoned try expected")
+		void uninterruptibleTryIsAbandoned() {
+			CountDownLatch releasedAfterCheck = new CountDownLatch(1);
+			CheckedFunction forAllFunction = args -> {
+				while (releasedAfterCheck.getCount() > 0) {
+					try {
+						releasedAfterCheck.await();
+					} catch (InterruptedException ignore) {
+					}
+				}
+				return true;
+			};
+
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1);
+
+			PropertyConfiguration configuration = aConfig().withTries(1).withTryTimeout(50).build();
+			GenericProperty property =
+				new GenericProperty("hanging property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			try {
+				PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+				assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+				assertThat(result.throwable()).containsInstanceOf(TimeoutError.class);
+			} finally {
+				releasedAfterCheck.countDown();
+			}
+		}
+
+		@Example
+		void propertyExceedingTimeoutFailsWithoutShrinking() {
+			CheckedFunction forAllFunction = args -> {
+				sleep(20);
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = OrderedArbitraryForTesting.between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withTimeout(1).build();
+			GenericProperty property =
+				new GenericProperty("slow property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isLessThan(1000);
+			assertThat(result.throwable()).containsInstanceOf(TimeoutError.class);
+			assertThat(((TimeoutError) result.throwable().get()).isPropertyTimeout()).isTrue();
+			assertThat(result.shrunkSample()).isEmpty();
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
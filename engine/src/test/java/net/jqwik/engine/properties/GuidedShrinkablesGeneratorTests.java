@@ -0,0 +1,176 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GuidedShrinkablesGeneratorTests {
+
+	@Example
+	void withoutNewFeaturesAllTriesAreGeneratedRandomly(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(constantGenerator(100), random, () -> 0);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(generator.next().get(0).value()).isEqualTo(100);
+		}
+		assertThat(generator.corpusSize()).isEqualTo(0);
+	}
+
+	@Example
+	void tryWithNewFeatureIsMutated(@ForAll Random random) {
+		AtomicInteger countFeatures = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(constantGenerator(100), random, countFeatures::get);
+
+		generator.next();
+		countFeatures.incrementAndGet();
+
+		Set<Object> values = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			values.add(generator.next().get(0).value());
+		}
+		assertThat(generator.corpusSize()).isEqualTo(1);
+		assertThat(values).contains(100);
+		assertThat(values).anyMatch(value -> (int) value < 100);
+	}
+
+	@Example
+	void tryThatExercisedNewFeatureIsAddedToCorpus() {
+		AtomicInteger countFeatures = new AtomicInteger(0);
+		AtomicInteger countRandomTries = new AtomicInteger(0);
+		ForAllParametersGenerator randomGenerator = new ForAllParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				int value = 100 * countRandomTries.incrementAndGet();
+				return Collections.singletonList(new OneStepShrinkable(value, 0, 100000).asGeneric());
+			}
+		};
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(randomGenerator, new Random(42L), countFeatures::get);
+
+		for (int i = 0; i < 3; i++) {
+			generator.next();
+		}
+		countFeatures.incrementAndGet();
+
+		int countMutants = 0;
+		for (int i = 0; i < 100; i++) {
+			int value = (int) generator.next().get(0).value();
+			if (value % 100 != 0) {
+				assertThat(value).isBetween(300 - 3, 300 + 3);
+				countMutants++;
+			}
+		}
+		assertThat(generator.corpusSize()).isEqualTo(1);
+		assertThat(countMutants).isGreaterThan(50);
+	}
+
+	@Example
+	void mutantsChangeParametersOfCorpusEntryStepByStep() {
+		AtomicInteger countFeatures = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(constantGenerator(10, 20, 30), new Random(42L), countFeatures::get);
+
+		generator.next();
+		countFeatures.incrementAndGet();
+
+		int countMutants = 0;
+		for (int i = 0; i < 100; i++) {
+			List<Object> values = values(generator.next());
+			int distance = Math.abs((int) values.get(0) - 10)
+							   + Math.abs((int) values.get(1) - 20)
+							   + Math.abs((int) values.get(2) - 30);
+			// Each try mutates at most 3 parameters by a single step
+			assertThat(distance).isLessThanOrEqualTo(3);
+			if (distance > 0) {
+				countMutants++;
+			}
+		}
+		assertThat(countMutants).isGreaterThan(50);
+	}
+
+	@Example
+	void sameRandomAndFeedbackResultInSameTries() {
+		List<List<Object>> tries1 = guidedTries(new Random(42L));
+		List<List<Object>> tries2 = guidedTries(new Random(42L));
+
+		assertThat(tries1).isEqualTo(tries2);
+	}
+
+	private List<List<Object>> guidedTries(Random random) {
+		AtomicInteger countFeatures = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(constantGenerator(50, 50), random, countFeatures::get);
+		List<List<Object>> tries = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			List<Object> values = values(generator.next());
+			tries.add(values);
+			// Every new value of the first parameter is a new feature
+			if (tries.stream().noneMatch(earlier -> earlier != values && earlier.get(0).equals(values.get(0)))) {
+				countFeatures.incrementAndGet();
+			}
+		}
+		return tries;
+	}
+
+	private List<Object> values(List<Shrinkable<Object>> shrinkables) {
+		List<Object> values = new ArrayList<>();
+		shrinkables.forEach(shrinkable -> values.add(shrinkable.value()));
+		return values;
+	}
+
+	@Example
+	void findsRareSampleByFollowingFeedback() {
+		Random random = new Random(42);
+		RandomGenerator<String> strings = Arbitraries.strings().withCharRange('a', 'h').ofMaxLength(12).generator(1000);
+		ForAllParametersGenerator randomGenerator = new ForAllParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				return Collections.singletonList(strings.next(random).asGeneric());
+			}
+		};
+		Set<Integer> matchingPrefixes = new HashSet<>();
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(randomGenerator, random, matchingPrefixes::size);
+
+		String target = "hgfed";
+		boolean found = false;
+		for (int i = 0; i < 100000 && !found; i++) {
+			String value = (String) generator.next().get(0).value();
+			int prefix = 0;
+			while (prefix < target.length() && prefix < value.length() && value.charAt(prefix) == target.charAt(prefix)) {
+				prefix++;
+			}
+			matchingPrefixes.add(prefix);
+			found = prefix == target.length();
+		}
+		assertThat(found).isTrue();
+	}
+
+	private ForAllParametersGenerator constantGenerator(int... values) {
+		return new ForAllParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				List<Shrinkable<Object>> shrinkables = new ArrayList<>();
+				for (int value : values) {
+					shrinkables.add(new OneStepShrinkable(value).asGeneric());
+				}
+				return shrinkables;
+			}
+		};
+	}
+}
@@ -7,6 +7,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.recording.*;
 
 class PropertyConfigurationBuilder {
 
@@ -17,13 +18,17 @@ class PropertyConfigurationBuilder {
 	private String seed = null;
 	private String previousSeed = null;
 	private List<Object> falsifiedSample = null;
+	private GenerationCoordinate previousGenerationCoordinate = null;
 	private Integer tries = null;
 	private Integer maxDiscardRatio = null;
 	private ShrinkingMode shrinkingMode = null;
 	private GenerationMode generationMode = null;
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
-
+	private Integer parallelism = null;
+	private Integer shrinkingParallelism = null;
+	private Integer tryTimeout = null;
+	private Integer timeout = null;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -40,6 +45,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withPreviousGenerationCoordinate(GenerationCoordinate coordinate) {
+		this.previousGenerationCoordinate = coordinate;
+		return this;
+	}
+
 	PropertyConfigurationBuilder withTries(int tries) {
 		this.tries = tries;
 		return this;
@@ -69,6 +79,26 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withShrinkingParallelism(int shrinkingParallelism) {
+		this.shrinkingParallelism = shrinkingParallelism;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withTryTimeout(int tryTimeoutMillis) {
+		this.tryTimeout = tryTimeoutMillis;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withTimeout(int timeoutSeconds) {
+		this.timeout = timeoutSeconds;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -78,13 +108,17 @@ class PropertyConfigurationBuilder {
 			afterFailureMode,
 			edgeCasesMode,
 			null,
-			seed
+			seed,
+			parallelism,
+			shrinkingParallelism,
+			tryTimeout,
+			timeout
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
 			TestHelper.propertyAttributesDefaults(),
-			previousSeed, falsifiedSample, seed,
+			previousSeed, falsifiedSample, previousGenerationCoordinate, seed,
 			tries,
 			generationMode
 		);
@@ -0,0 +1,72 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessIndexTests {
+
+	@Example
+	void withoutExtractorsEverythingIsUnique() {
+		UniquenessIndex<String> index = new UniquenessIndex<>(Collections.emptySet());
+
+		assertThat(index.tryAdd("a")).isTrue();
+		assertThat(index.tryAdd("a")).isTrue();
+	}
+
+	@Example
+	void identity() {
+		UniquenessIndex<String> index = new UniquenessIndex<>(Collections.singleton(FeatureExtractor.identity()));
+
+		assertThat(index.tryAdd("a")).isTrue();
+		assertThat(index.tryAdd("b")).isTrue();
+		assertThat(index.tryAdd("a")).isFalse();
+	}
+
+	@Example
+	void nullFeaturesAreComparedLikeOtherFeatures() {
+		FeatureExtractor<String> firstChar = s -> s.charAt(0);
+		UniquenessIndex<String> index = new UniquenessIndex<>(Collections.singleton(firstChar));
+
+		assertThat(index.tryAdd(null)).isTrue();
+		assertThat(index.tryAdd(null)).isFalse();
+	}
+
+	@Example
+	void valueMustBeUniqueForAllExtractors() {
+		FeatureExtractor<String> length = String::length;
+		FeatureExtractor<String> firstChar = s -> s.charAt(0);
+		UniquenessIndex<String> index = new UniquenessIndex<>(asList(length, firstChar));
+
+		assertThat(index.tryAdd("a")).isTrue();
+		assertThat(index.tryAdd("bb")).isTrue();
+		assertThat(index.tryAdd("ccc")).isTrue();
+		assertThat(index.tryAdd("dd")).isFalse();
+		assertThat(index.tryAdd("aaaa")).isFalse();
+
+		// A rejected value must not have left any of its features in the index
+		assertThat(index.tryAdd("dddd")).isTrue();
+	}
+
+	@Property
+	boolean sameResultAsCheckingAllValues(@ForAll List<@IntRange(max = 20) Integer> values) {
+		FeatureExtractor<Integer> modulo = i -> i % 7;
+		Collection<FeatureExtractor<Integer>> extractors = asList(FeatureExtractor.identity(), modulo);
+		UniquenessIndex<Integer> index = new UniquenessIndex<>(extractors);
+		List<Integer> added = new ArrayList<>();
+		for (Integer value : values) {
+			boolean unique = UniquenessChecker.checkValueUniqueIn(extractors, value, added);
+			if (index.tryAdd(value) != unique) {
+				return false;
+			}
+			if (unique) {
+				added.add(value);
+			}
+		}
+		return true;
+	}
+}
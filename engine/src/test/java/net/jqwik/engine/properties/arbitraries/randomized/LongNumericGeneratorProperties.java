@@ -0,0 +1,82 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.assertj.core.api.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.RandomDistribution.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.constraints.*;
+
+class LongNumericGeneratorProperties {
+
+	@Property(tries = 200)
+	void generateSameValuesAsBigIntegerGenerators(
+		@ForAll("primitiveDistributions") RandomDistribution distribution,
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("minMaxCenter") Tuple3<Long, Long, Long> minMaxCenter,
+		@ForAll long randomSeed
+	) {
+		long min = minMaxCenter.get1();
+		long max = minMaxCenter.get2();
+		long center = minMaxCenter.get3();
+
+		RandomNumericGenerator bigIntegerGenerator =
+			distribution.createGenerator(genSize, BigInteger.valueOf(min), BigInteger.valueOf(max), BigInteger.valueOf(center));
+		LongNumericGenerator longGenerator =
+			((PrimitiveRandomDistribution) distribution).createLongGenerator(genSize, min, max, center);
+
+		Random bigIntegerRandom = new Random(randomSeed);
+		Random longRandom = new Random(randomSeed);
+		for (int i = 0; i < 20; i++) {
+			long value = longGenerator.next(longRandom);
+			Assertions.assertThat(BigInteger.valueOf(value)).isEqualTo(bigIntegerGenerator.next(bigIntegerRandom));
+			Assertions.assertThat(value).isBetween(min, max);
+		}
+	}
+
+	@Property(tries = 100)
+	void longsGenerateSameValuesAndShrinkablesAsBigIntegers(
+		@ForAll("minMaxCenter") Tuple3<Long, Long, Long> minMaxCenter,
+		@ForAll long randomSeed
+	) {
+		long min = minMaxCenter.get1();
+		long max = minMaxCenter.get2();
+		long target = minMaxCenter.get3();
+
+		RandomGenerator<Long> longs = RandomIntegralGenerators.longs(1000, min, max, target, RandomDistribution.biased());
+		RandomGenerator<BigInteger> bigIntegers = RandomIntegralGenerators.bigIntegers(
+			1000, BigInteger.valueOf(min), BigInteger.valueOf(max), BigInteger.valueOf(target), RandomDistribution.biased()
+		);
+
+		Shrinkable<Long> longShrinkable = longs.next(new Random(randomSeed));
+		Shrinkable<BigInteger> bigIntegerShrinkable = bigIntegers.next(new Random(randomSeed));
+
+		Assertions.assertThat(BigInteger.valueOf(longShrinkable.value())).isEqualTo(bigIntegerShrinkable.value());
+		Assertions.assertThat(longShrinkable.distance()).isEqualTo(bigIntegerShrinkable.distance());
+		List<BigInteger> longCandidates = longShrinkable.shrink().map(s -> BigInteger.valueOf(s.value())).collect(Collectors.toList());
+		List<BigInteger> bigIntegerCandidates = bigIntegerShrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList());
+		Assertions.assertThat(longCandidates).isEqualTo(bigIntegerCandidates);
+	}
+
+	@Provide
+	Arbitrary<RandomDistribution> primitiveDistributions() {
+		return Arbitraries.of(RandomDistribution.uniform(), RandomDistribution.biased());
+	}
+
+	@Provide
+	Arbitrary<Tuple3<Long, Long, Long>> minMaxCenter() {
+		Arbitrary<Long> borders = Arbitraries.oneOf(
+			Arbitraries.longs(),
+			Arbitraries.longs().between(-1000, 1000),
+			Arbitraries.of(Long.MIN_VALUE, Long.MAX_VALUE, (long) Integer.MIN_VALUE, (long) Integer.MAX_VALUE)
+		);
+		return Combinators.combine(borders, borders).as((b1, b2) -> Tuple.of(Math.min(b1, b2), Math.max(b1, b2)))
+						  .filter(minMax -> !minMax.get1().equals(minMax.get2()))
+						  .flatMap(minMax -> Arbitraries.longs().between(minMax.get1(), minMax.get2())
+														.map(center -> Tuple.of(minMax.get1(), minMax.get2(), center)));
+	}
+}
@@ -0,0 +1,138 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueGeneratorTests {
+
+	@Example
+	void generatedValuesAreUnique(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(generatorOf(5, 5, 3));
+
+		assertThat(generator.next(random).value()).isEqualTo(5);
+		assertThat(generator.next(random).value()).isEqualTo(3);
+	}
+
+	@Example
+	void shrinkingCandidatesAvoidValuesInUse(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(generatorOf(5, 3));
+		Shrinkable<Integer> five = generator.next(random);
+		generator.next(random);
+
+		assertThat(values(five.shrink())).containsExactly(0, 1, 2, 4);
+	}
+
+	@Example
+	void shrinkingCandidatesWithoutAcceptingThemReleasesNoValues(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(generatorOf(5, 3));
+		Shrinkable<Integer> five = generator.next(random);
+		Shrinkable<Integer> three = generator.next(random);
+
+		List<Shrinkable<Integer>> candidates = five.shrink().collect(Collectors.toList());
+		candidates.get(1).shrink().collect(Collectors.toList());
+		candidates.get(3).shrink().collect(Collectors.toList());
+
+		assertThat(values(three.shrink())).isEmpty();
+	}
+
+	@Example
+	void shrinkingSameShrinkableAgainYieldsSameCandidates(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(generatorOf(5, 3));
+		Shrinkable<Integer> five = generator.next(random);
+		generator.next(random);
+
+		assertThat(values(five.shrink())).containsExactly(0, 1, 2, 4);
+		assertThat(values(five.shrink())).containsExactly(0, 1, 2, 4);
+	}
+
+	@Example
+	void reservationsStayBoundedWhileShrinking(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(r -> new HalvingShrinkable(1_000_000));
+		Shrinkable<Integer> current = generator.next(random);
+
+		int maxDepthOfDroppedCandidates = 10;
+		for (int step = 1; step <= 50; step++) {
+			List<Shrinkable<Integer>> candidates = current.shrink().collect(Collectors.toList());
+			Shrinkable<Integer> dropped = candidates.get(0);
+			for (int depth = 1; depth < maxDepthOfDroppedCandidates; depth++) {
+				dropped = dropped.shrink().findFirst().orElse(dropped);
+			}
+			current = candidates.get(candidates.size() - 1);
+
+			// Generated value, candidates of each accepted step and candidates of the last dropped path
+			int maxReservations = 1 + 2 * step + 2 * maxDepthOfDroppedCandidates;
+			assertThat(generator.countReservedValues()).isLessThanOrEqualTo(maxReservations);
+		}
+	}
+
+	@Example
+	void nullIsAUniqueValue(@ForAll Random random) {
+		UniqueGenerator<Integer> generator = new UniqueGenerator<>(r -> Shrinkable.unshrinkable(null));
+
+		assertThat(generator.next(random).value()).isNull();
+		assertThatThrownBy(() -> generator.next(random)).isInstanceOf(TooManyFilterMissesException.class);
+	}
+
+	private List<Integer> values(Stream<Shrinkable<Integer>> shrinkables) {
+		return shrinkables.map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	private RandomGenerator<Integer> generatorOf(Integer... values) {
+		Iterator<Integer> iterator = asList(values).iterator();
+		return random -> new CountDownShrinkable(iterator.next());
+	}
+
+	private static class HalvingShrinkable implements Shrinkable<Integer> {
+		private final int value;
+
+		private HalvingShrinkable(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public Integer value() {
+			return value;
+		}
+
+		@Override
+		public Stream<Shrinkable<Integer>> shrink() {
+			if (value == 0) {
+				return Stream.empty();
+			}
+			return Stream.of(value / 2, value - 1).distinct().map(HalvingShrinkable::new);
+		}
+
+		@Override
+		public ShrinkingDistance distance() {
+			return ShrinkingDistance.of(value);
+		}
+	}
+
+	private static class CountDownShrinkable implements Shrinkable<Integer> {
+		private final int value;
+
+		private CountDownShrinkable(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public Integer value() {
+			return value;
+		}
+
+		@Override
+		public Stream<Shrinkable<Integer>> shrink() {
+			return IntStream.range(0, value).mapToObj(CountDownShrinkable::new);
+		}
+
+		@Override
+		public ShrinkingDistance distance() {
+			return ShrinkingDistance.of(value);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	@Example
+	void cachedResultIsReturnedWithoutFalsifyingAgain() {
+		FalsificationCache cache = new FalsificationCache();
+		AtomicInteger countFalsifications = new AtomicInteger(0);
+
+		TryExecutionResult first = cache.computeIfAbsent(asList(1, 2), params -> {
+			countFalsifications.incrementAndGet();
+			return TryExecutionResult.falsified(null);
+		});
+		TryExecutionResult second = cache.computeIfAbsent(asList(1, 2), params -> {
+			countFalsifications.incrementAndGet();
+			return TryExecutionResult.satisfied();
+		});
+
+		assertThat(second).isSameAs(first);
+		assertThat(countFalsifications.get()).isEqualTo(1);
+		assertThat(cache.statistics().hits()).isEqualTo(1);
+		assertThat(cache.statistics().misses()).isEqualTo(1);
+	}
+
+	@Example
+	void leastRecentlyUsedEntriesAreEvicted() {
+		FalsificationCache cache = new FalsificationCache(2);
+		cache.put(asList(1), TryExecutionResult.satisfied());
+		cache.put(asList(2), TryExecutionResult.satisfied());
+		cache.get(asList(1));
+		cache.put(asList(3), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(asList(1))).isPresent();
+		assertThat(cache.get(asList(2))).isNotPresent();
+		assertThat(cache.get(asList(3))).isPresent();
+		assertThat(cache.statistics().evictions()).isEqualTo(1);
+	}
+
+	@Property(tries = 10)
+	void sizeNeverExceedsMaximum(@ForAll List<Integer> keys) {
+		FalsificationCache cache = new FalsificationCache(10);
+		for (Integer key : keys) {
+			cache.computeIfAbsent(Collections.singletonList(key), params -> TryExecutionResult.satisfied());
+		}
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+	}
+
+	@Example
+	void maxSizeMustBePositive() {
+		assertThatThrownBy(() -> new FalsificationCache(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
@@ -31,6 +32,27 @@ class FlatMappedShrinkableTests {
 		assertThat(shrinkable.value()).hasSize(3);
 	}
 
+	@Example
+	void rightSideIsOnlyGeneratedOncePerInstance(@ForAll long seed) {
+		AtomicInteger countMapperCalls = new AtomicInteger(0);
+		Shrinkable<Integer> integerShrinkable = new OneStepShrinkable(3);
+		Function<Integer, Arbitrary<List<Integer>>> flatMapper = anInt -> {
+			countMapperCalls.incrementAndGet();
+			return Arbitraries.integers().list().ofSize(anInt);
+		};
+		Shrinkable<List<Integer>> shrinkable = integerShrinkable.flatMap(flatMapper, 1000, seed);
+
+		List<Integer> first = shrinkable.value();
+		shrinkable.distance();
+		shrinkable.hashCode();
+		List<Integer> second = shrinkable.value();
+
+		assertThat(countMapperCalls.get()).isEqualTo(1);
+		// Mutable values must not be shared between calls
+		assertThat(second).isEqualTo(first);
+		assertThat(second).isNotSameAs(first);
+	}
+
 	@Group
 	@PropertyDefaults(tries = 50, shrinking = ShrinkingMode.OFF)
 	class Shrinking {
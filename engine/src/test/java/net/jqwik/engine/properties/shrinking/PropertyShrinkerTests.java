@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -118,6 +119,46 @@ class PropertyShrinkerTests {
 			assertThat(sample.countShrinkingSteps()).isEqualTo(8);
 		}
 
+		@Example
+		void shrunkSampleContainsFalsificationCacheStatistics() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer i) -> i <= 1);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample).isInstanceOf(ShrunkFalsifiedSampleImpl.class);
+			Optional<FalsificationCacheStatistics> statistics = ((ShrunkFalsifiedSampleImpl) sample).cacheStatistics();
+			assertThat(statistics).isPresent();
+			assertThat(statistics.get().misses()).isGreaterThan(0);
+			assertThat(statistics.get().evictions()).isEqualTo(0);
+		}
+
+		@Example
+		void falsificationCacheIsBoundedByShrinkingCacheSize() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+
+			PropertyShrinker shrinker = new PropertyShrinker(
+				toFalsifiedSample(shrinkables, null),
+				ShrinkingMode.FULL,
+				10,
+				1,
+				1,
+				ShrinkingExecutor.DEFAULT_THREADS,
+				falsifiedSampleReporter,
+				null,
+				ShrinkingPath.EMPTY
+			);
+
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer i) -> i <= 1);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(2));
+			Optional<FalsificationCacheStatistics> statistics = ((ShrunkFalsifiedSampleImpl) sample).cacheStatistics();
+			assertThat(statistics.get().evictions()).isGreaterThan(0);
+		}
+
 		@Example
 		void inOneStep() {
 			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(10);
@@ -163,6 +204,30 @@ class PropertyShrinkerTests {
 			// TODO: Test that logging shrinking bound reached has happened
 		}
 
+		@Example
+		void withBoundedShrinkingStopEvaluatingCandidatesAfterBreakOff() throws InterruptedException {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(1000);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 1);
+
+			AtomicInteger evaluations = new AtomicInteger(0);
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				evaluations.incrementAndGet();
+				threadNames.add(Thread.currentThread().getName());
+				// Busy waiting cannot be interrupted
+				long end = System.nanoTime() + 100_000_000L;
+				while (System.nanoTime() < end) {
+				}
+				return false;
+			};
+			shrinker.shrink(falsifier);
+			int evaluationsAtBreakOff = evaluations.get();
+
+			Thread.sleep(300);
+			assertThat(evaluations.get()).isLessThanOrEqualTo(evaluationsAtBreakOff + 1);
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-bounded-shrinking-"));
+		}
+
 		@Example
 		void withUnboundedShrinkingDoNotBreakOff() {
 			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.SlowShrinkable(10).asGeneric());
@@ -441,6 +506,213 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ParallelShrinking {
+
+		@Property(tries = 20)
+		void sameResultAsSequentialShrinking(
+			@ForAll @IntRange(min = 1, max = 50) int int1,
+			@ForAll @IntRange(min = 1, max = 50) int int2,
+			@ForAll @IntRange(min = 2, max = 8) int shrinkingParallelism
+		) {
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 10);
+			Assume.that(!falsifier.test(asList(int1, int2)));
+
+			FalsifiedSample originalSample = toFalsifiedSample(listOfFullShrinkables(int1, int2), null);
+			ShrunkFalsifiedSample sequentialSample = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+			ShrunkFalsifiedSample parallelSample =
+				createShrinker(originalSample, ShrinkingMode.FULL, 10, shrinkingParallelism).shrink(falsifier);
+
+			assertThat(parallelSample.parameters()).isEqualTo(sequentialSample.parameters());
+		}
+
+		@Property(tries = 50)
+		void resultDoesNotDependOnBatchSize(
+			@ForAll Random random,
+			@ForAll @IntRange(min = 2, max = 8) int shrinkingParallelism
+		) {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, 100).list().ofMaxSize(10);
+			Shrinkable<List<Integer>> shrinkable = lists.generator(1000).next(random);
+			// Several candidates of the same batch are falsified but differ in their distance
+			TestingFalsifier<List<Object>> falsifier =
+				paramFalsifier((List<Integer> list) -> list.stream().mapToInt(i -> i * i % 17).sum() < 40);
+			Assume.that(!falsifier.test(asList(shrinkable.value())));
+
+			FalsifiedSample originalSample = toFalsifiedSample(asList(shrinkable.asGeneric()), null);
+			ShrunkFalsifiedSample sequentialSample = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+			ShrunkFalsifiedSample batchedSample =
+				createShrinker(originalSample, ShrinkingMode.FULL, 10, shrinkingParallelism).shrink(falsifier);
+
+			assertThat(batchedSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(batchedSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+		}
+
+		@Example
+		void candidatesAreEvaluatedOnShrinkingThreads() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(50);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 4);
+
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				threadNames.add(Thread.currentThread().getName());
+				return (int) params.get(0) < 20;
+			};
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(20));
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-shrinking-"));
+		}
+
+		@Example
+		void boundedShrinkingWithParallelism() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 10);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 10, 3);
+
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer int1, Integer int2) -> {
+				return int1 < 7 || int1.compareTo(int2) != 0;
+			});
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(7, 7));
+		}
+	}
+
+	@Group
+	class UniqueValues {
+
+		@Property(tries = 50)
+		void shrunkListOfUniqueElementsHasNoDuplicates(
+			@ForAll Random random,
+			@ForAll @IntRange(min = 1, max = 4) int shrinkingParallelism
+		) {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, 100).unique().list().ofMinSize(3).ofMaxSize(20);
+			Shrinkable<List<Integer>> shrinkable = lists.generator(1000).next(random);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((List<Integer> list) -> list.stream().filter(i -> i > 10).count() < 3);
+			Assume.that(!falsifier.test(asList(shrinkable.value())));
+
+			FalsifiedSample originalSample = toFalsifiedSample(asList(shrinkable.asGeneric()), null);
+			ShrunkFalsifiedSample sample =
+				createShrinker(originalSample, ShrinkingMode.FULL, 10, shrinkingParallelism).shrink(falsifier);
+
+			assertThat((List<?>) sample.parameters().get(0)).doesNotHaveDuplicates();
+		}
+	}
+
+	@Group
+	class RecordShrinkingPath {
+
+		@Example
+		void shrinkingPathLeadsFromOriginalToShrunkSample() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 12, 10);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int first = (int) params.get(0);
+				int third = (int) params.get(2);
+				Assume.that(first % 3 != 0);
+				return first < 5 || first != third;
+			};
+			ShrunkFalsifiedSampleImpl sample = (ShrunkFalsifiedSampleImpl) shrinker.shrink(falsifier);
+
+			ShrinkingPath shrinkingPath = sample.shrinkingPath();
+			assertThat(shrinkingPath.size()).isEqualTo(sample.countShrinkingSteps());
+			assertThat(replay(shrinkingPath, shrinkables)).isEqualTo(createValues(sample));
+		}
+
+		@Example
+		void shrinkingPathIsRecordedWithParallelShrinking() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(20, 30);
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer int1, Integer int2) -> int1 + int2 < 13);
+
+			ShrunkFalsifiedSampleImpl sequential =
+				(ShrunkFalsifiedSampleImpl) createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 1).shrink(falsifier);
+			ShrunkFalsifiedSampleImpl parallel =
+				(ShrunkFalsifiedSampleImpl) createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 4).shrink(falsifier);
+
+			assertThat(replay(sequential.shrinkingPath(), shrinkables)).isEqualTo(createValues(sequential));
+			assertThat(replay(parallel.shrinkingPath(), shrinkables)).isEqualTo(createValues(parallel));
+		}
+
+		private List<Object> replay(ShrinkingPath shrinkingPath, List<Shrinkable<Object>> shrinkables) {
+			List<Shrinkable<Object>> current = shrinkables;
+			for (ShrinkingPath.Step step : shrinkingPath.steps()) {
+				Optional<List<Shrinkable<Object>>> next = step.apply(current);
+				assertThat(next).isPresent();
+				current = next.get();
+			}
+			return current.stream().map(Shrinkable::value).collect(Collectors.toList());
+		}
+	}
+
+	@Group
+	class ReplayShrinkingPath {
+
+		@Example
+		void replayCallsFalsifierOncePerStep() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(20, 30);
+			AtomicInteger calls = new AtomicInteger(0);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				calls.incrementAndGet();
+				return (int) params.get(0) + (int) params.get(1) < 13;
+			};
+
+			ShrunkFalsifiedSampleImpl shrunk =
+				(ShrunkFalsifiedSampleImpl) createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL).shrink(falsifier);
+			assertThat(calls.get()).isGreaterThan(shrunk.shrinkingPath().size());
+
+			calls.set(0);
+			ShrunkFalsifiedSampleImpl replayed =
+				(ShrunkFalsifiedSampleImpl) createReplayingShrinker(shrinkables, shrunk.shrinkingPath()).shrink(falsifier);
+
+			assertThat(calls.get()).isEqualTo(shrunk.shrinkingPath().size());
+			assertThat(replayed.parameters()).isEqualTo(shrunk.parameters());
+			assertThat(replayed.shrinkingPath()).isEqualTo(shrunk.shrinkingPath());
+			assertThat(replayed.countShrinkingSteps()).isEqualTo(shrunk.countShrinkingSteps());
+		}
+
+		@Example
+		void fallBackToShrinkingWhenSampleOnPathNoLongerFalsifies() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(20, 30);
+			Falsifier<List<Object>> previousFalsifier = paramFalsifier((Integer int1, Integer int2) -> int1 + int2 < 13);
+			ShrunkFalsifiedSampleImpl previous =
+				(ShrunkFalsifiedSampleImpl) createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL).shrink(previousFalsifier);
+
+			Falsifier<List<Object>> changedFalsifier = paramFalsifier((Integer int1, Integer int2) -> int1 + int2 < 21);
+			ShrunkFalsifiedSampleImpl shrunk =
+				(ShrunkFalsifiedSampleImpl) createReplayingShrinker(shrinkables, previous.shrinkingPath()).shrink(changedFalsifier);
+
+			assertThat((int) shrunk.parameters().get(0) + (int) shrunk.parameters().get(1)).isEqualTo(21);
+		}
+
+		@Example
+		void fallBackToShrinkingWhenPathCannotBeFollowed() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5);
+			ShrinkingPath unknownPath = new ShrinkingPath(Collections.singletonList(
+				new ShrinkingPath.Step(new int[]{0}, new int[]{42})
+			));
+
+			ShrunkFalsifiedSample shrunk =
+				createReplayingShrinker(shrinkables, unknownPath).shrink(paramFalsifier((Integer i) -> i < 2));
+
+			assertThat(shrunk.parameters()).containsExactly(2);
+		}
+
+		private PropertyShrinker createReplayingShrinker(List<Shrinkable<Object>> shrinkables, ShrinkingPath shrinkingPath) {
+			return new PropertyShrinker(
+				toFalsifiedSample(shrinkables, null),
+				ShrinkingMode.FULL,
+				10,
+				1,
+				FalsificationCache.DEFAULT_MAX_SIZE,
+				ShrinkingExecutor.DEFAULT_THREADS,
+				falsifiedSampleReporter,
+				null,
+				shrinkingPath
+			);
+		}
+	}
+
 	@Property(tries = 100, edgeCases = EdgeCasesMode.NONE)
 	@ExpectFailure(checkResult = ShrinkToEmptyList0.class)
 	boolean shrinkDependentParameters(
@@ -474,10 +746,20 @@ class PropertyShrinkerTests {
 	}
 
 	private PropertyShrinker createShrinker(FalsifiedSample originalSample, ShrinkingMode shrinkingMode, int boundedShrinkingSeconds) {
+		return createShrinker(originalSample, shrinkingMode, boundedShrinkingSeconds, 1);
+	}
+
+	private PropertyShrinker createShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism
+	) {
 		return new PropertyShrinker(
 			originalSample,
 			shrinkingMode,
 			boundedShrinkingSeconds,
+			shrinkingParallelism,
 			falsifiedSampleReporter,
 			null
 		);
@@ -0,0 +1,73 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Group
+@Label("ShrinkableByteArray")
+class ShrinkableByteArrayTests {
+
+	private static final PrimitiveElementShrinker ALL_BYTES = new PrimitiveElementShrinker(Byte.MIN_VALUE, Byte.MAX_VALUE, 0);
+
+	@Example
+	void creation() {
+		Shrinkable<byte[]> shrinkable = createShrinkableArray(0, 1, -2, 3);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+		assertThat(shrinkable.value()).containsExactly(0, 1, -2, 3);
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<byte[]> shrinkable = createShrinkableArray(1, 2, 3);
+			byte[] shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEmpty();
+		}
+
+		@Example
+		void negativeValuesShrinkTowardsZero() {
+			Shrinkable<byte[]> shrinkable = createShrinkableArray(-100, -50);
+			TestingFalsifier<byte[]> falsifier = bytes -> bytes.length < 2;
+			byte[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(0, 0);
+		}
+
+		@Example
+		void moveValuesTowardsEnd() {
+			Shrinkable<byte[]> shrinkable = createShrinkableArray(-100, 50, 3);
+			TestingFalsifier<byte[]> falsifier = bytes -> {
+				int sum = 0;
+				for (byte aByte : bytes) {
+					sum += aByte;
+				}
+				return bytes.length < 2 || sum <= 30;
+			};
+			byte[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(0, 31);
+		}
+	}
+
+	@Property(tries = 10)
+	void usedByByteArrayArbitrary(@ForAll Random random) {
+		Shrinkable<byte[]> shrinkable = Arbitraries.bytes().array(byte[].class).generator(10).next(random);
+		assertThat(shrinkable).isInstanceOf(ShrinkableByteArray.class);
+	}
+
+	private static Shrinkable<byte[]> createShrinkableArray(int... bytes) {
+		List<Shrinkable<Byte>> elements =
+			IntStream.of(bytes)
+					 .mapToObj(aByte -> Shrinkable.unshrinkable((byte) aByte))
+					 .collect(Collectors.toList());
+		return new ShrinkableByteArray(elements, 0, 10, ALL_BYTES);
+	}
+}
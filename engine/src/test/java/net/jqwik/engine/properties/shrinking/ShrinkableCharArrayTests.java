@@ -0,0 +1,150 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Group
+@Label("ShrinkableCharArray")
+class ShrinkableCharArrayTests {
+
+	private static final PrimitiveElementShrinker LOWER_CASE = new PrimitiveElementShrinker('a', 'z', 'a');
+
+	@Example
+	void creation() {
+		Shrinkable<String> shrinkable = createShrinkableString("abcd", 0);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+		assertThat(shrinkable.value()).isEqualTo("abcd");
+	}
+
+	@Example
+	void charArrayValueIsCreatedAnewEachTime() {
+		Shrinkable<char[]> shrinkable = ShrinkableCharArray.forCharArray(chars("abc"), 0, 3, LOWER_CASE);
+		char[] first = shrinkable.value();
+		first[0] = 'x';
+		assertThat(shrinkable.value()).containsExactly('a', 'b', 'c');
+	}
+
+	@Example
+	void equalityIsDeterminedByChars() {
+		assertThat(createShrinkableString("abc", 0)).isEqualTo(createShrinkableString("abc", 1));
+		assertThat(createShrinkableString("abc", 0)).isNotEqualTo(createShrinkableString("abd", 0));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<String> shrinkable = createShrinkableString("abc", 0);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEmpty();
+		}
+
+		@Example
+		void downToMinSize() {
+			Shrinkable<String> shrinkable = createShrinkableString("aaaaa", 2);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void alsoShrinkCharacters() {
+			Shrinkable<String> shrinkable = createShrinkableString("bbb", 0);
+			TestingFalsifier<String> falsifier = aString -> aString.length() <= 1;
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void shrinkCharacterPairsTogether() {
+			Shrinkable<String> shrinkable = createShrinkableString("xxxx", 2);
+
+			TestingFalsifier<String> falsifier =
+				string -> {
+					Set<Integer> usedLetters = string.chars().boxed().collect(Collectors.toSet());
+					return usedLetters.size() != 1;
+				};
+
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void shrinkToSortedString() {
+			Shrinkable<String> shrinkable = createShrinkableString("cdab", 4);
+
+			TestingFalsifier<String> falsifier =
+				string -> {
+					int sum = string.chars().map(c -> c - 'a').sum();
+					return sum < 6;
+				};
+
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("abcd");
+		}
+
+		@Example
+		void notAllowedCharsAreSkipped() {
+			PrimitiveElementShrinker noB = new PrimitiveElementShrinker('a', 'z', 'a', c -> c != 'b');
+			Shrinkable<String> shrinkable = ShrinkableCharArray.forString(chars("d"), 1, 1, noB);
+
+			TestingFalsifier<String> falsifier = aString -> aString.equals("a");
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("c");
+		}
+
+		@Example
+		void longString() {
+			String aString = IntStream.range(0, 1000).mapToObj(i -> "z").collect(Collectors.joining());
+			Shrinkable<String> shrinkable = createShrinkableString(aString, 5);
+			String shrunkValue = shrink(shrinkable, (TestingFalsifier<String>) String::isEmpty, null);
+			assertThat(shrunkValue).isEqualTo("aaaaa");
+		}
+	}
+
+	@Group
+	class UsedByStringArbitrary {
+
+		@Property(tries = 10)
+		void forSingleCharRanges(@ForAll Random random) {
+			Shrinkable<String> shrinkable = Arbitraries.strings().ascii().generator(10).next(random);
+			assertThat(shrinkable).isInstanceOf(ShrinkableCharArray.class);
+		}
+
+		@Property(tries = 10)
+		void forDefaultChars(@ForAll Random random) {
+			Shrinkable<String> shrinkable = Arbitraries.strings().generator(10).next(random);
+			assertThat(shrinkable).isInstanceOf(ShrinkableCharArray.class);
+		}
+
+		@Property(tries = 10)
+		void notForExplicitChars(@ForAll Random random) {
+			Shrinkable<String> shrinkable = Arbitraries.strings().withChars("abc").generator(10).next(random);
+			assertThat(shrinkable).isInstanceOf(ShrinkableString.class);
+		}
+
+		@Property(tries = 10)
+		void forCharArrays(@ForAll Random random) {
+			Shrinkable<char[]> shrinkable = Arbitraries.chars().range('a', 'z').array(char[].class).generator(10).next(random);
+			assertThat(shrinkable).isInstanceOf(ShrinkableCharArray.class);
+		}
+	}
+
+	private static Shrinkable<String> createShrinkableString(String aString, int minSize) {
+		return ShrinkableCharArray.forString(chars(aString), minSize, aString.length(), LOWER_CASE);
+	}
+
+	private static List<Shrinkable<Character>> chars(String aString) {
+		return aString.chars()
+					  .mapToObj(aChar -> Shrinkable.unshrinkable((char) aChar))
+					  .collect(Collectors.toList());
+	}
+}
@@ -30,6 +30,13 @@ class ShrinkableListTests {
 		assertThat(shrinkable.value()).isEqualTo(asList(0, 1, 2, 3));
 	}
 
+	@Example
+	void equalityIsDeterminedByElementValues() {
+		assertThat(createShrinkableList(0, 1, 2)).isEqualTo(createShrinkableList(0, 1, 2));
+		assertThat(createShrinkableList(0, 1, 2)).isNotEqualTo(createShrinkableList(0, 2, 1));
+		assertThat(createShrinkableList(0, 1, 2)).isNotEqualTo(createShrinkableList(0, 1));
+	}
+
 	@Group
 	class Shrinking {
 
@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Label("ShrinkableLong")
+class ShrinkableLongTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(25, -100, 100, 0);
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(() -> new ShrinkableLong(25, 50, 100, 50))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void distanceOfExtremeValuesIsCapped() {
+		assertThat(new ShrinkableLong(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(new ShrinkableLong(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Example
+	void shrinkFullyToTarget() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(-100000, -500000, 500000, 0);
+
+		TestingFalsifier<Long> falsifier = aLong -> aLong > -1000;
+		Long shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(-1000L);
+	}
+
+	@Property
+	void shrinksExactlyLikeShrinkableBigInteger(
+		@ForAll long value,
+		@ForAll long border,
+		@ForAll long target
+	) {
+		long[] sorted = LongStream.of(value, border, target).sorted().toArray();
+		long min = sorted[0];
+		long max = sorted[2];
+
+		ShrinkableLong shrinkableLong = new ShrinkableLong(value, min, max, target);
+		ShrinkableBigInteger shrinkableBigInteger = new ShrinkableBigInteger(
+			BigInteger.valueOf(value),
+			Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max)),
+			BigInteger.valueOf(target)
+		);
+
+		assertThat(shrinkableLong.distance()).isEqualTo(shrinkableBigInteger.distance());
+		List<BigInteger> longCandidates = shrinkableLong.shrink().map(s -> BigInteger.valueOf(s.value())).collect(Collectors.toList());
+		List<BigInteger> bigIntegerCandidates = shrinkableBigInteger.shrink().map(Shrinkable::value).collect(Collectors.toList());
+
+		// Candidates whose distances saturate at Long.MAX_VALUE are in no defined order for big integers
+		boolean distancesSaturate = Long.compareUnsigned(ShrinkableLong.unsignedDistance(value, target), Long.MAX_VALUE) >= 0;
+		if (distancesSaturate) {
+			assertThat(longCandidates).containsExactlyInAnyOrderElementsOf(bigIntegerCandidates);
+		} else {
+			assertThat(longCandidates).isEqualTo(bigIntegerCandidates);
+		}
+	}
+}
@@ -28,6 +28,12 @@ class ShrinkableSetTests {
 		assertThat(shrinkable.value()).containsExactly(0, 1, 2, 3);
 	}
 
+	@Example
+	void equalityDoesNotDependOnOrderOfElements() {
+		assertThat(createShrinkableSet(asList(0, 1, 2), 0)).isEqualTo(createShrinkableSet(asList(2, 1, 0), 0));
+		assertThat(createShrinkableSet(asList(0, 1, 2), 0)).isNotEqualTo(createShrinkableSet(asList(0, 1), 0));
+	}
+
 	@Group
 	class Shrinking {
 
@@ -0,0 +1,112 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShrinkingExecutorTests {
+
+	@Example
+	void shrinkingRunsOnBoundedPool() throws Exception {
+		ShrinkingExecutor executor = new ShrinkingExecutor(2);
+
+		List<Future<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			futures.add(executor.submit(() -> {
+				sleep(50);
+				return Thread.currentThread().getName();
+			}));
+		}
+		Set<String> threadNames = new HashSet<>();
+		for (Future<String> future : futures) {
+			threadNames.add(future.get());
+		}
+
+		assertThat(threadNames).hasSizeLessThanOrEqualTo(2);
+		assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-bounded-shrinking-"));
+	}
+
+	@Example
+	void statistics() throws Exception {
+		ShrinkingExecutor executor = new ShrinkingExecutor(1);
+
+		executor.submit(() -> {
+			sleep(50);
+			return null;
+		}).get();
+		executor.recordCancelled();
+
+		ShrinkingExecutor.Statistics statistics = executor.statistics();
+		assertThat(statistics.threads()).isEqualTo(1);
+		assertThat(statistics.submittedTasks()).isEqualTo(1);
+		assertThat(statistics.cancelledTasks()).isEqualTo(1);
+		assertThat(statistics.busyNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(statistics.utilisation()).isBetween(0.0, 1.0);
+	}
+
+	@Example
+	void executorIsSharedByNumberOfThreads() {
+		ShrinkingExecutor executor = ShrinkingExecutor.withThreads(3);
+
+		assertThat(ShrinkingExecutor.withThreads(3)).isSameAs(executor);
+		assertThat(ShrinkingExecutor.withThreads(4)).isNotSameAs(executor);
+		assertThat(executor.statistics().threads()).isEqualTo(3);
+	}
+
+	@Example
+	void timeBoundStartsWhenTaskIsRunning() throws Exception {
+		ShrinkingExecutor executor = new ShrinkingExecutor(1);
+
+		executor.submit(() -> {
+			sleep(200);
+			return null;
+		});
+		Future<String> queued = executor.submit(() -> "done");
+
+		assertThat(queued.get(100, TimeUnit.MILLISECONDS)).isEqualTo("done");
+	}
+
+	@Example
+	void taskIgnoringCancellationDoesNotBlockPool() throws Exception {
+		ShrinkingExecutor executor = new ShrinkingExecutor(1);
+
+		CountDownLatch released = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		Future<Object> ignoringCancellation = executor.submit(() -> {
+			running.countDown();
+			while (released.getCount() > 0) {
+				try {
+					released.await();
+				} catch (InterruptedException ignore) {
+				}
+			}
+			return null;
+		});
+		try {
+			running.await();
+			ignoringCancellation.cancel(true);
+
+			assertThat(executor.statistics().abandonedTasks()).isEqualTo(1);
+			Future<String> next = executor.submit(() -> "done");
+			assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+		} finally {
+			released.countDown();
+		}
+	}
+
+	@Example
+	void numberOfThreadsMustBePositive() {
+		assertThatThrownBy(() -> ShrinkingExecutor.withThreads(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static void sleep(int millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
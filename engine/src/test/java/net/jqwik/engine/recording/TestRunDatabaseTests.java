@@ -0,0 +1,295 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.lifecycle.PropertyExecutionResult.Status.*;
+
+class TestRunDatabaseTests {
+
+	private Path databasePath;
+
+	@BeforeProperty
+	void createDatabaseFile() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", ".tmp");
+		Files.delete(databasePath);
+	}
+
+	@AfterProperty
+	void deleteDatabaseFile() throws IOException {
+		Files.deleteIfExists(databasePath);
+	}
+
+	@Example
+	void recordedRunsCanBeReadBack() {
+		record(
+			new TestRun(id("failed"), FAILED, "4242", asList(1, "two")),
+			new TestRun(id("successful"), SUCCESSFUL, "4711", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun failed = previousRun.byUniqueId(id("failed")).get();
+		assertThat(failed.getStatus()).isEqualTo(FAILED);
+		assertThat(failed.randomSeed()).hasValue("4242");
+		assertThat(failed.falsifiedSample()).hasValue(asList(1, "two"));
+
+		TestRun successful = previousRun.byUniqueId(id("successful")).get();
+		assertThat(successful.getStatus()).isEqualTo(SUCCESSFUL);
+		assertThat(successful.falsifiedSample()).isEmpty();
+
+		assertThat(previousRun.byUniqueId(id("unknown"))).isEmpty();
+	}
+
+	@Example
+	void latestRecordForIdWins() {
+		record(
+			new TestRun(id("aProperty"), FAILED, "1", asList(1)),
+			new TestRun(id("aProperty"), SUCCESSFUL, "2", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(id("aProperty")).get().randomSeed()).hasValue("2");
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void recordsOfFormerRunsAreKept() {
+		record(new TestRun(id("first"), FAILED, "1", asList(1)));
+		record(new TestRun(id("second"), FAILED, "2", asList(2)));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(id("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("second"))).isPresent();
+		assertThat(previousRun.size()).isEqualTo(2);
+	}
+
+	@Example
+	void truncatedRecordIsIgnoredAndOverwritten() throws IOException {
+		record(
+			new TestRun(id("first"), FAILED, "1", asList(1)),
+			new TestRun(id("second"), FAILED, "2", asList(2))
+		);
+		byte[] bytes = Files.readAllBytes(databasePath);
+		Files.write(databasePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(id("first"))).isPresent();
+		assertThat(database.previousRun().byUniqueId(id("second"))).isEmpty();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(id("third"), FAILED, "3", asList(3)));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("third"))).isPresent();
+	}
+
+	@Example
+	void corruptedRecordIsSkipped() throws IOException {
+		record(new TestRun(id("first"), FAILED, "1", asList(1)));
+		long lengthOfFirst = Files.size(databasePath);
+		record(
+			new TestRun(id("second"), FAILED, "2", asList(2)),
+			new TestRun(id("third"), FAILED, "3", asList(3))
+		);
+
+		byte[] bytes = Files.readAllBytes(databasePath);
+		int positionInSecondPayload = (int) lengthOfFirst + 12;
+		bytes[positionInSecondPayload] ^= 0xFF;
+		Files.write(databasePath, bytes);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("second"))).isEmpty();
+		assertThat(previousRun.byUniqueId(id("third"))).isPresent();
+	}
+
+	@Example
+	void recordWithDamagedLengthDoesNotCostLaterRecords() throws IOException {
+		record(new TestRun(id("first"), FAILED, "1", asList(1)));
+		long lengthOfFirst = Files.size(databasePath);
+		record(
+			new TestRun(id("second"), FAILED, "2", asList(2)),
+			new TestRun(id("third"), FAILED, "3", asList(3))
+		);
+
+		byte[] bytes = Files.readAllBytes(databasePath);
+		bytes[(int) lengthOfFirst] ^= 0x7F;
+		Files.write(databasePath, bytes);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(id("first"))).isPresent();
+		assertThat(database.previousRun().byUniqueId(id("second"))).isEmpty();
+		assertThat(database.previousRun().byUniqueId(id("third"))).isPresent();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(id("fourth"), FAILED, "4", asList(4)));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("third"))).isPresent();
+		assertThat(previousRun.byUniqueId(id("fourth"))).isPresent();
+		assertThat(previousRun.size()).isEqualTo(3);
+	}
+
+	@Example
+	void damagedRecordsAreRemovedByCompaction() throws IOException {
+		record(new TestRun(id("first"), FAILED, "1", asList(1)));
+		long lengthOfFirst = Files.size(databasePath);
+		record(new TestRun(id("second"), FAILED, "2", asList(2)));
+		long lengthOfFirstAndSecond = Files.size(databasePath);
+		record(new TestRun(id("third"), FAILED, "3", asList(3)));
+
+		byte[] bytes = Files.readAllBytes(databasePath);
+		bytes[(int) lengthOfFirst + 12] ^= 0xFF;
+		Files.write(databasePath, bytes);
+
+		record();
+
+		long lengthOfThird = bytes.length - lengthOfFirstAndSecond;
+		assertThat(Files.size(databasePath)).isEqualTo(lengthOfFirst + lengthOfThird);
+	}
+
+	@Example
+	void fileWithUnknownFormatIsReplaced() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject("old format");
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().size()).isEqualTo(0);
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(id("aProperty"), FAILED, "1", asList(1)));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id("aProperty"))).isPresent();
+	}
+
+	@Example
+	void nonSerializableSampleIsNotStored() {
+		record(new TestRun(id("aProperty"), FAILED, "1", asList(new Object())));
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(id("aProperty")).get();
+		assertThat(testRun.randomSeed()).hasValue("1");
+		assertThat(testRun.falsifiedSample()).isEmpty();
+	}
+
+	@Example
+	void generationCoordinateIsStoredForNonSerializableSample() {
+		ShrinkingPath shrinkingPath = new ShrinkingPath(asList(
+			new ShrinkingPath.Step(new int[]{0}, new int[]{3}),
+			new ShrinkingPath.Step(new int[]{0, 2}, new int[]{1, 0, 7})
+		));
+		GenerationCoordinate coordinate = new GenerationCoordinate(42, shrinkingPath);
+		record(new TestRun(id("aProperty"), FAILED, "1", asList(new Object()), coordinate));
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(id("aProperty")).get();
+		assertThat(testRun.falsifiedSample()).isEmpty();
+		assertThat(testRun.generationCoordinate()).hasValue(coordinate);
+	}
+
+	@Example
+	void checkpointIsOnlyRecognizedInAbortedRun() {
+		record(
+			new TestRun(id("aborted"), ABORTED, null, null, GenerationCoordinate.checkpoint(6)),
+			new TestRun(id("failed"), FAILED, "1", null, new GenerationCoordinate(6, ShrinkingPath.EMPTY))
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		TestRun aborted = previousRun.byUniqueId(id("aborted")).get();
+		assertThat(aborted.hasCheckpoint()).isTrue();
+		assertThat(aborted.generationCoordinate()).hasValue(GenerationCoordinate.checkpoint(6));
+
+		TestRun failed = previousRun.byUniqueId(id("failed")).get();
+		assertThat(failed.hasCheckpoint()).isFalse();
+		assertThat(failed.generationCoordinate().get().isCheckpoint()).isFalse();
+	}
+
+	@Example
+	void recordWithoutGenerationCoordinateFieldCanBeRead() throws IOException {
+		ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(payloadBytes);
+		byte[] uniqueIdBytes = id("aProperty").toString().getBytes(StandardCharsets.UTF_8);
+		payload.writeInt(uniqueIdBytes.length);
+		payload.write(uniqueIdBytes);
+		payload.writeByte(FAILED.ordinal());
+		payload.writeInt(1);
+		payload.write('1');
+		payload.writeInt(-1);
+		byte[] payloadArray = payloadBytes.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(payloadArray, 0, payloadArray.length);
+
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeInt(TestRunRecordFormat.MAGIC);
+			out.writeInt(TestRunRecordFormat.VERSION);
+			out.writeInt(payloadArray.length);
+			out.writeInt((int) crc.getValue());
+			out.write(payloadArray);
+		}
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(id("aProperty")).get();
+		assertThat(testRun.randomSeed()).hasValue("1");
+		assertThat(testRun.generationCoordinate()).isEmpty();
+	}
+
+	@Example
+	void supersededRecordsAreCompacted() throws IOException {
+		TestRun[] testRuns = new TestRun[TestRunDatabase.MIN_RECORDS_FOR_COMPACTION + 2];
+		for (int i = 0; i < testRuns.length - 1; i++) {
+			testRuns[i] = new TestRun(id("first"), FAILED, "1", asList(1));
+		}
+		testRuns[testRuns.length - 1] = new TestRun(id("second"), SUCCESSFUL, "2", null);
+		record(testRuns);
+
+		Path referencePath = Files.createTempFile("jqwik-reference", ".tmp");
+		try {
+			Files.delete(referencePath);
+			record(referencePath, testRuns[0], testRuns[testRuns.length - 1]);
+			assertThat(Files.size(databasePath)).isEqualTo(Files.size(referencePath));
+		} finally {
+			Files.deleteIfExists(referencePath);
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.size()).isEqualTo(2);
+		assertThat(previousRun.byUniqueId(id("first")).get().falsifiedSample()).hasValue(asList(1));
+		assertThat(previousRun.byUniqueId(id("second")).get().getStatus()).isEqualTo(SUCCESSFUL);
+	}
+
+	private void record(TestRun... testRuns) {
+		record(databasePath, testRuns);
+	}
+
+	private static void record(Path path, TestRun... testRuns) {
+		TestRunDatabase database = new TestRunDatabase(path);
+		try (TestRunRecorder recorder = database.recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private static UniqueId id(String name) {
+		return UniqueId.forEngine("jqwik").append("property", name);
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.hooks.statistics.*;
@@ -238,5 +239,133 @@ class StatisticsCollectionTests {
 			assertThat(collector.count("three")).isEqualTo(3);
 		}
 
+		@Example
+		void countDistinctValues() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect("one", 1);
+			collector.collect("two", 2);
+			collector.collect("one", 1);
+			collector.collect("one", null);
+
+			assertThat(collector.countDistinctValues()).isEqualTo(3);
+		}
+
+		@Example
+		void concurrentCollectsAreAllCounted() throws Exception {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int thread = 0; thread < 4; thread++) {
+					futures.add(executor.submit(() -> {
+						for (int i = 0; i < 1000; i++) {
+							collector.collect(i % 10);
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(4000);
+			assertThat(collector.count(0)).isEqualTo(400);
+			assertThat(collector.count(9)).isEqualTo(400);
+			assertThat(collector.countDistinctValues()).isEqualTo(10);
+		}
+
+	}
+
+	@Group
+	class Approximate {
+
+		@Example
+		void fewValuesAreCountedExactly() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", true);
+
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("two");
+			collector.collect((Object) null);
+
+			assertThat(collector.count("one")).isEqualTo(1);
+			assertThat(collector.count("two")).isEqualTo(2);
+			assertThat(collector.count((Object) null)).isEqualTo(1);
+			assertThat(collector.percentage("two")).isCloseTo(50.0, withPercentage(1));
+		}
+
+		@Example
+		void estimatesAreNeverBelowRealCounts() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", true);
+
+			for (int i = 0; i < 100000; i++) {
+				collector.collect(i % 5000, "value");
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(100000);
+			for (int i = 0; i < 5000; i++) {
+				assertThat(collector.count(i, "value")).isGreaterThanOrEqualTo(20);
+			}
+		}
+
+		@Example
+		void onlyMostFrequentValuesAreRemembered() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", true);
+
+			for (int i = 0; i < 100000; i++) {
+				collector.collect(i);
+				if (i % 10 == 0) {
+					collector.collect("frequent");
+				}
+			}
+
+			assertThat(collector.countDistinctValues()).isLessThanOrEqualTo(100);
+			assertThat(collector.statisticsEntries().get(0).values()).containsExactly("frequent");
+			assertThat(collector.count("frequent")).isGreaterThanOrEqualTo(10000);
+		}
+
+		@Example
+		void allValuesMoreFrequentThanOnePercentOfHeavyTailedStreamAreReported() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", true);
+
+			// Zipf distribution over 50000 values
+			double[] cumulativeWeights = new double[50000];
+			double sum = 0;
+			for (int i = 0; i < cumulativeWeights.length; i++) {
+				sum += 1.0 / Math.pow(i + 1, 1.1);
+				cumulativeWeights[i] = sum;
+			}
+			Random random = new Random(42L);
+			Map<Integer, Integer> realCounts = new HashMap<>();
+			int countAll = 200000;
+			for (int i = 0; i < countAll; i++) {
+				int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * sum);
+				int value = index < 0 ? -index - 1 : index;
+				collector.collect(value);
+				realCounts.merge(value, 1, Integer::sum);
+			}
+
+			List<Object> reportedValues = new ArrayList<>();
+			collector.statisticsEntries().forEach(entry -> reportedValues.add(entry.values().get(0)));
+			realCounts.forEach((value, count) -> {
+				assertThat(collector.count(value)).isGreaterThanOrEqualTo(count);
+				if (count > countAll / 100) {
+					assertThat(reportedValues).contains(value);
+				}
+			});
+			assertThat(reportedValues.subList(0, 5)).containsExactly(0, 1, 2, 3, 4);
+		}
+
+		@Example
+		void callingCollectWithDifferentNumberOfValuesFails() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label", true);
+
+			collector.collect("one");
+			assertThatThrownBy(() -> collector.collect("one", 1)).isInstanceOf(IllegalArgumentException.class);
+		}
 	}
 }
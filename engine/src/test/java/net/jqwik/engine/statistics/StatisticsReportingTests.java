@@ -44,6 +44,16 @@ class StatisticsReportingTests {
 			assertThat(publishedKey).isEqualTo("[myProperty] (3) a label");
 		}
 
+		@Example
+		void published_key_of_approximate_statistics_is_marked() {
+			StatisticsCollectorImpl approximateCollector = new StatisticsCollectorImpl("a label", true);
+			approximateCollector.collect(1);
+			approximateCollector.collect(2);
+			StatisticsPublisher reportGenerator = new StatisticsPublisher(approximateCollector, new StandardStatisticsReportFormat());
+			reportGenerator.publish(this, "myProperty");
+			assertThat(publishedKey).isEqualTo("[myProperty] (2) a label (approximate)");
+		}
+
 		@Example
 		void each_published_report_line_is_indented_by_4_spaces() {
 			collector.collect(1);
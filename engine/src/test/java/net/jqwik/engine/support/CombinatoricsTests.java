@@ -396,6 +396,26 @@ class CombinatoricsTests {
 			assertThat(iterator).toIterable().hasSize(product);
 		}
 
+		@Property(tries = 100)
+		@Label("combinationAt(index) has same order as combine")
+		void combinationAtIndex(@ForAll("iterables") @Size(min = 0, max = 4) List<List<Integer>> listOfLists) {
+			List<Iterable<Integer>> iterables = listOfLists
+				.stream()
+				.map(aList -> (Iterable<Integer>) aList)
+				.collect(Collectors.toList());
+			long[] counts = listOfLists.stream().mapToLong(List::size).toArray();
+
+			Iterator<List<Integer>> iterator = Combinatorics.combine(iterables);
+			long index = 0;
+			while (iterator.hasNext()) {
+				List<Integer> combination = iterator.next();
+				long[] positions = Combinatorics.combinationAt(index++, counts);
+				for (int i = 0; i < positions.length; i++) {
+					assertThat(listOfLists.get(i).get((int) positions[i])).isEqualTo(combination.get(i));
+				}
+			}
+		}
+
 		@Provide
 		Arbitrary<List<List<Integer>>> iterables() {
 			return Arbitraries
@@ -0,0 +1,88 @@
+package net.jqwik.engine.support;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class MethodInvokerTests {
+
+	private final Target target = new Target();
+
+	@Example
+	void invokeWithSpecializedArity() throws NoSuchMethodException {
+		MethodInvoker invoker = MethodInvoker.bind(method("concat", String.class, int.class), target);
+
+		assertThat(invoker.invoke(asList("a", 1))).isEqualTo("a1");
+	}
+
+	@Example
+	void invokeWithMoreParametersThanSpecialized() throws NoSuchMethodException {
+		Method sum = method("sum", int.class, int.class, int.class, int.class, int.class, int.class);
+		MethodInvoker invoker = MethodInvoker.bind(sum, target);
+
+		assertThat(invoker.invoke(asList(1, 2, 3, 4, 5, 6))).isEqualTo(21);
+	}
+
+	@Example
+	void voidMethodReturnsNull() throws NoSuchMethodException {
+		MethodInvoker invoker = MethodInvoker.bind(method("doNothing"), target);
+
+		assertThat(invoker.invoke(Collections.emptyList())).isNull();
+	}
+
+	@Example
+	void staticMethodIgnoresTarget() throws NoSuchMethodException {
+		MethodInvoker invoker = MethodInvoker.bind(method("twice", long.class), null);
+
+		assertThat(invoker.invoke(asList(21))).isEqualTo(42L);
+	}
+
+	@Example
+	void exceptionsAreRethrownUnchanged() throws NoSuchMethodException {
+		MethodInvoker invoker = MethodInvoker.bind(method("fail"), target);
+
+		assertThatThrownBy(() -> invoker.invoke(Collections.emptyList()))
+			.isInstanceOf(IOException.class)
+			.hasMessage("failed");
+	}
+
+	@Example
+	void argumentsThatDoNotFitFailLikeReflection() throws NoSuchMethodException {
+		MethodInvoker invoker = MethodInvoker.bind(method("concat", String.class, int.class), target);
+
+		assertThatThrownBy(() -> invoker.invoke(asList(1, 1))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> invoker.invoke(asList("a", null))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> invoker.invoke(asList("a"))).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return Target.class.getDeclaredMethod(name, parameterTypes);
+	}
+
+	private static class Target {
+
+		private String concat(String aString, int anInt) {
+			return aString + anInt;
+		}
+
+		int sum(int i1, int i2, int i3, int i4, int i5, int i6) {
+			return i1 + i2 + i3 + i4 + i5 + i6;
+		}
+
+		void doNothing() {
+		}
+
+		static long twice(long aLong) {
+			return 2 * aLong;
+		}
+
+		void fail() throws IOException {
+			throw new IOException("failed");
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PersistentListTests {
+
+	@Example
+	void replacingElementsDoesNotChangeOriginal() {
+		PersistentList<String> original = PersistentList.of(asList("a", "b", "c"));
+
+		PersistentList<String> replaced = original.with(1, "x");
+		PersistentList<String> twoReplaced = replaced.with(0, "y", 2, "z");
+
+		assertThat(original).containsExactly("a", "b", "c");
+		assertThat(replaced).containsExactly("a", "x", "c");
+		assertThat(twoReplaced).containsExactly("y", "x", "z");
+	}
+
+	@Example
+	void removingAndCutting() {
+		PersistentList<String> original = PersistentList.of(asList("a", "b", "c", "d"));
+
+		assertThat(original.without(1)).containsExactly("a", "c", "d");
+		assertThat(original.without(1).without(0)).containsExactly("c", "d");
+		assertThat(original.with(2, "x").subList(1, 3)).containsExactly("b", "x");
+		assertThat(original.without(0).subList(0, 0)).isEmpty();
+		assertThat(original).containsExactly("a", "b", "c", "d");
+	}
+
+	@Example
+	void equalityAndHashCodeAreThoseOfLists() {
+		PersistentList<String> list = PersistentList.of(asList("a", "b", "c")).without(1);
+		assertThat(list).isEqualTo(asList("a", "c"));
+		assertThat(list.hashCode()).isEqualTo(asList("a", "c").hashCode());
+	}
+
+	@Example
+	void outOfBoundsAccessIsRejected() {
+		PersistentList<String> list = PersistentList.of(asList("a", "b"));
+		assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.without(1).with(1, "x")).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.add("c")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Property
+	void behavesLikeCopiedList(
+		@ForAll @Size(min = 1, max = 20) List<Integer> initial,
+		@ForAll @Size(max = 50) List<@IntRange(max = 3) Integer> operations,
+		@ForAll Random random
+	) {
+		List<Integer> copied = new ArrayList<>(initial);
+		PersistentList<Integer> persistent = PersistentList.of(initial);
+		for (int operation : operations) {
+			if (copied.isEmpty()) {
+				break;
+			}
+			int index = random.nextInt(copied.size());
+			switch (operation) {
+				case 0:
+					persistent = persistent.with(index, operation);
+					copied.set(index, operation);
+					break;
+				case 1:
+					int other = random.nextInt(copied.size());
+					persistent = persistent.with(index, -1, other, -2);
+					copied.set(index, -1);
+					copied.set(other, -2);
+					break;
+				case 2:
+					persistent = persistent.without(index);
+					copied.remove(index);
+					break;
+				default:
+					persistent = persistent.subList(0, index);
+					copied = new ArrayList<>(copied.subList(0, index));
+			}
+			assertThat(persistent).isEqualTo(copied);
+		}
+	}
+}